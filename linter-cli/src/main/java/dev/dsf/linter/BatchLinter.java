@@ -0,0 +1,254 @@
+package dev.dsf.linter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.dsf.linter.logger.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Lints several plugin JARs one after another in the same JVM.
+ * <p>
+ * Starting a JVM per JAR repeats startup and class loading of the linter, Camunda, Jackson and
+ * Thymeleaf for every plugin. A batch pays for this once and shares the plugin-independent state,
+ * such as the parser and XPath pools, the compiled report templates and the built-in DSF codes.
+ * Plugin state stays isolated: each JAR is extracted to its own directory, and its class loaders,
+ * cached documents and seeded codes are released when its run completes.
+ * </p>
+ *
+ * <h3>Reports</h3>
+ * <p>
+ * The reports of each JAR are written to a subdirectory of the batch report directory named after
+ * the JAR. The batch report {@value #BATCH_REPORT_FILE} in the batch report directory summarizes all
+ * inputs, including those that could not be linted.
+ * </p>
+ *
+ * @author DSF Development Team
+ * @since 1.2.0
+ */
+public final class BatchLinter {
+
+    /**
+     * File name of the combined report in the batch report directory.
+     */
+    public static final String BATCH_REPORT_FILE = "dsf-linter-batch-report.json";
+
+    private final LintRequest options;
+    private final Logger logger;
+
+    /**
+     * Outcome of linting one input.
+     *
+     * @param input      the JAR path or URL
+     * @param reportPath the report directory of this input
+     * @param result     the linting result, or {@code null} if the input could not be linted
+     */
+    public record Entry(String input, Path reportPath, DsfLinter.OverallLinterResult result) {
+
+        /**
+         * @return {@code true} if the input was linted and passed
+         */
+        public boolean success() {
+            return result != null && result.success();
+        }
+    }
+
+    /**
+     * Creates a batch linter.
+     *
+     * @param options the options applied to every input; the input path is ignored and the report
+     *                path, if set, is used as the batch report directory
+     * @param logger  the logger for progress messages
+     */
+    public BatchLinter(LintRequest options, Logger logger) {
+        this.options = options;
+        this.logger = logger;
+    }
+
+    /**
+     * Lints all inputs, writes the batch report and prints a summary.
+     *
+     * @param inputs the JAR paths and URLs
+     * @return exit code (0 if every input was linted and passed, 1 otherwise)
+     */
+    public int run(List<String> inputs) {
+        Path batchReportPath = options.reportPath() != null
+                ? options.reportPath()
+                : Paths.get(System.getProperty("java.io.tmpdir")).resolve("dsf-linter-batch-report");
+
+        List<Entry> entries = lintAll(inputs, batchReportPath);
+
+        Path reportFile = batchReportPath.resolve(BATCH_REPORT_FILE);
+        try {
+            writeReport(entries, reportFile);
+        } catch (IOException e) {
+            logger.error("ERROR: Failed to write batch report: " + reportFile, e);
+            return 1;
+        }
+
+        printSummary(entries, reportFile);
+        return entries.stream().allMatch(Entry::success) ? 0 : 1;
+    }
+
+    /**
+     * Lints the inputs one after another.
+     *
+     * @param inputs          the JAR paths and URLs
+     * @param batchReportPath the directory containing the per-input report directories
+     * @return one entry per input, in input order
+     */
+    public List<Entry> lintAll(List<String> inputs, Path batchReportPath) {
+        List<Entry> entries = new ArrayList<>(inputs.size());
+        Set<String> usedNames = new HashSet<>();
+
+        for (int i = 0; i < inputs.size(); i++) {
+            String input = inputs.get(i);
+            Path reportPath = batchReportPath.resolve(uniqueName(input, usedNames));
+
+            logger.info(String.format("%n=== Batch input %d/%d: %s ===", i + 1, inputs.size(), input));
+
+            LintRequest request = new LintRequest(
+                    input,
+                    reportPath,
+                    options.generateHtmlReport(),
+                    options.generateJsonReport(),
+                    options.failOnErrors(),
+                    options.inPlace(),
+                    options.threads(),
+                    options.cacheDir()
+            );
+
+            Optional<DsfLinter.OverallLinterResult> result = request.validate(logger)
+                    ? request.execute(logger)
+                    : Optional.empty();
+            entries.add(new Entry(input, reportPath, result.orElse(null)));
+        }
+
+        return entries;
+    }
+
+    // Private helper methods
+
+    /**
+     * Derives a report directory name from the JAR file name, unique within the batch.
+     */
+    private static String uniqueName(String input, Set<String> usedNames) {
+        String normalized = input.replace('\\', '/');
+        String fileName = normalized.substring(normalized.lastIndexOf('/') + 1);
+        if (fileName.toLowerCase(Locale.ROOT).endsWith(".jar")) {
+            fileName = fileName.substring(0, fileName.length() - 4);
+        }
+        String base = fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (base.isEmpty()) {
+            base = "plugin";
+        }
+
+        String name = base;
+        for (int n = 2; !usedNames.add(name); n++) {
+            name = base + "-" + n;
+        }
+        return name;
+    }
+
+    private void writeReport(List<Entry> entries, Path reportFile) throws IOException {
+        BatchReport report = new BatchReport();
+        report.timestamp = Instant.now().toString();
+        report.inputs = new ArrayList<>();
+
+        for (Entry entry : entries) {
+            InputSummary summary = new InputSummary();
+            summary.input = entry.input();
+            summary.reportPath = entry.reportPath().toString();
+            summary.success = entry.success();
+
+            if (entry.result() == null) {
+                summary.status = "FAILED";
+                report.failedInputs++;
+            } else {
+                DsfLinter.OverallLinterResult result = entry.result();
+                summary.status = "LINTED";
+                summary.plugins = result.pluginLinter().size();
+                summary.errors = result.getPluginErrors();
+                summary.warnings = result.getPluginWarnings();
+                summary.leftoverResources = result.getLeftoverCount();
+                summary.executionTimeMs = result.executionTimeMs();
+
+                report.totalPlugins += summary.plugins;
+                report.totalErrors += summary.errors;
+                report.totalWarnings += summary.warnings;
+                report.totalLeftoverResources += summary.leftoverResources;
+            }
+            report.inputs.add(summary);
+        }
+
+        report.totalInputs = entries.size();
+        report.success = entries.stream().allMatch(Entry::success);
+
+        Files.createDirectories(reportFile.getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .writeValue(reportFile.toFile(), report);
+    }
+
+    private void printSummary(List<Entry> entries, Path reportFile) {
+        logger.info("\n=== Batch Summary ===");
+        for (Entry entry : entries) {
+            if (entry.result() == null) {
+                logger.error(String.format("FAILED  %s", entry.input()));
+            } else {
+                logger.info(String.format("%-7s %s (%d error(s), %d warning(s))",
+                        entry.success() ? "OK" : "ERRORS",
+                        entry.input(),
+                        entry.result().getPluginErrors(),
+                        entry.result().getPluginWarnings()));
+            }
+        }
+        long passed = entries.stream().filter(Entry::success).count();
+        logger.info(String.format("%d of %d input(s) passed.", passed, entries.size()));
+        logger.info("Batch report written to: " + reportFile.toUri());
+    }
+
+    // JSON report structure
+
+    /**
+     * Combined report of a batch.
+     */
+    public static class BatchReport {
+        public String timestamp;
+        public int totalInputs;
+        public int failedInputs;
+        public int totalPlugins;
+        public int totalErrors;
+        public int totalWarnings;
+        public int totalLeftoverResources;
+        public boolean success;
+        public List<InputSummary> inputs;
+    }
+
+    /**
+     * Part of the {@link BatchReport} describing one input.
+     */
+    public static class InputSummary {
+        public String input;
+        public String status;
+        public boolean success;
+        public String reportPath;
+        public Integer plugins;
+        public Integer errors;
+        public Integer warnings;
+        public Integer leftoverResources;
+        public Long executionTimeMs;
+    }
+}
@@ -0,0 +1,147 @@
+package dev.dsf.linter;
+
+import dev.dsf.linter.logger.Logger;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Expands the values of {@code --path} into the list of plugin JARs to lint.
+ * <p>
+ * Each value may be:
+ * </p>
+ * <ul>
+ *   <li>a JAR file or a remote JAR URL, used as is</li>
+ *   <li>a directory, expanded to the {@code *.jar} files directly inside it</li>
+ *   <li>a glob such as {@code build/plugins/*.jar} or {@code plugins/**.jar}, expanded to the
+ *       matching JAR files below the directory preceding the first wildcard</li>
+ * </ul>
+ * <p>
+ * Expansions are sorted by path and duplicates are removed, so the order of a batch does not
+ * depend on the file system.
+ * </p>
+ *
+ * @author DSF Development Team
+ * @since 1.2.0
+ */
+public final class InputExpander {
+
+    private InputExpander() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Expands the given inputs.
+     *
+     * @param inputs the {@code --path} values, may be {@code null}
+     * @param logger the logger for warnings about inputs that match nothing
+     * @return the JAR paths and URLs in input order
+     */
+    public static List<String> expand(List<String> inputs, Logger logger) {
+        Set<String> expanded = new LinkedHashSet<>();
+        if (inputs == null) {
+            return List.of();
+        }
+
+        for (String input : inputs) {
+            if (input == null || input.isBlank()) {
+                continue;
+            }
+            String trimmed = input.trim();
+
+            List<String> matches;
+            if (isRemote(trimmed)) {
+                matches = List.of(trimmed);
+            } else if (isGlob(trimmed)) {
+                matches = expandGlob(trimmed, logger);
+            } else if (Files.isDirectory(Path.of(trimmed))) {
+                matches = expandDirectory(Path.of(trimmed), logger);
+            } else {
+                matches = List.of(trimmed);
+            }
+
+            if (matches.isEmpty()) {
+                logger.warn("No JAR files found for: " + trimmed);
+            }
+            expanded.addAll(matches);
+        }
+
+        return List.copyOf(expanded);
+    }
+
+    // Private helper methods
+
+    private static boolean isRemote(String input) {
+        String lower = input.toLowerCase(Locale.ROOT);
+        return lower.startsWith("http://") || lower.startsWith("https://");
+    }
+
+    private static boolean isGlob(String input) {
+        return input.chars().anyMatch(c -> c == '*' || c == '?' || c == '[' || c == '{');
+    }
+
+    private static List<String> expandDirectory(Path directory, Logger logger) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(InputExpander::isJar)
+                    .map(Path::toString)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            logger.warn("Failed to list directory " + directory + ": " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static List<String> expandGlob(String glob, Logger logger) {
+        String normalized = glob.replace('\\', '/');
+        int wildcard = indexOfWildcard(normalized);
+        int separator = normalized.lastIndexOf('/', wildcard);
+
+        Path base = separator < 0 ? Path.of("") : Path.of(separator == 0 ? "/" : normalized.substring(0, separator));
+        String pattern = normalized.substring(separator + 1);
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+
+        Path root = base.toString().isEmpty() ? Path.of(".") : base;
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        List<String> matches = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(Files::isRegularFile)
+                    .filter(InputExpander::isJar)
+                    .filter(file -> matcher.matches(root.relativize(file)))
+                    .map(file -> base.toString().isEmpty() ? root.relativize(file).toString() : file.toString())
+                    .sorted()
+                    .forEach(matches::add);
+        } catch (IOException e) {
+            logger.warn("Failed to expand " + glob + ": " + e.getMessage());
+        }
+        return matches;
+    }
+
+    private static int indexOfWildcard(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isJar(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".jar");
+    }
+}
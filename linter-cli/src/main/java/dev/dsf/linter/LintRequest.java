@@ -0,0 +1,179 @@
+package dev.dsf.linter;
+
+import dev.dsf.linter.classloading.ProjectClassLoaderFactory;
+import dev.dsf.linter.input.InputResolver;
+import dev.dsf.linter.input.JarExtractionCache;
+import dev.dsf.linter.input.RemoteJarCache;
+import dev.dsf.linter.logger.Logger;
+import dev.dsf.linter.util.resource.ProjectIndex;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * A single linting run: the options of one invocation and the steps to execute it.
+ * <p>
+ * Shared by the command line ({@link Main}) and the resident daemon ({@link LinterDaemon}), so both
+ * validate, resolve, lint and clean up in exactly the same way.
+ * </p>
+ *
+ * @param inputPath          path or URL of the plugin JAR
+ * @param reportPath         directory for the reports, or {@code null} for a directory below the
+ *                           system temp directory derived from the input name
+ * @param generateHtmlReport whether to generate an HTML report
+ * @param generateJsonReport whether to generate a JSON report
+ * @param failOnErrors       whether linter errors make the run fail
+ * @param inPlace            whether to read compiled classes directly from the JAR
+ * @param threads            the maximum number of worker threads, {@code 0} for one per processor
+ * @param cacheDir           the root directory of the persistent caches, or {@code null}; lint results
+ *                           are kept in {@value #LINT_RESULTS_DIR}, remote JARs in
+ *                           {@value #REMOTE_JARS_DIR} and shared JAR extractions in
+ *                           {@value #EXTRACTED_JARS_DIR}
+ *
+ * @author DSF Development Team
+ * @since 1.2.0
+ */
+public record LintRequest(
+        String inputPath,
+        Path reportPath,
+        boolean generateHtmlReport,
+        boolean generateJsonReport,
+        boolean failOnErrors,
+        boolean inPlace,
+        int threads,
+        Path cacheDir
+) {
+
+    /**
+     * Subdirectory of the cache directory holding the lint result cache.
+     */
+    public static final String LINT_RESULTS_DIR = "lint-results";
+
+    /**
+     * Subdirectory of the cache directory holding downloaded remote JARs.
+     */
+    public static final String REMOTE_JARS_DIR = "remote-jars";
+
+    /**
+     * Subdirectory of the cache directory holding extracted JARs shared between runs.
+     */
+    public static final String EXTRACTED_JARS_DIR = "extracted-jars";
+
+    /**
+     * Checks the options and logs a message for the first invalid one.
+     *
+     * @param logger the logger for error messages
+     * @return {@code true} if the request can be executed
+     */
+    public boolean validate(Logger logger) {
+        if (threads < 0) {
+            logger.error("ERROR: --threads must not be negative. Got: " + threads);
+            return false;
+        }
+
+        if (inputPath == null || inputPath.isBlank()) {
+            logger.error("ERROR: Specify a JAR file path using --path (local path or remote URL).");
+            return false;
+        }
+
+        if (!inputPath.trim().toLowerCase().endsWith(".jar")) {
+            logger.error("ERROR: Input must be a JAR file (ending with .jar). Got: " + inputPath);
+            logger.error("Examples:");
+            logger.error("  Local:  C:\\path\\to\\plugin.jar");
+            logger.error("  Remote: https://example.com/plugin.jar");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Resolves the input, prepares the report directory, lints the project and removes
+     * temporary files and the project's class loaders afterwards.
+     *
+     * @param logger the logger for progress and error messages
+     * @return the linting result, or empty if the run failed; the reason has been logged
+     */
+    public Optional<DsfLinter.OverallLinterResult> execute(Logger logger) {
+        InputResolver resolver = cacheDir != null
+                ? new InputResolver(logger, inPlace,
+                        new RemoteJarCache(cacheDir.resolve(REMOTE_JARS_DIR), logger),
+                        new JarExtractionCache(cacheDir.resolve(EXTRACTED_JARS_DIR), logger))
+                : new InputResolver(logger, inPlace);
+        Optional<InputResolver.ResolutionResult> resolutionResult = resolver.resolve(inputPath);
+
+        if (resolutionResult.isEmpty()) {
+            logger.error("ERROR: Failed to resolve input: " + inputPath);
+            return Optional.empty();
+        }
+
+        InputResolver.ResolutionResult resolution = resolutionResult.get();
+        Path projectPath = resolution.resolvedPath();
+
+        logger.info("Resolved project path: " + projectPath.toAbsolutePath());
+
+        Path effectiveReportPath = reportPath;
+        if (effectiveReportPath == null) {
+            Path tempBase = Paths.get(System.getProperty("java.io.tmpdir"));
+            String inputName = resolver.extractInputName(inputPath, resolution.inputType());
+
+            // Create report directory separately from project extraction directory
+            // This ensures the report survives cleanup of temporary resources
+            Path reportBaseDir = tempBase.resolve("dsf-linter-report-" + inputName);
+            effectiveReportPath = reportBaseDir.resolve("dsf-linter-report");
+
+            logger.info("Linter report will be saved to: " + effectiveReportPath.toAbsolutePath());
+        }
+
+        try {
+            if (Files.exists(effectiveReportPath)) {
+                logger.debug("Removing existing report directory to avoid stale files...");
+                resolver.deleteDirectoryRecursively(effectiveReportPath);
+                logger.debug("Existing report directory removed.");
+            }
+
+            Files.createDirectories(effectiveReportPath);
+        } catch (IOException e) {
+            logger.error("ERROR: Failed to prepare report directory: " + effectiveReportPath, e);
+            cleanup(resolver, resolution, logger);
+            return Optional.empty();
+        }
+
+        try {
+            LinterExecutor executor = new LinterExecutor(
+                    projectPath,
+                    effectiveReportPath,
+                    generateHtmlReport,
+                    generateJsonReport,
+                    failOnErrors,
+                    logger,
+                    threads,
+                    cacheDir != null ? cacheDir.resolve(LINT_RESULTS_DIR) : null
+            );
+
+            return Optional.of(executor.execute());
+
+        } catch (Exception e) {
+            logger.error("FATAL: " + e.getMessage(), e);
+            return Optional.empty();
+
+        } finally {
+            cleanup(resolver, resolution, logger);
+        }
+    }
+
+    private static void cleanup(InputResolver resolver, InputResolver.ResolutionResult resolution, Logger logger) {
+        ProjectClassLoaderFactory.release(resolution.resolvedPath().toFile());
+        ProjectIndex.release(resolution.resolvedPath().toFile());
+
+        if (resolution.requiresCleanup()) {
+            logger.info("\n=== Cleanup Phase ===");
+            logger.info("Removing temporary extraction directory...");
+            resolver.cleanup(resolution);
+            logger.info("Temporary extraction directory removed.");
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package dev.dsf.linter;
+
+import dev.dsf.linter.logger.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watch mode: lints a local plugin JAR and lints it again whenever it is rebuilt.
+ * <p>
+ * The directory containing the JAR is observed with a {@link WatchService}. Events for the JAR
+ * are debounced until the file has been quiet for {@link #QUIET_PERIOD}, so a build that writes
+ * the JAR in several steps triggers a single run. A run is skipped if the content hash of the
+ * JAR did not change.
+ * </p>
+ *
+ * <h3>Incremental Runs</h3>
+ * <p>
+ * All runs share one {@link dev.dsf.linter.util.cache.LintResultCache}: the directory given with
+ * {@code --cache-dir}, or a temporary directory removed when watching ends, including on Ctrl+C
+ * through a shutdown hook. Every cached result records the ActivityDefinitions, profiles,
+ * Questionnaires, classes and CodeSystems its file looked up. At the start of a run these
+ * lookups form a {@link dev.dsf.linter.util.cache.DependencyMap} from each looked-up target to
+ * the files referring to it, and each target is resolved once against the rebuilt JAR. A BPMN
+ * or FHIR file is therefore only linted again if its content changed or a target it refers to
+ * changed; the results of all other files, and the reports, are rebuilt from the cache.
+ * </p>
+ *
+ * @author DSF Development Team
+ * @since 1.2.0
+ */
+public final class LintWatcher {
+
+    /**
+     * Time without further changes to the JAR before a new run starts.
+     */
+    static final Duration QUIET_PERIOD = Duration.ofMillis(500);
+
+    private final LintRequest request;
+    private final Logger logger;
+
+    /**
+     * Creates a watcher for the JAR of the given request.
+     *
+     * @param request the validated request, its input must be a local JAR file
+     * @param logger  the logger for progress messages
+     */
+    public LintWatcher(LintRequest request, Logger logger) {
+        this.request = request;
+        this.logger = logger;
+    }
+
+    /**
+     * Lints the JAR and then keeps linting it after every change until the thread is interrupted.
+     *
+     * @throws IOException if the JAR is not a local file or cannot be watched
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    public void run() throws IOException, InterruptedException {
+        Path jar = Path.of(request.inputPath().trim()).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(jar)) {
+            throw new IOException("Watch mode requires a local JAR file: " + request.inputPath());
+        }
+
+        boolean temporaryCache = request.cacheDir() == null;
+        Path cacheDir = temporaryCache
+                ? Files.createTempDirectory("dsf-linter-watch-cache-")
+                : request.cacheDir();
+
+        LintRequest watchRequest = new LintRequest(
+                jar.toString(),
+                request.reportPath(),
+                request.generateHtmlReport(),
+                request.generateJsonReport(),
+                request.failOnErrors(),
+                request.inPlace(),
+                request.threads(),
+                cacheDir
+        );
+
+        WatchService watchService = jar.getFileSystem().newWatchService();
+
+        // Ctrl+C ends the JVM without running the finally block below, so clean up in a hook as well
+        Thread cleanupHook = new Thread(() -> {
+            closeQuietly(watchService);
+            if (temporaryCache) {
+                deleteRecursively(cacheDir);
+            }
+        }, "dsf-linter-watch-cleanup");
+        Runtime.getRuntime().addShutdownHook(cleanupHook);
+
+        try (watchService) {
+            jar.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+            String lintedHash = lint(watchRequest, jar);
+
+            while (true) {
+                if (!awaitChange(watchService, jar)) {
+                    continue;
+                }
+                if (!Files.isRegularFile(jar)) {
+                    logger.warn("JAR file removed, waiting for it to be rebuilt: " + jar);
+                    continue;
+                }
+
+                String hash = hash(jar);
+                if (hash.equals(lintedHash)) {
+                    logger.debug("JAR content unchanged, skipping run.");
+                    continue;
+                }
+                lintedHash = lint(watchRequest, jar);
+            }
+        } catch (ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedException("Watch service closed");
+        } finally {
+            removeShutdownHook(cleanupHook);
+            if (temporaryCache) {
+                deleteRecursively(cacheDir);
+            }
+        }
+    }
+
+    // Private helper methods
+
+    /**
+     * Runs the request and prints the summary.
+     *
+     * @return the content hash of the linted JAR
+     */
+    private String lint(LintRequest watchRequest, Path jar) throws IOException {
+        String hash = hash(jar);
+        watchRequest.execute(logger).ifPresent(result -> ResultPrinter.printResult(result, logger));
+        logger.info("\nWatching " + jar + " for changes. Press Ctrl+C to stop.");
+        return hash;
+    }
+
+    /**
+     * Waits for an event affecting the JAR, then until it has been quiet for {@link #QUIET_PERIOD}.
+     *
+     * @return {@code true} if the JAR changed
+     */
+    private boolean awaitChange(WatchService watchService, Path jar) throws InterruptedException {
+        if (!affectsJar(watchService.take(), jar)) {
+            return false;
+        }
+        while (true) {
+            WatchKey next = watchService.poll(QUIET_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+            if (next == null) {
+                return true;
+            }
+            affectsJar(next, jar);
+        }
+    }
+
+    private static boolean affectsJar(WatchKey key, Path jar) {
+        boolean affected = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || jar.getFileName().equals(event.context())) {
+                affected = true;
+            }
+        }
+        key.reset();
+        return affected;
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void removeShutdownHook(Thread hook) {
+        try {
+            Runtime.getRuntime().removeShutdownHook(hook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down and runs the hook itself
+        }
+    }
+
+    private void closeQuietly(WatchService watchService) {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close watch service: " + e.getMessage());
+        }
+    }
+
+    private void deleteRecursively(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    logger.debug("Failed to delete " + path + ": " + e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Failed to delete " + directory + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,565 @@
+package dev.dsf.linter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import dev.dsf.linter.logger.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Resident linter process that serves lint requests over a loopback HTTP endpoint.
+ * <p>
+ * Every CLI invocation pays for JVM startup and for class loading and JIT compilation of the
+ * linter, Camunda, Jackson and Thymeleaf. The daemon pays these costs once; subsequent requests
+ * from IDE or pre-commit integrations only lint.
+ * </p>
+ *
+ * <h3>Endpoints</h3>
+ * <ul>
+ *   <li>{@code POST /lint} &ndash; lints one plugin JAR. The body is a JSON {@link LintRequestBody},
+ *       the response a JSON {@link LintResponseBody} including the captured log.</li>
+ *   <li>{@code GET /health} &ndash; returns {@code {"status":"UP"}}.</li>
+ *   <li>{@code POST /shutdown} &ndash; stops the daemon.</li>
+ * </ul>
+ *
+ * <h3>Access</h3>
+ * <p>
+ * Binding to loopback alone does not keep out other local processes or web pages opened in a
+ * browser, which can send simple cross-origin {@code POST} requests to any local port. Therefore:
+ * </p>
+ * <ul>
+ *   <li>On startup the daemon writes a random token to {@code daemon-<port>.token} in its state
+ *       directory ({@value #DEFAULT_STATE_DIR} below the user home by default), readable by the
+ *       current user only. Every request except {@code GET /health} must send it as
+ *       {@code Authorization: Bearer <token>}. The file is deleted when the daemon stops.</li>
+ *   <li>Requests carrying an {@code Origin} header are rejected, since only browsers send one.</li>
+ *   <li>{@code POST} requests must have the content type {@code application/json}, which a page
+ *       cannot send cross-origin without a preflight the daemon never answers.</li>
+ *   <li>Reports are written below the {@value #REPORTS_DIR} subdirectory of the state directory.
+ *       The {@code reportPath} of a request is a relative path below it; absolute paths and paths
+ *       leaving it are rejected.</li>
+ * </ul>
+ *
+ * <h3>Isolation</h3>
+ * <p>
+ * The server is bound to the loopback interface only. Requests are processed one at a time on a
+ * single worker thread, because the console and API version state of a run are process-wide;
+ * each run still lints in parallel according to its {@code threads} option. Every request is
+ * extracted to its own directory and its project class loaders are closed and released when the
+ * request completes, so plugin classes never leak into later requests. Only the linter's own,
+ * plugin-independent classes stay loaded.
+ * </p>
+ *
+ * @author DSF Development Team
+ * @since 1.2.0
+ */
+public final class LinterDaemon implements AutoCloseable {
+
+    /** Path of the lint endpoint. */
+    public static final String LINT_PATH = "/lint";
+
+    /** Path of the health endpoint. */
+    public static final String HEALTH_PATH = "/health";
+
+    /** Path of the shutdown endpoint. */
+    public static final String SHUTDOWN_PATH = "/shutdown";
+
+    /** Default state directory, relative to the user home. */
+    public static final String DEFAULT_STATE_DIR = ".dsf-linter/daemon";
+
+    /** Subdirectory of the state directory holding the reports. */
+    public static final String REPORTS_DIR = "reports";
+
+    private static final int MAX_REQUEST_BYTES = 1024 * 1024;
+    private static final int TOKEN_BYTES = 32;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    private final Logger logger;
+    private final Path stateDir;
+    private final Path reportsDir;
+    private final Path tokenFile;
+    private final String token;
+    private final HttpServer server;
+    private final ExecutorService worker;
+    private final ObjectMapper objectMapper;
+    private final CountDownLatch shutdown = new CountDownLatch(1);
+
+    /**
+     * Creates a daemon bound to the given loopback port, using the default state directory.
+     * The daemon does not accept requests before {@link #start()} is called.
+     *
+     * @param port   the loopback port, {@code 0} to choose a free port
+     * @param logger the logger for daemon messages
+     * @throws IOException if the port cannot be bound
+     */
+    public LinterDaemon(int port, Logger logger) throws IOException {
+        this(port, Path.of(System.getProperty("user.home")).resolve(DEFAULT_STATE_DIR), logger);
+    }
+
+    /**
+     * Creates a daemon bound to the given loopback port. The daemon does not accept requests
+     * before {@link #start()} is called.
+     *
+     * @param port     the loopback port, {@code 0} to choose a free port
+     * @param stateDir the directory for the token file and the reports
+     * @param logger   the logger for daemon messages
+     * @throws IOException if the port cannot be bound
+     */
+    public LinterDaemon(int port, Path stateDir, Logger logger) throws IOException {
+        this.logger = logger;
+        this.stateDir = stateDir.toAbsolutePath().normalize();
+        this.reportsDir = this.stateDir.resolve(REPORTS_DIR);
+        this.token = newToken();
+        this.objectMapper = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "dsf-linter-daemon");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.tokenFile = this.stateDir.resolve("daemon-" + port() + ".token");
+
+        server.setExecutor(worker);
+        server.createContext(LINT_PATH, guarded(true, this::handleLint));
+        server.createContext(HEALTH_PATH, guarded(false, exchange -> {
+            if (requireMethod(exchange, "GET")) {
+                send(exchange, 200, Map.of("status", "UP"));
+            }
+        }));
+        server.createContext(SHUTDOWN_PATH, guarded(true, exchange -> {
+            if (requireMethod(exchange, "POST") && requireJson(exchange)) {
+                send(exchange, 200, Map.of("status", "STOPPING"));
+                shutdown.countDown();
+            }
+        }));
+    }
+
+    /**
+     * Writes the token file and starts accepting requests.
+     *
+     * @throws IOException if the state directory or the token file cannot be written
+     */
+    public void start() throws IOException {
+        createPrivateDirectory(stateDir);
+        Files.createDirectories(reportsDir);
+        writeTokenFile();
+
+        server.start();
+        logger.info("DSF Linter daemon listening on http://" + InetAddress.getLoopbackAddress().getHostAddress()
+                + ":" + port());
+        logger.info("Access token written to " + tokenFile);
+    }
+
+    /**
+     * @return the file holding the access token
+     */
+    public Path tokenFile() {
+        return tokenFile;
+    }
+
+    /**
+     * @return the directory below which reports are written
+     */
+    public Path reportsDir() {
+        return reportsDir;
+    }
+
+    /**
+     * @return the bound port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Blocks until a shutdown request has been received.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void awaitShutdown() throws InterruptedException {
+        shutdown.await();
+    }
+
+    /**
+     * Stops the server and its worker thread.
+     */
+    @Override
+    public void close() {
+        shutdown.countDown();
+        server.stop(0);
+        worker.shutdownNow();
+        try {
+            Files.deleteIfExists(tokenFile);
+        } catch (IOException e) {
+            logger.warn("Could not delete token file " + tokenFile + ": " + e.getMessage());
+        }
+        logger.info("DSF Linter daemon stopped.");
+    }
+
+    // Access control
+
+    /**
+     * Wraps a handler with the access checks and answers unexpected exceptions with status 500,
+     * so no exchange is left without a response.
+     */
+    private HttpHandler guarded(boolean requireToken, HttpHandler handler) {
+        return exchange -> {
+            try (exchange) {
+                if (exchange.getRequestHeaders().containsKey("Origin")) {
+                    send(exchange, 403, Map.of("error", "Cross-origin requests are not allowed"));
+                    return;
+                }
+                if (requireToken && !hasValidToken(exchange)) {
+                    exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+                    send(exchange, 401, Map.of("error", "Missing or invalid access token"));
+                    return;
+                }
+                try {
+                    handler.handle(exchange);
+                } catch (RuntimeException e) {
+                    logger.error("Request to " + exchange.getRequestURI() + " failed", e);
+                    send(exchange, 500, Map.of("error", "Internal error: " + e));
+                }
+            }
+        };
+    }
+
+    private boolean hasValidToken(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(presented, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean requireJson(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        String mediaType = contentType != null ? contentType.split(";", 2)[0].trim() : "";
+        if (JSON_CONTENT_TYPE.equalsIgnoreCase(mediaType)) {
+            return true;
+        }
+        send(exchange, 415, Map.of("error", "Content-Type must be " + JSON_CONTENT_TYPE));
+        return false;
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private static void createPrivateDirectory(Path directory) throws IOException {
+        if (Files.getFileStore(existingAncestor(directory)).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.createDirectories(directory,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    private static Path existingAncestor(Path path) {
+        Path current = path;
+        while (current != null && !Files.exists(current)) {
+            current = current.getParent();
+        }
+        return current != null ? current : path.getRoot();
+    }
+
+    /**
+     * Writes the token to a newly created file that only the current user can read. A stale file
+     * of an earlier daemon is replaced rather than reused, so its permissions do not carry over.
+     */
+    private void writeTokenFile() throws IOException {
+        Files.deleteIfExists(tokenFile);
+        if (Files.getFileStore(stateDir).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.createFile(tokenFile,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(tokenFile);
+            File file = tokenFile.toFile();
+            boolean restricted = file.setReadable(false, false) && file.setReadable(true, true)
+                    && file.setWritable(false, false) && file.setWritable(true, true);
+            if (!restricted) {
+                logger.warn("Could not restrict access to token file " + tokenFile);
+            }
+        }
+        Files.writeString(tokenFile, token);
+    }
+
+    /**
+     * Resolves the requested report directory below {@link #reportsDir()}. Without a requested
+     * path the directory is named after the input JAR.
+     *
+     * @return the report directory, or {@code null} if the requested path is absolute or leaves
+     * the reports directory
+     */
+    Path resolveReportPath(String requested, String inputPath) {
+        String relative = requested != null ? requested : defaultReportName(inputPath);
+        Path candidate;
+        try {
+            candidate = Path.of(relative);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        if (candidate.isAbsolute() || candidate.getRoot() != null) {
+            return null;
+        }
+        Path resolved = reportsDir.resolve(candidate).normalize();
+        return resolved.startsWith(reportsDir) && !resolved.equals(reportsDir) ? resolved : null;
+    }
+
+    private static String defaultReportName(String inputPath) {
+        String name = inputPath.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1);
+        if (name.toLowerCase().endsWith(".jar")) {
+            name = name.substring(0, name.length() - ".jar".length());
+        }
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        return name.isEmpty() || name.chars().allMatch(c -> c == '.') ? "report" : name;
+    }
+
+    // Request handling
+
+    private void handleLint(HttpExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "POST") || !requireJson(exchange)) {
+            return;
+        }
+
+        LintRequestBody body;
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] content = in.readNBytes(MAX_REQUEST_BYTES + 1);
+            if (content.length > MAX_REQUEST_BYTES) {
+                send(exchange, 413, Map.of("error", "Request body too large"));
+                return;
+            }
+            body = objectMapper.readValue(content, LintRequestBody.class);
+        } catch (IOException e) {
+            send(exchange, 400, Map.of("error", "Invalid request body: " + e.getMessage()));
+            return;
+        }
+
+        CollectingLogger requestLogger = new CollectingLogger(body.verbose);
+        LintResponseBody response = new LintResponseBody();
+
+        Path reportPath = body.path != null ? resolveReportPath(body.reportPath, body.path) : null;
+        if (body.path != null && reportPath == null) {
+            requestLogger.error("ERROR: reportPath must be a relative path below " + reportsDir
+                    + ". Got: " + body.reportPath);
+            response.exitCode = 1;
+            response.log = requestLogger.lines();
+            send(exchange, 400, response);
+            return;
+        }
+
+        LintRequest request = body.toRequest(reportPath);
+        if (!request.validate(requestLogger)) {
+            response.exitCode = 1;
+            response.log = requestLogger.lines();
+            send(exchange, 400, response);
+            return;
+        }
+
+        logger.info("Linting " + request.inputPath());
+        long start = System.currentTimeMillis();
+        Optional<DsfLinter.OverallLinterResult> result;
+        try {
+            result = request.execute(requestLogger);
+        } catch (RuntimeException e) {
+            logger.error("Linting " + request.inputPath() + " failed", e);
+            requestLogger.error("FATAL: " + e.getMessage(), e);
+            response.exitCode = 1;
+            response.log = requestLogger.lines();
+            send(exchange, 500, response);
+            return;
+        }
+        logger.info("Finished " + request.inputPath() + " in " + (System.currentTimeMillis() - start) + " ms");
+
+        result.ifPresent(r -> response.fill(r));
+        response.exitCode = result.map(r -> r.success() ? 0 : 1).orElse(1);
+        response.log = requestLogger.lines();
+        send(exchange, 200, response);
+    }
+
+    private boolean requireMethod(HttpExchange exchange, String method) throws IOException {
+        if (method.equalsIgnoreCase(exchange.getRequestMethod())) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        send(exchange, 405, Map.of("error", "Method not allowed"));
+        return false;
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] content = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    // JSON bodies
+
+    /**
+     * Body of a {@code POST /lint} request. Mirrors the command line options of {@link Main},
+     * except that {@code reportPath} is relative to the daemon's reports directory.
+     */
+    public static class LintRequestBody {
+        public String path;
+        public String reportPath;
+        public boolean html;
+        public boolean json;
+        public boolean noFail;
+        public boolean inPlace;
+        public int threads = DsfLinter.Config.AUTO_THREADS;
+        public String cacheDir;
+        public boolean verbose;
+
+        LintRequest toRequest(Path resolvedReportPath) {
+            return new LintRequest(
+                    path,
+                    resolvedReportPath,
+                    html,
+                    json,
+                    !noFail,
+                    inPlace,
+                    threads,
+                    cacheDir != null ? Path.of(cacheDir) : null
+            );
+        }
+    }
+
+    /**
+     * Body of a {@code POST /lint} response.
+     */
+    public static class LintResponseBody {
+        public int exitCode;
+        public Boolean success;
+        public Integer pluginErrors;
+        public Integer pluginWarnings;
+        public Integer leftoverResources;
+        public Long executionTimeMs;
+        public String reportPath;
+        public List<PluginSummary> plugins;
+        public List<String> log;
+
+        void fill(DsfLinter.OverallLinterResult result) {
+            success = result.success();
+            pluginErrors = result.getPluginErrors();
+            pluginWarnings = result.getPluginWarnings();
+            leftoverResources = result.getLeftoverCount();
+            executionTimeMs = result.executionTimeMs();
+            reportPath = result.masterReportPath() != null ? result.masterReportPath().toString() : null;
+            plugins = new ArrayList<>();
+            result.pluginLinter().forEach((name, plugin) -> {
+                PluginSummary summary = new PluginSummary();
+                summary.pluginName = name;
+                summary.pluginClass = plugin.pluginClass();
+                summary.apiVersion = String.valueOf(plugin.apiVersion());
+                summary.errors = plugin.output().getErrorCount();
+                summary.warnings = plugin.output().getWarningCount();
+                summary.reportPath = plugin.reportPath() != null ? plugin.reportPath().toString() : null;
+                plugins.add(summary);
+            });
+        }
+    }
+
+    /**
+     * Per-plugin part of a {@link LintResponseBody}.
+     */
+    public static class PluginSummary {
+        public String pluginName;
+        public String pluginClass;
+        public String apiVersion;
+        public int errors;
+        public int warnings;
+        public String reportPath;
+    }
+
+    /**
+     * Logger capturing the output of one request for the response.
+     */
+    private static final class CollectingLogger implements Logger {
+
+        private final boolean verbose;
+        private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+        CollectingLogger(boolean verbose) {
+            this.verbose = verbose;
+        }
+
+        @Override
+        public void info(String message) {
+            lines.add("INFO  " + message);
+        }
+
+        @Override
+        public void warn(String message) {
+            lines.add("WARN  " + message);
+        }
+
+        @Override
+        public void error(String message) {
+            lines.add("ERROR " + message);
+        }
+
+        @Override
+        public void error(String message, Throwable throwable) {
+            lines.add("ERROR " + message + (throwable != null ? ": " + throwable : ""));
+        }
+
+        @Override
+        public void debug(String message) {
+            if (verbose) {
+                lines.add("DEBUG " + message);
+            }
+        }
+
+        @Override
+        public boolean verbose() {
+            return verbose;
+        }
+
+        @Override
+        public boolean isVerbose() {
+            return verbose;
+        }
+
+        List<String> lines() {
+            synchronized (lines) {
+                return List.copyOf(lines);
+            }
+        }
+    }
+}
@@ -23,6 +23,8 @@ public class LinterExecutor {
     private final boolean generateJsonReport;
     private final boolean failOnErrors;
     private final Logger logger;
+    private final int threads;
+    private final Path lintCachePath;
 
     /**
      * Constructs a new LinterExecutor with the specified parameters.
@@ -37,12 +39,50 @@ public class LinterExecutor {
     public LinterExecutor(Path projectPath, Path reportPath,
                           boolean generateHtmlReport, boolean generateJsonReport,
                           boolean failOnErrors, Logger logger) {
+        this(projectPath, reportPath, generateHtmlReport, generateJsonReport, failOnErrors, logger,
+                DsfLinter.Config.AUTO_THREADS);
+    }
+
+    /**
+     * Constructs a new LinterExecutor with an explicit linting parallelism.
+     *
+     * @param projectPath the path to the project to lint
+     * @param reportPath the path where reports should be generated
+     * @param generateHtmlReport whether to generate an HTML report
+     * @param generateJsonReport whether to generate a JSON report
+     * @param failOnErrors whether to fail (exit code 1) if errors are found
+     * @param logger the logger for output
+     * @param threads the maximum number of worker threads, {@code 0} for one per available processor
+     */
+    public LinterExecutor(Path projectPath, Path reportPath,
+                          boolean generateHtmlReport, boolean generateJsonReport,
+                          boolean failOnErrors, Logger logger, int threads) {
+        this(projectPath, reportPath, generateHtmlReport, generateJsonReport, failOnErrors, logger, threads, null);
+    }
+
+    /**
+     * Constructs a new LinterExecutor with an explicit linting parallelism and result cache.
+     *
+     * @param projectPath the path to the project to lint
+     * @param reportPath the path where reports should be generated
+     * @param generateHtmlReport whether to generate an HTML report
+     * @param generateJsonReport whether to generate a JSON report
+     * @param failOnErrors whether to fail (exit code 1) if errors are found
+     * @param logger the logger for output
+     * @param threads the maximum number of worker threads, {@code 0} for one per available processor
+     * @param lintCachePath the directory of the persistent lint result cache, or {@code null} to disable it
+     */
+    public LinterExecutor(Path projectPath, Path reportPath,
+                          boolean generateHtmlReport, boolean generateJsonReport,
+                          boolean failOnErrors, Logger logger, int threads, Path lintCachePath) {
         this.projectPath = projectPath;
         this.reportPath = reportPath;
         this.generateHtmlReport = generateHtmlReport;
         this.generateJsonReport = generateJsonReport;
         this.failOnErrors = failOnErrors;
         this.logger = logger;
+        this.threads = threads;
+        this.lintCachePath = lintCachePath;
     }
 
     /**
@@ -63,7 +103,9 @@ public class LinterExecutor {
                 generateHtmlReport,
                 generateJsonReport,
                 failOnErrors,
-                logger
+                logger,
+                threads,
+                lintCachePath != null ? lintCachePath.toAbsolutePath() : null
         );
 
         // Create and run linter - handles any number of plugins
@@ -1,6 +1,5 @@
 package dev.dsf.linter;
 
-import dev.dsf.linter.input.InputResolver;
 import dev.dsf.linter.logger.ConsoleLogger;
 import dev.dsf.linter.logger.Logger;
 import dev.dsf.linter.logger.Console;
@@ -9,11 +8,9 @@ import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 /**
@@ -35,13 +32,32 @@ import java.util.concurrent.Callable;
  * # Lint a remote JAR file
  * dsf-linter --path https://example.com/plugin.jar --html
  *
+ * # Lint all JARs of a directory in one batch
+ * dsf-linter --path build/plugins --html
+ *
  * # Lint with custom report location
  * dsf-linter --path plugin.jar --report-path ./reports --html --json
+ *
+ * # Lint without extracting compiled classes
+ * dsf-linter --path plugin.jar --in-place
+ *
+ * # Lint sequentially on a single thread
+ * dsf-linter --path plugin.jar --threads 1
+ *
+ * # Reuse results for unchanged files from earlier runs
+ * dsf-linter --path plugin.jar --cache-dir ~/.cache/dsf-linter
+ *
+ * # Serve lint requests from a resident process
+ * dsf-linter --daemon --port 7070
+ *
+ * # Lint again whenever the JAR is rebuilt
+ * dsf-linter --path target/plugin.jar --watch --html
  * </pre>
  * </p>
  *
  * @see DsfLinter
- * @see InputResolver
+ * @see LintRequest
+ * @see LinterDaemon
  */
 @Command(
         name = "dsf-linter",
@@ -51,9 +67,10 @@ import java.util.concurrent.Callable;
 )
 public class Main implements Callable<Integer> {
 
-    @Option(names = {"-p", "--path"},
-            description = "Path to JAR file (local or remote URL).")
-    private String inputPath;
+    @Option(names = {"-p", "--path"}, arity = "1..*",
+            description = "Path to JAR file (local or remote URL). Several JARs, a directory of JARs "
+                    + "or a glob such as 'plugins/*.jar' lint all of them in one batch.")
+    private List<String> inputPaths;
 
     @Option(names = {"-r", "--report-path"},
             description = "Directory for linter reports. Default: <temp-dir>/dsf-linter-report-<name>/dsf-linter-report")
@@ -79,6 +96,35 @@ public class Main implements Callable<Integer> {
             description = "Disable colored console output. (Default: enabled)")
     private boolean disableColor = false;
 
+    @Option(names = "--in-place",
+            description = "Read compiled classes directly from the JAR instead of extracting them.")
+    private boolean inPlace = false;
+
+    @Option(names = "--threads",
+            description = "Maximum number of plugins and files linted concurrently. "
+                    + "1 disables parallel linting. Default: number of available processors.")
+    private int threads = DsfLinter.Config.AUTO_THREADS;
+
+    @Option(names = "--cache-dir",
+            description = "Directory for persistent caches, which may be shared by concurrent runs. "
+                    + "Unchanged files are not linted again, remote JARs are only downloaded again when "
+                    + "they changed and each JAR is extracted only once. Default: disabled.")
+    private Path cacheDir;
+
+    @Option(names = "--daemon",
+            description = "Keep running and serve lint requests on a loopback HTTP port (see --port). "
+                    + "Requests must send the token written to ~/.dsf-linter/daemon/daemon-<port>.token.")
+    private boolean daemon = false;
+
+    @Option(names = "--port",
+            description = "Loopback port of the daemon. 0 selects a free port. Default: 0.")
+    private int port = 0;
+
+    @Option(names = "--watch",
+            description = "Keep running and lint the local JAR again whenever it changes. "
+                    + "Only changed files are linted again.")
+    private boolean watch = false;
+
 
     /**
      * Main entry point for the DSF Linter CLI application.
@@ -122,91 +168,117 @@ public class Main implements Callable<Integer> {
         }
         logger.info("DSF Linter v2.0.0");
 
-        // Validate input
-        if (inputPath == null || inputPath.isBlank()) {
-            logger.error("ERROR: Specify a JAR file path using --path (local path or remote URL).");
-            return 1;
+        if (daemon) {
+            return runDaemon(logger);
         }
 
-        // Validate that input is a JAR file
-        if (!inputPath.trim().toLowerCase().endsWith(".jar")) {
-            logger.error("ERROR: Input must be a JAR file (ending with .jar). Got: " + inputPath);
-            logger.error("Examples:");
-            logger.error("  Local:  C:\\path\\to\\plugin.jar");
-            logger.error("  Remote: https://example.com/plugin.jar");
-            return 1;
+        List<String> inputs = InputExpander.expand(inputPaths, logger);
+        if (inputs.size() > 1) {
+            return runBatch(inputs, logger);
         }
 
-        // Resolve the JAR file (download if remote, extract)
-        InputResolver resolver = new InputResolver(logger);
-        Optional<InputResolver.ResolutionResult> resolutionResult = resolver.resolve(inputPath);
-
-        if (resolutionResult.isEmpty()) {
-            logger.error("ERROR: Failed to resolve input: " + inputPath);
+        LintRequest request = new LintRequest(
+                inputs.isEmpty() ? null : inputs.getFirst(),
+                reportPath,
+                generateHtmlReport,
+                generateJsonReport,
+                !noFailOnErrors,
+                inPlace,
+                threads,
+                cacheDir
+        );
+
+        if (!request.validate(logger)) {
             return 1;
         }
 
-        InputResolver.ResolutionResult resolution = resolutionResult.get();
-        Path projectPath = resolution.resolvedPath();
-
-        logger.info("Resolved project path: " + projectPath.toAbsolutePath());
+        if (watch) {
+            return runWatcher(request, logger);
+        }
 
-        // Set default report path if not specified (always in temp directory)
-        if (reportPath == null) {
-            Path tempBase = Paths.get(System.getProperty("java.io.tmpdir"));
-            String inputName = resolver.extractInputName(inputPath, resolution.inputType());
+        return request.execute(logger)
+                .map(result -> {
+                    // Output summary
+                    ResultPrinter.printResult(result, logger);
 
-            // Create report directory separately from project extraction directory
-            // This ensures the report survives cleanup of temporary resources
-            Path reportBaseDir = tempBase.resolve("dsf-linter-report-" + inputName);
-            reportPath = reportBaseDir.resolve("dsf-linter-report");
+                    // Return exit code
+                    return result.success() ? 0 : 1;
+                })
+                .orElse(1);
+    }
 
-            logger.info("Linter report will be saved to: " + reportPath.toAbsolutePath());
+    /**
+     * Lints several JARs in this JVM and writes a combined batch report.
+     *
+     * @param inputs the expanded JAR paths and URLs
+     * @param logger the logger for progress messages
+     * @return exit code (0 if every JAR was linted and passed, 1 otherwise)
+     */
+    private int runBatch(List<String> inputs, Logger logger) {
+        if (watch) {
+            logger.error("ERROR: --watch supports a single JAR file only. Got " + inputs.size() + " inputs.");
+            return 1;
+        }
+        if (threads < 0) {
+            logger.error("ERROR: --threads must not be negative. Got: " + threads);
+            return 1;
         }
 
-        try {
-            if (Files.exists(reportPath)) {
-                logger.debug("Removing existing report directory to avoid stale files...");
-                resolver.deleteDirectoryRecursively(reportPath);
-                logger.debug("Existing report directory removed.");
-            }
+        LintRequest options = new LintRequest(
+                null,
+                reportPath,
+                generateHtmlReport,
+                generateJsonReport,
+                !noFailOnErrors,
+                inPlace,
+                threads,
+                cacheDir
+        );
+        return new BatchLinter(options, logger).run(inputs);
+    }
 
-            Files.createDirectories(reportPath);
+    /**
+     * Lints the JAR after every change until the process is stopped.
+     *
+     * @param request the validated request
+     * @param logger  the logger for progress messages
+     * @return exit code (1 if the JAR cannot be watched)
+     */
+    private int runWatcher(LintRequest request, Logger logger) {
+        try {
+            new LintWatcher(request, logger).run();
+            return 0;
         } catch (IOException e) {
-            logger.error("ERROR: Failed to prepare report directory: " + reportPath, e);
+            logger.error("ERROR: " + e.getMessage());
             return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
         }
+    }
 
-        try {
-            // Execute linting
-            LinterExecutor executor = new LinterExecutor(
-                    projectPath,
-                    reportPath,
-                    generateHtmlReport,
-                    generateJsonReport,
-                    !noFailOnErrors,
-                    logger
-            );
-
-            DsfLinter.OverallLinterResult result = executor.execute();
-
-            // Output summary
-            ResultPrinter.printResult(result, logger);
-
-            // Return exit code
-            return result.success() ? 0 : 1;
-
-        } catch (Exception e) {
-            logger.error("FATAL: " + e.getMessage(), e);
+    /**
+     * Runs the resident daemon until it receives a shutdown request.
+     *
+     * @param logger the logger for daemon messages
+     * @return exit code (0 after a regular shutdown, 1 if the daemon could not be started)
+     */
+    private int runDaemon(Logger logger) {
+        if (port < 0 || port > 65535) {
+            logger.error("ERROR: --port must be between 0 and 65535. Got: " + port);
             return 1;
+        }
 
-        } finally {
-            if (resolution.requiresCleanup()) {
-                logger.info("\n=== Cleanup Phase ===");
-                logger.info("Removing temporary extraction directory...");
-                resolver.cleanup(resolution);
-                logger.info("Temporary extraction directory removed.");
-            }
+        try (LinterDaemon linterDaemon = new LinterDaemon(port, logger)) {
+            linterDaemon.start();
+            linterDaemon.awaitShutdown();
+            return 0;
+        } catch (IOException e) {
+            logger.error("ERROR: Failed to start daemon on port " + port, e);
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
         }
     }
 
@@ -5,18 +5,28 @@ import dev.dsf.linter.exception.MissingServiceRegistrationException;
 import dev.dsf.linter.exception.ResourceLinterException;
 import dev.dsf.linter.logger.Console;
 import dev.dsf.linter.logger.Logger;
+import dev.dsf.linter.logger.RoutingLogger;
 import dev.dsf.linter.report.LintingReportGenerator;
 import dev.dsf.linter.service.*;
 import dev.dsf.linter.setup.ProjectSetupHandler;
 import dev.dsf.linter.util.loader.ClassLoaderUtils;
 import dev.dsf.linter.util.api.ApiVersion;
 import dev.dsf.linter.util.api.ApiVersionHolder;
+import dev.dsf.linter.util.cache.LintResultCache;
+import dev.dsf.linter.util.concurrent.OrderedParallelExecutor;
 import dev.dsf.linter.util.linting.LintingOutput;
+import dev.dsf.linter.util.linting.LintingUtils;
+import dev.dsf.linter.util.resource.FhirAuthorizationCache;
+import dev.dsf.linter.util.resource.FhirDocumentCache;
+import dev.dsf.linter.util.resource.FhirResourceLocator;
+import dev.dsf.linter.util.resource.ProjectIndex;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Core linter for DSF (Data Sharing Framework) process plugins.
@@ -57,6 +67,10 @@ public class DsfLinter {
      * @param generateJsonReport whether to generate a JSON report
      * @param failOnErrors whether the linter should fail (exit code 1) when errors are found
      * @param logger the logger instance for output
+     * @param threads maximum number of plugins and of files per plugin linted concurrently;
+     *                {@code 1} lints sequentially, {@code 0} uses the number of available processors
+     * @param lintCachePath directory of the persistent per-file lint result cache, or {@code null}
+     *                      to lint every file on every run
      */
     public record Config(
             Path projectPath,
@@ -64,8 +78,45 @@ public class DsfLinter {
             boolean generateHtmlReport,
             boolean generateJsonReport,
             boolean failOnErrors,
-            Logger logger
+            Logger logger,
+            int threads,
+            Path lintCachePath
     ) {
+        /**
+         * Thread count selecting the number of available processors.
+         *
+         * @since 1.2.0
+         */
+        public static final int AUTO_THREADS = 0;
+
+        /**
+         * Creates a configuration that uses {@link #AUTO_THREADS}.
+         */
+        public Config(
+                Path projectPath,
+                Path reportPath,
+                boolean generateHtmlReport,
+                boolean generateJsonReport,
+                boolean failOnErrors,
+                Logger logger) {
+            this(projectPath, reportPath, generateHtmlReport, generateJsonReport, failOnErrors, logger, AUTO_THREADS);
+        }
+
+        /**
+         * Creates a configuration without a persistent lint result cache.
+         *
+         * @since 1.2.0
+         */
+        public Config(
+                Path projectPath,
+                Path reportPath,
+                boolean generateHtmlReport,
+                boolean generateJsonReport,
+                boolean failOnErrors,
+                Logger logger,
+                int threads) {
+            this(projectPath, reportPath, generateHtmlReport, generateJsonReport, failOnErrors, logger, threads, null);
+        }
     }
 
     /**
@@ -143,6 +194,7 @@ public class DsfLinter {
     private final LeftoverResourceDetector leftoverDetector;
     private final LintingReportGenerator reportGenerator;
     private final PluginLintingOrchestrator pluginOrchestrator;
+    private final LintResultCache lintResultCache;
 
     /**
      * Creates a new DSF Linter instance with the specified configuration.
@@ -163,12 +215,15 @@ public class DsfLinter {
      */
     public DsfLinter(Config config) {
         this.config = config;
-        this.logger = config.logger();
+        this.logger = RoutingLogger.wrap(config.logger());
         Console.init(logger);
         this.setupHandler = new ProjectSetupHandler(logger);
         this.discoveryService = new ResourceDiscoveryService(logger);
-        BpmnLintingService bpmnLinter = new BpmnLintingService(logger);
-        FhirLintingService fhirLinter = new FhirLintingService(logger);
+        this.lintResultCache = config.lintCachePath() != null
+                ? LintResultCache.create(config.lintCachePath(), logger).orElse(null)
+                : null;
+        BpmnLintingService bpmnLinter = new BpmnLintingService(logger, config.threads(), lintResultCache);
+        FhirLintingService fhirLinter = new FhirLintingService(logger, config.threads(), lintResultCache);
         PluginLintingService pluginLinter = new PluginLintingService(logger);
         this.leftoverDetector = new LeftoverResourceDetector(logger);
         this.reportGenerator = new LintingReportGenerator(logger);
@@ -216,6 +271,7 @@ public class DsfLinter {
             } catch (IOException e) {
                 throw e;
             }
+            LintingUtils.registerProjectRoot(context.projectDir());
 
             // Execute all linting phases with temporary context classloader
             return ClassLoaderUtils.withTemporaryContextClassLoader(context.projectClassLoader(), () -> {
@@ -235,40 +291,9 @@ public class DsfLinter {
                         );
                     }
 
-                    // Phase 3: linting (Plugins and Project-level)
-                    reportGenerator.printPhaseHeader("Phase 3: Linting");
-
-                    // Always perform project-level leftover analysis (works for 1 or more plugins)
-                    LeftoverResourceDetector.AnalysisResult leftoverResults =
-                            performProjectLeftoverAnalysis(context, discovery);
-
-                    // lint all plugins AND include leftover analysis items
-                    Map<String, PluginLinter> pluginLinting = lintAllPlugins(context, discovery, leftoverResults);
-
-                    // Phase 4: Report Generation
-                    reportGenerator.printPhaseHeader("Phase 4: Report Generation");
-                    reportGenerator.generateReports(pluginLinting, discovery, leftoverResults, config);
-
-                    // Phase 5: Summary
-                    long executionTime = System.currentTimeMillis() - startTime;
-                    reportGenerator.printSummary(pluginLinting, discovery, leftoverResults, executionTime, config);
-
-                    // Determine final success status
-                    int totalPluginErrors = pluginLinting.values().stream()
-                            .mapToInt(v -> v.output().getErrorCount())
-                            .sum();
-                    
-                    // Consider failed plugins as errors (partial success means non-zero exit code)
-                    boolean hasFailedPlugins = discovery.hasFailedPlugins();
-                    boolean success = !config.failOnErrors() || (totalPluginErrors == 0 && !hasFailedPlugins);
-
-                    return new OverallLinterResult(
-                            pluginLinting,
-                            leftoverResults,
-                            config.reportPath(),
-                            executionTime,
-                            success
-                    );
+                    // The project's CodeSystems are visible to the linters of this run only
+                    return FhirAuthorizationCache.callWithRegistry(discovery.terminology(),
+                            () -> lintDiscovered(context, discovery, startTime));
 
                 } catch (ResourceLinterException | MissingServiceRegistrationException e) {
                     logger.error("FATAL: Linting failed: " + e.getMessage(), e);
@@ -276,6 +301,16 @@ public class DsfLinter {
                 } finally {
                     ApiVersionHolder.clear();
                     logger.debug("ApiVersionHolder cleared.");
+                    FhirResourceLocator.clearSharedLocators();
+                    FhirDocumentCache.clearShared();
+                    FhirAuthorizationCache.release(context.projectDir());
+                    ProjectIndex.clearShared();
+                    LintingUtils.unregisterProjectRoot(context.projectDir());
+                    LintingUtils.clearProjectRootCache();
+                    if (lintResultCache != null) {
+                        logger.debug("Lint result cache: " + lintResultCache.hits() + " hits, "
+                                + lintResultCache.misses() + " misses.");
+                    }
                 }
             });
 
@@ -288,6 +323,51 @@ public class DsfLinter {
         }
     }
 
+    /**
+     * Runs phases 3 to 5 for the discovered plugins.
+     */
+    private OverallLinterResult lintDiscovered(
+            ProjectSetupHandler.ProjectContext context,
+            ResourceDiscoveryService.DiscoveryResult discovery,
+            long startTime)
+            throws ResourceLinterException, IOException, MissingServiceRegistrationException {
+
+        // Phase 3: linting (Plugins and Project-level)
+        reportGenerator.printPhaseHeader("Phase 3: Linting");
+
+        // Always perform project-level leftover analysis (works for 1 or more plugins)
+        LeftoverResourceDetector.AnalysisResult leftoverResults =
+                performProjectLeftoverAnalysis(context, discovery);
+
+        // lint all plugins AND include leftover analysis items
+        Map<String, PluginLinter> pluginLinting = lintAllPlugins(context, discovery, leftoverResults);
+
+        // Phase 4: Report Generation
+        reportGenerator.printPhaseHeader("Phase 4: Report Generation");
+        reportGenerator.generateReports(pluginLinting, discovery, leftoverResults, config);
+
+        // Phase 5: Summary
+        long executionTime = System.currentTimeMillis() - startTime;
+        reportGenerator.printSummary(pluginLinting, discovery, leftoverResults, executionTime, config);
+
+        // Determine final success status
+        int totalPluginErrors = pluginLinting.values().stream()
+                .mapToInt(v -> v.output().getErrorCount())
+                .sum();
+
+        // Consider failed plugins as errors (partial success means non-zero exit code)
+        boolean hasFailedPlugins = discovery.hasFailedPlugins();
+        boolean success = !config.failOnErrors() || (totalPluginErrors == 0 && !hasFailedPlugins);
+
+        return new OverallLinterResult(
+                pluginLinting,
+                leftoverResults,
+                config.reportPath(),
+                executionTime,
+                success
+        );
+    }
+
     /**
      * Performs project-wide analysis for leftover resources by aggregating
      * all referenced paths from all discovered plugins.
@@ -333,10 +413,16 @@ public class DsfLinter {
      * Delegates the complex per-plugin orchestration to {@link PluginLintingOrchestrator}.
      * This method has two main responsibilities:
      * <ol>
-     *   <li>Loop coordination - iterates over plugins and calculates context</li>
+     *   <li>Loop coordination - distributes plugins over a bounded pool of virtual threads</li>
      *   <li>Result aggregation - collects linting results from all plugins</li>
      * </ol>
      * </p>
+     * <p>
+     * Plugins are linted concurrently when a project contains more than one plugin and
+     * {@link Config#threads()} allows it. {@link OrderedParallelExecutor} captures the console
+     * output of each plugin and replays it in discovery order, so the output is identical to a
+     * sequential run.
+     * </p>
      *
      * @param context the project context containing classloader and directories
      * @param discovery the resource discovery result containing all plugins
@@ -356,36 +442,60 @@ public class DsfLinter {
 
         final boolean isSinglePluginProject = (discovery.plugins().size() == 1);
         final int totalPlugins = discovery.plugins().size();
-        int currentPluginIndex = 0;
+        final int parallelism = Math.min(totalPlugins, OrderedParallelExecutor.resolveThreads(config.threads()));
+
+        logger.debug("Linting " + totalPlugins + " plugin(s) with parallelism " + parallelism);
 
+        List<String> pluginNames = new ArrayList<>();
+        List<Callable<PluginLinter>> tasks = new ArrayList<>();
+
+        int currentPluginIndex = 0;
         for (Map.Entry<String, ResourceDiscoveryService.PluginDiscovery> entry : discovery.plugins().entrySet()) {
             final String pluginName = entry.getKey();
             final ResourceDiscoveryService.PluginDiscovery plugin = entry.getValue();
 
             currentPluginIndex++;
-            final boolean isLastPlugin = (currentPluginIndex == totalPlugins);
-
-            // Create linting context
-            PluginLintingOrchestrator.PluginLintContext lintContext =
-                    new PluginLintingOrchestrator.PluginLintContext(
-                            currentPluginIndex,
-                            totalPlugins,
-                            isLastPlugin,
-                            isSinglePluginProject
-                    );
-
-            // Delegate complete plugin linting to orchestrator
-            PluginLinter pluginLinter = pluginOrchestrator.lintSinglePlugin(
-                    pluginName,
-                    plugin,
-                    context,
-                    leftoverAnalysis,
-                    lintContext
-            );
-
-            lints.put(pluginName, pluginLinter);
+            final PluginLintingOrchestrator.PluginLintContext lintContext = createLintContext(
+                    currentPluginIndex, totalPlugins, isSinglePluginProject);
+
+            pluginNames.add(pluginName);
+            tasks.add(() -> pluginOrchestrator.lintSinglePlugin(
+                    pluginName, plugin, context, leftoverAnalysis, lintContext));
+        }
+
+        try {
+            List<PluginLinter> results = OrderedParallelExecutor.invokeAll(
+                    tasks, parallelism, "dsf-linter-plugin-", logger);
+            for (int i = 0; i < results.size(); i++) {
+                lints.put(pluginNames.get(i), results.get(i));
+            }
+        } catch (ExecutionException e) {
+            rethrowPluginFailure(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while linting plugins", e);
         }
 
         return lints;
     }
-}
\ No newline at end of file
+
+    private static PluginLintingOrchestrator.PluginLintContext createLintContext(
+            int pluginIndex, int totalPlugins, boolean isSinglePluginProject) {
+        return new PluginLintingOrchestrator.PluginLintContext(
+                pluginIndex,
+                totalPlugins,
+                pluginIndex == totalPlugins,
+                isSinglePluginProject
+        );
+    }
+
+    private static void rethrowPluginFailure(Throwable cause)
+            throws ResourceLinterException, IOException, MissingServiceRegistrationException {
+        if (cause instanceof ResourceLinterException e) throw e;
+        if (cause instanceof IOException e) throw e;
+        if (cause instanceof MissingServiceRegistrationException e) throw e;
+        if (cause instanceof RuntimeException e) throw e;
+        if (cause instanceof Error e) throw e;
+        throw new IllegalStateException("Plugin linting failed", cause);
+    }
+}
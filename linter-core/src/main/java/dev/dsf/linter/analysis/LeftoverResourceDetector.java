@@ -7,12 +7,11 @@ import dev.dsf.linter.output.item.PluginLintItem;
 import dev.dsf.linter.logger.Logger;
 import dev.dsf.linter.service.ResourceDiscoveryService;
 import dev.dsf.linter.util.resource.FhirFileUtils;
+import dev.dsf.linter.util.resource.ProjectIndex;
 
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.PathMatcher;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -47,12 +46,12 @@ public class LeftoverResourceDetector {
 
         File bpeRoot = new File(resourcesDir, "bpe");
         List<File> actualBpmnFiles = (bpeRoot.exists())
-                ? findBpmnFilesRecursively(bpeRoot.toPath())
+                ? findBpmnFilesRecursively(projectDir, bpeRoot.toPath())
                 : Collections.emptyList();
 
         File fhirRoot = new File(resourcesDir, "fhir");
         List<File> actualFhirFiles = (fhirRoot.exists())
-                ? findFhirFilesRecursively(fhirRoot.toPath())
+                ? findFhirFilesRecursively(projectDir, fhirRoot.toPath())
                 : Collections.emptyList();
 
         Set<String> actualBpmnPaths = actualBpmnFiles.stream()
@@ -229,36 +228,37 @@ public class LeftoverResourceDetector {
         return items;
     }
 
-    private List<File> findBpmnFilesRecursively(Path rootPath) {
-        return findFiles(rootPath, "glob:**/*.bpmn");
+    private List<File> findBpmnFilesRecursively(File projectDir, Path rootPath) {
+        return findFiles(projectDir, rootPath, EnumSet.of(ProjectIndex.Type.BPMN));
     }
 
-    private List<File> findFhirFilesRecursively(Path rootPath) {
-        return findFiles(rootPath, "glob:**/*.{xml,json}").stream()
+    private List<File> findFhirFilesRecursively(File projectDir, Path rootPath) {
+        return findFiles(projectDir, rootPath, EnumSet.of(ProjectIndex.Type.XML, ProjectIndex.Type.JSON)).stream()
                 .filter(f -> FhirFileUtils.isFhirFile(f.toPath()))
                 .collect(Collectors.toList());
     }
 
-    private List<File> findFiles(Path root, String glob) {
+    /**
+     * Lists the files of the given types below {@code root} from the shared project index.
+     * Directories outside the project are indexed on their own.
+     */
+    private List<File> findFiles(File projectDir, Path root, Set<ProjectIndex.Type> types) {
         if (!Files.isDirectory(root)) {
             return Collections.emptyList();
         }
 
-        PathMatcher matcher = root.getFileSystem().getPathMatcher(glob);
-        try (var stream = Files.walk(root)) {
-            return stream
-                    .filter(Files::isRegularFile)
-                    .filter(matcher::matches)
-                    .map(Path::toFile)
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            logger.error("Error walking directory " + root + ": " + e.getMessage());
-            return Collections.emptyList();
-        }
+        List<ProjectIndex.Entry> files = ProjectIndex.forProject(projectDir).filesUnder(root)
+                .orElseGet(() -> ProjectIndex.build(root).files());
+
+        return files.stream()
+                .filter(entry -> types.contains(entry.type()))
+                .map(entry -> entry.location().toFile())
+                .collect(Collectors.toList());
     }
 
     private String getRelativePath(File file, File baseDir) {
-        String relative = baseDir.toPath().relativize(file.toPath()).toString();
+        String relative = baseDir.toPath().toAbsolutePath().normalize()
+                .relativize(file.toPath().toAbsolutePath().normalize()).toString();
         return relative.replace(File.separator, "/");
     }
 
@@ -3,12 +3,14 @@ package dev.dsf.linter.bpmn;
 import dev.dsf.linter.output.LinterSeverity;
 import dev.dsf.linter.output.LintingType;
 import dev.dsf.linter.output.item.*;
+import dev.dsf.linter.util.resource.FhirDocumentCache;
 import dev.dsf.linter.util.resource.FhirResourceExtractor;
 import dev.dsf.linter.util.resource.FhirResourceLocator;
-import dev.dsf.linter.util.resource.FhirResourceParser;
+import dev.dsf.linter.util.resource.VirtualResource;
 import org.camunda.bpm.model.bpmn.instance.*;
 import org.camunda.bpm.model.bpmn.instance.camunda.CamundaField;
 import org.camunda.bpm.model.xml.instance.DomElement;
+import org.w3c.dom.Document;
 
 import java.io.File;
 import java.util.*;
@@ -161,6 +163,23 @@ public class BpmnFieldInjectionLinter {
      */
     private record FieldValue(FieldValueType type, String value) { }
 
+    /**
+     * Values of a message StructureDefinition used by the cross-checks, cached per document
+     * in {@link FhirDocumentCache}.
+     *
+     * @param instantiatesCanonical the fixed <code>Task.instantiatesCanonical</code>, or {@code null}
+     * @param messageName           the fixed message-name string, or {@code null}
+     */
+    private record MessageProfileValues(String instantiatesCanonical, String messageName) {
+        private static final String FACT_NAME = "BpmnFieldInjectionLinter.messageProfileValues";
+
+        static MessageProfileValues of(Document doc) {
+            return new MessageProfileValues(
+                    FhirResourceExtractor.getTaskInstantiatesCanonicalValue(doc),
+                    FhirResourceExtractor.getTaskMessageNameFixedStringValue(doc));
+        }
+    }
+
     /*
      public API
       */
@@ -290,7 +309,7 @@ public class BpmnFieldInjectionLinter {
                                           File bpmnFile,
                                           String processId,
                                           File projectRoot) {
-        var locator = FhirResourceLocator.create(projectRoot);
+        var locator = FhirResourceLocator.forProject(projectRoot);
         Collection<CamundaField> fields = extensionElements.getElementsQuery().filterByType(CamundaField.class).list();
 
         // remember values for cross‑checks
@@ -389,15 +408,16 @@ public class BpmnFieldInjectionLinter {
                                            String profileVal,
                                            String instantiatesVal,
                                            String messageNameVal) {
-        var locator = FhirResourceLocator.create(projectRoot);
-        File structureFile = locator.findStructureDefinitionFile(profileVal, projectRoot);
-        if (structureFile == null) return; // Warn already added earlier.
+        var locator = FhirResourceLocator.forProject(projectRoot);
+        VirtualResource structureDefinition = locator.findStructureDefinition(profileVal);
+        if (structureDefinition == null) return; // Warn already added earlier.
 
         try {
-            var doc = FhirResourceParser.parseFhirFile(structureFile.toPath());
+            MessageProfileValues values = FhirDocumentCache.shared().getFact(structureDefinition,
+                    MessageProfileValues.FACT_NAME, MessageProfileValues::of);
 
             if (!isEmpty(instantiatesVal)) {
-                String fixedCanonical = FhirResourceExtractor.getTaskInstantiatesCanonicalValue(doc);
+                String fixedCanonical = values.instantiatesCanonical();
                 if (fixedCanonical == null) {
                     issues.add(new BpmnElementLintItem(LinterSeverity.ERROR,
                             LintingType.BPMN_NO_STRUCTURE_DEFINITION_FOUND_FOR_MESSAGE,
@@ -414,7 +434,7 @@ public class BpmnFieldInjectionLinter {
                 }
             }
 
-            String fixedString = FhirResourceExtractor.getTaskMessageNameFixedStringValue(doc);
+            String fixedString = values.messageName();
             if (fixedString == null || fixedString.isBlank()) {
                 issues.add(new BpmnElementLintItem(LinterSeverity.ERROR,
                         LintingType.BPMN_NO_STRUCTURE_DEFINITION_FOUND_FOR_MESSAGE,
@@ -471,7 +491,7 @@ public class BpmnFieldInjectionLinter {
             List<BpmnElementLintItem> issues,
             String literalValue,
             File projectRoot) {
-        var locator = FhirResourceLocator.create(projectRoot);
+        var locator = FhirResourceLocator.forProject(projectRoot);
         if (isEmpty(literalValue)) {
             issues.add(new BpmnElementLintItem(LinterSeverity.ERROR,
                     LintingType.BPMN_FIELD_INJECTION_PROFILE_EMPTY,
@@ -6,10 +6,12 @@ import dev.dsf.linter.output.item.BpmnElementLintItem;
 import dev.dsf.linter.output.item.PluginLintItem;
 import dev.dsf.linter.util.linting.LintingOutput;
 import dev.dsf.linter.util.linting.LintingUtils;
+import dev.dsf.linter.util.resource.VirtualResource;
 import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -21,26 +23,45 @@ import java.util.List;
 public class BpmnLinter {
 
     public LintingOutput lintBpmnFile(Path bpmnFilePath) {
+        return lint(bpmnFilePath.toFile(), () -> Bpmn.readModelFromFile(bpmnFilePath.toFile()));
+    }
+
+    /**
+     * Lints a BPMN model that is read from its content source, e.g. an entry of a dependency JAR.
+     * Lint items refer to the {@linkplain VirtualResource#location() location} of the resource.
+     *
+     * @param resource the BPMN resource
+     * @return the linting output
+     * @since 1.2.0
+     */
+    public LintingOutput lintBpmnResource(VirtualResource resource) {
+        return lint(resource.location(), () -> {
+            try (InputStream in = resource.openStream()) {
+                return Bpmn.readModelFromStream(in);
+            }
+        });
+    }
+
+    private LintingOutput lint(File bpmnFile, ModelReader reader) {
         try {
-            BpmnModelInstance model = Bpmn.readModelFromFile(bpmnFilePath.toFile());
+            BpmnModelInstance model = reader.read();
 
-            File bpmnFile = bpmnFilePath.toFile();
-            File projectRoot = getProjectRoot(bpmnFilePath);
+            File projectRoot = getProjectRoot(bpmnFile.toPath());
 
             BpmnModelLinter modelLinter = new BpmnModelLinter(projectRoot);
             List<BpmnElementLintItem> items = modelLinter.lintModel(model, bpmnFile);
 
             return new LintingOutput(new ArrayList<>(items));
         } catch (Exception e) {
-            String pluginName = getProjectRoot(bpmnFilePath).getName();
-            PluginLintItem errorItem = createUnparsableBpmnResourceItem(bpmnFilePath, pluginName);
+            String pluginName = getProjectRoot(bpmnFile.toPath()).getName();
+            PluginLintItem errorItem = createUnparsableBpmnResourceItem(bpmnFile, pluginName);
 
             return new LintingOutput(Collections.singletonList(errorItem));
         }
     }
 
-    private static PluginLintItem createUnparsableBpmnResourceItem(Path bpmnFilePath, String pluginName) {
-        String fileName = bpmnFilePath.getFileName().toString();
+    private static PluginLintItem createUnparsableBpmnResourceItem(File bpmnFile, String pluginName) {
+        String fileName = bpmnFile.getName();
         String errorMessage = String.format(
                 "linting for plugin \"%s\" may has some false items because the file \"%s\" is unparsable.",
                 pluginName,
@@ -50,7 +71,7 @@ public class BpmnLinter {
         return new PluginLintItem(
                 LinterSeverity.ERROR,
                 LintingType.PLUGIN_DEFINITION_UNPARSABLE_BPMN_RESOURCE,
-                bpmnFilePath.toFile(),
+                bpmnFile,
                 pluginName,
                 errorMessage
         );
@@ -59,4 +80,9 @@ public class BpmnLinter {
     private File getProjectRoot(Path filePath) {
         return LintingUtils.getProjectRoot(filePath);
     }
+
+    @FunctionalInterface
+    private interface ModelReader {
+        BpmnModelInstance read() throws Exception;
+    }
 }
@@ -353,7 +353,7 @@ public record BpmnTaskLinter(File projectRoot) {
             String processId) {
 
         String elementId = userTask.getId();
-        var locator = FhirResourceLocator.create(projectRoot);
+        var locator = FhirResourceLocator.forProject(projectRoot);
 
         // 1. Validate task name
         if (isEmpty(userTask.getName())) {
@@ -0,0 +1,254 @@
+package dev.dsf.linter.classloading;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Class hierarchy index that answers type queries by reading class files instead of loading classes.
+ * <p>
+ * {@link ClassInspector} used to load every referenced delegate and listener class through the
+ * project {@link ClassLoader} just to find out whether it implements or extends a DSF API type.
+ * Loading defines and links the class and all of its supertypes and occupies metaspace for the rest
+ * of the run. This index reads only the class file header (constant pool, access flags, super class
+ * and interfaces) of the requested class and its ancestors. No class is ever defined, so nothing is
+ * added to metaspace. (Static initializers did not run before either, as classes were loaded
+ * without initialization.)
+ * </p>
+ *
+ * <h3>Lookup</h3>
+ * <p>
+ * Class files are located with {@link ClassLoader#getResourceAsStream(String)} on the given loader,
+ * which covers the extracted plugin classes, the JARs bundled with the plugin and, through the parent
+ * loader, the DSF API and JDK classes. Class headers and the transitive supertype closures are
+ * memoized, so each class file is read at most once per index.
+ * </p>
+ * <p>
+ * A supertype closure is only available if every ancestor could be read. This mirrors class
+ * loading, which fails if a supertype is missing.
+ * </p>
+ *
+ * <h3>Thread Safety</h3>
+ * <p>
+ * Instances are thread-safe. Concurrent queries for the same class may read its class file more
+ * than once, but all of them observe the same result.
+ * </p>
+ *
+ * @see ClassInspector
+ * @since 1.2.0
+ */
+public final class ClassHierarchyIndex {
+
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    private static final int ACC_INTERFACE = 0x0200;
+
+    private final ClassLoader classLoader;
+    private final ConcurrentMap<String, Optional<ClassHeader>> headers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Optional<Set<String>>> supertypes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an index reading class files through the given loader.
+     *
+     * @param classLoader the loader used to locate class files, must not be null
+     */
+    public ClassHierarchyIndex(ClassLoader classLoader) {
+        if (classLoader == null) {
+            throw new IllegalArgumentException("Class loader cannot be null");
+        }
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Checks whether a readable class file exists for the class.
+     *
+     * @param className the binary class name, e.g. {@code org.example.Outer$Inner}
+     * @return {@code true} if the class file was found and is well-formed
+     */
+    public boolean contains(String className) {
+        return header(className).isPresent();
+    }
+
+    /**
+     * Returns the header of the class file.
+     *
+     * @param className the binary class name
+     * @return the header, or empty if the class file is missing or malformed
+     */
+    public Optional<ClassHeader> header(String className) {
+        if (className == null || className.isBlank()) {
+            return Optional.empty();
+        }
+        Optional<ClassHeader> cached = headers.get(className);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<ClassHeader> read = readHeader(className);
+        Optional<ClassHeader> previous = headers.putIfAbsent(className, read);
+        return previous != null ? previous : read;
+    }
+
+    /**
+     * Returns the class itself and all of its direct and indirect superclasses and interfaces.
+     *
+     * @param className the binary class name
+     * @return the supertype names including {@code className}, or empty if the class or one of
+     *         its ancestors cannot be read
+     */
+    public Optional<Set<String>> supertypes(String className) {
+        return supertypes(className, new HashSet<>());
+    }
+
+    /**
+     * Equivalent of {@code Class.forName(typeName).isAssignableFrom(Class.forName(className))}
+     * without loading either class.
+     *
+     * @param className the binary name of the candidate class
+     * @param typeName  the binary name of the class or interface to test for
+     * @return {@code true} if the candidate is, extends or implements the type
+     */
+    public boolean isAssignableTo(String className, String typeName) {
+        if (typeName == null || typeName.isBlank()) {
+            return false;
+        }
+        return supertypes(className).map(types -> types.contains(typeName)).orElse(false);
+    }
+
+    // Private helper methods
+
+    private Optional<Set<String>> supertypes(String className, Set<String> visiting) {
+        if (className == null || className.isBlank()) {
+            return Optional.empty();
+        }
+        Optional<Set<String>> cached = supertypes.get(className);
+        if (cached != null) {
+            return cached;
+        }
+        if (!visiting.add(className)) {
+            // Circular hierarchy, only possible with malformed class files
+            return Optional.empty();
+        }
+
+        Optional<Set<String>> computed = computeSupertypes(className, visiting);
+        visiting.remove(className);
+
+        Optional<Set<String>> previous = supertypes.putIfAbsent(className, computed);
+        return previous != null ? previous : computed;
+    }
+
+    private Optional<Set<String>> computeSupertypes(String className, Set<String> visiting) {
+        Optional<ClassHeader> header = header(className);
+        if (header.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<String> result = new LinkedHashSet<>();
+        result.add(className);
+
+        List<String> direct = new ArrayList<>(header.get().interfaces());
+        if (header.get().superName() != null) {
+            direct.add(0, header.get().superName());
+        }
+        for (String parent : direct) {
+            Optional<Set<String>> parentTypes = supertypes(parent, visiting);
+            if (parentTypes.isEmpty()) {
+                return Optional.empty();
+            }
+            result.addAll(parentTypes.get());
+        }
+        return Optional.of(Collections.unmodifiableSet(result));
+    }
+
+    private Optional<ClassHeader> readHeader(String className) {
+        String resource = className.replace('.', '/') + ".class";
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            ClassHeader header = ClassHeader.read(in);
+            return header.name().equals(className) ? Optional.of(header) : Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The parts of a class file that describe its position in the type hierarchy.
+     *
+     * @param name       the binary class name
+     * @param superName  the binary name of the superclass, {@code null} for {@code java.lang.Object}
+     *                   and module descriptors
+     * @param interfaces the binary names of the directly implemented interfaces
+     * @param isInterface whether the class file describes an interface
+     */
+    public record ClassHeader(String name, String superName, List<String> interfaces, boolean isInterface) {
+
+        /**
+         * Reads the header from the start of a class file. The rest of the stream is not consumed.
+         *
+         * @param in the class file content
+         * @return the header
+         * @throws IOException if the stream is not a well-formed class file
+         */
+        static ClassHeader read(InputStream in) throws IOException {
+            DataInputStream data = new DataInputStream(in);
+            if (data.readInt() != CLASS_FILE_MAGIC) {
+                throw new IOException("Not a class file");
+            }
+            data.readUnsignedShort(); // minor version
+            data.readUnsignedShort(); // major version
+
+            int count = data.readUnsignedShort();
+            String[] utf8 = new String[count];
+            int[] classNameIndex = new int[count];
+            for (int i = 1; i < count; i++) {
+                int tag = data.readUnsignedByte();
+                switch (tag) {
+                    case 1 -> utf8[i] = data.readUTF();
+                    case 7 -> classNameIndex[i] = data.readUnsignedShort();
+                    // String, MethodType, Module, Package
+                    case 8, 16, 19, 20 -> data.skipBytes(2);
+                    // MethodHandle
+                    case 15 -> data.skipBytes(3);
+                    // Integer, Float, member references, NameAndType, Dynamic, InvokeDynamic
+                    case 3, 4, 9, 10, 11, 12, 17, 18 -> data.skipBytes(4);
+                    // Long and Double occupy two constant pool slots
+                    case 5, 6 -> {
+                        data.skipBytes(8);
+                        i++;
+                    }
+                    default -> throw new IOException("Unknown constant pool tag " + tag);
+                }
+            }
+
+            int accessFlags = data.readUnsignedShort();
+            String name = className(data.readUnsignedShort(), utf8, classNameIndex);
+            int superIndex = data.readUnsignedShort();
+            String superName = superIndex == 0 ? null : className(superIndex, utf8, classNameIndex);
+
+            int interfaceCount = data.readUnsignedShort();
+            List<String> interfaces = new ArrayList<>(interfaceCount);
+            for (int i = 0; i < interfaceCount; i++) {
+                interfaces.add(className(data.readUnsignedShort(), utf8, classNameIndex));
+            }
+
+            return new ClassHeader(name, superName, List.copyOf(interfaces), (accessFlags & ACC_INTERFACE) != 0);
+        }
+
+        private static String className(int index, String[] utf8, int[] classNameIndex) throws IOException {
+            if (index <= 0 || index >= classNameIndex.length || classNameIndex[index] == 0
+                    || utf8[classNameIndex[index]] == null) {
+                throw new IOException("Invalid class reference " + index);
+            }
+            return utf8[classNameIndex[index]].replace('/', '.');
+        }
+    }
+}
@@ -5,9 +5,13 @@ import dev.dsf.linter.constants.DsfApiConstants;
 import dev.dsf.linter.logger.ConsoleLogger;
 import dev.dsf.linter.logger.Logger;
 import dev.dsf.linter.util.api.ApiVersion;
+import dev.dsf.linter.util.cache.ConcurrentCache;
+import dev.dsf.linter.util.cache.DependencyRecorder;
 
 import java.io.File;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static dev.dsf.linter.classloading.ProjectClassLoaderFactory.getOrCreateProjectClassLoader;
 import static dev.dsf.linter.constants.DsfApiConstants.*;
@@ -26,43 +30,85 @@ import static dev.dsf.linter.util.linting.LintingUtils.isEmpty;
  *   <li><b>Version-specific</b>: V1 uses JavaDelegate, V2 uses specific interfaces</li>
  *   <li><b>General</b>: Fallback when element type is unknown</li>
  * </ol>
+ *
+ * <h3>Class Resolution:</h3>
+ * <p>All checks read class files through a {@link ClassHierarchyIndex} per project class loader
+ * instead of loading the classes, so plugin classes are never defined by the linter.</p>
+ *
+ * <h3>Dependency Recording:</h3>
+ * <p>Every checked class is reported to the {@link DependencyRecorder} of the file being linted,
+ * resolved to its supertypes; {@link #resolveHierarchy(String, File)} repeats the resolution, so a
+ * cached lint result is reused only while the hierarchy of each class it checked is unchanged.</p>
  */
 public class ClassInspector {
 
     public static final Logger logger = new ConsoleLogger(false);
 
+    /**
+     * Hierarchy indexes keyed by the project class loader they read from. An index holds its
+     * loader strongly, so {@link ProjectClassLoaderFactory} drops the index whenever it releases,
+     * evicts or clears the loader.
+     */
+    private static final ConcurrentCache<ClassLoader, ClassHierarchyIndex> INDEXES =
+            ConcurrentCache.<ClassLoader, ClassHierarchyIndex>builder()
+                    .maximumSize(ProjectClassLoaderFactory.MAX_CACHED_CLASS_LOADERS)
+                    .build();
+
     // ==================== CLASS EXISTENCE CHECK ====================
 
     /**
-     * Checks whether a class with the given fully-qualified name can be loaded.
+     * Checks whether a class file for the given fully-qualified name can be found.
      *
      * @param className   The fully-qualified class name to check
      * @param projectRoot The root directory of the project
-     * @return {@code true} if the class is loadable; {@code false} otherwise
+     * @return {@code true} if the class file exists; {@code false} otherwise
      */
     public static boolean classExists(String className, File projectRoot) {
         if (className == null || className.isBlank()) return false;
+        recordClass(className, projectRoot);
+        return exists(className, projectRoot);
+    }
 
-        // 1) Try Thread Context ClassLoader
+    /**
+     * Resolves a class to its hierarchy, as recorded for cached lint results.
+     *
+     * @param className   The fully-qualified class name
+     * @param projectRoot The root directory of the project
+     * @return the sorted supertypes of the class, {@code "?"} if the class exists but its
+     *         hierarchy cannot be read, or an empty string if the class does not exist
+     * @since 1.2.0
+     */
+    public static String resolveHierarchy(String className, File projectRoot) {
+        if (isEmpty(className) || !exists(className, projectRoot)) {
+            return "";
+        }
         try {
-            ClassLoader tccl = Thread.currentThread().getContextClassLoader();
-            if (tccl != null) {
-                tccl.loadClass(className);
-                return true;
-            }
-        } catch (ClassNotFoundException ignore) {
-        } catch (LinkageError | Exception ex) {
-            logger.debug("TCCL could not resolve " + className + ": " + ex);
+            return projectIndex(projectRoot)
+                    .flatMap(index -> index.supertypes(className))
+                    .map(supertypes -> "class:" + String.join(",", new TreeSet<>(supertypes)))
+                    .orElse("?");
+        } catch (Exception e) {
+            return "?";
+        }
+    }
+
+    /**
+     * Checks whether a class exists without recording the lookup.
+     */
+    private static boolean exists(String className, File projectRoot) {
+        // 1) Try Thread Context ClassLoader
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        if (tccl != null && indexFor(tccl).contains(className)) {
+            return true;
         }
 
         // 2) Try project-scoped URLClassLoader
         if (projectRoot != null) {
             try {
-                ClassLoader urlCl = getOrCreateProjectClassLoader(projectRoot);
-                urlCl.loadClass(className);
-                return true;
-            } catch (ClassNotFoundException ignore) {
-            } catch (LinkageError | Exception ex) {
+                if (indexFor(getOrCreateProjectClassLoader(projectRoot)).contains(className)) {
+                    return true;
+                }
+            } catch (Exception ex) {
                 logger.debug("Project CL could not resolve " + className + ": " + ex);
             }
         }
@@ -99,6 +145,7 @@ public class ClassInspector {
             BpmnElementType elementType) {
 
         String[] interfaces = getInterfacesForElement(apiVersion, elementType);
+        recordClass(className, projectRoot);
         return implementsAnyInterface(className, projectRoot, interfaces);
     }
 
@@ -222,6 +269,7 @@ public class ClassInspector {
             BpmnElementType elementType) {
 
         String[] interfaces = getInterfacesForElement(apiVersion, elementType);
+        recordClass(className, projectRoot);
         return findFirstImplementedInterface(className, projectRoot, interfaces);
     }
 
@@ -232,14 +280,11 @@ public class ClassInspector {
      * Checks if a class implements a specific interface.
      */
     public static boolean implementsInterface(String className, String interfaceName, File projectRoot) {
+        recordClass(className, projectRoot);
         try {
-            ClassLoader cl = getOrCreateProjectClassLoader(projectRoot);
-            Optional<Class<?>> candidateClass = loadClass(className, cl);
-            Optional<Class<?>> interfaceClass = loadClass(interfaceName, cl);
-
-            return candidateClass.isPresent()
-                    && interfaceClass.isPresent()
-                    && interfaceClass.get().isAssignableFrom(candidateClass.get());
+            return projectIndex(projectRoot)
+                    .map(index -> index.isAssignableTo(className, interfaceName))
+                    .orElse(false);
         } catch (Exception e) {
             logger.debug("Failed during implementsInterface check for " + className + ": " + e.getMessage());
             return false;
@@ -251,16 +296,13 @@ public class ClassInspector {
      */
     public static boolean isSubclassOf(String className, String superClassName, File projectRoot) {
         try {
-            ClassLoader cl = getOrCreateProjectClassLoader(projectRoot);
-            Optional<Class<?>> targetClass = loadClass(className, cl);
-            Optional<Class<?>> requiredSuperclass = loadClass(superClassName, cl);
-
-            if (targetClass.isEmpty() || requiredSuperclass.isEmpty()) {
+            if (isEmpty(className) || className.equals(superClassName)) {
                 return false;
             }
-
-            return requiredSuperclass.get().isAssignableFrom(targetClass.get())
-                    && !targetClass.get().equals(requiredSuperclass.get());
+            recordClass(className, projectRoot);
+            return projectIndex(projectRoot)
+                    .map(index -> index.isAssignableTo(className, superClassName))
+                    .orElse(false);
         } catch (Exception e) {
             logger.debug("Failed during isSubclassOf check for " + className + ": " + e.getMessage());
             return false;
@@ -269,21 +311,27 @@ public class ClassInspector {
 
     // ==================== PRIVATE HELPERS ====================
 
+    /**
+     * Reports a class lookup to the recorder of the file being linted.
+     */
+    private static void recordClass(String className, File projectRoot) {
+        DependencyRecorder.record(DependencyRecorder.Kind.CLASS, className,
+                () -> resolveHierarchy(className, projectRoot));
+    }
+
     /**
      * Checks if a class implements any of the given interfaces.
      */
     private static boolean implementsAnyInterface(String className, File projectRoot, String[] interfaces) {
         try {
-            ClassLoader cl = getOrCreateProjectClassLoader(projectRoot);
-            Optional<Class<?>> candidateClass = loadClass(className, cl);
+            Optional<Set<String>> supertypes = projectIndex(projectRoot).flatMap(index -> index.supertypes(className));
 
-            if (candidateClass.isEmpty()) {
+            if (supertypes.isEmpty()) {
                 return false;
             }
 
             for (String ifaceName : interfaces) {
-                Optional<Class<?>> ifaceClass = loadClass(ifaceName, cl);
-                if (ifaceClass.isPresent() && ifaceClass.get().isAssignableFrom(candidateClass.get())) {
+                if (supertypes.get().contains(ifaceName)) {
                     logger.debug("Class '" + className + "' implements " + ifaceName);
                     return true;
                 }
@@ -299,16 +347,14 @@ public class ClassInspector {
      */
     private static String findFirstImplementedInterface(String className, File projectRoot, String[] interfaces) {
         try {
-            ClassLoader cl = getOrCreateProjectClassLoader(projectRoot);
-            Optional<Class<?>> candidateClass = loadClass(className, cl);
+            Optional<Set<String>> supertypes = projectIndex(projectRoot).flatMap(index -> index.supertypes(className));
 
-            if (candidateClass.isEmpty()) {
+            if (supertypes.isEmpty()) {
                 return null;
             }
 
             for (String ifaceName : interfaces) {
-                Optional<Class<?>> ifaceClass = loadClass(ifaceName, cl);
-                if (ifaceClass.isPresent() && ifaceClass.get().isAssignableFrom(candidateClass.get())) {
+                if (supertypes.get().contains(ifaceName)) {
                     return ifaceName;
                 }
             }
@@ -319,18 +365,34 @@ public class ClassInspector {
     }
 
     /**
-     * Loads a class by name using the provided ClassLoader.
+     * Returns the hierarchy index of the project class loader.
      */
-    private static Optional<Class<?>> loadClass(String className, ClassLoader cl) {
-        if (isEmpty(className) || cl == null) {
-            return Optional.empty();
-        }
-        try {
-            return Optional.of(Class.forName(className, false, cl));
-        } catch (ClassNotFoundException | LinkageError e) {
-            logger.debug("Could not load class '" + className + "': " + e.getMessage());
+    private static Optional<ClassHierarchyIndex> projectIndex(File projectRoot) {
+        if (projectRoot == null) {
             return Optional.empty();
         }
+        return Optional.of(indexFor(getOrCreateProjectClassLoader(projectRoot)));
+    }
+
+    /**
+     * Returns the shared hierarchy index reading class files through the given loader.
+     */
+    private static ClassHierarchyIndex indexFor(ClassLoader cl) {
+        return INDEXES.getOrCreate(cl, ClassHierarchyIndex::new);
+    }
+
+    /**
+     * Drops the hierarchy index of a class loader that is no longer used.
+     */
+    static void forgetIndex(ClassLoader cl) {
+        INDEXES.remove(cl);
+    }
+
+    /**
+     * Returns whether a hierarchy index is cached for the given loader.
+     */
+    static boolean hasIndex(ClassLoader cl) {
+        return INDEXES.containsKey(cl);
     }
 
     /**
@@ -1,6 +1,7 @@
 package dev.dsf.linter.classloading;
 
 import dev.dsf.linter.util.cache.ConcurrentCache;
+import dev.dsf.linter.util.resource.ProjectIndex;
 
 import java.io.File;
 import java.io.IOException;
@@ -14,7 +15,6 @@ import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
 
 /**
  * Factory for creating ClassLoaders for extracted JAR projects.
@@ -26,33 +26,30 @@ import java.util.stream.Stream;
  */
 public class ProjectClassLoaderFactory {
 
+    /**
+     * Maximum number of class loaders kept per cache. Beyond it the least recently used
+     * loader is evicted and closed, so a long-running or batch process does not keep every
+     * project's class loader open.
+     */
+    static final int MAX_CACHED_CLASS_LOADERS = 64;
+
     /**
      * Cache for standard project class loaders.
-     * Uses cleanup callback to close URLClassLoaders when cache is cleared.
+     * Uses cleanup callback to close URLClassLoaders when cache is cleared or a loader is evicted.
      */
-    private static final ConcurrentCache<Path, ClassLoader> CL_CACHE = new ConcurrentCache<>(classLoader -> {
-        if (classLoader instanceof URLClassLoader) {
-            try {
-                ((URLClassLoader) classLoader).close();
-            } catch (IOException e) {
-                // Best effort cleanup
-            }
-        }
-    });
+    private static final ConcurrentCache<Path, ClassLoader> CL_CACHE = ConcurrentCache.<Path, ClassLoader>builder()
+            .maximumSize(MAX_CACHED_CLASS_LOADERS)
+            .cleanupCallback(ProjectClassLoaderFactory::discard)
+            .build();
 
     /**
      * Cache for recursive project class loaders.
-     * Uses cleanup callback to close URLClassLoaders when cache is cleared.
+     * Uses cleanup callback to close URLClassLoaders when cache is cleared or a loader is evicted.
      */
-    private static final ConcurrentCache<Path, ClassLoader> CL_RECURSIVE_CACHE = new ConcurrentCache<>(classLoader -> {
-        if (classLoader instanceof URLClassLoader) {
-            try {
-                ((URLClassLoader) classLoader).close();
-            } catch (IOException e) {
-                // Best effort cleanup
-            }
-        }
-    });
+    private static final ConcurrentCache<Path, ClassLoader> CL_RECURSIVE_CACHE = ConcurrentCache.<Path, ClassLoader>builder()
+            .maximumSize(MAX_CACHED_CLASS_LOADERS)
+            .cleanupCallback(ProjectClassLoaderFactory::discard)
+            .build();
 
     /**
      * Retrieves or creates a cached standard {@link ClassLoader} for the specified project root.
@@ -101,6 +98,35 @@ public class ProjectClassLoaderFactory {
         });
     }
 
+    /**
+     * Removes and closes the cached class loaders of a project.
+     * <p>
+     * Long-running processes that lint many projects, such as the linter daemon, call this
+     * once a project has been linted so its classes are not kept until the loader is evicted.
+     * </p>
+     *
+     * @param projectRoot the root directory of the extracted JAR project
+     * @since 1.2.0
+     */
+    public static void release(File projectRoot) {
+        try {
+            Path key = projectRoot.getCanonicalFile().toPath();
+            CL_CACHE.remove(key);
+            CL_RECURSIVE_CACHE.remove(key.resolve("#recursive"));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to resolve canonical path for: " + projectRoot, e);
+        }
+    }
+
+    /**
+     * Cleanup callback of both caches: drops the class hierarchy index of a released, evicted or
+     * cleared loader, so it does not keep the closed loader reachable, and closes the loader.
+     */
+    private static void discard(ClassLoader loader) {
+        ClassInspector.forgetIndex(loader);
+        ConcurrentCache.closeQuietly(loader);
+    }
+
     /**
      * Creates a {@link URLClassLoader} configured to load classes and resources from an extracted JAR directory.
      * <p>
@@ -136,7 +162,7 @@ public class ProjectClassLoaderFactory {
      * This scans for:
      * <ul>
      *   <li>The project root directory</li>
-     *   <li>All JAR files in the hierarchy</li>
+     *   <li>All JAR files in the hierarchy, in path order, as listed by the shared {@link ProjectIndex}</li>
      * </ul>
      * </p>
      *
@@ -145,16 +171,12 @@ public class ProjectClassLoaderFactory {
      * @throws Exception if URI/URL conversion or class loader initialization fails
      */
     public static ClassLoader createRecursiveProjectClassLoader(File projectRoot) throws Exception {
-        final Path root = projectRoot.toPath();
         final Set<URI> uris = new LinkedHashSet<>();
 
         uris.add(projectRoot.toURI());
 
-        try (Stream<Path> s = Files.walk(root)) {
-            s.filter(Files::isRegularFile)
-                    .filter(p -> p.toString().endsWith(".jar"))
-                    .forEach(p -> uris.add(p.toUri()));
-        }
+        ProjectIndex.forProject(projectRoot).jars()
+                .forEach(p -> uris.add(p.toUri()));
 
         URL[] urls = uris.stream().map(uri -> {
             try {
@@ -9,7 +9,8 @@ import dev.dsf.linter.output.item.PluginLintItem;
 import dev.dsf.linter.util.linting.AbstractFhirInstanceLinter;
 import dev.dsf.linter.util.linting.LintingOutput;
 import dev.dsf.linter.util.linting.LintingUtils;
-import dev.dsf.linter.util.resource.FhirResourceParser;
+import dev.dsf.linter.util.resource.FhirDocumentCache;
+import dev.dsf.linter.util.resource.VirtualResource;
 import org.w3c.dom.Document;
 
 import java.io.File;
@@ -32,22 +33,38 @@ public class FhirFileLinter {
     }
 
     public LintingOutput lintSingleFile(Path fhirFile) {
+        return lint(fhirFile.toFile(), () -> FhirDocumentCache.shared().getDocument(fhirFile));
+    }
+
+    /**
+     * Lints a FHIR resource that is read from its content source, e.g. an entry of a dependency JAR.
+     * Lint items refer to the {@linkplain VirtualResource#location() location} of the resource.
+     *
+     * @param resource the FHIR resource (XML or JSON)
+     * @return the linting output
+     * @since 1.2.0
+     */
+    public LintingOutput lintResource(VirtualResource resource) {
+        return lint(resource.location(), () -> FhirDocumentCache.shared().getDocument(resource));
+    }
+
+    private LintingOutput lint(File file, DocumentReader reader) {
         try {
-            List<FhirElementLintItem> issues = lintFileInternal(fhirFile.toFile());
+            List<FhirElementLintItem> issues = lintFileInternal(file, reader);
             return new LintingOutput(new ArrayList<>(issues));
         } catch (ResourceLinterException e) {
-            String pluginName = LintingUtils.getProjectRoot(fhirFile).getName();
-            PluginLintItem errorItem = createUnparsableResourceLintItem(fhirFile, pluginName);
+            String pluginName = LintingUtils.getProjectRoot(file.toPath()).getName();
+            PluginLintItem errorItem = createUnparsableResourceLintItem(file, pluginName);
             return new LintingOutput(Collections.singletonList(errorItem));
         }
     }
 
-    private List<FhirElementLintItem> lintFileInternal(File file) throws ResourceLinterException {
+    private List<FhirElementLintItem> lintFileInternal(File file, DocumentReader reader) throws ResourceLinterException {
         List<FhirElementLintItem> issues = new ArrayList<>();
         Document doc;
 
         try {
-            doc = FhirResourceParser.parseFhirFile(file.toPath());
+            doc = reader.read();
         } catch (Exception e) {
             throw new ResourceLinterException("FHIR resource parsing failed", file.toPath(), e);
         }
@@ -69,8 +86,8 @@ public class FhirFileLinter {
         return issues;
     }
 
-    private static PluginLintItem createUnparsableResourceLintItem(Path fhirFile, String pluginName) {
-        String fileName = fhirFile.getFileName().toString();
+    private static PluginLintItem createUnparsableResourceLintItem(File fhirFile, String pluginName) {
+        String fileName = fhirFile.getName();
         String errorMessage = String.format(
                 "linting for plugin \"%s\" may has some false items because the file \"%s\" is unparsable.",
                 pluginName,
@@ -80,9 +97,14 @@ public class FhirFileLinter {
         return new PluginLintItem(
                 LinterSeverity.ERROR,
                 LintingType.PLUGIN_DEFINITION_UNPARSABLE_FHIR_RESOURCE,
-                fhirFile.toFile(),
+                fhirFile,
                 pluginName,
                 errorMessage
         );
     }
+
+    @FunctionalInterface
+    private interface DocumentReader {
+        Document read() throws Exception;
+    }
 }
@@ -3,6 +3,7 @@ package dev.dsf.linter.fhir;
 import dev.dsf.linter.logger.Logger;
 import dev.dsf.linter.util.linting.AbstractFhirInstanceLinter;
 import dev.dsf.linter.util.linting.LintingOutput;
+import dev.dsf.linter.util.resource.VirtualResource;
 
 import java.nio.file.Path;
 import java.util.*;
@@ -157,4 +158,17 @@ public final class FhirResourceLinter {
     public LintingOutput lintSingleFile(Path fhirFile) {
         return fileLinter.lintSingleFile(fhirFile);
     }
+
+    /**
+     * Validates a single FHIR resource that is read from its content source instead of a file,
+     * e.g. an entry of a dependency JAR.
+     *
+     * @param resource the FHIR resource to validate (XML/JSON); must not be {@code null}
+     * @return a {@link LintingOutput} containing all validation issues; never {@code null}
+     * @see FhirFileLinter#lintResource(VirtualResource)
+     * @since 1.2.0
+     */
+    public LintingOutput lintResource(VirtualResource resource) {
+        return fileLinter.lintResource(resource);
+    }
 }
\ No newline at end of file
@@ -5,15 +5,15 @@ import dev.dsf.linter.output.LintingType;
 import dev.dsf.linter.output.item.FhirElementLintItem;
 import dev.dsf.linter.util.linting.LintingUtils;
 import dev.dsf.linter.util.resource.FhirResourceLocator;
-import dev.dsf.linter.util.resource.FhirResourceParser;
 import dev.dsf.linter.util.linting.AbstractFhirInstanceLinter;
 import dev.dsf.linter.util.resource.FhirAuthorizationCache;
+import dev.dsf.linter.util.resource.FhirDocumentCache;
+import dev.dsf.linter.util.resource.VirtualResource;
+import dev.dsf.linter.util.xml.XPathRegistry;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathFactory;
 import java.io.File;
 import java.util.*;
 /**
@@ -101,6 +101,8 @@ import java.util.*;
  * <ol>
  *   <li><strong>Explicit configuration:</strong> System property {@code dsf.projectRoot} or environment
  *       variable {@code DSF_PROJECT_ROOT}</li>
+ *   <li><strong>Current run:</strong> The root of the project being linted, registered once at
+ *       project setup</li>
  *   <li><strong>Maven/Gradle layout:</strong> Walks up the directory tree until a folder containing
  *       {@code src/} is found (typical for IDE and local builds)</li>
  *   <li><strong>CI/exploded JAR layout:</strong> Walks up until a folder containing {@code fhir/} is found
@@ -245,7 +247,7 @@ public final class FhirTaskLinter extends AbstractFhirInstanceLinter {
             }
 
             File root = determineProjectRoot(f);
-            FhirResourceLocator locator = FhirResourceLocator.create(root);
+            FhirResourceLocator locator = FhirResourceLocator.forProject(root);
             boolean exists = locator.activityDefinitionExistsForInstantiatesCanonical(instCanon, root);
             if (!exists)
                 out.add(new FhirElementLintItem(LinterSeverity.ERROR, LintingType.FHIR_TASK_UNKNOWN_INSTANTIATES_CANONICAL, f, ref,
@@ -554,45 +556,44 @@ public final class FhirTaskLinter extends AbstractFhirInstanceLinter {
         String instCanon = val(taskDoc, TASK_XP + "/*[local-name()='instantiatesCanonical']/@value");
         if (blank(instCanon)) return true;
         File projectRoot = determineProjectRoot(taskFile);
-        FhirResourceLocator locator = FhirResourceLocator.create(projectRoot);
-        File actFile = locator.findActivityDefinitionForInstantiatesCanonical(instCanon, projectRoot);
-        return actFile == null;
+        FhirResourceLocator locator = FhirResourceLocator.forProject(projectRoot);
+        return locator.findActivityDefinitionForInstantiatesCanonical(instCanon) == null;
     }
 
     private record SliceCard(int min, int max) {}
 
     private Map<String, SliceCard> loadInputCardinality(File projectRoot, String profileUrl) {
-        FhirResourceLocator locator = FhirResourceLocator.create(projectRoot);
-        File sdFile = locator.findStructureDefinitionFile(profileUrl, projectRoot);
-        if (sdFile == null) return null;
+        FhirResourceLocator locator = FhirResourceLocator.forProject(projectRoot);
+        VirtualResource sd = locator.findStructureDefinition(profileUrl);
+        if (sd == null) return null;
         try {
-            Document sd;
-            try { sd = FhirResourceParser.parseXml(sdFile.toPath()); }
-            catch (Exception e) { sd = FhirResourceParser.parseJsonToXml(sdFile.toPath()); }
-
-            Map<String, SliceCard> map = new HashMap<>();
-            String minBase = AbstractFhirInstanceLinter.extractSingleNodeValue(sd, "//*[local-name()='element' and @id='Task.input']/*[local-name()='min']/@value");
-            String maxBase = AbstractFhirInstanceLinter.extractSingleNodeValue(sd, "//*[local-name()='element' and @id='Task.input']/*[local-name()='max']/@value");
-            int baseMin = (minBase != null) ? Integer.parseInt(minBase) : 0;
-            int baseMax = (maxBase == null || "*".equals(maxBase)) ? Integer.MAX_VALUE : Integer.parseInt(maxBase);
-            map.put("__BASE__", new SliceCard(baseMin, baseMax));
-
-            NodeList slices = (NodeList) XPathFactory.newInstance().newXPath()
-                    .compile("//*[local-name()='element' and starts-with(@id,'Task.input:') and not(contains(@id,'.'))]")
-                    .evaluate(sd, XPathConstants.NODESET);
-            for (int i = 0; i < slices.getLength(); i++) {
-                Node n = slices.item(i);
-                String sliceName = n.getAttributes().getNamedItem("id").getNodeValue().substring("Task.input:".length());
-                String mi = AbstractFhirInstanceLinter.extractSingleNodeValue(n, "./*[local-name()='min']/@value");
-                String ma = AbstractFhirInstanceLinter.extractSingleNodeValue(n, "./*[local-name()='max']/@value");
-                int sMin = (mi != null) ? Integer.parseInt(mi) : 0;
-                int sMax = (ma == null || "*".equals(ma)) ? baseMax : Integer.parseInt(ma);
-                map.put(sliceName, new SliceCard(sMin, sMax));
-            }
-            return map;
+            return FhirDocumentCache.shared().getFact(sd, "FhirTaskLinter.inputCardinality",
+                    FhirTaskLinter::extractInputCardinality);
         } catch (Exception e) { return null; }
     }
 
+    private static Map<String, SliceCard> extractInputCardinality(Document sd) throws Exception {
+        Map<String, SliceCard> map = new HashMap<>();
+        String minBase = AbstractFhirInstanceLinter.extractSingleNodeValue(sd, "//*[local-name()='element' and @id='Task.input']/*[local-name()='min']/@value");
+        String maxBase = AbstractFhirInstanceLinter.extractSingleNodeValue(sd, "//*[local-name()='element' and @id='Task.input']/*[local-name()='max']/@value");
+        int baseMin = (minBase != null) ? Integer.parseInt(minBase) : 0;
+        int baseMax = (maxBase == null || "*".equals(maxBase)) ? Integer.MAX_VALUE : Integer.parseInt(maxBase);
+        map.put("__BASE__", new SliceCard(baseMin, baseMax));
+
+        NodeList slices = XPathRegistry.nodes(sd,
+                "//*[local-name()='element' and starts-with(@id,'Task.input:') and not(contains(@id,'.'))]");
+        for (int i = 0; i < slices.getLength(); i++) {
+            Node n = slices.item(i);
+            String sliceName = n.getAttributes().getNamedItem("id").getNodeValue().substring("Task.input:".length());
+            String mi = AbstractFhirInstanceLinter.extractSingleNodeValue(n, "./*[local-name()='min']/@value");
+            String ma = AbstractFhirInstanceLinter.extractSingleNodeValue(n, "./*[local-name()='max']/@value");
+            int sMin = (mi != null) ? Integer.parseInt(mi) : 0;
+            int sMax = (ma == null || "*".equals(ma)) ? baseMax : Integer.parseInt(ma);
+            map.put(sliceName, new SliceCard(sMin, sMax));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
     private boolean isCorrelationAllowed(Map<String, SliceCard> cards) {
         if (cards == null) return false;
         SliceCard c = cards.get("correlation-key");
@@ -5,12 +5,11 @@ import dev.dsf.linter.output.LintingType;
 import dev.dsf.linter.output.item.*;
 import dev.dsf.linter.util.linting.AbstractFhirInstanceLinter;
 import dev.dsf.linter.util.resource.FhirAuthorizationCache;
+import dev.dsf.linter.util.xml.XPathRegistry;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathFactory;
 import java.io.File;
 import java.util.*;
 
@@ -95,7 +94,7 @@ import java.util.*;
  *
  * <h3>Implementation Details</h3>
  * <ul>
- *   <li><strong>XML Processing:</strong> Uses XPath expressions via {@link XPathFactory} for efficient
+ *   <li><strong>XML Processing:</strong> Uses XPath expressions compiled once via {@link XPathRegistry} for efficient
  *       XML document traversal and element extraction</li>
  *   <li><strong>Terminology Lookup:</strong> Leverages {@link FhirAuthorizationCache} for CodeSystem
  *       validation and code existence checks</li>
@@ -148,9 +147,6 @@ public final class FhirValueSetLinter extends AbstractFhirInstanceLinter
     /** The URL for the DSF parent-organization-role extension. */
     private static final String EXT_PARENT_ORG_ROLE_URL      = "http://dsf.dev/fhir/StructureDefinition/extension-read-access-parent-organization-role";
 
-    /** Shared XPath factory instance for creating XPath expressions. */
-    private static final XPathFactory XPATH_FACTORY = XPathFactory.newInstance();
-
     /* --- API  */
 
     /**
@@ -218,8 +214,7 @@ public final class FhirValueSetLinter extends AbstractFhirInstanceLinter
         final String META_TAGS_XP = VS_XP
             + "/*[local-name()='meta']/*[local-name()='tag']";
         try {
-            NodeList tagElements = (NodeList) XPATH_FACTORY.newXPath()
-                .evaluate(META_TAGS_XP, doc, XPathConstants.NODESET);
+            NodeList tagElements = XPathRegistry.nodes(doc, META_TAGS_XP);
             boolean hasAllOrLocal = false;
             for (int i = 0; i < tagElements.getLength(); i++)
             {
@@ -307,8 +302,7 @@ public final class FhirValueSetLinter extends AbstractFhirInstanceLinter
             + "/*[local-name()='valueCoding']/*[local-name()='code']/@value";
 
         try {
-            NodeList orgRoleCodes = (NodeList) XPATH_FACTORY.newXPath()
-                .evaluate(META_PARENT_ORG_ROLE_CODE_XP, doc, XPathConstants.NODESET);
+            NodeList orgRoleCodes = XPathRegistry.nodes(doc, META_PARENT_ORG_ROLE_CODE_XP);
             for (int i = 0; i < orgRoleCodes.getLength(); i++)
             {
                 String roleCode = orgRoleCodes.item(i).getNodeValue();
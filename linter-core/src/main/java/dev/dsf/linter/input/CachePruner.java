@@ -0,0 +1,189 @@
+package dev.dsf.linter.input;
+
+import dev.dsf.linter.logger.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Least-recently-used eviction for the on-disk caches below {@code --cache-dir}.
+ * <p>
+ * The last-modified time of a cache entry serves as its last-access marker: the caches
+ * {@linkplain #touch(Path) touch} an entry whenever they create or return it. {@link #prune}
+ * then removes the entries beyond {@link #maxEntries()}, least recently used first, and every entry
+ * not used for {@link #maxIdle()}.
+ * </p>
+ *
+ * <h3>Concurrency</h3>
+ * <p>
+ * Several linter processes may share a cache directory, and an entry returned to one of them stays
+ * in use until its run ends. Entries used within {@link #minIdle()} are therefore never removed,
+ * even if the cache holds more than {@link #maxEntries()} entries. A directory entry is first
+ * renamed into a trash directory and deleted there, so other processes never see it half deleted.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class CachePruner {
+
+    /** Default maximum number of entries per cache. */
+    static final int DEFAULT_MAX_ENTRIES = 64;
+
+    /** Default time after which an unused entry is removed regardless of the number of entries. */
+    static final Duration DEFAULT_MAX_IDLE = Duration.ofDays(30);
+
+    /** Default time during which a used entry is never removed. */
+    static final Duration DEFAULT_MIN_IDLE = Duration.ofHours(1);
+
+    /** Prefix of the directories evicted entries are moved into within the trash directory. */
+    static final String EVICTED_PREFIX = "evicted-";
+
+    private final int maxEntries;
+    private final Duration maxIdle;
+    private final Duration minIdle;
+    private final Logger logger;
+
+    /**
+     * Creates a pruner with the default limits.
+     *
+     * @param logger the logger for diagnostics
+     */
+    CachePruner(Logger logger) {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_IDLE, DEFAULT_MIN_IDLE, logger);
+    }
+
+    /**
+     * Creates a pruner.
+     *
+     * @param maxEntries the number of entries kept at most, unless they were used within {@code minIdle}
+     * @param maxIdle    the time after which an unused entry is removed
+     * @param minIdle    the time during which a used entry is never removed
+     * @param logger     the logger for diagnostics
+     */
+    CachePruner(int maxEntries, Duration maxIdle, Duration minIdle, Logger logger) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.maxIdle = maxIdle;
+        this.minIdle = minIdle;
+        this.logger = logger;
+    }
+
+    int maxEntries() {
+        return maxEntries;
+    }
+
+    Duration maxIdle() {
+        return maxIdle;
+    }
+
+    Duration minIdle() {
+        return minIdle;
+    }
+
+    /**
+     * Marks an entry as used now.
+     *
+     * @param entry the entry file or directory
+     */
+    void touch(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            logger.debug("Could not mark cache entry as used: " + entry + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes the entries of a directory that exceed the limits.
+     *
+     * @param directory the directory holding the entries; nothing happens if it does not exist
+     * @param isEntry   selects the entries among the children of the directory
+     * @param trash     a directory on the same file system into which directory entries are moved
+     *                  before they are deleted, or {@code null} to delete them in place; left-overs
+     *                  of interrupted deletions are named with {@link #EVICTED_PREFIX}
+     * @return the number of removed entries
+     */
+    int prune(Path directory, Predicate<Path> isEntry, Path trash) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        List<Path> entries;
+        try (Stream<Path> children = Files.list(directory)) {
+            entries = new ArrayList<>(children.filter(isEntry).toList());
+        } catch (IOException e) {
+            logger.debug("Could not list cache directory " + directory + ": " + e.getMessage());
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        entries.sort(Comparator.comparingLong(CachePruner::lastUsed).reversed());
+
+        int removed = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            Path entry = entries.get(i);
+            long idle = now - lastUsed(entry);
+            boolean expired = idle > maxIdle.toMillis() || i >= maxEntries;
+            if (expired && idle > minIdle.toMillis() && remove(entry, trash)) {
+                removed++;
+            }
+        }
+
+        if (removed > 0) {
+            logger.debug("Removed " + removed + " unused cache entries from " + directory);
+        }
+        return removed;
+    }
+
+    private boolean remove(Path entry, Path trash) {
+        try {
+            if (!Files.isDirectory(entry)) {
+                return Files.deleteIfExists(entry);
+            }
+            if (trash == null) {
+                deleteRecursively(entry);
+                return true;
+            }
+            Path trashDir = Files.createTempDirectory(Files.createDirectories(trash), EVICTED_PREFIX);
+            try {
+                Files.move(entry, trashDir.resolve(entry.getFileName()));
+            } finally {
+                deleteRecursively(trashDir);
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            // Removed concurrently by another process
+            return false;
+        } catch (IOException e) {
+            logger.debug("Could not remove cache entry " + entry + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static long lastUsed(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
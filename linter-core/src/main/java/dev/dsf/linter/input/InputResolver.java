@@ -22,6 +22,11 @@ import java.util.Optional;
  *   <li>Track whether cleanup is needed (for temporary resources)</li>
  * </ol>
  *
+ * <p>
+ * When constructed in in-place mode, compiled classes stay inside the JAR and are
+ * read from it directly; see {@link JarHandler} for details.
+ * </p>
+ *
  * <h3>Supported Input Formats:</h3>
  * <ul>
  *   <li><b>Local JAR:</b> C:\path\to\plugin.jar or /path/to/plugin.jar</li>
@@ -57,8 +62,46 @@ public class InputResolver {
      * @param logger the logger for resolution messages
      */
     public InputResolver(Logger logger) {
+        this(logger, false);
+    }
+
+    /**
+     * Constructs a new InputResolver with the specified logger and extraction mode.
+     *
+     * @param logger the logger for resolution messages
+     * @param inPlace true to read compiled classes directly from the JAR instead of extracting them
+     * @since 1.2.0
+     */
+    public InputResolver(Logger logger, boolean inPlace) {
+        this(logger, inPlace, null);
+    }
+
+    /**
+     * Constructs a new InputResolver that takes remote JARs from a local cache.
+     *
+     * @param logger the logger for resolution messages
+     * @param inPlace true to read compiled classes directly from the JAR instead of extracting them
+     * @param remoteJarCache the cache for remote JARs, or {@code null} to download them on every run
+     * @since 1.2.0
+     */
+    public InputResolver(Logger logger, boolean inPlace, RemoteJarCache remoteJarCache) {
+        this(logger, inPlace, remoteJarCache, null);
+    }
+
+    /**
+     * Constructs a new InputResolver that shares extractions with other linter processes.
+     *
+     * @param logger the logger for resolution messages
+     * @param inPlace true to read compiled classes directly from the JAR instead of extracting them
+     * @param remoteJarCache the cache for remote JARs, or {@code null} to download them on every run
+     * @param extractionCache the shared extraction cache, or {@code null} to extract into a
+     *                        working directory private to each run
+     * @since 1.2.0
+     */
+    public InputResolver(Logger logger, boolean inPlace, RemoteJarCache remoteJarCache,
+                         JarExtractionCache extractionCache) {
         this.logger = logger;
-        this.jarHandler = new JarHandler(logger);
+        this.jarHandler = new JarHandler(logger, inPlace, remoteJarCache, extractionCache);
     }
 
     /**
@@ -0,0 +1,139 @@
+package dev.dsf.linter.input;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Index of the entries of a plugin JAR, built from its central directory.
+ * <p>
+ * Building the index reads only entry metadata, not entry content. {@link JarHandler} builds it
+ * once per JAR to check the plugin structure before anything is extracted, and extracts only the
+ * entries {@link #isLinted(String)} accepts, so the JAR content is read a single time.
+ * </p>
+ *
+ * @param classNames           binary names of the compiled classes, e.g. {@code example.Plugin$Inner}
+ * @param bpmnResources        entry names of BPMN models
+ * @param fhirResources        entry names of XML and JSON files below a {@code fhir/} directory
+ * @param nestedJars           entry names of JARs inside the JAR
+ * @param serviceRegistrations entry names below {@code META-INF/services/}
+ *
+ * @since 1.2.0
+ */
+public record JarEntryIndex(
+        List<String> classNames,
+        List<String> bpmnResources,
+        List<String> fhirResources,
+        List<String> nestedJars,
+        List<String> serviceRegistrations
+) {
+
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String SERVICES_PREFIX = "META-INF/services/";
+    private static final String PLUGIN_DEFINITION = "ProcessPluginDefinition";
+
+    private enum Kind { CLASS, SERVICE_REGISTRATION, BPMN, NESTED_JAR, FHIR }
+
+    public JarEntryIndex {
+        classNames = List.copyOf(classNames);
+        bpmnResources = List.copyOf(bpmnResources);
+        fhirResources = List.copyOf(fhirResources);
+        nestedJars = List.copyOf(nestedJars);
+        serviceRegistrations = List.copyOf(serviceRegistrations);
+    }
+
+    /**
+     * Indexes the entries of an open JAR.
+     *
+     * @param jar the JAR to index
+     * @return the index of its file entries
+     */
+    public static JarEntryIndex of(JarFile jar) {
+        List<String> classNames = new ArrayList<>();
+        List<String> bpmnResources = new ArrayList<>();
+        List<String> fhirResources = new ArrayList<>();
+        List<String> nestedJars = new ArrayList<>();
+        List<String> serviceRegistrations = new ArrayList<>();
+
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            if (entry.isDirectory()) {
+                continue;
+            }
+
+            String name = entry.getName();
+            Kind kind = kindOf(name);
+            if (kind == null) {
+                continue;
+            }
+            switch (kind) {
+                case CLASS -> classNames.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+                case SERVICE_REGISTRATION -> serviceRegistrations.add(name);
+                case BPMN -> bpmnResources.add(name);
+                case NESTED_JAR -> nestedJars.add(name);
+                case FHIR -> fhirResources.add(name);
+            }
+        }
+
+        return new JarEntryIndex(classNames, bpmnResources, fhirResources, nestedJars, serviceRegistrations);
+    }
+
+    /**
+     * Returns whether the linter reads an entry: compiled classes, service registrations, BPMN
+     * models, FHIR resources and nested JARs. Other entries, such as sources, documentation or
+     * build metadata, are not extracted.
+     *
+     * @param name the entry name
+     * @return {@code true} if the entry is one of the indexed kinds
+     */
+    public static boolean isLinted(String name) {
+        return kindOf(name) != null;
+    }
+
+    /**
+     * @return {@code true} if the JAR contains at least one compiled class
+     */
+    public boolean hasClasses() {
+        return !classNames.isEmpty();
+    }
+
+    /**
+     * @return the service registrations of a DSF {@code ProcessPluginDefinition} (v1 or v2)
+     */
+    public List<String> pluginDefinitions() {
+        return serviceRegistrations.stream()
+                .filter(name -> name.contains(PLUGIN_DEFINITION))
+                .toList();
+    }
+
+    /**
+     * Classifies an entry by name, or returns {@code null} for entries the linter does not read.
+     */
+    private static Kind kindOf(String name) {
+        if (name.endsWith("/")) {
+            return null;
+        }
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (name.endsWith(CLASS_SUFFIX)) {
+            return !name.startsWith("META-INF/") && !name.endsWith("module-info.class") ? Kind.CLASS : null;
+        }
+        if (name.startsWith(SERVICES_PREFIX)) {
+            return Kind.SERVICE_REGISTRATION;
+        }
+        if (lower.endsWith(".bpmn")) {
+            return Kind.BPMN;
+        }
+        if (lower.endsWith(".jar")) {
+            return Kind.NESTED_JAR;
+        }
+        if ((lower.startsWith("fhir/") || lower.contains("/fhir/"))
+                && (lower.endsWith(".xml") || lower.endsWith(".json"))) {
+            return Kind.FHIR;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,222 @@
+package dev.dsf.linter.input;
+
+import dev.dsf.linter.logger.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Shared, read-only store of extracted plugin JARs, keyed by the SHA-256 hash of the JAR.
+ * <p>
+ * Without this cache every linter run extracts its JAR into a fresh working directory. With it,
+ * linter processes on the same machine, such as parallel CI jobs, extract a given JAR once and
+ * then lint the same extraction.
+ * </p>
+ *
+ * <h3>Layout</h3>
+ * <ul>
+ *   <li>{@code entries/<sha256>-full} and {@code entries/<sha256>-in-place} &ndash; completed
+ *       extractions for the two extraction modes of {@link JarHandler}</li>
+ *   <li>{@code staging/} &ndash; extractions in progress</li>
+ * </ul>
+ *
+ * <h3>Concurrency</h3>
+ * <p>
+ * A JAR is extracted into a private staging directory, which is then renamed into
+ * {@code entries/}. An entry therefore becomes visible only when it is complete. If two processes
+ * extract the same JAR at the same time, the first rename wins and the other process discards its
+ * staging directory and uses the winner's entry. Entries are never modified; the whole cache
+ * directory may be deleted while no linter is running.
+ * </p>
+ *
+ * <h3>Eviction</h3>
+ * <p>
+ * Every lookup and publication marks the entry as used. After publishing a new entry, the cache
+ * removes the least recently used entries beyond {@value CachePruner#DEFAULT_MAX_ENTRIES} and
+ * entries unused for 30 days, but never an entry used within the last hour, which another process
+ * may still be linting (see {@link CachePruner}). Staging directories left behind by crashed runs
+ * are removed after a day.
+ * </p>
+ *
+ * @see JarHandler
+ * @since 1.2.0
+ */
+public final class JarExtractionCache {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String ENTRIES_DIR = "entries";
+    private static final String STAGING_DIR = "staging";
+    private static final String STAGING_PREFIX = "extract-";
+
+    private static final Duration STALE_STAGING_AGE = Duration.ofDays(1);
+
+    private final Path directory;
+    private final Logger logger;
+    private final CachePruner entryPruner;
+    private final CachePruner stagingPruner;
+
+    /**
+     * Creates a cache stored in the given directory, which is created when needed.
+     *
+     * @param directory the cache directory
+     * @param logger    the logger for progress messages
+     */
+    public JarExtractionCache(Path directory, Logger logger) {
+        this(directory, logger, new CachePruner(logger));
+    }
+
+    JarExtractionCache(Path directory, Logger logger, CachePruner entryPruner) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.logger = logger;
+        this.entryPruner = entryPruner;
+        this.stagingPruner = new CachePruner(Integer.MAX_VALUE, STALE_STAGING_AGE, STALE_STAGING_AGE, logger);
+    }
+
+    /**
+     * Returns the completed extraction of a JAR.
+     *
+     * @param sha256  the SHA-256 hash of the JAR
+     * @param inPlace the extraction mode
+     * @return the extraction directory, or empty if the JAR has not been extracted in this mode yet
+     */
+    public Optional<Path> lookup(String sha256, boolean inPlace) {
+        Path entry = entryPath(sha256, inPlace);
+        if (!Files.isDirectory(entry)) {
+            return Optional.empty();
+        }
+        entryPruner.touch(entry);
+        return Optional.of(entry);
+    }
+
+    /**
+     * Creates a private directory to extract a JAR into before it is {@linkplain #publish published}.
+     *
+     * @return the new staging directory
+     * @throws IOException if the directory cannot be created
+     */
+    public Path newStagingDirectory() throws IOException {
+        Path staging = Files.createDirectories(directory.resolve(STAGING_DIR));
+        return Files.createTempDirectory(staging, STAGING_PREFIX);
+    }
+
+    /**
+     * Makes a completed extraction available to all linter processes.
+     *
+     * @param sha256     the SHA-256 hash of the JAR
+     * @param inPlace    the extraction mode
+     * @param stagingDir the completed extraction, created by {@link #newStagingDirectory()}
+     * @return the published extraction directory; if another process published the same JAR first,
+     *         its directory is returned and {@code stagingDir} is deleted
+     * @throws IOException if the extraction can neither be published nor found
+     */
+    public Path publish(String sha256, boolean inPlace, Path stagingDir) throws IOException {
+        Path entry = entryPath(sha256, inPlace);
+        Files.createDirectories(entry.getParent());
+
+        try {
+            Files.move(stagingDir, entry, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Published extraction to shared cache: " + entry.getFileName());
+            entryPruner.touch(entry);
+            prune();
+            return entry;
+        } catch (FileAlreadyExistsException | AtomicMoveNotSupportedException e) {
+            // Fall through: either another process was faster, or the entry cannot be published atomically
+        } catch (IOException e) {
+            if (!Files.isDirectory(entry)) {
+                throw e;
+            }
+        }
+
+        deleteRecursively(stagingDir);
+        if (!Files.isDirectory(entry)) {
+            throw new IOException("Failed to publish extraction to shared cache: " + entry);
+        }
+        logger.debug("Using extraction published concurrently by another process: " + entry.getFileName());
+        entryPruner.touch(entry);
+        return entry;
+    }
+
+    /**
+     * Removes unused entries and stale staging directories according to the eviction policy. Stale
+     * staging directories include abandoned extractions as well as evicted entries whose deletion
+     * was interrupted.
+     *
+     * @return the number of removed entries
+     */
+    public int prune() {
+        Path staging = directory.resolve(STAGING_DIR);
+        stagingPruner.prune(staging, JarExtractionCache::isStagingDirectory, null);
+        return entryPruner.prune(directory.resolve(ENTRIES_DIR), Files::isDirectory, staging);
+    }
+
+    /**
+     * @return the cache directory
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Computes the SHA-256 hash of a file.
+     *
+     * @param file the file to hash
+     * @return the lowercase hexadecimal hash
+     * @throws IOException if the file cannot be read
+     */
+    public static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void deleteRecursively(Path dir) {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    logger.debug("Could not delete: " + path);
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Could not delete staging directory " + dir + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean isStagingDirectory(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(STAGING_PREFIX) || name.startsWith(CachePruner.EVICTED_PREFIX);
+    }
+
+    private Path entryPath(String sha256, boolean inPlace) {
+        if (sha256 == null || !sha256.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Not a SHA-256 hash: " + sha256);
+        }
+        return directory.resolve(ENTRIES_DIR).resolve(sha256 + (inPlace ? "-in-place" : "-full"));
+    }
+}
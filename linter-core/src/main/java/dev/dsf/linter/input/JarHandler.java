@@ -6,8 +6,19 @@ import java.io.*;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.file.*;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
@@ -25,8 +36,41 @@ import java.util.stream.Stream;
  *   <li>Extract JAR contents to temporary directory</li>
  *   <li>lint JAR structure for DSF plugin requirements</li>
  *   <li>Automatic cleanup of temporary resources</li>
+ *   <li>Optional in-place mode that reads classes directly from the JAR</li>
+ *   <li>Optional {@link RemoteJarCache} that revalidates remote JARs instead of downloading them again</li>
+ *   <li>Optional {@link JarExtractionCache} shared by concurrent linter processes</li>
  * </ul>
  *
+ * <h3>Working Directories:</h3>
+ * <p>
+ * Each run extracts into a new working directory with a unique name below the system temp
+ * directory, so concurrent runs on JARs with the same name do not interfere, and cleanup
+ * only ever removes the directory of its own run. With a {@link JarExtractionCache}, the
+ * extraction is instead published to the cache and reused read-only by later runs on the
+ * same JAR content; such directories are not temporary and are never cleaned up by a run.
+ * </p>
+ *
+ * <h3>Single Pass:</h3>
+ * <p>
+ * Each JAR is opened once. The central directory is indexed into a {@link JarEntryIndex},
+ * which is used to lint the plugin structure before anything is written, and the entry
+ * content is then read a single time while extracting. Files are inflated concurrently on
+ * virtual threads, and the number of entries and their total size are bounded to protect
+ * against zip bombs.
+ * </p>
+ *
+ * <h3>In-Place Mode:</h3>
+ * <p>
+ * By default the entries the linter reads are extracted (see {@link JarEntryIndex#isLinted(String)}:
+ * classes, service registrations, BPMN models, FHIR resources and nested JARs) and the JAR itself
+ * is not copied, since the extracted files provide all classes and resources. In in-place mode the JAR is linked into the
+ * working directory (falling back to a copy if the file system does not support links, or
+ * moved there if it was downloaded without a cache) and compiled classes are not extracted:
+ * the project class loader and the JAR-backed resource providers read them from the JAR
+ * itself. Only the non-class entries (BPMN, FHIR, service registrations) are written to
+ * disk, because lint items and reports reference resources by file.
+ * </p>
+ *
  * <h3>JAR Structure Requirements:</h3>
  * <p>
  * A valid DSF plugin JAR must contain:
@@ -51,10 +95,28 @@ import java.util.stream.Stream;
  */
 public class JarHandler {
 
-    private static final int DOWNLOAD_BUFFER_SIZE = 8192;
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
     private static final int DOWNLOAD_TIMEOUT_MS = 30000;
 
+    /**
+     * Default upper bound for the number of file entries extracted from one JAR.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    /**
+     * Default upper bound for the total uncompressed size of the entries extracted from one JAR.
+     */
+    public static final long DEFAULT_MAX_TOTAL_BYTES = 4L * 1024 * 1024 * 1024;
+
+    private static final int EXTRACTION_BUFFER_SIZE = 64 * 1024;
+    private static final int EXTRACTION_PARALLELISM = Math.max(4, Runtime.getRuntime().availableProcessors());
+
     private final Logger logger;
+    private final boolean inPlace;
+    private final RemoteJarCache remoteJarCache;
+    private final JarExtractionCache extractionCache;
+    private final int maxEntries;
+    private final long maxTotalBytes;
 
     /**
      * Constructs a new JarHandler with the specified logger.
@@ -62,7 +124,65 @@ public class JarHandler {
      * @param logger the logger for operation messages
      */
     public JarHandler(Logger logger) {
+        this(logger, false);
+    }
+
+    /**
+     * Constructs a new JarHandler with the specified logger and extraction mode.
+     *
+     * @param logger the logger for operation messages
+     * @param inPlace true to read compiled classes directly from the JAR instead of extracting them
+     * @since 1.2.0
+     */
+    public JarHandler(Logger logger, boolean inPlace) {
+        this(logger, inPlace, null);
+    }
+
+    /**
+     * Constructs a new JarHandler that takes remote JARs from a local cache.
+     *
+     * @param logger the logger for operation messages
+     * @param inPlace true to read compiled classes directly from the JAR instead of extracting them
+     * @param remoteJarCache the cache for remote JARs, or {@code null} to download them on every run
+     * @since 1.2.0
+     */
+    public JarHandler(Logger logger, boolean inPlace, RemoteJarCache remoteJarCache) {
+        this(logger, inPlace, remoteJarCache, null);
+    }
+
+    /**
+     * Constructs a new JarHandler that shares extractions with other linter processes.
+     *
+     * @param logger the logger for operation messages
+     * @param inPlace true to read compiled classes directly from the JAR instead of extracting them
+     * @param remoteJarCache the cache for remote JARs, or {@code null} to download them on every run
+     * @param extractionCache the shared extraction cache, or {@code null} to extract into a
+     *                        working directory private to each run
+     * @since 1.2.0
+     */
+    public JarHandler(Logger logger, boolean inPlace, RemoteJarCache remoteJarCache,
+                      JarExtractionCache extractionCache) {
+        this(logger, inPlace, remoteJarCache, extractionCache, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_TOTAL_BYTES);
+    }
+
+    /**
+     * Constructs a new JarHandler with custom extraction bounds.
+     *
+     * @param logger the logger for operation messages
+     * @param inPlace true to read compiled classes directly from the JAR instead of extracting them
+     * @param remoteJarCache the cache for remote JARs, or {@code null} to download them on every run
+     * @param extractionCache the shared extraction cache, or {@code null}
+     * @param maxEntries the maximum number of file entries to extract
+     * @param maxTotalBytes the maximum total uncompressed size of the extracted entries
+     */
+    JarHandler(Logger logger, boolean inPlace, RemoteJarCache remoteJarCache, JarExtractionCache extractionCache,
+               int maxEntries, long maxTotalBytes) {
         this.logger = logger;
+        this.inPlace = inPlace;
+        this.remoteJarCache = remoteJarCache;
+        this.extractionCache = extractionCache;
+        this.maxEntries = maxEntries;
+        this.maxTotalBytes = maxTotalBytes;
     }
 
     /**
@@ -78,27 +198,37 @@ public class JarHandler {
      * Processes a JAR file (local or remote) and extracts it to a directory.
      * <p>
      * This method handles both local JAR files and remote JAR URLs transparently.
-     * For JAR files, it also resolves required DSF plugin dependencies via Maven
-     * to ensure all API interfaces are available for linting.
+     * The JAR is opened once: its central directory is indexed and checked for the
+     * DSF plugin structure, and only then are the entries needed by the selected mode
+     * read and extracted.
      * </p>
      *
      * @param jarPath the path or URL to the JAR file
      * @param isRemote true if jarPath is an HTTP/HTTPS URL
      * @return JarProcessingResult containing extraction information
-     * @throws IOException if download, extraction, or dependency resolution fails
+     * @throws IOException if download or extraction fails
      * @throws IllegalStateException if JAR structure is invalid
-     * @throws InterruptedException if Maven dependency resolution is interrupted
+     * @throws InterruptedException if processing is interrupted
      */
     public JarProcessingResult processJar(String jarPath, boolean isRemote)
             throws IOException, IllegalStateException, InterruptedException {
 
         Path jarFile;
         String jarName;
-
-        if (isRemote) {
+        String sha256 = null;
+        boolean temporaryDownload = false;
+
+        if (isRemote && remoteJarCache != null) {
+            logger.info("Fetching JAR through cache: " + jarPath);
+            RemoteJarCache.CachedJar cachedJar = remoteJarCache.fetch(jarPath);
+            jarFile = cachedJar.file();
+            sha256 = cachedJar.sha256();
+            jarName = extractJarNameFromUrl(jarPath);
+        } else if (isRemote) {
             logger.info("Downloading JAR from: " + jarPath);
             jarFile = downloadJar(jarPath);
             jarName = extractJarNameFromUrl(jarPath);
+            temporaryDownload = true;
         } else {
             jarFile = Paths.get(jarPath);
             jarName = jarFile.getFileName().toString();
@@ -114,77 +244,256 @@ public class JarHandler {
 
         logger.info("Processing JAR: " + jarName);
 
-        // lint JAR structure before extraction
-        lintJarStructure(jarFile);
-
-        // Create extraction directory
-        String cleanName = jarName.replaceAll("[^a-zA-Z0-9._-]", "_")
-                .replace(".jar", "");
+        Path extractDir = null;
 
-        Path tempBase = Paths.get(System.getProperty("java.io.tmpdir"));
-        Path extractDir = tempBase.resolve("dsf-linter-" + cleanName);
-
-        // Delete if exists, then recreate
-        if (Files.exists(extractDir)) {
-            deleteDirectoryRecursively(extractDir);
-        }
+        try {
+            try (JarFile jar = openJar(jarFile)) {
+                // Step 1: Index the central directory and lint the JAR structure before extraction
+                lintJarStructure(JarEntryIndex.of(jar), jarFile);
+
+                // Step 2: Reuse a shared extraction or create a working directory private to this run
+                if (extractionCache != null) {
+                    if (sha256 == null) {
+                        sha256 = JarExtractionCache.sha256(jarFile);
+                    }
+                    Optional<Path> shared = extractionCache.lookup(sha256, inPlace);
+                    if (shared.isPresent()) {
+                        logger.info("Using shared extraction: " + shared.get().toAbsolutePath());
+                        return new JarProcessingResult(shared.get(), jarName, false);
+                    }
+                    extractDir = extractionCache.newStagingDirectory();
+                } else {
+                    String cleanName = jarName.replaceAll("[^a-zA-Z0-9._-]", "_")
+                            .replace(".jar", "");
+                    Path tempBase = Paths.get(System.getProperty("java.io.tmpdir"));
+                    extractDir = Files.createTempDirectory(tempBase, "dsf-linter-" + cleanName + "-");
+                }
 
-        Files.createDirectories(extractDir);
+                // Step 3: Extract the entries needed by the selected mode
+                extractJarContents(jar, extractDir, inPlace
+                        ? name -> JarEntryIndex.isLinted(name) && !name.endsWith(".class")
+                        : JarEntryIndex::isLinted);
+            }
 
-        try {
-            // Step 1: Copy JAR to extraction directory
-            Path jarCopyPath = extractDir.resolve(jarName);
-            Files.copy(jarFile, jarCopyPath, StandardCopyOption.REPLACE_EXISTING);
-            logger.info("Copied JAR to extraction directory: " + jarCopyPath.getFileName());
+            if (inPlace) {
+                // Step 4: The class loader reads classes from the JAR, so place it in the extraction directory
+                Path jarCopyPath = extractDir.resolve(jarName);
+                if (temporaryDownload) {
+                    Files.move(jarFile, jarCopyPath, StandardCopyOption.REPLACE_EXISTING);
+                    temporaryDownload = false;
+                    logger.info("Moved JAR to extraction directory: " + jarCopyPath.getFileName());
+                } else if (extractionCache != null) {
+                    // A shared extraction outlives the input file, so it needs its own copy
+                    copyJarVerified(jarFile, jarCopyPath, sha256);
+                } else {
+                    linkOrCopyJar(jarFile, jarCopyPath);
+                }
+            }
 
-            // Step 2: Extract JAR contents
-            extractJarContents(jarFile, extractDir);
+            if (extractionCache != null) {
+                extractDir = extractionCache.publish(sha256, inPlace, extractDir);
+                logger.info("JAR processing complete: " + extractDir.toAbsolutePath());
+                return new JarProcessingResult(extractDir, jarName, false);
+            }
 
             logger.info("JAR processing complete: " + extractDir.toAbsolutePath());
+            return new JarProcessingResult(extractDir, jarName, true);
 
-        } catch (IOException e) {
-            // Cleanup on failure
+        } catch (IOException | IllegalStateException | InterruptedException e) {
+            // Cleanup on failure; only the directory created by this run is removed
             deleteDirectoryRecursively(extractDir);
             throw e;
+        } finally {
+            if (temporaryDownload) {
+                Files.deleteIfExists(jarFile);
+            }
         }
-
-        return new JarProcessingResult(extractDir, jarName, true);
     }
 
     /**
      * Extracts JAR contents to the specified directory.
      * <p>
-     * This method extracts all files from the JAR while preserving the directory structure.
-     * The JAR file itself should already be copied to the extraction directory before calling this.
+     * This method extracts the selected files from the JAR while preserving the directory
+     * structure. The JAR itself is not copied: all classes and resources are available
+     * from the extracted files, except in in-place mode, where the caller places the JAR
+     * next to them.
+     * </p>
+     * <p>
+     * The entries are checked first: every entry must stay inside the extraction directory,
+     * and the number of files and their declared sizes must stay within the configured bounds.
+     * The directories are then created once each, and the files are inflated and written
+     * concurrently on virtual threads. The bytes actually written are counted as well, so
+     * entries with understated sizes cannot exceed the bound either.
      * </p>
      *
-     * @param jarFile the JAR file to extract
+     * @param jar the open JAR file to extract
      * @param extractDir the target directory for extraction
-     * @throws IOException if extraction fails
+     * @param entryFilter selects the file entries to extract by entry name
+     * @throws IOException if extraction fails or the JAR exceeds the extraction bounds
+     * @throws InterruptedException if extraction is interrupted
      */
-    private void extractJarContents(Path jarFile, Path extractDir) throws IOException {
-        try (JarFile jar = new JarFile(jarFile.toFile())) {
-            Enumeration<JarEntry> entries = jar.entries();
-            int extractedCount = 0;
+    private void extractJarContents(JarFile jar, Path extractDir, Predicate<String> entryFilter)
+            throws IOException, InterruptedException {
+        Path root = extractDir.toAbsolutePath().normalize();
+        List<JarEntry> files = new ArrayList<>();
+        Set<Path> directories = new TreeSet<>();
+        long declaredBytes = 0;
+        int skippedCount = 0;
+
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            Path entryPath = resolveEntry(root, entry.getName());
+
+            if (entry.isDirectory()) {
+                directories.add(entryPath);
+            } else if (!entryFilter.test(entry.getName())) {
+                skippedCount++;
+            } else {
+                files.add(entry);
+                directories.add(entryPath.getParent());
+                if (files.size() > maxEntries) {
+                    throw new IOException("JAR exceeds extraction limit of " + maxEntries + " entries");
+                }
+                if (entry.getSize() > 0) {
+                    declaredBytes += entry.getSize();
+                    checkTotalBytes(declaredBytes);
+                }
+            }
+        }
 
-            while (entries.hasMoreElements()) {
-                JarEntry entry = entries.nextElement();
-                Path entryPath = extractDir.resolve(entry.getName());
+        // Sorted, so parents are created before their children and each directory only once
+        for (Path directory : directories) {
+            Files.createDirectories(directory);
+        }
 
-                if (entry.isDirectory()) {
-                    Files.createDirectories(entryPath);
-                } else {
-                    Files.createDirectories(entryPath.getParent());
+        AtomicLong writtenBytes = new AtomicLong();
+        if (files.size() <= 1) {
+            for (JarEntry entry : files) {
+                extractEntry(jar, entry, root.resolve(entry.getName()), writtenBytes);
+            }
+        } else {
+            extractConcurrently(jar, files, root, writtenBytes);
+        }
 
-                    try (InputStream in = jar.getInputStream(entry)) {
-                        Files.copy(in, entryPath, StandardCopyOption.REPLACE_EXISTING);
-                        extractedCount++;
+        logger.info("Extracted " + files.size() + " files from JAR (" + formatBytes(writtenBytes.get()) + ")");
+        if (skippedCount > 0) {
+            logger.debug("Left " + skippedCount + " entries in place (read directly from JAR)");
+        }
+    }
+
+    private void extractConcurrently(JarFile jar, List<JarEntry> files, Path root, AtomicLong writtenBytes)
+            throws IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(EXTRACTION_PARALLELISM, files.size()),
+                Thread.ofVirtual().name("dsf-linter-extract-", 1).factory());
+        try {
+            List<Future<Void>> futures = new ArrayList<>(files.size());
+            for (JarEntry entry : files) {
+                futures.add(executor.submit(() -> {
+                    extractEntry(jar, entry, root.resolve(entry.getName()), writtenBytes);
+                    return null;
+                }));
+            }
+
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException io) {
+                        throw io;
                     }
+                    throw new IOException("Failed to extract JAR: " + e.getCause().getMessage(), e.getCause());
                 }
             }
+        } finally {
+            // Stop and wait for the remaining tasks, so a failed extraction can be cleaned up safely
+            executor.shutdownNow();
+            executor.close();
+        }
+    }
+
+    private void extractEntry(JarFile jar, JarEntry entry, Path target, AtomicLong writtenBytes) throws IOException {
+        try (InputStream in = jar.getInputStream(entry);
+             OutputStream out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[EXTRACTION_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checkTotalBytes(writtenBytes.addAndGet(read));
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void checkTotalBytes(long totalBytes) throws IOException {
+        if (totalBytes > maxTotalBytes) {
+            throw new IOException("JAR exceeds extraction limit of " + formatBytes(maxTotalBytes));
+        }
+    }
+
+    /**
+     * Resolves an entry name below the extraction directory, rejecting names that escape it.
+     */
+    private static Path resolveEntry(Path root, String entryName) throws IOException {
+        Path entryPath = root.resolve(entryName).normalize();
+        if (!entryPath.startsWith(root) || entryPath.equals(root)) {
+            throw new IOException("Invalid JAR entry outside extraction directory: " + entryName);
+        }
+        return entryPath;
+    }
+
+    /**
+     * Makes the JAR available in the extraction directory without copying its bytes.
+     * <p>
+     * Tries a symbolic link first, then a hard link, and only copies the JAR if the
+     * file system supports neither.
+     * </p>
+     *
+     * @param jarFile the source JAR file
+     * @param target the location inside the extraction directory
+     * @throws IOException if neither linking nor copying succeeds
+     */
+    private void linkOrCopyJar(Path jarFile, Path target) throws IOException {
+        Path source = jarFile.toAbsolutePath();
+        try {
+            Files.createSymbolicLink(target, source);
+            logger.info("Linked JAR into extraction directory: " + target.getFileName());
+            return;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            logger.debug("Symbolic link not possible (" + e.getMessage() + "), trying hard link");
+        }
 
-            logger.info("Extracted " + extractedCount + " files from JAR");
+        try {
+            Files.createLink(target, source);
+            logger.info("Linked JAR into extraction directory: " + target.getFileName());
+            return;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            logger.debug("Hard link not possible (" + e.getMessage() + "), copying JAR");
         }
+
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        logger.info("Copied JAR to extraction directory: " + target.getFileName());
+    }
+
+    /**
+     * Copies the JAR into a shared extraction directory and checks that the copy has the
+     * hash the extraction is published under.
+     * <p>
+     * A link would share the file with the original JAR, so a build tool rewriting the JAR
+     * in place would silently change an entry keyed by the old hash.
+     * </p>
+     *
+     * @param jarFile the source JAR file
+     * @param target the location inside the extraction directory
+     * @param sha256 the hash of the JAR the extraction was made from
+     * @throws IOException if copying fails or the JAR changed since it was hashed
+     */
+    private void copyJarVerified(Path jarFile, Path target, String sha256) throws IOException {
+        Files.copy(jarFile, target, StandardCopyOption.REPLACE_EXISTING);
+        if (!JarExtractionCache.sha256(target).equals(sha256)) {
+            throw new IOException("JAR changed while it was being processed: " + jarFile);
+        }
+        logger.info("Copied JAR to extraction directory: " + target.getFileName());
     }
 
     /**
@@ -219,8 +528,11 @@ public class JarHandler {
             long totalBytes = 0;
 
             while ((bytesRead = in.read(buffer)) != -1) {
-                out.write(buffer, 0, bytesRead);
                 totalBytes += bytesRead;
+                if (totalBytes > maxTotalBytes) {
+                    throw new IOException("JAR exceeds download limit of " + formatBytes(maxTotalBytes));
+                }
+                out.write(buffer, 0, bytesRead);
             }
 
             logger.info("Downloaded " + formatBytes(totalBytes));
@@ -234,70 +546,59 @@ public class JarHandler {
         return tempJar;
     }
 
+    /**
+     * Opens a JAR file for indexing and extraction.
+     *
+     * @param jarFile the JAR file to open
+     * @return the open JAR file
+     * @throws IOException if the JAR cannot be read
+     */
+    private JarFile openJar(Path jarFile) throws IOException {
+        try {
+            return new JarFile(jarFile.toFile());
+        } catch (IOException e) {
+            throw new IOException("Failed to read JAR file: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * lints that a JAR file contains the required DSF plugin structure.
      * <p>
      * Checks performed:
      * <ul>
-     *   <li>JAR file is readable and valid</li>
      *   <li>Contains at least one .class file</li>
      *   <li>Contains META-INF/services directory</li>
      *   <li>Contains ProcessPluginDefinition service registration</li>
      * </ul>
      * </p>
      *
-     * @param jarFile the JAR file to lint
-     * @throws IOException if JAR cannot be read
+     * @param index the index of the JAR entries
+     * @param jarFile the JAR file, used for log messages
      * @throws IllegalStateException if required structure is missing
      */
-    private void lintJarStructure(Path jarFile) throws IOException, IllegalStateException {
+    private void lintJarStructure(JarEntryIndex index, Path jarFile) throws IllegalStateException {
         logger.debug("Linting JAR structure: " + jarFile.getFileName());
 
-        try (JarFile jar = new JarFile(jarFile.toFile())) {
-            boolean hasClassFiles = false;
-            boolean hasMetaInfServices = false;
-            boolean hasPluginDefinition = false;
-
-            Enumeration<JarEntry> entries = jar.entries();
-
-            while (entries.hasMoreElements()) {
-                JarEntry entry = entries.nextElement();
-                String name = entry.getName();
-
-                if (name.endsWith(".class")) {
-                    hasClassFiles = true;
-                }
-
-                if (name.startsWith("META-INF/services/")) {
-                    hasMetaInfServices = true;
-
-                    if (name.contains("ProcessPluginDefinition")) {
-                        hasPluginDefinition = true;
-                        logger.debug("Found plugin definition: " + name);
-                    }
-                }
-            }
-
-            if (!hasClassFiles) {
-                throw new IllegalStateException(
-                        "Invalid JAR: No compiled classes found. " +
-                                "This does not appear to be a compiled DSF plugin."
-                );
-            }
-
-            if (!hasMetaInfServices || !hasPluginDefinition) {
-                throw new IllegalStateException(
-                        "Invalid JAR: Missing META-INF/services/ProcessPluginDefinition. " +
-                                "This does not appear to be a valid DSF plugin. " +
-                                "Ensure the JAR contains proper ServiceLoader registration."
-                );
-            }
-
-            logger.debug("JAR structure linting passed");
+        if (!index.hasClasses()) {
+            throw new IllegalStateException(
+                    "Invalid JAR: No compiled classes found. " +
+                            "This does not appear to be a compiled DSF plugin."
+            );
+        }
 
-        } catch (IOException e) {
-            throw new IOException("Failed to read JAR file: " + e.getMessage(), e);
+        List<String> pluginDefinitions = index.pluginDefinitions();
+        if (pluginDefinitions.isEmpty()) {
+            throw new IllegalStateException(
+                    "Invalid JAR: Missing META-INF/services/ProcessPluginDefinition. " +
+                            "This does not appear to be a valid DSF plugin. " +
+                            "Ensure the JAR contains proper ServiceLoader registration."
+            );
         }
+
+        pluginDefinitions.forEach(name -> logger.debug("Found plugin definition: " + name));
+        logger.debug("JAR structure linting passed (" + index.classNames().size() + " classes, "
+                + index.bpmnResources().size() + " BPMN, " + index.fhirResources().size() + " FHIR resources, "
+                + index.nestedJars().size() + " nested JARs)");
     }
 
     /**
@@ -0,0 +1,359 @@
+package dev.dsf.linter.input;
+
+import dev.dsf.linter.logger.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Properties;
+
+/**
+ * Content-addressed local store for remote plugin JARs.
+ * <p>
+ * CI pipelines lint the same released plugin URLs over and over. Instead of downloading every
+ * JAR again, this cache keeps each downloaded JAR once and revalidates it with a conditional
+ * request, so an unchanged JAR costs a single {@code 304 Not Modified} round trip.
+ * </p>
+ *
+ * <h3>Layout</h3>
+ * <ul>
+ *   <li>{@code objects/<sha256>.jar} &ndash; JAR content, named by its SHA-256 hash. Identical
+ *       JARs published under several URLs are stored once.</li>
+ *   <li>{@code refs/<sha256 of URL>.properties} &ndash; per URL: the content hash and size and
+ *       the {@code ETag} and {@code Last-Modified} validators of the response.</li>
+ * </ul>
+ *
+ * <h3>Revalidation</h3>
+ * <p>
+ * If a URL has been fetched before, the request carries {@code If-None-Match} and
+ * {@code If-Modified-Since}. A {@code 200} response is streamed into a new object while it is
+ * hashed, so an object's content is verified once, when it is written. A {@code 304} response
+ * reuses the stored object after comparing its size with the size recorded in the ref; only refs
+ * written without a size fall back to hashing the object. If the server cannot be reached or
+ * answers with a {@code 5xx} error, the stored object is used and a warning is logged.
+ * </p>
+ * <p>
+ * Objects and refs are written to temporary files and moved into place, so concurrent linter
+ * processes may share a cache directory.
+ * </p>
+ *
+ * <h3>Limits</h3>
+ * <p>
+ * A download is aborted once the response body exceeds the size limit, by default
+ * {@link JarHandler#DEFAULT_MAX_TOTAL_BYTES}, the limit for extracting a JAR. Objects and refs are
+ * evicted with the same least-recently-used policy as the shared extractions (see
+ * {@link CachePruner}): every fetch marks its ref and object as used, and after a download the
+ * least recently used ones beyond the limit and those unused for 30 days are removed.
+ * </p>
+ *
+ * @see JarHandler
+ * @since 1.2.0
+ */
+public final class RemoteJarCache {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int TIMEOUT_MS = 30000;
+
+    private static final String OBJECTS_DIR = "objects";
+    private static final String REFS_DIR = "refs";
+
+    private static final String KEY_URL = "url";
+    private static final String KEY_SHA256 = "sha256";
+    private static final String KEY_SIZE = "size";
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+
+    private static final Duration STALE_DOWNLOAD_AGE = Duration.ofDays(1);
+
+    private final Path directory;
+    private final Logger logger;
+    private final long maxDownloadBytes;
+    private final CachePruner pruner;
+    private final CachePruner downloadPruner;
+
+    /**
+     * A JAR provided by the cache.
+     *
+     * @param file      the stored JAR; it stays in the cache and must not be modified or deleted
+     * @param sha256    the SHA-256 hash of the JAR content
+     * @param fromCache {@code true} if the content was not downloaded by this call
+     */
+    public record CachedJar(Path file, String sha256, boolean fromCache) {}
+
+    /**
+     * Creates a cache stored in the given directory, which is created when needed.
+     *
+     * @param directory the cache directory
+     * @param logger    the logger for progress messages
+     */
+    public RemoteJarCache(Path directory, Logger logger) {
+        this(directory, logger, JarHandler.DEFAULT_MAX_TOTAL_BYTES, new CachePruner(logger));
+    }
+
+    RemoteJarCache(Path directory, Logger logger, long maxDownloadBytes, CachePruner pruner) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.logger = logger;
+        this.maxDownloadBytes = maxDownloadBytes;
+        this.pruner = pruner;
+        this.downloadPruner = new CachePruner(Integer.MAX_VALUE, STALE_DOWNLOAD_AGE, STALE_DOWNLOAD_AGE, logger);
+    }
+
+    /**
+     * Returns the JAR at the URL, downloading it only if it is not stored or has changed.
+     *
+     * @param url the HTTP or HTTPS URL of the JAR
+     * @return the stored JAR
+     * @throws IOException if the JAR can neither be downloaded nor taken from the cache
+     */
+    public CachedJar fetch(String url) throws IOException {
+        Path refFile = directory.resolve(REFS_DIR).resolve(sha256(url.getBytes(StandardCharsets.UTF_8)) + ".properties");
+        Properties ref = readRef(refFile);
+        Path cachedObject = ref != null ? objectPath(ref.getProperty(KEY_SHA256)) : null;
+        boolean cached = cachedObject != null && Files.isRegularFile(cachedObject);
+
+        HttpURLConnection connection;
+        int status;
+        try {
+            URLConnection urlConnection = URI.create(url).toURL().openConnection();
+            if (!(urlConnection instanceof HttpURLConnection http)) {
+                throw new IOException("Not an HTTP URL: " + url);
+            }
+            connection = http;
+            connection.setConnectTimeout(TIMEOUT_MS);
+            connection.setReadTimeout(TIMEOUT_MS);
+            if (cached) {
+                setIfPresent(connection, "If-None-Match", ref.getProperty(KEY_ETAG));
+                setIfPresent(connection, "If-Modified-Since", ref.getProperty(KEY_LAST_MODIFIED));
+            }
+            status = connection.getResponseCode();
+        } catch (IOException | IllegalArgumentException e) {
+            if (cached && isIntact(cachedObject, ref)) {
+                logger.warn("Cannot reach " + url + " (" + e.getMessage() + "), using cached JAR");
+                markUsed(refFile, cachedObject);
+                return new CachedJar(cachedObject, ref.getProperty(KEY_SHA256), true);
+            }
+            throw new IOException("Failed to download JAR from " + url + ": " + e.getMessage(), e);
+        }
+
+        try {
+            if (status >= HttpURLConnection.HTTP_INTERNAL_ERROR && cached && isIntact(cachedObject, ref)) {
+                logger.warn("Server error for " + url + " (HTTP " + status + "), using cached JAR");
+                markUsed(refFile, cachedObject);
+                return new CachedJar(cachedObject, ref.getProperty(KEY_SHA256), true);
+            }
+
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached) {
+                String sha256 = ref.getProperty(KEY_SHA256);
+                if (isIntact(cachedObject, ref)) {
+                    logger.info("Remote JAR not modified, using cached copy: " + cachedObject.getFileName());
+                    markUsed(refFile, cachedObject);
+                    return new CachedJar(cachedObject, sha256, true);
+                }
+                logger.warn("Cached JAR is corrupt, downloading again: " + cachedObject.getFileName());
+                Files.deleteIfExists(cachedObject);
+                connection.disconnect();
+                Files.deleteIfExists(refFile);
+                return fetch(url);
+            }
+
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Failed to download JAR from " + url + ": HTTP " + status);
+            }
+
+            CachedJar downloaded = download(connection);
+            writeRef(refFile, url, downloaded.sha256(), Files.size(downloaded.file()),
+                    connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"));
+            markUsed(refFile, downloaded.file());
+            prune();
+            return downloaded;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * @return the cache directory
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Removes unused objects and refs, and downloads left behind by crashed runs, according to
+     * the eviction policy.
+     *
+     * @return the number of removed objects and refs
+     */
+    public int prune() {
+        Path objects = directory.resolve(OBJECTS_DIR);
+        downloadPruner.prune(objects, path -> path.getFileName().toString().endsWith(".tmp"), null);
+        return pruner.prune(objects, path -> path.getFileName().toString().endsWith(".jar"), null)
+                + pruner.prune(directory.resolve(REFS_DIR),
+                        path -> path.getFileName().toString().endsWith(".properties"), null);
+    }
+
+    // Private helper methods
+
+    /**
+     * Streams the response body into a temporary file while hashing it and moves it to its object path.
+     */
+    private CachedJar download(HttpURLConnection connection) throws IOException {
+        Path objects = Files.createDirectories(directory.resolve(OBJECTS_DIR));
+        long contentLength = connection.getContentLengthLong();
+        if (contentLength > maxDownloadBytes) {
+            throw new IOException("Remote JAR exceeds download limit of " + maxDownloadBytes + " bytes: "
+                    + contentLength + " bytes");
+        }
+
+        Path temp = Files.createTempFile(objects, "download-", ".tmp");
+        try {
+            MessageDigest digest = newDigest();
+            long totalBytes = 0;
+            try (InputStream in = connection.getInputStream();
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    totalBytes += read;
+                    if (totalBytes > maxDownloadBytes) {
+                        throw new IOException("Remote JAR exceeds download limit of " + maxDownloadBytes + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path object = objectPath(sha256);
+            if (Files.isRegularFile(object) && hasHash(object, sha256)) {
+                Files.delete(temp);
+            } else {
+                moveAtomically(temp, object);
+            }
+
+            logger.info("Downloaded " + totalBytes + " bytes into cache: " + object.getFileName());
+            return new CachedJar(object, sha256, false);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private void markUsed(Path refFile, Path object) {
+        pruner.touch(refFile);
+        pruner.touch(object);
+    }
+
+    private Path objectPath(String sha256) {
+        if (sha256 == null || !sha256.matches("[0-9a-f]{64}")) {
+            return null;
+        }
+        return directory.resolve(OBJECTS_DIR).resolve(sha256 + ".jar");
+    }
+
+    private Properties readRef(Path refFile) {
+        if (!Files.isRegularFile(refFile)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(refFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            return properties;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.debug("Ignoring unreadable cache entry " + refFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRef(Path refFile, String url, String sha256, long size, String etag, String lastModified)
+            throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(KEY_URL, url);
+        properties.setProperty(KEY_SHA256, sha256);
+        properties.setProperty(KEY_SIZE, Long.toString(size));
+        if (etag != null) {
+            properties.setProperty(KEY_ETAG, etag);
+        }
+        if (lastModified != null) {
+            properties.setProperty(KEY_LAST_MODIFIED, lastModified);
+        }
+
+        Path refs = Files.createDirectories(refFile.getParent());
+        Path temp = Files.createTempFile(refs, "ref-", ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+        moveAtomically(temp, refFile);
+    }
+
+    private static void setIfPresent(HttpURLConnection connection, String header, String value) {
+        if (value != null && !value.isBlank()) {
+            connection.setRequestProperty(header, value);
+        }
+    }
+
+    /**
+     * Checks a stored object against its ref. Objects are verified when they are written, so
+     * comparing the recorded size detects truncated or replaced content without reading the
+     * object; refs without a size are checked by hashing the object.
+     */
+    private static boolean isIntact(Path object, Properties ref) {
+        String size = ref.getProperty(KEY_SIZE);
+        if (size == null) {
+            return hasHash(object, ref.getProperty(KEY_SHA256));
+        }
+        try {
+            return Files.size(object) == Long.parseLong(size);
+        } catch (IOException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasHash(Path file, String sha256) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = newDigest();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest()).equals(sha256);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        return HexFormat.of().formatHex(newDigest().digest(content));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
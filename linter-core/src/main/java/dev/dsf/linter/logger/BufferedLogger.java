@@ -0,0 +1,108 @@
+package dev.dsf.linter.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Logger that records messages in memory instead of printing them.
+ * <p>
+ * Used to keep the console output of work that runs concurrently grouped together:
+ * each unit of work logs into its own buffer, and the buffers are replayed to the real
+ * logger in a deterministic order once the work has finished.
+ * </p>
+ * <p>
+ * Debug messages are recorded unconditionally; filtering happens in the target logger
+ * during {@link #replayTo(Logger)}. This class is thread-safe.
+ * </p>
+ *
+ * @see RoutingLogger
+ * @since 1.2.0
+ */
+public final class BufferedLogger implements Logger {
+
+    private enum Level { INFO, WARN, ERROR, DEBUG }
+
+    private record Entry(Level level, String message, Throwable throwable) {}
+
+    private final boolean verbose;
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param verbose the verbosity reported to code that checks {@link #isVerbose()}
+     */
+    public BufferedLogger(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    @Override
+    public void info(String message) {
+        record(Level.INFO, message, null);
+    }
+
+    @Override
+    public void warn(String message) {
+        record(Level.WARN, message, null);
+    }
+
+    @Override
+    public void error(String message) {
+        record(Level.ERROR, message, null);
+    }
+
+    @Override
+    public void error(String message, Throwable throwable) {
+        record(Level.ERROR, message, throwable);
+    }
+
+    @Override
+    public void debug(String message) {
+        record(Level.DEBUG, message, null);
+    }
+
+    @Override
+    public boolean verbose() {
+        return verbose;
+    }
+
+    @Override
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Writes all recorded messages to the target logger in the order they were logged
+     * and empties the buffer.
+     *
+     * @param target the logger to replay into
+     */
+    public void replayTo(Logger target) {
+        List<Entry> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries);
+            entries.clear();
+        }
+
+        for (Entry entry : snapshot) {
+            switch (entry.level()) {
+                case INFO -> target.info(entry.message());
+                case WARN -> target.warn(entry.message());
+                case ERROR -> {
+                    if (entry.throwable() != null) {
+                        target.error(entry.message(), entry.throwable());
+                    } else {
+                        target.error(entry.message());
+                    }
+                }
+                case DEBUG -> target.debug(entry.message());
+            }
+        }
+    }
+
+    private void record(Level level, String message, Throwable throwable) {
+        synchronized (entries) {
+            entries.add(new Entry(level, message, throwable));
+        }
+    }
+}
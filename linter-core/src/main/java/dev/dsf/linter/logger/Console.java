@@ -15,8 +15,8 @@ public class Console {
     private static final String ANSI_CYAN = "\u001B[36m";
     private static final String ANSI_BOLD = "\u001B[1m";
 
-    private static boolean colorEnabled = false;
-    private static Logger logger;
+    private static volatile boolean colorEnabled = false;
+    private static volatile Logger logger;
 
     private Console() {
     }
@@ -0,0 +1,114 @@
+package dev.dsf.linter.logger;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Logger that forwards to a delegate unless the current scope captures output into a
+ * {@link BufferedLogger}.
+ * <p>
+ * Services keep a single logger reference for their whole lifetime; wrapping that reference
+ * in a {@code RoutingLogger} lets the caller redirect the output of one unit of work (for example
+ * the linting of one plugin) into a buffer via {@link #callBuffered(BufferedLogger, Callable)}
+ * without changing any service. The capture is bound with a {@link ScopedValue} and therefore
+ * only applies to the calling thread for the duration of the call.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class RoutingLogger implements Logger {
+
+    private static final ScopedValue<BufferedLogger> CAPTURE = ScopedValue.newInstance();
+
+    private final Logger delegate;
+
+    /**
+     * Creates a routing logger around the given delegate.
+     *
+     * @param delegate the logger used when no capture is active; must not be null
+     */
+    public RoutingLogger(Logger delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    /**
+     * Wraps the given logger unless it already is a routing logger.
+     *
+     * @param logger the logger to wrap
+     * @return a routing logger forwarding to {@code logger}
+     */
+    public static RoutingLogger wrap(Logger logger) {
+        return logger instanceof RoutingLogger routing ? routing : new RoutingLogger(logger);
+    }
+
+    /**
+     * Executes the action while all output of routing loggers is captured into {@code buffer}.
+     *
+     * @param buffer the buffer receiving the output
+     * @param action the action to execute
+     * @param <T>    the result type of the action
+     * @return the result of the action
+     * @throws Exception if the action throws
+     */
+    public static <T> T callBuffered(BufferedLogger buffer, Callable<T> action) throws Exception {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        return ScopedValue.where(CAPTURE, buffer).call(action::call);
+    }
+
+    /**
+     * Returns the buffer capturing output in the current scope, or {@code null} if none.
+     *
+     * @return the active buffer or {@code null}
+     */
+    public static BufferedLogger currentBuffer() {
+        return CAPTURE.isBound() ? CAPTURE.get() : null;
+    }
+
+    /**
+     * Returns the logger that output is forwarded to when no capture is active.
+     *
+     * @return the delegate logger
+     */
+    public Logger delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void info(String message) {
+        target().info(message);
+    }
+
+    @Override
+    public void warn(String message) {
+        target().warn(message);
+    }
+
+    @Override
+    public void error(String message) {
+        target().error(message);
+    }
+
+    @Override
+    public void error(String message, Throwable throwable) {
+        target().error(message, throwable);
+    }
+
+    @Override
+    public void debug(String message) {
+        target().debug(message);
+    }
+
+    @Override
+    public boolean verbose() {
+        return delegate.verbose();
+    }
+
+    @Override
+    public boolean isVerbose() {
+        return delegate.isVerbose();
+    }
+
+    private Logger target() {
+        return CAPTURE.isBound() ? CAPTURE.get() : delegate;
+    }
+}
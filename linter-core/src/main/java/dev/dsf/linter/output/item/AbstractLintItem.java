@@ -4,14 +4,24 @@ import dev.dsf.linter.output.LintingType;
 import dev.dsf.linter.output.ProcessingLevel;
 import dev.dsf.linter.output.LinterSeverity;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * Abstract base class for all lint items, implementing the {@link LintItem} interface.
  * <p>
  * This class provides common fields and functionality shared by all lint item types.
  * Subclasses should provide domain-specific fields (e.g., BPMN element ID, FHIR reference).
  * </p>
+ * <p>
+ * Lint items are serializable so that results can be kept in the persistent
+ * {@link dev.dsf.linter.util.cache.LintResultCache}; subclasses must only hold serializable state.
+ * </p>
  */
-public abstract class AbstractLintItem implements LintItem {
+public abstract class AbstractLintItem implements LintItem, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final LinterSeverity severity;
     private final LintingType type;
     private final ProcessingLevel processingLevel = ProcessingLevel.FILE;
@@ -4,10 +4,9 @@ import dev.dsf.linter.logger.LogUtils;
 import dev.dsf.linter.util.loader.ClassLoaderUtils;
 import dev.dsf.linter.util.linting.PluginLintingUtils;
 import dev.dsf.linter.util.loader.ServiceLoaderUtils;
+import dev.dsf.linter.util.resource.ProjectIndex;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -219,6 +218,10 @@ public final class PluginDefinitionDiscovery {
      * <p>
      * This is used as a fallback when ServiceLoader discovery finds nothing.
      * For extracted JARs, classes are typically in a flat structure at the root level.
+     * The class files are taken from the shared {@link ProjectIndex} instead of walking the
+     * project again. In in-place mode the classes are not extracted, so the class entries of the
+     * JARs directly in the project root are scanned as well; JARs in subdirectories such as
+     * {@code lib/} hold dependencies and are skipped.
      * </p>
      *
      * @param projectRoot the project root directory
@@ -226,14 +229,18 @@ public final class PluginDefinitionDiscovery {
      * @param context discovery context to collect results and errors
      */
     private static void scanProjectRootDirectly(File projectRoot, ClassLoader projectCl, DiscoveryContext context) {
-        Path rootPath = projectRoot.toPath();
+        ProjectIndex index = ProjectIndex.forProject(projectRoot);
+        Path rootPath = index.root();
         logger.debug("DEBUG: Scanning project root directory: " + rootPath);
 
-        try (Stream<Path> s = Files.walk(rootPath)) {
-            processPluginClassFiles(rootPath, projectCl, context, s);
-        } catch (IOException e) {
-            logger.debug("WARNING: Failed to scan project root: " + e.getMessage());
-        }
+        Stream<String> classFiles = index.files(ProjectIndex.Type.CLASS).map(ProjectIndex.Entry::path);
+        Stream<String> jarClasses = index.jars().stream()
+                .filter(jar -> index.relativize(jar).filter(p -> !p.contains("/")).isPresent())
+                .flatMap(jar -> index.jarEntries(jar).stream())
+                .filter(e -> e.type() == ProjectIndex.Type.CLASS)
+                .map(ProjectIndex.Entry::path);
+
+        processPluginClassFiles(rootPath, projectCl, context, Stream.concat(classFiles, jarClasses).distinct());
     }
 
     /**
@@ -267,14 +274,13 @@ public final class PluginDefinitionDiscovery {
      * @param root the root path for class loading
      * @param cl   class loader for validation
      * @param context  discovery context to collect results and errors
-     * @param s    stream of file paths to process
+     * @param s    stream of class file paths relative to the root or JAR, with {@code /} separators
      */
-    private static void processPluginClassFiles(Path root, ClassLoader cl, DiscoveryContext context, Stream<Path> s) {
-        s.filter(Files::isRegularFile)
-                .filter(p -> p.getFileName().toString().endsWith("ProcessPluginDefinition.class"))
-                .filter(p -> !p.getFileName().toString().contains("$"))
+    private static void processPluginClassFiles(Path root, ClassLoader cl, DiscoveryContext context, Stream<String> s) {
+        s.filter(p -> p.endsWith("ProcessPluginDefinition.class"))
+                .filter(p -> !p.substring(p.lastIndexOf('/') + 1).contains("$"))
                 .forEach(p -> {
-                    String fqdn = toFqdn(root, p);
+                    String fqdn = toFqdn(p);
                     String location = root.toAbsolutePath().toString();
 
                     try {
@@ -354,14 +360,12 @@ public final class PluginDefinitionDiscovery {
     }
 
     /**
-     * Converts file path to fully qualified class name.
+     * Converts a class file path to a fully qualified class name.
      *
-     * @param root  the root path
-     * @param clazz the class file path
+     * @param clazz the class file path relative to the root or JAR, with {@code /} separators
      * @return fully qualified class name
      */
-    private static String toFqdn(Path root, Path clazz) {
-        String rel = root.relativize(clazz).toString();
-        return rel.substring(0, rel.length() - ".class".length()).replace(File.separatorChar, '.');
+    private static String toFqdn(String clazz) {
+        return clazz.substring(0, clazz.length() - ".class".length()).replace('/', '.');
     }
-}
\ No newline at end of file
+}
@@ -27,18 +27,24 @@ import java.util.stream.Collectors;
  */
 public class HtmlReportGenerator {
 
+    /**
+     * Template engine shared by all generators. {@link TemplateEngine} is thread-safe and caches
+     * parsed templates, so linting several plugins in one process parses each template once.
+     */
+    private static final TemplateEngine TEMPLATE_ENGINE = createTemplateEngine();
+
     private final Logger logger;
     private final TemplateEngine templateEngine;
 
     public HtmlReportGenerator(Logger logger) {
         this.logger = logger;
-        this.templateEngine = createTemplateEngine();
+        this.templateEngine = TEMPLATE_ENGINE;
     }
 
     /**
      * Creates and configures the Thymeleaf template engine.
      */
-    private TemplateEngine createTemplateEngine() {
+    private static TemplateEngine createTemplateEngine() {
         ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
         resolver.setTemplateMode("HTML");
         resolver.setPrefix("/templates/");
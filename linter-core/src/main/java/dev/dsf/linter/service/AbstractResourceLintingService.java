@@ -1,17 +1,31 @@
 package dev.dsf.linter.service;
 
+import dev.dsf.linter.classloading.ClassInspector;
 import dev.dsf.linter.exception.ResourceLinterException;
 import dev.dsf.linter.logger.Logger;
+import dev.dsf.linter.logger.RoutingLogger;
 import dev.dsf.linter.output.item.AbstractLintItem;
 import dev.dsf.linter.output.item.PluginLintItem;
+import dev.dsf.linter.util.api.ApiVersionHolder;
+import dev.dsf.linter.util.cache.DependencyRecorder;
+import dev.dsf.linter.util.cache.LintResultCache;
+import dev.dsf.linter.util.concurrent.OrderedParallelExecutor;
 import dev.dsf.linter.util.linting.LintingOutput;
 import dev.dsf.linter.util.linting.LintingUtils;
+import dev.dsf.linter.util.resource.FhirAuthorizationCache;
+import dev.dsf.linter.util.resource.FhirResourceLocator;
 import dev.dsf.linter.util.resource.ResourceResolutionResult;
+import dev.dsf.linter.util.resource.VirtualResource;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 /**
  * Abstract base class for resource linting services.
@@ -24,14 +38,65 @@ import java.util.Map;
  * <p>Template Method Pattern - defines the skeleton of linting algorithms,
  * allowing subclasses to override specific steps without changing the algorithm structure.</p>
  *
+ * <h3>Parallel Linting:</h3>
+ * <p>Existing resource files are linted independently of each other. When constructed with more
+ * than one thread, {@link #lintSingleFile(String, File)} is invoked concurrently through
+ * {@link OrderedParallelExecutor}; lint items and console output are merged back in input order,
+ * so the result is identical to a sequential run. Implementations of
+ * {@link #lintSingleFile(String, File)} must therefore be thread-safe.</p>
+ *
+ * <h3>Result Cache:</h3>
+ * <p>When constructed with a {@link LintResultCache}, the output of
+ * {@link #lintSingleFile(String, File)} is stored by file content and API version together with
+ * the resources, classes and CodeSystems a {@link DependencyRecorder} saw the linters look up.
+ * Before linting, the cached results of all files are looked up at once: the lookups of all
+ * entries form a {@link dev.dsf.linter.util.cache.DependencyMap}, each looked-up target is
+ * resolved once, and only the files whose content changed or that refer to a changed target are
+ * linted again. Plugin-level and success items are always created fresh.</p>
+ *
+ * <h3>Dependency Resources:</h3>
+ * <p>Resources found in dependency JARs are linted through
+ * {@link #lintSingleResource(String, VirtualResource)} directly from the JAR, without copying
+ * them to temporary files. Their lint items refer to the virtual location of the resource, and
+ * their results are not cached.</p>
+ *
  * @since 1.1.0
  */
 public abstract class AbstractResourceLintingService {
 
     protected final Logger logger;
+    private final int threads;
+    private final LintResultCache resultCache;
 
     protected AbstractResourceLintingService(Logger logger) {
-        this.logger = logger;
+        this(logger, 1);
+    }
+
+    /**
+     * Creates the service with the given file-level parallelism.
+     *
+     * @param logger  the logger for output
+     * @param threads maximum number of files linted concurrently; {@code 1} lints sequentially,
+     *                {@code 0} uses the number of available processors
+     * @since 1.2.0
+     */
+    protected AbstractResourceLintingService(Logger logger, int threads) {
+        this(logger, threads, null);
+    }
+
+    /**
+     * Creates the service with the given file-level parallelism and persistent result cache.
+     *
+     * @param logger      the logger for output
+     * @param threads     maximum number of files linted concurrently; {@code 1} lints sequentially,
+     *                    {@code 0} uses the number of available processors
+     * @param resultCache cache for per-file lint results, or {@code null} to lint every file
+     * @since 1.2.0
+     */
+    protected AbstractResourceLintingService(Logger logger, int threads, LintResultCache resultCache) {
+        this.logger = RoutingLogger.wrap(logger);
+        this.threads = OrderedParallelExecutor.resolveThreads(threads);
+        this.resultCache = resultCache;
     }
 
     // PUBLIC API - Template Methods
@@ -68,13 +133,16 @@ public abstract class AbstractResourceLintingService {
         // Step 2: lint existing files
         allItems.addAll(lintExistingFiles(pluginName, resourceFiles));
 
-        // Step 3: Create items for files outside root
+        // Step 3: lint dependency resources from their JARs
+        allItems.addAll(lintDependencyResources(pluginName, fromDependencies));
+
+        // Step 4: Create items for files outside root
         allItems.addAll(createOutsideRootItems(pluginName, outsideRoot));
 
-        // Step 4: Create success items for dependency resources
+        // Step 5: Create success items for dependency resources
         allItems.addAll(createDependencyItems(pluginName, fromDependencies));
 
-        // Step 5: Create success items for valid resources
+        // Step 6: Create success items for valid resources
         allItems.addAll(createSuccessItemsForValidResources(pluginName, resourceFiles, pluginResourceRoot));
 
         return new LintingResult(allItems);
@@ -98,6 +166,16 @@ public abstract class AbstractResourceLintingService {
      */
     protected abstract LintingOutput lintSingleFile(String pluginName, File resourceFile);
 
+    /**
+     * lints a single resource read from a dependency JAR and returns lint items.
+     *
+     * @param pluginName the plugin name
+     * @param resource the resource to lint
+     * @return linting output containing lint items
+     * @since 1.2.0
+     */
+    protected abstract LintingOutput lintSingleResource(String pluginName, VirtualResource resource);
+
     /**
      * Creates a lint item for a missing resource reference.
      *
@@ -205,27 +283,79 @@ public abstract class AbstractResourceLintingService {
     }
 
     /**
-     * lints all existing resource files.
+     * lints all existing resource files, concurrently if configured, merging the items in input order.
+     * Results still valid in the cache are looked up for all files first and reused.
      */
     private List<AbstractLintItem> lintExistingFiles(String pluginName, List<File> resourceFiles) {
-        List<AbstractLintItem> allItems = new ArrayList<>();
+        Map<File, String> keys = cacheKeys(pluginName, resourceFiles);
+        Map<File, List<AbstractLintItem>> cached = loadCachedResults(keys);
 
+        List<Callable<List<AbstractLintItem>>> tasks = new ArrayList<>(resourceFiles.size());
         for (File resourceFile : resourceFiles) {
-            List<AbstractLintItem> fileItems = lintSingleResourceFile(pluginName, resourceFile);
-            allItems.addAll(fileItems);
+            List<AbstractLintItem> cachedItems = cached.get(resourceFile);
+            if (cachedItems != null) {
+                tasks.add(() -> lintResource(pluginName, resourceFile, () -> {
+                    logger.debug("Reusing cached lint result for " + resourceFile.getName());
+                    return new LintingOutput(cachedItems);
+                }));
+            } else {
+                String key = keys.get(resourceFile);
+                tasks.add(() -> lintResource(pluginName, resourceFile,
+                        () -> lintSingleFileRecorded(pluginName, resourceFile, key)));
+            }
+        }
+        return invokeAll(tasks);
+    }
+
+    /**
+     * lints all resources found in dependency JARs, concurrently if configured, merging the items in input order.
+     */
+    private List<AbstractLintItem> lintDependencyResources(
+            String pluginName,
+            Map<String, ResourceResolutionResult> fromDependencies) {
+
+        if (fromDependencies == null || fromDependencies.isEmpty()) {
+            return List.of();
+        }
+
+        List<Callable<List<AbstractLintItem>>> tasks = new ArrayList<>(fromDependencies.size());
+        for (ResourceResolutionResult result : fromDependencies.values()) {
+            result.resource().ifPresent(resource -> tasks.add(() -> lintResource(
+                    pluginName, resource.location(), () -> lintSingleResource(pluginName, resource))));
         }
+        return invokeAll(tasks);
+    }
 
+    /**
+     * Runs lint tasks with the configured parallelism and concatenates their items in task order.
+     */
+    private List<AbstractLintItem> invokeAll(List<Callable<List<AbstractLintItem>>> tasks) {
+        List<List<AbstractLintItem>> itemsPerFile;
+        try {
+            itemsPerFile = OrderedParallelExecutor.invokeAll(
+                    tasks, threads, "dsf-linter-" + getResourceTypeName().toLowerCase() + "-", logger);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException("Linting " + getResourceTypeName() + " files failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while linting " + getResourceTypeName() + " files", e);
+        }
+
+        List<AbstractLintItem> allItems = new ArrayList<>();
+        itemsPerFile.forEach(allItems::addAll);
         return allItems;
     }
 
     /**
-     * lints a single resource file with common structure.
+     * lints a single resource with common structure, adding the plugin-level and resource success items.
      */
-    private List<AbstractLintItem> lintSingleResourceFile(String pluginName, File resourceFile) {
+    private List<AbstractLintItem> lintResource(String pluginName, File resourceFile, Supplier<LintingOutput> linting) {
 
         logger.info("Linting " + getResourceTypeName() + " file: " + resourceFile.getName());
 
-        LintingOutput output = lintSingleFile(pluginName, resourceFile);
+        LintingOutput output = linting.get();
         List<AbstractLintItem> itemsForThisFile = new ArrayList<>(output.LintItems());
 
         boolean hasUnparsableItem = itemsForThisFile.stream()
@@ -240,6 +370,82 @@ public abstract class AbstractResourceLintingService {
         return itemsForThisFile;
     }
 
+    /**
+     * Computes the cache key of each file that can be cached.
+     */
+    private Map<File, String> cacheKeys(String pluginName, List<File> resourceFiles) {
+        Map<File, String> keys = new LinkedHashMap<>();
+        if (resultCache == null) {
+            return keys;
+        }
+        for (File resourceFile : resourceFiles) {
+            resultCache.keyFor(
+                    getResourceTypeName(),
+                    pluginName,
+                    ApiVersionHolder.getVersion(),
+                    resourceFile.toPath(),
+                    LintingUtils.getProjectRoot(resourceFile.toPath()).toPath()
+            ).ifPresent(key -> keys.put(resourceFile, key));
+        }
+        return keys;
+    }
+
+    /**
+     * Looks up the cached results of all files, per project root, resolving each resource, class
+     * and CodeSystem the files referred to once.
+     */
+    private Map<File, List<AbstractLintItem>> loadCachedResults(Map<File, String> keys) {
+        Map<File, Map<File, String>> keysByRoot = new LinkedHashMap<>();
+        keys.forEach((file, key) -> keysByRoot
+                .computeIfAbsent(LintingUtils.getProjectRoot(file.toPath()), root -> new LinkedHashMap<>())
+                .put(file, key));
+
+        Map<File, List<AbstractLintItem>> cached = new HashMap<>();
+        keysByRoot.forEach((projectRoot, rootKeys) -> cached.putAll(resultCache.loadAll(rootKeys,
+                (kind, target) -> resolveReference(kind, target, projectRoot))));
+        return cached;
+    }
+
+    /**
+     * lints a single resource file and, if it has a cache key, stores the result together with the
+     * lookups a {@link DependencyRecorder} saw its linters make.
+     */
+    private LintingOutput lintSingleFileRecorded(String pluginName, File resourceFile, String key) {
+        if (key == null) {
+            return lintSingleFile(pluginName, resourceFile);
+        }
+
+        DependencyRecorder recorder = new DependencyRecorder();
+        LintingOutput output = lintRecording(recorder, pluginName, resourceFile);
+        resultCache.store(key, recorder.references(), output.LintItems());
+        return output;
+    }
+
+    /**
+     * lints a single resource file while the recorder collects the lookups of its linters.
+     */
+    private LintingOutput lintRecording(DependencyRecorder recorder, String pluginName, File resourceFile) {
+        try {
+            return DependencyRecorder.callRecording(recorder, () -> lintSingleFile(pluginName, resourceFile));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Linting " + resourceFile.getName() + " failed", e);
+        }
+    }
+
+    /**
+     * Resolves a lookup recorded for a cached result against the current project content.
+     */
+    private static String resolveReference(DependencyRecorder.Kind kind, String target, File projectRoot) {
+        return switch (kind) {
+            case ACTIVITY_DEFINITION_BY_MESSAGE, ACTIVITY_DEFINITION_BY_URL, STRUCTURE_DEFINITION, QUESTIONNAIRE ->
+                    FhirResourceLocator.forProject(projectRoot).resolve(kind, target);
+            case CLASS -> ClassInspector.resolveHierarchy(target, projectRoot);
+            case CODE_SYSTEM, CODE -> FhirAuthorizationCache.resolve(kind, target);
+        };
+    }
+
     /**
      * Creates success items for resources correctly located in root.
      */
@@ -7,8 +7,10 @@ import dev.dsf.linter.output.LintingType;
 import dev.dsf.linter.output.item.AbstractLintItem;
 import dev.dsf.linter.output.item.BpmnElementLintItem;
 import dev.dsf.linter.output.item.PluginLintItem;
+import dev.dsf.linter.util.cache.LintResultCache;
 import dev.dsf.linter.util.linting.LintingOutput;
 import dev.dsf.linter.util.resource.ResourceResolutionResult;
+import dev.dsf.linter.util.resource.VirtualResource;
 
 import java.io.File;
 
@@ -116,7 +118,31 @@ public class BpmnLintingService extends AbstractResourceLintingService {
     private final BpmnLinter bpmnLinter;
 
     public BpmnLintingService(Logger logger) {
-        super(logger);
+        this(logger, 1);
+    }
+
+    /**
+     * Creates the service linting up to {@code threads} BPMN files concurrently.
+     *
+     * @param logger  the logger for output
+     * @param threads the file-level parallelism, see {@link AbstractResourceLintingService}
+     * @since 1.2.0
+     */
+    public BpmnLintingService(Logger logger, int threads) {
+        this(logger, threads, null);
+    }
+
+    /**
+     * Creates the service linting up to {@code threads} BPMN files concurrently and reusing
+     * unchanged results from the given cache.
+     *
+     * @param logger      the logger for output
+     * @param threads     the file-level parallelism, see {@link AbstractResourceLintingService}
+     * @param resultCache the persistent result cache, or {@code null} to lint every file
+     * @since 1.2.0
+     */
+    public BpmnLintingService(Logger logger, int threads, LintResultCache resultCache) {
+        super(logger, threads, resultCache);
         this.bpmnLinter = new BpmnLinter();
     }
 
@@ -130,6 +156,11 @@ public class BpmnLintingService extends AbstractResourceLintingService {
         return bpmnLinter.lintBpmnFile(resourceFile.toPath());
     }
 
+    @Override
+    protected LintingOutput lintSingleResource(String pluginName, VirtualResource resource) {
+        return bpmnLinter.lintBpmnResource(resource);
+    }
+
     @Override
     protected AbstractLintItem createMissingReferenceLintItem(String pluginName, String missingRef) {
         return new PluginLintItem(
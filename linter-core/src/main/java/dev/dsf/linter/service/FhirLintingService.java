@@ -7,8 +7,10 @@ import dev.dsf.linter.output.LintingType;
 import dev.dsf.linter.output.item.AbstractLintItem;
 import dev.dsf.linter.output.item.FhirElementLintItem;
 import dev.dsf.linter.output.item.PluginLintItem;
+import dev.dsf.linter.util.cache.LintResultCache;
 import dev.dsf.linter.util.linting.LintingOutput;
 import dev.dsf.linter.util.resource.ResourceResolutionResult;
+import dev.dsf.linter.util.resource.VirtualResource;
 
 import java.io.File;
 import java.util.List;
@@ -23,8 +25,32 @@ public class FhirLintingService extends AbstractResourceLintingService {
     private final FhirResourceLinter fhirResourceLinter;
 
     public FhirLintingService(Logger logger) {
-        super(logger);
-        this.fhirResourceLinter = new FhirResourceLinter(logger);
+        this(logger, 1);
+    }
+
+    /**
+     * Creates the service linting up to {@code threads} FHIR files concurrently.
+     *
+     * @param logger  the logger for output
+     * @param threads the file-level parallelism, see {@link AbstractResourceLintingService}
+     * @since 1.2.0
+     */
+    public FhirLintingService(Logger logger, int threads) {
+        this(logger, threads, null);
+    }
+
+    /**
+     * Creates the service linting up to {@code threads} FHIR files concurrently and reusing
+     * unchanged results from the given cache.
+     *
+     * @param logger      the logger for output
+     * @param threads     the file-level parallelism, see {@link AbstractResourceLintingService}
+     * @param resultCache the persistent result cache, or {@code null} to lint every file
+     * @since 1.2.0
+     */
+    public FhirLintingService(Logger logger, int threads, LintResultCache resultCache) {
+        super(logger, threads, resultCache);
+        this.fhirResourceLinter = new FhirResourceLinter(this.logger);
     }
 
     @Override
@@ -37,6 +63,11 @@ public class FhirLintingService extends AbstractResourceLintingService {
         return fhirResourceLinter.lintSingleFile(resourceFile.toPath());
     }
 
+    @Override
+    protected LintingOutput lintSingleResource(String pluginName, VirtualResource resource) {
+        return fhirResourceLinter.lintResource(resource);
+    }
+
     @Override
     protected AbstractLintItem createMissingReferenceLintItem(String pluginName, String missingRef) {
         return new PluginLintItem(
@@ -62,6 +62,10 @@ public class PluginLintingOrchestrator {
     /**
      * lints a single plugin completely with enhanced resource root linting
      * and dependency JAR support.
+     * <p>
+     * The plugin's API version is bound via {@link ApiVersionHolder#callWithVersion} for the
+     * duration of the call, so several plugins can be linted concurrently on different threads.
+     * </p>
      *
      * @param pluginName The unique name of the plugin
      * @param plugin The plugin discovery information
@@ -78,8 +82,24 @@ public class PluginLintingOrchestrator {
             PluginLintContext lintContext)
             throws ResourceLinterException, IOException, MissingServiceRegistrationException {
 
-        // Step 1: Set API version for downstream linters
-        ApiVersionHolder.setVersion(plugin.apiVersion());
+        // Step 1: Bind API version for downstream linters
+        try {
+            return ApiVersionHolder.callWithVersion(plugin.apiVersion(), () ->
+                    lintWithinVersionScope(pluginName, plugin, context, leftoverAnalysis, lintContext));
+        } catch (ResourceLinterException | IOException | MissingServiceRegistrationException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Linting of plugin '" + pluginName + "' failed", e);
+        }
+    }
+
+    private DsfLinter.PluginLinter lintWithinVersionScope(
+            String pluginName,
+            ResourceDiscoveryService.PluginDiscovery plugin,
+            ProjectSetupHandler.ProjectContext context,
+            LeftoverResourceDetector.AnalysisResult leftoverAnalysis,
+            PluginLintContext lintContext)
+            throws ResourceLinterException, IOException, MissingServiceRegistrationException {
 
         // Step 2: Print plugin header
         reportGenerator.printPluginHeader(
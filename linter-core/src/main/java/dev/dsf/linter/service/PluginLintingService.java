@@ -7,14 +7,12 @@ import dev.dsf.linter.output.item.PluginLintItem;
 import dev.dsf.linter.logger.Logger;
 import dev.dsf.linter.plugin.PluginDefinitionDiscovery.PluginAdapter;
 import dev.dsf.linter.util.api.ApiVersion;
+import dev.dsf.linter.util.resource.ProjectIndex;
 import dev.dsf.linter.exception.MissingServiceRegistrationException;
 
-import org.jetbrains.annotations.NotNull;
-
 import java.io.File;
 import java.nio.file.*;
 import java.io.IOException;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -27,6 +25,8 @@ import static dev.dsf.linter.constants.DsfApiConstants.V2_SERVICE_FILE;
  */
 public class PluginLintingService {
 
+    private static final int MAX_SEARCH_DEPTH = 5;
+
     private final Logger logger;
 
     public PluginLintingService(Logger logger) {
@@ -219,76 +219,39 @@ public class PluginLintingService {
         }
     }
 
+    /**
+     * Searches the shared project index for a ServiceLoader registration at most
+     * {@value #MAX_SEARCH_DEPTH} levels below the root, outside of ignored directories.
+     */
     private boolean performRecursiveSearch(Path root, String expectedServiceFile) {
-        try {
-            ServiceFileVisitor visitor = new ServiceFileVisitor(expectedServiceFile);
-            Files.walkFileTree(root, Set.of(), 5, visitor);
-            return visitor.isFound();
-        } catch (IOException e) {
-            logger.debug("Error during recursive search: " + e.getMessage());
-            return false;
-        }
+        ProjectIndex index = ProjectIndex.forProject(root.toFile());
+        String prefix = index.relativize(root).orElse("");
+
+        return index.filesUnder(prefix).stream()
+                .filter(entry -> entry.type() == ProjectIndex.Type.SERVICE_REGISTRATION)
+                .map(entry -> Path.of(entry.path().substring(prefix.isEmpty() ? 0 : prefix.length() + 1)))
+                .filter(relative -> relative.getNameCount() <= MAX_SEARCH_DEPTH)
+                .anyMatch(relative -> isServiceFile(relative, expectedServiceFile));
     }
 
-    private static class ServiceFileVisitor extends SimpleFileVisitor<Path> {
-        private final String targetFile;
-        private boolean found = false;
-
-        ServiceFileVisitor(String targetFile) {
-            this.targetFile = targetFile;
-        }
-
-        @Override
-        public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs) {
-            if (isServiceFile(file)) {
-                found = true;
-                return FileVisitResult.TERMINATE;
-            }
-            return FileVisitResult.CONTINUE;
-        }
-
-        @Override
-        public @NotNull FileVisitResult preVisitDirectory(@NotNull Path dir, @NotNull BasicFileAttributes attrs) {
-            return isIgnoredDirectory(dir)
-                    ? FileVisitResult.SKIP_SUBTREE
-                    : FileVisitResult.CONTINUE;
-        }
-
-        private boolean isServiceFile(Path file) {
-            Path parent = file.getParent();
-            if (!isMetaInfServices(parent)) {
-                return false;
-            }
-
-            Path fileName = file.getFileName();
-            if (fileName == null) {
-                return false;
-            }
-
-            String name = fileName.toString();
-            return targetFile != null
-                    ? name.equals(targetFile)
-                    : name.contains("ProcessPluginDefinition");
+    private static boolean isServiceFile(Path relative, String targetFile) {
+        int count = relative.getNameCount();
+        if (count < 3
+                || !"services".equals(relative.getName(count - 2).toString())
+                || !"META-INF".equals(relative.getName(count - 3).toString())) {
+            return false;
         }
 
-        private boolean isMetaInfServices(Path dir) {
-            if (dir == null) return false;
-
-            Path dirName = dir.getFileName();
-            if (dirName == null || !"services".equals(dirName.toString())) {
+        for (int i = 0; i < count - 1; i++) {
+            if (isIgnoredDirectory(relative.getName(i))) {
                 return false;
             }
-
-            Path parent = dir.getParent();
-            if (parent == null) return false;
-
-            Path parentName = parent.getFileName();
-            return parentName != null && "META-INF".equals(parentName.toString());
         }
 
-        boolean isFound() {
-            return found;
-        }
+        String name = relative.getFileName().toString();
+        return targetFile != null
+                ? name.equals(targetFile)
+                : name.contains("ProcessPluginDefinition");
     }
 
     private static boolean isIgnoredDirectory(Path dir) {
@@ -13,6 +13,7 @@ import dev.dsf.linter.util.resource.ResourceDiscoveryUtils;
 import dev.dsf.linter.util.resource.ResourceResolutionResult;
 import dev.dsf.linter.util.resource.ResourceResolutionService;
 import dev.dsf.linter.util.resource.ResourceRootResolver;
+import dev.dsf.linter.util.resource.TerminologyRegistry;
 import dev.dsf.linter.setup.ProjectSetupHandler.ProjectContext;
 
 import java.io.File;
@@ -50,13 +51,26 @@ public class ResourceDiscoveryService {
 
     /**
      * Discovery result that always contains a Map of plugins.
+     * <p>
+     * {@code terminology} is the registry of the CodeSystems known to the project, to be bound with
+     * {@link FhirAuthorizationCache#callWithRegistry} while the plugins are linted.
+     * </p>
      */
     public record DiscoveryResult(
             Map<String, PluginDiscovery> plugins,
             File sharedResourcesDir,
             Set<ApiVersion> detectedVersions,
-            boolean hasFailedPlugins
+            boolean hasFailedPlugins,
+            TerminologyRegistry terminology
     ) {
+        /**
+         * Creates a result using the {@linkplain FhirAuthorizationCache#current() current} terminology.
+         */
+        public DiscoveryResult(Map<String, PluginDiscovery> plugins, File sharedResourcesDir,
+                               Set<ApiVersion> detectedVersions, boolean hasFailedPlugins) {
+            this(plugins, sharedResourcesDir, detectedVersions, hasFailedPlugins, FhirAuthorizationCache.current());
+        }
+
         public DiscoveryStatistics getStatistics() {
             int totalBpmnFiles = 0;
             int totalFhirFiles = 0;
@@ -169,7 +183,7 @@ public class ResourceDiscoveryService {
 
         // Initialize shared components
         FhirAuthorizationCache.setLogger(logger);
-        FhirAuthorizationCache.seedFromProjectAndClasspath(context.projectDir());
+        TerminologyRegistry terminology = FhirAuthorizationCache.seedFromProjectAndClasspath(context.projectDir());
         logger.debug("FHIR authorization cache initialized.");
 
         // Process each plugin into unified structure
@@ -208,7 +222,8 @@ public class ResourceDiscoveryService {
             }
         }
 
-        return new DiscoveryResult(plugins, sharedResourcesDir, detectedVersions, pluginDiscovery.hasFailedPlugins());
+        return new DiscoveryResult(plugins, sharedResourcesDir, detectedVersions, pluginDiscovery.hasFailedPlugins(),
+                terminology);
     }
 
     /**
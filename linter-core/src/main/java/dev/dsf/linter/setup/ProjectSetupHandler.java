@@ -2,6 +2,7 @@ package dev.dsf.linter.setup;
 
 import dev.dsf.linter.logger.Logger;
 import dev.dsf.linter.classloading.ProjectClassLoaderFactory;
+import dev.dsf.linter.util.resource.ProjectIndex;
 
 import java.io.File;
 import java.io.IOException;
@@ -13,6 +14,7 @@ import java.nio.file.Path;
  *
  * <p>This class is responsible for:
  * <ul>
+ *   <li>Indexing the files of extracted JARs once for all later phases</li>
  *   <li>Creating and managing project ClassLoaders for extracted JARs</li>
  *   <li>Setting up the linting environment</li>
  * </ul>
@@ -51,6 +53,7 @@ public class ProjectSetupHandler {
         File projectDir = projectPath.toFile();
         logger.info("Setting up linting environment for extracted JAR...");
 
+        indexProject(projectDir);
         ClassLoader projectClassLoader = createProjectClassLoader(projectDir);
 
         return new ProjectContext(
@@ -61,6 +64,20 @@ public class ProjectSetupHandler {
         );
     }
 
+    /**
+     * Builds the shared {@link ProjectIndex} of the project directory, so that all later phases
+     * query it instead of walking the project again.
+     *
+     * @param projectDir the project directory
+     */
+    private void indexProject(File projectDir) {
+        long start = System.nanoTime();
+        ProjectIndex index = ProjectIndex.forProject(projectDir);
+        logger.debug("Indexed " + index.files().size() + " files and " + index.jarEntryCount()
+                + " entries of " + index.jars().size() + " JARs in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
     /**
      * Creates a project-specific ClassLoader for the given project directory.
      *
@@ -1,8 +1,8 @@
 package dev.dsf.linter.util.api;
 
 import dev.dsf.linter.exception.MissingServiceRegistrationException;
+import dev.dsf.linter.util.resource.ProjectIndex;
 
-import java.io.IOException;
 import java.nio.file.*;
 import java.util.List;
 import java.util.Optional;
@@ -101,9 +101,10 @@ public final class ApiVersionDetector
     }
 
     /**
-     * Performs a fallback scan by walking the file tree below common compiled output directories
+     * Performs a fallback scan of the files below common compiled output directories
      * (e.g., {@code target/classes} or {@code build/classes/java/main}) to detect files
-     * that reference DSF BPE API package names.
+     * that reference DSF BPE API package names. The files are taken from the shared
+     * {@link ProjectIndex}.
      *
      * <p>This method prefers API version {@code v2} over {@code v1} if both are detected.</p>
      *
@@ -112,44 +113,30 @@ public final class ApiVersionDetector
      */
     private Optional<DetectedVersion> detectByFallbackOptional(Path root) throws MissingServiceRegistrationException
     {
-        // Prefer compiled outputs; otherwise walk from project root
+        // Prefer compiled outputs; otherwise scan the whole project
         Path start = Files.isDirectory(root.resolve("target/classes"))
                 ? root.resolve("target/classes")
                 : (Files.isDirectory(root.resolve("build/classes/java/main"))
                 ? root.resolve("build/classes/java/main")
                 : root);
 
-        try (var stream = Files.walk(start))
-        {
-            final boolean[] seen = new boolean[2]; // [0]=v1, [1]=v2
-            final Path[] firstSeen = new Path[2];
-
-            stream.forEach(p ->
-            {
-                String name = p.getFileName() != null ? p.getFileName().toString() : "";
-                if (!seen[1] && name.startsWith("dev.dsf.bpe.v2"))
-                {
-                    seen[1] = true;
-                    firstSeen[1] = p;
-                }
-                else if (!seen[0] && name.startsWith("dev.dsf.bpe.v1"))
-                {
-                    seen[0] = true;
-                    firstSeen[0] = p;
-                }
-            });
-
-            if (seen[1])
-                return Optional.of(new DetectedVersion(ApiVersion.V2, firstSeen[1], DetectionSource.FALLBACK_SCAN));
-            if (seen[0])
-                return Optional.of(new DetectedVersion(ApiVersion.V1, firstSeen[0], DetectionSource.FALLBACK_SCAN));
+        ProjectIndex index = ProjectIndex.forProject(root.toFile());
+        List<ProjectIndex.Entry> files = index.filesUnder(start)
+                .orElseGet(() -> ProjectIndex.build(start).files());
 
-            return Optional.empty();
-        }
-        catch (IOException e)
+        Path firstV1 = null;
+        for (ProjectIndex.Entry file : files)
         {
-            detectOrThrow(root);
-            return Optional.empty();
+            String name = file.fileName();
+            if (name.startsWith("dev.dsf.bpe.v2"))
+                return Optional.of(new DetectedVersion(ApiVersion.V2, file.location(), DetectionSource.FALLBACK_SCAN));
+            if (firstV1 == null && name.startsWith("dev.dsf.bpe.v1"))
+                firstV1 = file.location();
         }
+
+        if (firstV1 != null)
+            return Optional.of(new DetectedVersion(ApiVersion.V1, firstV1, DetectionSource.FALLBACK_SCAN));
+
+        return Optional.empty();
     }
 }
@@ -1,20 +1,49 @@
 package dev.dsf.linter.util.api;
 
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 /**
  * Holds the detected DSF BPE API version for use throughout the linter.
- * Provides a single source of truth for the detected version on a per-thread basis.
+ * <p>
+ * The version is normally bound for the duration of a unit of work via
+ * {@link #callWithVersion(ApiVersion, Callable)}, which uses a {@link ScopedValue}
+ * so that plugins linted concurrently on different threads each see their own version
+ * and nothing leaks into pooled threads. Code that runs outside such a scope can still
+ * use the per-thread {@link #setVersion(ApiVersion)} / {@link #clear()} pair; a scoped
+ * binding always takes precedence.
+ * </p>
  * This class is thread-safe.
  */
 public final class ApiVersionHolder {
 
+    private static final ScopedValue<ApiVersion> SCOPED_VERSION = ScopedValue.newInstance();
+
     private static final ThreadLocal<ApiVersion> version =
             ThreadLocal.withInitial(() -> ApiVersion.UNKNOWN);
 
     private ApiVersionHolder() {
     }
 
+    /**
+     * Executes the given action with the API version bound for its whole dynamic extent.
+     * <p>
+     * Tasks handed to other threads do not inherit the binding; they must be wrapped
+     * with this method again using {@link #getVersion()} captured on the submitting thread.
+     * </p>
+     *
+     * @param v      the API version to bind; must not be null.
+     * @param action the action to execute
+     * @param <T>    the result type of the action
+     * @return the result of the action
+     * @throws Exception if the action throws
+     * @since 1.2.0
+     */
+    public static <T> T callWithVersion(ApiVersion v, Callable<T> action) throws Exception {
+        Objects.requireNonNull(v, "version must not be null");
+        return ScopedValue.where(SCOPED_VERSION, v).call(action::call);
+    }
+
     /**
      * Sets the DSF BPE API version for the current thread.
      *
@@ -25,12 +54,13 @@ public final class ApiVersionHolder {
     }
 
     /**
-     * Returns the DSF BPE API version for the current thread.
+     * Returns the DSF BPE API version bound by the enclosing
+     * {@link #callWithVersion(ApiVersion, Callable)} scope, or the current thread's version otherwise.
      *
-     * @return the current thread's API version, defaults to {@link ApiVersion#UNKNOWN}.
+     * @return the current API version, defaults to {@link ApiVersion#UNKNOWN}.
      */
     public static ApiVersion getVersion() {
-        return version.get();
+        return SCOPED_VERSION.isBound() ? SCOPED_VERSION.get() : version.get();
     }
 
     /**
@@ -41,4 +71,4 @@ public final class ApiVersionHolder {
         version.remove();
     }
 
-}
\ No newline at end of file
+}
@@ -43,7 +43,7 @@ public final class BpmnMessageLinter {
             File bpmnFile,
             String processId,
             File projectRoot) {
-        var locator = FhirResourceLocator.create(projectRoot);
+        var locator = FhirResourceLocator.forProject(projectRoot);
 
         // Check for a matching ActivityDefinition.
         if (locator.activityDefinitionExists(messageName, projectRoot)) {
@@ -154,7 +154,7 @@ public final class BpmnMessageLinter {
                 elementId, bpmnFile, processId,
                 "Message name is not empty: '" + msgName + "'"));
 
-        FhirResourceLocator locator = FhirResourceLocator.create(projectRoot);
+        FhirResourceLocator locator = FhirResourceLocator.forProject(projectRoot);
         lintFhirReferences(msgName, elementId, issues, bpmnFile, processId, locator, projectRoot);
     }
 }
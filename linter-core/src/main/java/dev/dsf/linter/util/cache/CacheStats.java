@@ -0,0 +1,50 @@
+package dev.dsf.linter.util.cache;
+
+/**
+ * Immutable snapshot of the statistics of a {@link ConcurrentCache}.
+ *
+ * <p>Lookups through {@link ConcurrentCache#getOrCreate(Object, java.util.function.Function)}
+ * and {@link ConcurrentCache#get(Object)} count as hits or misses. A miss of
+ * {@code getOrCreate} also counts as a load whose duration is added to
+ * {@link #totalLoadTimeNanos()}. Entries removed because of a size, weight or expiration
+ * bound count as evictions; explicit removals do not.</p>
+ *
+ * @param hitCount           number of lookups that found a live entry
+ * @param missCount          number of lookups that found no live entry
+ * @param loadSuccessCount   number of values created successfully
+ * @param loadFailureCount   number of creator invocations that failed
+ * @param totalLoadTimeNanos total time spent creating values, in nanoseconds
+ * @param evictionCount      number of entries evicted by a bound
+ *
+ * @since 1.2.0
+ */
+public record CacheStats(long hitCount,
+                         long missCount,
+                         long loadSuccessCount,
+                         long loadFailureCount,
+                         long totalLoadTimeNanos,
+                         long evictionCount) {
+
+    /**
+     * @return the number of lookups
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return the ratio of hits to lookups, or {@code 1.0} if there were no lookups
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return the average time spent creating a value, or {@code 0.0} if nothing was loaded
+     */
+    public double averageLoadPenaltyNanos() {
+        long loads = loadSuccessCount + loadFailureCount;
+        return loads == 0 ? 0.0 : (double) totalLoadTimeNanos / loads;
+    }
+}
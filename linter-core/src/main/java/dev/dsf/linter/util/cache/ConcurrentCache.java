@@ -1,11 +1,19 @@
 package dev.dsf.linter.util.cache;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
 
 /**
  * A thread-safe, generic cache implementation with support for automatic value creation,
@@ -21,8 +29,22 @@ import java.util.function.Function;
  *   <li>Optional cleanup callbacks when cache entries are removed</li>
  *   <li>Cache invalidation with automatic resource cleanup</li>
  *   <li>Support for null values through {@link Optional} return types</li>
+ *   <li>Optional size, weight and expire-after-access bounds, configured via {@link #builder()}</li>
+ *   <li>Hit, miss, load and eviction statistics via {@link #stats()}</li>
  * </ul>
  *
+ * <p><b>Bounds:</b></p>
+ * <p>Caches created with the constructors are unbounded. A cache built with a maximum size or
+ * weight evicts the least recently used entries once the bound is exceeded; a cache with
+ * expire-after-access drops entries that have not been read or written for the configured
+ * duration. Evicted values are passed to the same cleanup callback that handles removals, so
+ * cached {@code JarFile}s or {@code URLClassLoader}s are closed when they fall out of the cache.
+ * The entry that triggered an eviction is never evicted by it, so a value returned from
+ * {@link #getOrCreate(Object, Function)} is not cleaned up before the caller sees it.</p>
+ * <p>Eviction scans the entries for the least recently used one. This is adequate for the small
+ * caches of the linter (project class loaders, providers, JAR handles) but not intended for
+ * caches with many thousands of entries.</p>
+ *
  * <p><b>Example Usage:</b></p>
  * <pre>{@code
  * // Simple cache without cleanup
@@ -37,6 +59,13 @@ import java.util.function.Function;
  *         // Log error
  *     }
  * });
+ *
+ * // Bounded cache that closes evicted class loaders
+ * ConcurrentCache<Path, URLClassLoader> loaders = ConcurrentCache.<Path, URLClassLoader>builder()
+ *         .maximumSize(32)
+ *         .expireAfterAccess(Duration.ofMinutes(30))
+ *         .cleanupCallback(ConcurrentCache::closeQuietly)
+ *         .build();
  * }</pre>
  *
  * @param <K> the type of keys maintained by this cache
@@ -46,14 +75,31 @@ import java.util.function.Function;
  */
 public class ConcurrentCache<K, V> {
 
-    private final ConcurrentMap<K, V> cache;
+    private final ConcurrentMap<K, Node<V>> cache;
     private final Consumer<V> cleanupCallback;
 
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final long expireAfterAccessNanos;
+    private final LongSupplier ticker;
+
+    private final Object evictionLock = new Object();
+    private final AtomicLong accessSequence = new AtomicLong();
+    private final AtomicLong totalWeight = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
     /**
      * Creates a new cache without cleanup callbacks.
      */
     public ConcurrentCache() {
-        this(null);
+        this((Consumer<V>) null);
     }
 
     /**
@@ -67,8 +113,29 @@ public class ConcurrentCache<K, V> {
      *                       may be null if no cleanup is needed
      */
     public ConcurrentCache(Consumer<V> cleanupCallback) {
+        this(new Builder<K, V>().cleanupCallback(cleanupCallback));
+    }
+
+    private ConcurrentCache(Builder<K, V> builder) {
         this.cache = new ConcurrentHashMap<>();
-        this.cleanupCallback = cleanupCallback;
+        this.cleanupCallback = builder.cleanupCallback;
+        this.maximumSize = builder.maximumSize;
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * Creates a builder for a cache with optional bounds.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return a new builder
+     * @since 1.2.0
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
     }
 
     /**
@@ -88,13 +155,45 @@ public class ConcurrentCache<K, V> {
         Objects.requireNonNull(key, "Cache key must not be null");
         Objects.requireNonNull(creator, "Creator function must not be null");
 
-        return cache.computeIfAbsent(key, k -> {
+        Node<V> existing = liveNode(key);
+        if (existing != null) {
+            hits.increment();
+            touch(existing);
+            return existing.value;
+        }
+
+        boolean[] created = new boolean[1];
+        Node<V> node = cache.computeIfAbsent(key, k -> {
+            long start = ticker.getAsLong();
             try {
-                return creator.apply(k);
+                V value = creator.apply(k);
+                if (value == null) {
+                    return null;
+                }
+                created[0] = true;
+                loadSuccesses.increment();
+                return newNode(k, value);
             } catch (Exception e) {
+                loadFailures.increment();
                 throw new RuntimeException("Failed to create cache value for key: " + k, e);
+            } finally {
+                totalLoadTime.add(ticker.getAsLong() - start);
             }
         });
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (created[0]) {
+            misses.increment();
+            totalWeight.addAndGet(node.weight);
+            evictIfNeeded(key);
+        } else {
+            hits.increment();
+            touch(node);
+        }
+        return node.value;
     }
 
     /**
@@ -104,7 +203,14 @@ public class ConcurrentCache<K, V> {
      * @return Optional containing the cached value, or empty if not present
      */
     public Optional<V> get(K key) {
-        return Optional.ofNullable(cache.get(key));
+        Node<V> node = liveNode(key);
+        if (node == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        touch(node);
+        return Optional.of(node.value);
     }
 
     /**
@@ -116,11 +222,19 @@ public class ConcurrentCache<K, V> {
      */
     public V put(K key, V value) {
         Objects.requireNonNull(key, "Cache key must not be null");
-        V previous = cache.put(key, value);
-        if (previous != null && cleanupCallback != null) {
-            cleanupCallback.accept(previous);
+        Objects.requireNonNull(value, "Cache value must not be null");
+
+        Node<V> node = newNode(key, value);
+        totalWeight.addAndGet(node.weight);
+        Node<V> previous = cache.put(key, node);
+        if (previous != null) {
+            totalWeight.addAndGet(-previous.weight);
+            if (cleanupCallback != null) {
+                cleanupCallback.accept(previous.value);
+            }
         }
-        return previous;
+        evictIfNeeded(key);
+        return previous != null ? previous.value : null;
     }
 
     /**
@@ -130,11 +244,15 @@ public class ConcurrentCache<K, V> {
      * @return the removed value, or null if the key was not present
      */
     public V remove(K key) {
-        V removed = cache.remove(key);
-        if (removed != null && cleanupCallback != null) {
-            cleanupCallback.accept(removed);
+        Node<V> removed = cache.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        totalWeight.addAndGet(-removed.weight);
+        if (cleanupCallback != null) {
+            cleanupCallback.accept(removed.value);
         }
-        return removed;
+        return removed.value;
     }
 
     /**
@@ -143,18 +261,53 @@ public class ConcurrentCache<K, V> {
      * <p>If a cleanup callback is configured, it is called for each cached value.
      * Exceptions thrown by the cleanup callback are caught and ignored to ensure
      * all entries are processed.</p>
+     *
+     * <p>Entries are removed one by one, so every value is cleaned up exactly once even if
+     * other threads access the cache concurrently; values added while clearing are either
+     * removed and cleaned up or remain in the cache, but are never dropped without cleanup.</p>
      */
     public void clear() {
-        if (cleanupCallback != null) {
-            cache.values().forEach(value -> {
-                try {
-                    cleanupCallback.accept(value);
-                } catch (Exception e) {
-                    // Best effort cleanup - log but continue
-                }
-            });
+        for (K key : cache.keySet()) {
+            Node<V> removed = cache.remove(key);
+            if (removed != null) {
+                totalWeight.addAndGet(-removed.weight);
+                cleanupQuietly(removed.value);
+            }
         }
-        cache.clear();
+    }
+
+    /**
+     * Removes all expired entries and enforces the size and weight bounds.
+     *
+     * <p>Expired entries are otherwise removed lazily when they are looked up or when a new
+     * entry is added. Calling this method is only necessary to release resources of idle
+     * caches early.</p>
+     *
+     * @since 1.2.0
+     */
+    public void cleanUp() {
+        evictIfNeeded(null);
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the current statistics
+     * @since 1.2.0
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(),
+                totalLoadTime.sum(), evictions.sum());
+    }
+
+    /**
+     * Returns the total weight of all entries. Without a weigher every entry weighs {@code 1}.
+     *
+     * @return the total weight
+     * @since 1.2.0
+     */
+    public long weight() {
+        return totalWeight.get();
     }
 
     /**
@@ -173,7 +326,7 @@ public class ConcurrentCache<K, V> {
      * @return true if the cache contains the key, false otherwise
      */
     public boolean containsKey(K key) {
-        return cache.containsKey(key);
+        return liveNode(key) != null;
     }
 
     /**
@@ -184,4 +337,230 @@ public class ConcurrentCache<K, V> {
     public boolean isEmpty() {
         return cache.isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Closes the value if it is {@link AutoCloseable}, ignoring any failure. Convenient as a
+     * cleanup callback for caches of JAR files and class loaders.
+     *
+     * @param value the value to close, may be null
+     * @since 1.2.0
+     */
+    public static void closeQuietly(Object value) {
+        if (value instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // Best effort cleanup
+            }
+        }
+    }
+
+    // Private helper methods
+
+    private Node<V> newNode(K key, V value) {
+        long weight = weigher != null ? weigher.applyAsLong(key, value) : 1L;
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight for key: " + key);
+        }
+        Node<V> node = new Node<>(value, weight);
+        touch(node);
+        return node;
+    }
+
+    /**
+     * Returns the entry for the key, removing it first if it has expired.
+     */
+    private Node<V> liveNode(K key) {
+        Node<V> node = cache.get(key);
+        if (node != null && isExpired(node, ticker.getAsLong())) {
+            if (cache.remove(key, node)) {
+                totalWeight.addAndGet(-node.weight);
+                evictions.increment();
+                cleanupQuietly(node.value);
+            }
+            return null;
+        }
+        return node;
+    }
+
+    private void touch(Node<V> node) {
+        if (isBounded() || expireAfterAccessNanos > 0) {
+            node.accessOrder = accessSequence.incrementAndGet();
+            node.accessTime = ticker.getAsLong();
+        }
+    }
+
+    private boolean isExpired(Node<V> node, long now) {
+        return expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos;
+    }
+
+    private boolean isBounded() {
+        return maximumSize < Long.MAX_VALUE || maximumWeight < Long.MAX_VALUE;
+    }
+
+    /**
+     * Removes expired entries and then the least recently used entries until all bounds hold.
+     * Cleanup callbacks run after the eviction lock has been released.
+     *
+     * @param retained key that must not be evicted, may be null
+     */
+    private void evictIfNeeded(K retained) {
+        if (!isBounded() && expireAfterAccessNanos <= 0) {
+            return;
+        }
+
+        List<V> evicted = new ArrayList<>();
+        synchronized (evictionLock) {
+            if (expireAfterAccessNanos > 0) {
+                long now = ticker.getAsLong();
+                for (Map.Entry<K, Node<V>> entry : cache.entrySet()) {
+                    if (!entry.getKey().equals(retained) && isExpired(entry.getValue(), now)) {
+                        evict(entry.getKey(), entry.getValue(), evicted);
+                    }
+                }
+            }
+
+            while (cache.size() > maximumSize || totalWeight.get() > maximumWeight) {
+                Map.Entry<K, Node<V>> eldest = null;
+                for (Map.Entry<K, Node<V>> entry : cache.entrySet()) {
+                    if (!entry.getKey().equals(retained)
+                            && (eldest == null || entry.getValue().accessOrder < eldest.getValue().accessOrder)) {
+                        eldest = entry;
+                    }
+                }
+                if (eldest == null) {
+                    break;
+                }
+                evict(eldest.getKey(), eldest.getValue(), evicted);
+            }
+        }
+
+        evicted.forEach(this::cleanupQuietly);
+    }
+
+    private void evict(K key, Node<V> node, List<V> evicted) {
+        if (cache.remove(key, node)) {
+            totalWeight.addAndGet(-node.weight);
+            evictions.increment();
+            evicted.add(node.value);
+        }
+    }
+
+    private void cleanupQuietly(V value) {
+        if (cleanupCallback != null) {
+            try {
+                cleanupCallback.accept(value);
+            } catch (Exception e) {
+                // Best effort cleanup - log but continue
+            }
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private final long weight;
+        private volatile long accessOrder;
+        private volatile long accessTime;
+
+        private Node(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Builder for caches with optional bounds.
+     *
+     * <p>All bounds are optional and can be combined. Without any bound the built cache behaves
+     * exactly like one created with {@link ConcurrentCache#ConcurrentCache(Consumer)}.</p>
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @since 1.2.0
+     */
+    public static final class Builder<K, V> {
+        private Consumer<V> cleanupCallback;
+        private long maximumSize = Long.MAX_VALUE;
+        private long maximumWeight = Long.MAX_VALUE;
+        private ToLongBiFunction<? super K, ? super V> weigher;
+        private long expireAfterAccessNanos;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the callback invoked for values that are removed, replaced, cleared or evicted.
+         *
+         * @param cleanupCallback the callback, may be null
+         * @return this builder
+         */
+        public Builder<K, V> cleanupCallback(Consumer<V> cleanupCallback) {
+            this.cleanupCallback = cleanupCallback;
+            return this;
+        }
+
+        /**
+         * Limits the number of entries; the least recently used entries are evicted beyond it.
+         *
+         * @param maximumSize the maximum number of entries, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maximumSize} is less than {@code 1}
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be at least 1: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Limits the total weight of all entries; the least recently used entries are evicted
+         * beyond it.
+         *
+         * @param maximumWeight the maximum total weight, not negative
+         * @param weigher       computes the weight of an entry once when it is stored
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maximumWeight} is negative
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("maximumWeight must not be negative: " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            this.weigher = Objects.requireNonNull(weigher, "weigher must not be null");
+            return this;
+        }
+
+        /**
+         * Evicts entries that have not been read or written for the given duration.
+         *
+         * @param duration the idle time after which entries expire, must be positive
+         * @return this builder
+         * @throws IllegalArgumentException if {@code duration} is not positive
+         */
+        public Builder<K, V> expireAfterAccess(Duration duration) {
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("expireAfterAccess must be positive: " + duration);
+            }
+            this.expireAfterAccessNanos = duration.toNanos();
+            return this;
+        }
+
+        /**
+         * Replaces the time source, for tests.
+         */
+        Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        /**
+         * @return the new cache
+         */
+        public ConcurrentCache<K, V> build() {
+            return new ConcurrentCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.dsf.linter.util.cache;
+
+import dev.dsf.linter.util.cache.DependencyRecorder.Kind;
+import dev.dsf.linter.util.cache.DependencyRecorder.Reference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Maps the resources, classes and CodeSystems looked up while linting to the files that looked
+ * them up.
+ * <p>
+ * The map is built from the {@link Reference}s stored with cached lint results. When the project
+ * changes, {@link #changedReferences(DependencyRecorder.Resolver)} resolves every distinct target
+ * once, however many files refer to it, and returns the referrers whose results are affected. All
+ * other cached results remain valid, so an edited resource only causes the files that refer to it
+ * to be linted again.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @param <F> the type identifying a referring file
+ * @since 1.2.0
+ */
+public final class DependencyMap<F> {
+
+    private record Target(Kind kind, String target) {
+    }
+
+    private final Map<Target, Set<F>> referrersByTarget = new LinkedHashMap<>();
+    private final Map<F, List<Reference>> referencesByReferrer = new LinkedHashMap<>();
+
+    /**
+     * Adds the references recorded for a file, replacing those added for it before.
+     *
+     * @param referrer   the referring file
+     * @param references the references recorded while the file was linted
+     */
+    public void add(F referrer, List<Reference> references) {
+        Objects.requireNonNull(referrer, "referrer");
+        remove(referrer);
+        referencesByReferrer.put(referrer, List.copyOf(references));
+        for (Reference reference : references) {
+            referrersByTarget.computeIfAbsent(new Target(reference.kind(), reference.target()),
+                    t -> new LinkedHashSet<>()).add(referrer);
+        }
+    }
+
+    /**
+     * Removes a file and its references.
+     *
+     * @param referrer the referring file
+     */
+    public void remove(F referrer) {
+        List<Reference> previous = referencesByReferrer.remove(referrer);
+        if (previous == null) {
+            return;
+        }
+        for (Reference reference : previous) {
+            Target target = new Target(reference.kind(), reference.target());
+            Set<F> referrers = referrersByTarget.get(target);
+            if (referrers != null && referrers.remove(referrer) && referrers.isEmpty()) {
+                referrersByTarget.remove(target);
+            }
+        }
+    }
+
+    /**
+     * @param kind   the kind of lookup
+     * @param target what was looked up
+     * @return the files that looked up the target, in the order they were added
+     */
+    public Set<F> referrers(Kind kind, String target) {
+        return Collections.unmodifiableSet(referrersByTarget.getOrDefault(new Target(kind, target), Set.of()));
+    }
+
+    /**
+     * @param referrer the referring file
+     * @return the references of the file, empty if it was not added
+     */
+    public List<Reference> references(F referrer) {
+        return referencesByReferrer.getOrDefault(referrer, List.of());
+    }
+
+    /**
+     * Resolves every target once and collects, per file, the references that now resolve
+     * differently than recorded. A target that cannot be resolved counts as changed.
+     *
+     * @param resolver resolves targets against the current project content
+     * @return the affected files with their changed references, in the order the files were added
+     */
+    public Map<F, List<Reference>> changedReferences(DependencyRecorder.Resolver resolver) {
+        Map<Target, String> current = new LinkedHashMap<>();
+        for (Target target : referrersByTarget.keySet()) {
+            current.put(target, resolveQuietly(resolver, target));
+        }
+
+        Map<F, List<Reference>> changed = new LinkedHashMap<>();
+        referencesByReferrer.forEach((referrer, references) -> {
+            for (Reference reference : references) {
+                String resolution = current.get(new Target(reference.kind(), reference.target()));
+                if (!reference.resolution().equals(resolution)) {
+                    changed.computeIfAbsent(referrer, r -> new ArrayList<>()).add(reference);
+                }
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * @return the number of files in the map
+     */
+    public int size() {
+        return referencesByReferrer.size();
+    }
+
+    private static String resolveQuietly(DependencyRecorder.Resolver resolver, Target target) {
+        try {
+            return resolver.resolve(target.kind(), target.target());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package dev.dsf.linter.util.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Records the project content a single file's linters consult while the file is linted.
+ * <p>
+ * A recorder is bound for the dynamic extent of one file via
+ * {@link #callRecording(DependencyRecorder, Callable)}, which uses a {@link ScopedValue} in the
+ * same way as {@link dev.dsf.linter.util.api.ApiVersionHolder}. The lookups of
+ * {@link dev.dsf.linter.util.resource.FhirResourceLocator},
+ * {@link dev.dsf.linter.classloading.ClassInspector} and
+ * {@link dev.dsf.linter.util.resource.FhirAuthorizationCache} report every target they resolve
+ * through {@link #record(Kind, String, Supplier)}; outside a recording scope this is a no-op.
+ * </p>
+ *
+ * <h3>References</h3>
+ * <p>
+ * Each {@link Reference} pairs what was looked up with a resolution, a string that changes
+ * whenever the lookup could give a different answer: the path and content hash of the resource
+ * found, the supertypes of a class, or the codes of a CodeSystem. An empty resolution means the
+ * target was not found. {@link LintResultCache} stores the references of a file next to its lint
+ * items and reuses the items only while every reference still resolves to the same value.
+ * </p>
+ * <p>
+ * Tasks handed to other threads do not inherit the binding. All methods are thread-safe.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class DependencyRecorder {
+
+    /**
+     * Kinds of lookups a lint result may depend on.
+     */
+    public enum Kind {
+        /** ActivityDefinition looked up by message name. */
+        ACTIVITY_DEFINITION_BY_MESSAGE,
+        /** ActivityDefinition looked up by canonical URL, without version. */
+        ACTIVITY_DEFINITION_BY_URL,
+        /** StructureDefinition looked up by profile URL, without version. */
+        STRUCTURE_DEFINITION,
+        /** Questionnaire looked up by URL, without version. */
+        QUESTIONNAIRE,
+        /** Class looked up by fully-qualified name. */
+        CLASS,
+        /** CodeSystem looked up by URL. */
+        CODE_SYSTEM,
+        /** CodeSystems looked up by a code they contain. */
+        CODE
+    }
+
+    /**
+     * A resolved lookup.
+     *
+     * @param kind       the kind of lookup
+     * @param target     what was looked up, e.g. a canonical URL or a class name
+     * @param resolution the value the target resolved to, or an empty string if it was not found
+     */
+    public record Reference(Kind kind, String target, String resolution) implements Serializable {
+
+        public Reference {
+            Objects.requireNonNull(kind, "kind");
+            Objects.requireNonNull(target, "target");
+            Objects.requireNonNull(resolution, "resolution");
+        }
+    }
+
+    /**
+     * Resolves a recorded lookup against the current project content.
+     */
+    @FunctionalInterface
+    public interface Resolver {
+
+        /**
+         * @param kind   the kind of lookup
+         * @param target what was looked up
+         * @return the value the target resolves to now, in the form it was recorded in
+         */
+        String resolve(Kind kind, String target);
+    }
+
+    private static final ScopedValue<DependencyRecorder> CURRENT = ScopedValue.newInstance();
+
+    private static final Comparator<Reference> ORDER = Comparator
+            .comparing(Reference::kind)
+            .thenComparing(Reference::target);
+
+    private final Map<String, Reference> references = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the given action with the recorder bound for its whole dynamic extent.
+     *
+     * @param recorder the recorder receiving the references; must not be null
+     * @param action   the action to execute
+     * @param <T>      the result type of the action
+     * @return the result of the action
+     * @throws Exception if the action throws
+     */
+    public static <T> T callRecording(DependencyRecorder recorder, Callable<T> action) throws Exception {
+        Objects.requireNonNull(recorder, "recorder must not be null");
+        return ScopedValue.where(CURRENT, recorder).call(action::call);
+    }
+
+    /**
+     * Records a lookup with the recorder bound to the current scope. The resolution is computed
+     * only for the first lookup of a target within the scope and not at all outside a scope.
+     *
+     * @param kind       the kind of lookup
+     * @param target     what was looked up; blank targets are ignored
+     * @param resolution computes the value the target resolves to, empty if it was not found
+     */
+    public static void record(Kind kind, String target, Supplier<String> resolution) {
+        if (!CURRENT.isBound() || target == null || target.isBlank()) {
+            return;
+        }
+        CURRENT.get().references.computeIfAbsent(kind + "|" + target,
+                k -> new Reference(kind, target, Objects.requireNonNullElse(resolution.get(), "")));
+    }
+
+    /**
+     * @return the references recorded so far, ordered by kind and target
+     */
+    public List<Reference> references() {
+        return references.values().stream().sorted(ORDER).toList();
+    }
+
+    /**
+     * Hashes content for use in a resolution.
+     *
+     * @param content the content; closed by the caller
+     * @return the hex-encoded SHA-256 hash of the content
+     * @throws IOException if the content cannot be read
+     */
+    public static String contentHash(InputStream content) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Hashes a sorted collection of values for use in a resolution.
+     *
+     * @param values the values, in a stable order
+     * @return the hex-encoded SHA-256 hash of the values
+     */
+    public static String valuesHash(Iterable<String> values) {
+        MessageDigest digest = sha256();
+        for (String value : values) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
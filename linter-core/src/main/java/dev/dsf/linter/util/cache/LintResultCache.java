@@ -0,0 +1,374 @@
+package dev.dsf.linter.util.cache;
+
+import dev.dsf.linter.logger.Logger;
+import dev.dsf.linter.output.item.AbstractLintItem;
+import dev.dsf.linter.output.item.BpmnLintItem;
+import dev.dsf.linter.output.item.FhirLintItem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of per-file lint results, so unchanged files are not linted again in later runs.
+ * <p>
+ * Most resources of a plugin do not change between builds. This cache stores the lint items
+ * produced for a single BPMN or FHIR file on disk and returns them in later runs as long as
+ * neither the file nor anything its linters consulted has changed.
+ * </p>
+ *
+ * <h3>Keys</h3>
+ * <p>
+ * An entry is addressed by the SHA-256 hash over:
+ * </p>
+ * <ul>
+ *   <li>the cache format and the linter version (the implementation version, or a hash of the
+ *       linter's code source for development builds)</li>
+ *   <li>the resource type, plugin name, API version and the file's path relative to the project
+ *       root</li>
+ *   <li>the SHA-256 hash of the file content</li>
+ * </ul>
+ * <p>
+ * If the linter version cannot be determined, {@link #create(Path, Logger)} disables the cache,
+ * since results of a different linter build could otherwise be returned.
+ * </p>
+ *
+ * <h3>Cross-References</h3>
+ * <p>
+ * Besides the lint items, an entry holds the {@link DependencyRecorder.Reference}s recorded while
+ * the file was linted: the profiles, ActivityDefinitions and Questionnaires it looked up with the
+ * content hash of the resource found, the classes it checked with their supertypes, and the
+ * CodeSystems it consulted. {@link #loadAll(Map, DependencyRecorder.Resolver)} maps these
+ * references to the files that recorded them in a {@link DependencyMap}, resolves each referenced
+ * target once against the current project and treats an entry as a miss if any of its references
+ * resolves differently, so editing one resource only invalidates the files that refer to it.
+ * </p>
+ *
+ * <h3>Storage</h3>
+ * <p>
+ * Entries are serialized reference and lint item lists in {@code <directory>/<xx>/<key>.bin}.
+ * Files are written to a temporary file and moved into place, so concurrent linter processes may
+ * share a directory. Unreadable entries are treated as misses and deleted. Only results consisting
+ * of BPMN and FHIR lint items are stored; their file references are plain file names and remain
+ * valid when the plugin is extracted to a different location in a later run.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class LintResultCache {
+
+    private static final String FORMAT_VERSION = "2";
+    private static final String ENTRY_SUFFIX = ".bin";
+
+    private static final ObjectInputFilter ITEM_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=8;maxarray=1000000;java.util.ArrayList;java.lang.Object;java.lang.Enum;"
+                    + "dev.dsf.linter.output.**;dev.dsf.linter.util.cache.DependencyRecorder$*;!*");
+
+    private record Entry(List<DependencyRecorder.Reference> references, List<AbstractLintItem> items) {
+    }
+
+    private final Path directory;
+    private final Logger logger;
+    private final String linterVersion;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a cache stored in the given directory, which is created if necessary.
+     *
+     * @param directory the cache directory
+     * @param logger    logger for diagnostics
+     * @return the cache, or empty with a logged warning if the linter version cannot be determined
+     */
+    public static Optional<LintResultCache> create(Path directory, Logger logger) {
+        Optional<String> version = detectLinterVersion();
+        if (version.isEmpty()) {
+            logger.warn("Lint result cache disabled: cannot determine the linter version.");
+            return Optional.empty();
+        }
+        return Optional.of(new LintResultCache(directory, logger, version.get()));
+    }
+
+    LintResultCache(Path directory, Logger logger, String linterVersion) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.logger = logger;
+        this.linterVersion = linterVersion;
+    }
+
+    /**
+     * Computes the cache key of a file.
+     *
+     * @param resourceType the resource type, e.g. {@code BPMN}
+     * @param pluginName   the plugin the file belongs to
+     * @param apiVersion   the API version the file is linted with
+     * @param file         the file to lint
+     * @param projectRoot  the project root the file's path is taken relative to
+     * @return the key, or empty if the file cannot be read
+     */
+    public Optional<String> keyFor(String resourceType, String pluginName, Object apiVersion, Path file,
+                                   Path projectRoot) {
+        try {
+            MessageDigest digest = sha256();
+            update(digest, FORMAT_VERSION, linterVersion, resourceType, pluginName, String.valueOf(apiVersion),
+                    relativeName(projectRoot, file), hash(Files.readAllBytes(file)));
+            return Optional.of(HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Lint cache: cannot compute key for " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the stored lint items for the key if every reference recorded with them still
+     * resolves to the same value.
+     *
+     * @param key      the key from {@link #keyFor}
+     * @param resolver resolves the recorded references against the current project
+     * @return the items, or empty on a miss
+     */
+    public Optional<List<AbstractLintItem>> load(String key, DependencyRecorder.Resolver resolver) {
+        return Optional.ofNullable(loadAll(Map.of(key, key), resolver).get(key));
+    }
+
+    /**
+     * Returns the stored lint items of several files whose recorded references all still resolve
+     * to the same value.
+     * <p>
+     * The references of all entries are collected in a {@link DependencyMap}, so a resource,
+     * class or CodeSystem referred to by many files is resolved only once, and a change to it
+     * only invalidates the entries of the files that refer to it.
+     * </p>
+     *
+     * @param keys     the keys from {@link #keyFor} per file
+     * @param resolver resolves the recorded references against the current project
+     * @param <F>      the type identifying a file
+     * @return the items of each file that can be reused, in the order of {@code keys}; files
+     *         without an entry or with a changed reference are missing
+     */
+    public <F> Map<F, List<AbstractLintItem>> loadAll(Map<F, String> keys, DependencyRecorder.Resolver resolver) {
+        Map<F, List<AbstractLintItem>> itemsByFile = new LinkedHashMap<>();
+        DependencyMap<F> dependencies = new DependencyMap<>();
+        keys.forEach((file, key) -> readEntry(key).ifPresent(entry -> {
+            itemsByFile.put(file, entry.items());
+            dependencies.add(file, entry.references());
+        }));
+
+        dependencies.changedReferences(resolver).forEach((file, changed) -> {
+            itemsByFile.remove(file);
+            logger.debug("Lint cache: result of " + file + " outdated by changed " + changed.stream()
+                    .map(reference -> reference.kind() + " " + reference.target())
+                    .collect(Collectors.joining(", ")));
+        });
+
+        hits.addAndGet(itemsByFile.size());
+        misses.addAndGet(keys.size() - itemsByFile.size());
+        return itemsByFile;
+    }
+
+    /**
+     * Stores the lint items and the references recorded while producing them under the key, if
+     * all items can be reused in later runs.
+     *
+     * @param key        the key from {@link #keyFor}
+     * @param references the references recorded while the file was linted
+     * @param items      the lint items of the file
+     * @return {@code true} if the items were stored
+     */
+    public boolean store(String key, List<DependencyRecorder.Reference> references,
+                         List<? extends AbstractLintItem> items) {
+        if (!isCacheable(items)) {
+            return false;
+        }
+        Path entry = entryPath(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(entry.getParent());
+            temp = Files.createTempFile(entry.getParent(), key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp);
+                 ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                objects.writeObject(new ArrayList<>(references));
+                objects.writeObject(new ArrayList<>(items));
+            }
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.debug("Lint cache: cannot store entry " + entry + ": " + e.getMessage());
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * @return the cache directory
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups that found no usable entry
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    // Private helper methods
+
+    private static boolean isCacheable(List<? extends AbstractLintItem> items) {
+        return items.stream().allMatch(item -> item instanceof BpmnLintItem || item instanceof FhirLintItem);
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ENTRY_SUFFIX);
+    }
+
+    /**
+     * Returns the file's path relative to the project root, or its file name if it lies outside.
+     */
+    private static String relativeName(Path projectRoot, Path file) {
+        Path root = projectRoot.toAbsolutePath().normalize();
+        Path absolute = file.toAbsolutePath().normalize();
+        Path relative = absolute.startsWith(root) ? root.relativize(absolute) : absolute.getFileName();
+        return relative.toString().replace('\\', '/');
+    }
+
+    /**
+     * Reads an entry; unreadable entries are deleted.
+     */
+    private Optional<Entry> readEntry(String key) {
+        Path entry = entryPath(key);
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(entry))) {
+            in.setObjectInputFilter(ITEM_FILTER);
+            List<DependencyRecorder.Reference> references = new ArrayList<>();
+            for (Object reference : (List<?>) in.readObject()) {
+                references.add((DependencyRecorder.Reference) reference);
+            }
+            List<AbstractLintItem> items = new ArrayList<>();
+            for (Object item : (List<?>) in.readObject()) {
+                items.add((AbstractLintItem) item);
+            }
+            return Optional.of(new Entry(references, items));
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.debug("Lint cache: discarding unreadable entry " + entry + ": " + e.getMessage());
+            deleteQuietly(entry);
+            return Optional.empty();
+        }
+    }
+
+    private static void updateWithContent(MessageDigest digest, InputStream in) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+    }
+
+    /**
+     * Returns the implementation version of the linter, or for development builds a hash of the
+     * content of its code source, which is a JAR or a class directory.
+     */
+    private static Optional<String> detectLinterVersion() {
+        Package pkg = LintResultCache.class.getPackage();
+        String version = pkg != null ? pkg.getImplementationVersion() : null;
+        if (version != null && !version.isBlank()) {
+            return Optional.of(version);
+        }
+        try {
+            CodeSource source = LintResultCache.class.getProtectionDomain().getCodeSource();
+            if (source != null && source.getLocation() != null) {
+                return Optional.of("dev:" + hashCodeSource(Path.of(source.getLocation().toURI())));
+            }
+        } catch (Exception e) {
+            // No stable version available
+        }
+        return Optional.empty();
+    }
+
+    private static String hashCodeSource(Path location) throws IOException {
+        MessageDigest digest = sha256();
+        if (Files.isRegularFile(location)) {
+            try (InputStream in = Files.newInputStream(location)) {
+                updateWithContent(digest, in);
+            }
+        } else {
+            try (Stream<Path> files = Files.walk(location)) {
+                for (Path file : files.filter(Files::isRegularFile)
+                        .sorted(Comparator.comparing(p -> relativeName(location, p))).toList()) {
+                    update(digest, relativeName(location, file));
+                    try (InputStream in = Files.newInputStream(file)) {
+                        updateWithContent(digest, in);
+                    }
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String hash(byte[] content) {
+        return HexFormat.of().formatHex(sha256().digest(content));
+    }
+
+    private static void update(MessageDigest digest, String... parts) {
+        for (String part : parts) {
+            byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) (bytes.length >>> 24));
+            digest.update((byte) (bytes.length >>> 16));
+            digest.update((byte) (bytes.length >>> 8));
+            digest.update((byte) bytes.length);
+            digest.update(bytes);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Best effort cleanup
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.dsf.linter.util.concurrent;
+
+import dev.dsf.linter.logger.BufferedLogger;
+import dev.dsf.linter.logger.Logger;
+import dev.dsf.linter.logger.RoutingLogger;
+import dev.dsf.linter.util.api.ApiVersion;
+import dev.dsf.linter.util.api.ApiVersionHolder;
+import dev.dsf.linter.util.loader.ClassLoaderUtils;
+import dev.dsf.linter.util.resource.FhirAuthorizationCache;
+import dev.dsf.linter.util.resource.TerminologyRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs independent linting tasks on a bounded pool of virtual threads and returns their
+ * results in submission order.
+ * <p>
+ * The executor hides everything that makes concurrent linting observable from the outside:
+ * </p>
+ * <ul>
+ *   <li>the {@link ApiVersionHolder} and {@link FhirAuthorizationCache} bindings and the thread
+ *       context class loader of the submitting thread are re-established in every task</li>
+ *   <li>output of each task is captured in a {@link BufferedLogger} and replayed in submission
+ *       order, so console output and reports are identical to a sequential run</li>
+ *   <li>results are returned in submission order regardless of completion order</li>
+ * </ul>
+ * <p>
+ * With a parallelism of one, or a single task, the tasks run inline on the calling thread
+ * exactly as a plain loop would.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class OrderedParallelExecutor {
+
+    private OrderedParallelExecutor() {
+        // Utility class
+    }
+
+    /**
+     * Resolves a user supplied thread count.
+     *
+     * @param requestedThreads the requested number of worker threads; {@code 0} or a negative
+     *                         value selects the number of available processors
+     * @return the effective number of worker threads, at least {@code 1}
+     */
+    public static int resolveThreads(int requestedThreads) {
+        return requestedThreads > 0 ? requestedThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Executes all tasks and returns their results in the order of {@code tasks}.
+     * <p>
+     * If a task fails, the failure of the first failing task in submission order is reported
+     * and the remaining tasks are cancelled. Output up to and including the failing task is
+     * replayed so that diagnostics stay visible.
+     * </p>
+     *
+     * @param tasks            the tasks to execute
+     * @param parallelism      the maximum number of concurrently running tasks
+     * @param threadNamePrefix prefix for worker thread names
+     * @param logger           the logger task output is replayed to
+     * @param <T>              the result type
+     * @return the task results in submission order
+     * @throws ExecutionException   if a task throws; the cause is the original exception
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks,
+                                        int parallelism,
+                                        String threadNamePrefix,
+                                        Logger logger)
+            throws ExecutionException, InterruptedException {
+
+        int workers = Math.min(parallelism, tasks.size());
+        if (workers <= 1) {
+            return invokeSequentially(tasks);
+        }
+
+        final ApiVersion version = ApiVersionHolder.getVersion();
+        final TerminologyRegistry terminology = FhirAuthorizationCache.current();
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final RoutingLogger replayTarget = RoutingLogger.wrap(logger);
+
+        List<BufferedLogger> buffers = new ArrayList<>(tasks.size());
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        List<T> results = new ArrayList<>(tasks.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                workers, Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+        try {
+            for (Callable<T> task : tasks) {
+                BufferedLogger buffer = new BufferedLogger(logger.isVerbose());
+                buffers.add(buffer);
+                futures.add(executor.submit(() -> ApiVersionHolder.callWithVersion(version, () ->
+                        FhirAuthorizationCache.callWithRegistry(terminology, () ->
+                                RoutingLogger.callBuffered(buffer, () ->
+                                        ClassLoaderUtils.withTemporaryContextClassLoader(contextClassLoader, task))))));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } finally {
+                    buffers.get(i).replayTo(replayTarget);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    private static <T> List<T> invokeSequentially(List<? extends Callable<T>> tasks) throws ExecutionException {
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            try {
+                results.add(task.call());
+            } catch (Exception e) {
+                throw new ExecutionException(e);
+            }
+        }
+        return results;
+    }
+}
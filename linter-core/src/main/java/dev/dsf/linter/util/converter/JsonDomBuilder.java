@@ -0,0 +1,243 @@
+package dev.dsf.linter.util.converter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.dsf.linter.util.xml.DocumentBuilderPool;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a FHIR XML DOM {@link Document} directly from the Jackson token stream of a FHIR JSON resource.
+ * <p>
+ * This replaces the former round trip of reading the JSON into a tree, serializing that tree into an
+ * XML string via {@link JsonXmlConverter#convertJsonToXml(JsonNode)} and re-parsing the string. The JSON
+ * is read exactly once and no intermediate representation is kept in memory.
+ * </p>
+ *
+ * <h3>Mapping</h3>
+ * <p>
+ * The resulting document is element- and attribute-equivalent to parsing the output of
+ * {@link JsonXmlConverter#convertJsonToXml(JsonNode)} with a namespace-aware parser:
+ * </p>
+ * <ul>
+ *   <li>the root element is named after {@code resourceType} and all elements are in the FHIR namespace</li>
+ *   <li>primitive values become {@code <name value="..."/>}; {@code null} values are skipped</li>
+ *   <li>arrays produce one element per item with the same name</li>
+ *   <li>objects with a {@code resourceType} are wrapped as {@code <name><Type>...</Type></name>}</li>
+ *   <li>within other objects, the keys {@code id}, {@code sliceName} and {@code url} become attributes</li>
+ *   <li>attribute values are normalized the way an XML parser would (line breaks and tabs become spaces),
+ *       and characters that are not allowed in XML are rejected</li>
+ * </ul>
+ * <p>
+ * The only difference is that no whitespace-only text nodes are created between elements.
+ * </p>
+ *
+ * @see JsonXmlConverter
+ * @since 1.2.0
+ */
+public final class JsonDomBuilder {
+
+    /**
+     * Namespace of all FHIR XML elements.
+     */
+    public static final String FHIR_NAMESPACE = "http://hl7.org/fhir";
+
+    private static final String RESOURCE_TYPE = "resourceType";
+
+    private static final List<String> ATTRIBUTE_KEYS = List.of("id", "sliceName", "url");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonDomBuilder() {
+        // Utility class
+    }
+
+    /**
+     * Reads a FHIR JSON resource from the stream and builds its XML DOM representation.
+     *
+     * @param inputStream the JSON input; not closed by this method
+     * @return the FHIR XML document
+     * @throws IOException              if the input is not valid JSON
+     * @throws IllegalArgumentException if the JSON is not a FHIR resource or cannot be represented as XML
+     */
+    public static Document build(InputStream inputStream) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return build(parser);
+        }
+    }
+
+    /**
+     * Builds the XML DOM representation of an already parsed FHIR JSON resource.
+     *
+     * @param jsonNode the JSON resource
+     * @return the FHIR XML document
+     * @throws IOException              if the tree cannot be traversed
+     * @throws IllegalArgumentException if the JSON is not a FHIR resource or cannot be represented as XML
+     */
+    public static Document build(JsonNode jsonNode) throws IOException {
+        try (JsonParser parser = jsonNode.traverse()) {
+            return build(parser);
+        }
+    }
+
+    private static Document build(JsonParser parser) throws IOException {
+        Document doc = DocumentBuilderPool.newDocument();
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("JSON does not appear to be a FHIR resource (missing resourceType)");
+        }
+
+        ObjectContent root = readObject(parser, doc);
+        if (root.resourceType == null) {
+            throw new IllegalArgumentException("JSON does not appear to be a FHIR resource (missing resourceType)");
+        }
+
+        Element rootElement = createElement(doc, root.resourceType);
+        root.appendAllTo(rootElement);
+        doc.appendChild(rootElement);
+        return doc;
+    }
+
+    // Private helper methods
+
+    /**
+     * Reads the value at the current token, adds the elements it produces to {@code out} and
+     * returns its text as {@link JsonNode#asText()} would.
+     */
+    private static String readValue(JsonParser parser, Document doc, String name, List<Element> out)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        switch (token) {
+            case VALUE_NULL:
+                return "null";
+            case START_ARRAY:
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    readValue(parser, doc, name, out);
+                }
+                return "";
+            case START_OBJECT:
+                out.add(toElement(readObject(parser, doc), doc, name));
+                return "";
+            default:
+                String text = scalarText(parser, token);
+                Element element = createElement(doc, name);
+                element.setAttributeNS(null, "value", normalizeAttribute(text));
+                out.add(element);
+                return text;
+        }
+    }
+
+    /**
+     * Reads the object starting at the current token. The resulting elements are kept detached
+     * because only the complete object tells whether it is an embedded resource.
+     */
+    private static ObjectContent readObject(JsonParser parser, Document doc) throws IOException {
+        ObjectContent content = new ObjectContent();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            parser.nextToken();
+
+            List<Element> elements = new ArrayList<>();
+            String text = readValue(parser, doc, key, elements);
+            if (RESOURCE_TYPE.equals(key)) {
+                content.resourceType = text;
+            } else {
+                // Later duplicates replace earlier ones but keep their position, like ObjectNode
+                content.fields.put(key, new Field(text, elements));
+            }
+        }
+        return content;
+    }
+
+    private static Element toElement(ObjectContent content, Document doc, String name) {
+        Element element = createElement(doc, name);
+
+        if (content.resourceType != null) {
+            Element resource = createElement(doc, content.resourceType);
+            content.appendAllTo(resource);
+            element.appendChild(resource);
+            return element;
+        }
+
+        for (String attributeKey : ATTRIBUTE_KEYS) {
+            Field field = content.fields.get(attributeKey);
+            if (field != null) {
+                element.setAttributeNS(null, attributeKey, normalizeAttribute(field.text()));
+            }
+        }
+        for (Map.Entry<String, Field> entry : content.fields.entrySet()) {
+            if (!ATTRIBUTE_KEYS.contains(entry.getKey())) {
+                entry.getValue().elements().forEach(element::appendChild);
+            }
+        }
+        return element;
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NUMBER_INT -> parser.getNumberValue().toString();
+            case VALUE_NUMBER_FLOAT -> String.valueOf(parser.getDoubleValue());
+            case VALUE_TRUE -> "true";
+            case VALUE_FALSE -> "false";
+            default -> parser.getText();
+        };
+    }
+
+    private static Element createElement(Document doc, String name) {
+        if (name.isEmpty() || name.indexOf(':') >= 0) {
+            throw new IllegalArgumentException("Cannot represent JSON key '" + name + "' as XML element");
+        }
+        return doc.createElementNS(FHIR_NAMESPACE, name);
+    }
+
+    /**
+     * Applies XML end-of-line handling and attribute-value normalization and rejects characters
+     * that are not allowed in XML 1.0.
+     */
+    private static String normalizeAttribute(String text) {
+        StringBuilder normalized = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\r' || c == '\n' || c == '\t') {
+                if (normalized == null) {
+                    normalized = new StringBuilder(text.length()).append(text, 0, i);
+                }
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                normalized.append(' ');
+                continue;
+            }
+            if (c < 0x20 || c == 0xFFFE || c == 0xFFFF) {
+                throw new IllegalArgumentException(
+                        "Character 0x" + Integer.toHexString(c) + " is not allowed in XML");
+            }
+            if (normalized != null) {
+                normalized.append(c);
+            }
+        }
+        return normalized != null ? normalized.toString() : text;
+    }
+
+    private record Field(String text, List<Element> elements) {
+    }
+
+    private static final class ObjectContent {
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+        private String resourceType;
+
+        void appendAllTo(Element parent) {
+            fields.values().forEach(field -> field.elements().forEach(parent::appendChild));
+        }
+    }
+}
@@ -6,6 +6,10 @@ import com.fasterxml.jackson.databind.JsonNode;
  * Converts FHIR JSON resources to XML.
  * The implementation is extracted from existing linters to avoid duplication.
  * All JavaDoc and comments are in English as requested.
+ * <p>
+ * The linters themselves build documents with {@link JsonDomBuilder}, which produces the same
+ * elements and attributes without the intermediate XML string.
+ * </p>
  */
 public final class JsonXmlConverter {
 
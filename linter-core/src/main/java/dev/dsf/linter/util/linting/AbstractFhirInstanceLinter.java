@@ -1,11 +1,11 @@
 package dev.dsf.linter.util.linting;
 
 import dev.dsf.linter.output.item.FhirElementLintItem;
+import dev.dsf.linter.util.xml.XPathRegistry;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.*;
 import java.io.File;
 import java.util.List;
 
@@ -61,7 +61,7 @@ public abstract class AbstractFhirInstanceLinter
     public abstract List<?> lint(Document document, File resourceFile);
 
     /*
-      Shared XPath helpers (unchanged)
+      Shared XPath helpers, backed by the compiled expressions of XPathRegistry
        */
 
     /**
@@ -75,8 +75,7 @@ public abstract class AbstractFhirInstanceLinter
     {
         try
         {
-            XPath xPath = XPathFactory.newInstance().newXPath();
-            return (NodeList) xPath.compile(xpathExpr).evaluate(doc, XPathConstants.NODESET);
+            return XPathRegistry.nodes(doc, xpathExpr);
         }
         catch (Exception e)
         {
@@ -95,8 +94,7 @@ public abstract class AbstractFhirInstanceLinter
     {
         try
         {
-            XPath xPath = XPathFactory.newInstance().newXPath();
-            return (NodeList) xPath.compile(relativeExpr).evaluate(node, XPathConstants.NODESET);
+            return XPathRegistry.nodes(node, relativeExpr);
         }
         catch (Exception e)
         {
@@ -3,19 +3,42 @@ package dev.dsf.linter.util.linting;
 import dev.dsf.linter.output.LinterSeverity;
 import dev.dsf.linter.output.item.*;
 import dev.dsf.linter.output.item.AbstractLintItem;
+import dev.dsf.linter.util.cache.ConcurrentCache;
 import dev.dsf.linter.util.resource.ResourceResolutionResult;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class LintingUtils {
 
+    /**
+     * Upper bound for memoized start directories of {@link #getProjectRoot(Path)}.
+     */
+    private static final int MAX_CACHED_DIRECTORIES = 4096;
+
+    private static final ConcurrentCache<Path, File> PROJECT_ROOT_CACHE =
+            ConcurrentCache.<Path, File>builder()
+                    .maximumSize(MAX_CACHED_DIRECTORIES)
+                    .build();
+
+    /**
+     * Memoized marker for directories without a project root above them.
+     */
+    private static final File NO_PROJECT_ROOT = new File("");
+
+    private static final Set<Path> RUN_PROJECT_ROOTS = ConcurrentHashMap.newKeySet();
+
+    private static volatile Optional<File> configuredRoot;
+
     /**
      * Computes the count of ERROR, WARNING, and INFO severities for a given list of linting items.
      */
@@ -114,6 +137,8 @@ public class LintingUtils {
      *   <li><strong>Explicit configuration:</strong> Checks for system property {@code dsf.projectRoot}
      *       or environment variable {@code DSF_PROJECT_ROOT}. If either is set and points to a valid
      *       directory, that path is returned.</li>
+     *   <li><strong>Current run:</strong> If the file lies below a project root registered with
+     *       {@link #registerProjectRoot(File)}, that root is returned.</li>
      *   <li><strong>Maven project:</strong> Looks for {@code pom.xml} file</li>
      *   <li><strong>Maven/Gradle workspace:</strong> Looks for {@code src/} directory</li>
      *   <li><strong>Exploded JAR / CI layout:</strong> Looks for {@code fhir/} directory</li>
@@ -125,6 +150,14 @@ public class LintingUtils {
      * and exploded JAR scenarios.
      * </p>
      *
+     * <h3>Caching</h3>
+     * <p>
+     * The explicit configuration is read once, and the result of the directory traversal is
+     * memoized for the start directory and every directory passed on the way up, so files in the
+     * same or neighbouring directories do not repeat the file system checks. Both are dropped by
+     * {@link #clearProjectRootCache()}.
+     * </p>
+     *
      * @param filePath the path to start searching from (typically a resource file path)
      * @return the project root directory, or the parent of the file as a fallback
      */
@@ -134,40 +167,123 @@ public class LintingUtils {
         }
 
         // Strategy 1: Explicit configuration (system property or environment variable)
-        String cfg = Optional.ofNullable(System.getProperty("dsf.projectRoot"))
-                .orElse(System.getenv("DSF_PROJECT_ROOT"));
-        if (cfg != null && !cfg.isBlank()) {
-            File dir = new File(cfg);
-            if (dir.isDirectory()) {
-                return dir;
-            }
+        Optional<File> configured = configuredProjectRoot();
+        if (configured.isPresent()) {
+            return configured.get();
         }
 
-        // Strategy 2-4: Implicit discovery by traversing up the directory tree
-        Path current = filePath.getParent();
-        while (current != null) {
-            // Strategy 2: Maven project (pom.xml)
-            if (Files.exists(current.resolve("pom.xml"))) {
-                return current.toFile();
-            }
+        // Strategy 2: Project root of the current run
+        Path start = filePath.getParent();
+        if (start == null) {
+            return new File(".");
+        }
+        Optional<File> registered = registeredProjectRoot(start);
+        if (registered.isPresent()) {
+            return registered.get();
+        }
 
-            // Strategy 3: Maven/Gradle workspace (src/ directory)
-            if (Files.isDirectory(current.resolve("src"))) {
-                return current.toFile();
+        // Strategy 3-5: Implicit discovery by traversing up the directory tree
+        List<Path> visited = new ArrayList<>();
+        Path current = start;
+        while (current != null) {
+            Optional<File> known = PROJECT_ROOT_CACHE.get(current);
+            if (known.isPresent()) {
+                remember(visited, known.get());
+                return known.get() == NO_PROJECT_ROOT ? start.toFile() : known.get();
             }
+            visited.add(current);
 
-            // Strategy 4: Exploded JAR / CI layout (fhir/ directory)
-            if (Files.isDirectory(current.resolve("fhir"))) {
-                return current.toFile();
+            if (isProjectRoot(current)) {
+                File root = current.toFile();
+                remember(visited, root);
+                return root;
             }
 
             current = current.getParent();
         }
 
         // Fallback: return parent of file
-        return filePath.getParent() != null ? filePath.getParent().toFile() : new File(".");
+        remember(visited, NO_PROJECT_ROOT);
+        return start.toFile();
+    }
+
+    /**
+     * Registers the root of a project that is being linted, so that
+     * {@link #getProjectRoot(Path)} returns it for all files below it without traversing the
+     * directory tree. Roots of projects linted concurrently may be registered side by side;
+     * for nested roots the innermost one wins.
+     *
+     * @param projectRoot the project root directory
+     * @since 1.2.0
+     */
+    public static void registerProjectRoot(File projectRoot) {
+        RUN_PROJECT_ROOTS.add(projectRoot.toPath().toAbsolutePath().normalize());
     }
 
+    /**
+     * Removes a project root registered with {@link #registerProjectRoot(File)}.
+     *
+     * @param projectRoot the project root directory
+     * @since 1.2.0
+     */
+    public static void unregisterProjectRoot(File projectRoot) {
+        RUN_PROJECT_ROOTS.remove(projectRoot.toPath().toAbsolutePath().normalize());
+    }
+
+    /**
+     * Drops the memoized explicit configuration and directory traversal results of
+     * {@link #getProjectRoot(Path)}. Should be called at the end of a linting run.
+     *
+     * @since 1.2.0
+     */
+    public static void clearProjectRootCache() {
+        configuredRoot = null;
+        PROJECT_ROOT_CACHE.clear();
+    }
+
+    private static Optional<File> configuredProjectRoot() {
+        Optional<File> current = configuredRoot;
+        if (current == null) {
+            String cfg = Optional.ofNullable(System.getProperty("dsf.projectRoot"))
+                    .orElse(System.getenv("DSF_PROJECT_ROOT"));
+            current = (cfg != null && !cfg.isBlank() && new File(cfg).isDirectory())
+                    ? Optional.of(new File(cfg))
+                    : Optional.empty();
+            configuredRoot = current;
+        }
+        return current;
+    }
+
+    private static Optional<File> registeredProjectRoot(Path directory) {
+        if (RUN_PROJECT_ROOTS.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path normalized = directory.toAbsolutePath().normalize();
+        return RUN_PROJECT_ROOTS.stream()
+                .filter(normalized::startsWith)
+                .max(Comparator.comparingInt(Path::getNameCount))
+                .map(Path::toFile);
+    }
+
+    private static boolean isProjectRoot(Path directory) {
+        // Maven project (pom.xml)
+        if (Files.exists(directory.resolve("pom.xml"))) {
+            return true;
+        }
+
+        // Maven/Gradle workspace (src/ directory)
+        if (Files.isDirectory(directory.resolve("src"))) {
+            return true;
+        }
+
+        // Exploded JAR / CI layout (fhir/ directory)
+        return Files.isDirectory(directory.resolve("fhir"));
+    }
+
+    private static void remember(List<Path> directories, File root) {
+        directories.forEach(directory -> PROJECT_ROOT_CACHE.put(directory, root));
+    }
 
     /**
      * Filters lint items by the specified severity.
@@ -0,0 +1,211 @@
+package dev.dsf.linter.util.resource;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Extracts the URL and the concept codes of a FHIR {@code CodeSystem} with a streaming reader.
+ * <p>
+ * Seeding the terminology registry needs nothing but {@code CodeSystem.url} and the
+ * {@code code} of every concept, including nested concepts. Instead of building a DOM or a Jackson
+ * tree, the resource is read token by token with StAX or the Jackson streaming parser, and only
+ * these values are kept. The root element, or the {@code resourceType} of a JSON resource, is
+ * checked first, so other resources are skipped after a few tokens.
+ * </p>
+ *
+ * @see FhirAuthorizationCache
+ * @since 1.2.0
+ */
+final class CodeSystemReader {
+
+    private static final String CODE_SYSTEM = "CodeSystem";
+    private static final String CONCEPT = "concept";
+    private static final String CODE = "code";
+    private static final String URL = "url";
+    private static final String VALUE = "value";
+
+    private static final XMLInputFactory XML_FACTORY = createXmlFactory();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * URL and concept codes of a {@code CodeSystem}.
+     *
+     * @param system the CodeSystem URL
+     * @param codes  the codes of all concepts, including nested concepts
+     */
+    record CodeSystem(String system, Set<String> codes) {}
+
+    private CodeSystemReader() {
+        // Utility class
+    }
+
+    /**
+     * Reads a {@code CodeSystem} in FHIR XML.
+     *
+     * @param in the XML input; not closed by this method
+     * @return the CodeSystem, or {@code null} if the resource is not a CodeSystem with a URL and codes
+     * @throws IOException if the input is not well-formed XML
+     */
+    static CodeSystem readXml(InputStream in) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_FACTORY.createXMLStreamReader(in);
+
+            if (reader.nextTag() != XMLStreamConstants.START_ELEMENT
+                    || !CODE_SYSTEM.equals(reader.getLocalName())) {
+                return null;
+            }
+
+            String system = null;
+            Set<String> codes = new LinkedHashSet<>();
+            // Names of the open elements below the root
+            Deque<String> path = new ArrayDeque<>();
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    String parent = path.peek();
+
+                    if (parent == null && URL.equals(name)) {
+                        system = reader.getAttributeValue(null, VALUE);
+                    } else if (CODE.equals(name) && CONCEPT.equals(parent)) {
+                        addCode(codes, reader.getAttributeValue(null, VALUE));
+                    }
+                    path.push(name);
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (path.poll() == null) {
+                        break;
+                    }
+                }
+            }
+
+            return codeSystem(system, codes);
+        } catch (XMLStreamException e) {
+            throw new IOException("CodeSystem XML parsing failed: " + e.getMessage(), e);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Reads a {@code CodeSystem} in FHIR JSON.
+     *
+     * @param in the JSON input; not closed by this method
+     * @return the CodeSystem, or {@code null} if the resource is not a CodeSystem with a URL and codes
+     * @throws IOException if the input is not valid JSON
+     */
+    static CodeSystem readJson(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            String resourceType = null;
+            String system = null;
+            Set<String> codes = new LinkedHashSet<>();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "resourceType" -> {
+                        resourceType = parser.getValueAsString();
+                        if (!CODE_SYSTEM.equals(resourceType)) {
+                            return null;
+                        }
+                    }
+                    case URL -> {
+                        if (value == JsonToken.VALUE_STRING) {
+                            system = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case CONCEPT -> readJsonConcepts(parser, codes);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return CODE_SYSTEM.equals(resourceType) ? codeSystem(system, codes) : null;
+        }
+    }
+
+    /**
+     * Reads a {@code concept} array, positioned at its start, including nested concepts.
+     */
+    private static void readJsonConcepts(JsonParser parser, Set<String> codes) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (CODE.equals(field) && value.isScalarValue()) {
+                    addCode(codes, parser.getText());
+                } else if (CONCEPT.equals(field)) {
+                    readJsonConcepts(parser, codes);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void addCode(Set<String> codes, String code) {
+        if (code != null && !code.isBlank()) {
+            codes.add(code);
+        }
+    }
+
+    private static CodeSystem codeSystem(String system, Set<String> codes) {
+        if (system == null || system.isBlank() || codes.isEmpty()) {
+            return null;
+        }
+        return new CodeSystem(system, Collections.unmodifiableSet(codes));
+    }
+
+    private static XMLInputFactory createXmlFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Best effort cleanup
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.dsf.linter.util.resource;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
@@ -14,9 +15,10 @@ import java.util.stream.Stream;
  * a match is found.
  * </p>
  * <p>
- * Resource entries are deduplicated when listing to avoid duplicate entries from
- * multiple providers. The first provider that contains a resource is used when
- * opening resources.
+ * The first provider that contains a resource is used when opening resources, and
+ * listings follow the same rule: each provider lists every entry once, so only entries
+ * already listed by an earlier provider are dropped. The entries of the last provider
+ * are never tracked, and a single provider's listing is passed through unchanged.
  * </p>
  *
  * @param <T> the type of resource entries produced by this provider
@@ -26,7 +28,7 @@ import java.util.stream.Stream;
  * @see FileSystemResourceProvider
  */
 public record CompositeResourceProvider<T>(List<ResourceProvider<T>> providers,
-                                           String resourceTypeName) implements ResourceProvider<T> {
+                                           String resourceTypeName) implements ResourceProvider<T>, Closeable {
 
     /**
      * Creates a composite resource provider from a list of providers.
@@ -61,9 +63,15 @@ public record CompositeResourceProvider<T>(List<ResourceProvider<T>> providers,
 
     @Override
     public Stream<T> listResources(String directory) {
-        return providers.stream()
-                .flatMap(provider -> provider.listResources(directory))
-                .distinct();
+        if (providers.size() == 1) {
+            return providers.getFirst().listResources(directory);
+        }
+
+        Set<T> listed = new HashSet<>();
+        int last = providers.size() - 1;
+        return Stream.iterate(0, i -> i <= last, i -> i + 1)
+                .flatMap(i -> providers.get(i).listResources(directory)
+                        .filter(i < last ? listed::add : entry -> !listed.contains(entry)));
     }
 
     @Override
@@ -89,4 +97,21 @@ public record CompositeResourceProvider<T>(List<ResourceProvider<T>> providers,
                 resourceTypeName,
                 providers.size());
     }
+
+    /**
+     * Closes every underlying provider that holds resources (e.g. open JAR files).
+     * Failures of individual providers do not prevent the remaining ones from being closed.
+     */
+    @Override
+    public void close() {
+        for (ResourceProvider<T> provider : providers) {
+            if (provider instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    // Best effort cleanup
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -1,24 +1,17 @@
 package dev.dsf.linter.util.resource;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathFactory;
 import java.io.*;
 import java.net.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.jar.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 import dev.dsf.linter.logger.Logger;
+import dev.dsf.linter.util.cache.ConcurrentCache;
+import dev.dsf.linter.util.cache.DependencyRecorder;
+import dev.dsf.linter.util.concurrent.OrderedParallelExecutor;
 
 import static dev.dsf.linter.classloading.ProjectClassLoaderFactory.getOrCreateProjectClassLoader;
 
@@ -34,18 +27,39 @@ import static dev.dsf.linter.classloading.ProjectClassLoaderFactory.getOrCreateP
  *
  * <h3>Main Responsibilities</h3>
  * <ul>
- *   <li>Registers core DSF {@code CodeSystem} entries at startup</li>
- *   <li>Dynamically discovers additional {@code CodeSystem} definitions by scanning
- *       {@code src/main/resources/fhir/CodeSystem} directories</li>
- *   <li>Supports fast lookup of known codes per system for linting use cases</li>
- *   <li>Offers utilities to register, clear, and debug the contents of the cache</li>
+ *   <li>Registers core DSF {@code CodeSystem} entries as the shared built-in layer</li>
+ *   <li>Builds one {@link TerminologyRegistry} per project, layering the CodeSystems found in
+ *       dependency JARs and those declared by the project on top of the built-in codes</li>
+ *   <li>Supports fast lookup of known codes per system, and of systems per code, for linting use cases</li>
+ *   <li>Offers utilities to register, reset, and debug the contents of the cache</li>
  *   <li>Loads both XML and JSON CodeSystem definitions</li>
  * </ul>
  *
+ * <h3>Per-Project Registries</h3>
+ * <p>
+ * {@link #seedFromProjectAndClasspath(File)} builds the immutable registry of a project, or
+ * reuses the one built before. A run binds its registry with
+ * {@link #callWithRegistry(TerminologyRegistry, Callable)} for the duration of linting, and the
+ * static lookup methods consult the registry bound to the calling scope. Outside such a scope
+ * they consult the built-in codes plus those added through {@link #register(String, Set)}.
+ * Codes of one project therefore never leak into the lookups of another project, even if both
+ * are linted concurrently by the same process. {@link #release(File)} discards the registry of a
+ * project at the end of its run.
+ * </p>
+ * <p>
+ * Each lookup is reported to the {@link DependencyRecorder} of the file being linted, by
+ * CodeSystem URL or, for {@link #findSystemsContainingCode(String)}, by code;
+ * {@link #resolve(DependencyRecorder.Kind, String)} repeats it against the current registry.
+ * </p>
+ *
  * <h3>Concurrency</h3>
  * <p>
- * Internally, the class uses a {@link ConcurrentHashMap} with thread-safe sets to store code
- * values per system. It is safe to use concurrently across threads during linting.
+ * Registries are immutable and bound through a {@link ScopedValue}, so lookups are safe from any
+ * thread and never block. Tasks handed to other threads do not inherit the binding;
+ * {@link dev.dsf.linter.util.concurrent.OrderedParallelExecutor} re-establishes it in every task.
+ * Seeding is serialized so that concurrent seeds do not interleave their debug output. Within one
+ * seed, the CodeSystem files are read in parallel by a streaming reader that extracts only the URL
+ * and concept codes and skips other resources after their root element.
  * </p>
  *
  * <h3>Debugging</h3>
@@ -57,10 +71,13 @@ import static dev.dsf.linter.classloading.ProjectClassLoaderFactory.getOrCreateP
  * <h3>Usage</h3>
  * <pre>{@code
  * FhirAuthorizationCache.setLogger(logger);
- * FhirAuthorizationCache.seedFromProjectFolder(projectDir);
- * if (FhirAuthorizationCache.isUnknown("http://dsf.dev/fhir/CodeSystem/practitioner-role", "HRP_USER")) {
- *     // handle missing code
- * }
+ * TerminologyRegistry registry = FhirAuthorizationCache.seedFromProjectAndClasspath(projectDir);
+ * FhirAuthorizationCache.callWithRegistry(registry, () -> {
+ *     if (FhirAuthorizationCache.isUnknown("http://dsf.dev/fhir/CodeSystem/practitioner-role", "HRP_USER")) {
+ *         // handle missing code
+ *     }
+ *     return null;
+ * });
  * }</pre>
  *
  */
@@ -92,39 +109,100 @@ public final class FhirAuthorizationCache
      */
     public static final String CS_TASK_STATUS = "http://hl7.org/fhir/task-status";
 
-    private static Logger logger;
+    private static volatile Logger logger;
+
+    /**
+     * Upper bound for cached project registries; the least recently used one is evicted beyond it.
+     */
+    private static final int MAX_PROJECT_REGISTRIES = 16;
+
+    /**
+     * Systems with more codes are summarized without listing their codes in verbose output.
+     */
+    private static final int MAX_LOGGED_CODES = 50;
 
-    private static final Map<String, Set<String>> CODES_BY_SYSTEM = new ConcurrentHashMap<>();
+    private static final TerminologyRegistry BUILT_INS = TerminologyRegistry.empty()
+            .withLayer(TerminologyRegistry.Layer.BUILT_IN, builtInCodes());
 
-    static
+    private static final ConcurrentCache<String, TerminologyRegistry> PROJECT_REGISTRIES =
+            ConcurrentCache.<String, TerminologyRegistry>builder()
+                    .maximumSize(MAX_PROJECT_REGISTRIES)
+                    .build();
+
+    private static final ScopedValue<TerminologyRegistry> SCOPED_REGISTRY = ScopedValue.newInstance();
+
+    /**
+     * Registry consulted outside a {@link #callWithRegistry} scope: the built-in codes plus the
+     * codes added through {@link #register(String, Set)}.
+     */
+    private static volatile TerminologyRegistry unscoped = BUILT_INS;
+
+    /**
+     * Returns the official DSF codes (release v1.7) and the FHIR Task status codes.
+     */
+    private static Map<String, Set<String>> builtInCodes()
     {
-        // Register official DSF codes (release v1.7)
-        register(CS_PROCESS_AUTH, Set.of(
+        Map<String, Set<String>> codes = new LinkedHashMap<>();
+
+        // Official DSF codes (release v1.7)
+        codes.put(CS_PROCESS_AUTH, Set.of(
                 "LOCAL_ALL", "LOCAL_ALL_PRACTITIONER", "LOCAL_ORGANIZATION",
                 "LOCAL_ORGANIZATION_PRACTITIONER", "LOCAL_ROLE", "LOCAL_ROLE_PRACTITIONER",
                 "REMOTE_ALL", "REMOTE_ORGANIZATION", "REMOTE_ROLE"));
 
-        register(CS_READ_ACCESS, Set.of(
+        codes.put(CS_READ_ACCESS, Set.of(
                 "ALL", "LOCAL", "ORGANIZATION", "ROLE"));
 
-        register(CS_PRACT_ROLE, Set.of(
+        codes.put(CS_PRACT_ROLE, Set.of(
                 "DSF_ADMIN", "UAC_USER", "COS_USER", "CRR_USER", "DIC_USER", "DMS_USER",
                 "DTS_USER", "HRP_USER", "TTP_USER", "AMS_USER", "ORGANIZATION_USER"));
 
-        register(CS_ORG_ROLE, Set.of(
-                "COORDINATOR", "DATA_PROVIDER", "TTP", "RESEARCH_STUDY", "HRP", "QA"));
-
-        register(CS_ORG_ROLE, Set.of( "UAC", "COS", "CRR", "DIC", "DMS", "DTS", "HRP",
-                "TTP", "AMS"));
+        codes.put(CS_ORG_ROLE, Set.of(
+                "COORDINATOR", "DATA_PROVIDER", "TTP", "RESEARCH_STUDY", "HRP", "QA",
+                "UAC", "COS", "CRR", "DIC", "DMS", "DTS", "AMS"));
 
-        register(CS_TASK_STATUS, Set.of(
+        codes.put(CS_TASK_STATUS, Set.of(
                 "draft", "requested", "received", "accepted", "rejected", "ready",
                 "cancelled", "in-progress", "on-hold", "failed", "completed", "entered-in-error"));
 
+        return codes;
     }
 
     private FhirAuthorizationCache() { /* Utility class – no instantiation */ }
 
+    /**
+     * Discards the registry of a project. Called at the end of the project's linting run; scopes
+     * that still have the registry bound keep using it.
+     *
+     * @param projectRoot the project root directory
+     * @since 1.2.0
+     */
+    public static void release(File projectRoot)
+    {
+        PROJECT_REGISTRIES.remove(canonicalKey(projectRoot));
+    }
+
+    /**
+     * Executes the given action with the registry bound for its whole dynamic extent, so that the
+     * static lookup methods called by the action consult it.
+     * <p>
+     * Tasks handed to other threads do not inherit the binding; they must be wrapped with this
+     * method again using {@link #current()} captured on the submitting thread.
+     * </p>
+     *
+     * @param registry the registry to bind; must not be null
+     * @param action   the action to execute
+     * @param <T>      the result type of the action
+     * @return the result of the action
+     * @throws Exception if the action throws
+     * @since 1.2.0
+     */
+    public static <T> T callWithRegistry(TerminologyRegistry registry, Callable<T> action) throws Exception
+    {
+        Objects.requireNonNull(registry, "registry must not be null");
+        return ScopedValue.where(SCOPED_REGISTRY, registry).call(action::call);
+    }
+
     /**
      * Sets the logger instance used for debug output.
      * This method must be called before {@link #seedFromProjectAndClasspath(File)}.
@@ -136,202 +214,214 @@ public final class FhirAuthorizationCache
     }
 
     /**
-     * Registers or merges a given set of codes under the specified CodeSystem URI.
-     * If the system does not exist yet, it will be initialized automatically.
+     * Registers or merges a given set of codes under the specified CodeSystem URL. The codes are
+     * added as a project layer to the registry consulted outside a {@link #callWithRegistry} scope;
+     * registries of seeded projects are not affected.
      *
      * @param system the CodeSystem URI
      * @param codes  the set of code strings to register
      */
-    public static void register(String system, Set<String> codes)
+    public static synchronized void register(String system, Set<String> codes)
     {
         if (system == null || codes == null || codes.isEmpty()) return;
-        CODES_BY_SYSTEM.computeIfAbsent(system, s -> ConcurrentHashMap.newKeySet())
-                .addAll(codes);
+        unscoped = unscoped.withLayer(TerminologyRegistry.Layer.PROJECT, Map.of(system, codes));
     }
 
     /**
-     * Determines whether a code is unknown for a given CodeSystem URI.
-     * This method returns {@code true} only if the code is not registered
-     * (i.e., is invalid or unsupported).
+     * Returns the registry consulted by the static lookup methods: the registry bound by the
+     * enclosing {@link #callWithRegistry} scope, or the built-in registry with the codes added
+     * through {@link #register(String, Set)} otherwise.
      *
-     * @param system the CodeSystem URI
-     * @param code   the code string to check
-     * @return {@code true} if the code is unknown for the system; otherwise {@code false}
+     * @return the current registry
+     * @since 1.2.0
      */
-    public static boolean isUnknown(String system, String code)
+    public static TerminologyRegistry current()
     {
-        if (system == null || code == null || code.isBlank()) return false;
-        Set<String> known = CODES_BY_SYSTEM.get(system);
-        if (known != null) return !known.contains(code);
-        return true;
+        return SCOPED_REGISTRY.isBound() ? SCOPED_REGISTRY.get() : unscoped;
     }
 
     /**
-     * Parses a single {@code CodeSystem} XML file and registers its system and code elements
-     * if valid and well-formed.
+     * Returns the registry of a project, building it on first request. Unlike
+     * {@link #seedFromProjectAndClasspath(File)}, this does not print the registry statistics.
      *
-     * @param xml the path to the XML file
+     * @param projectRoot the project root directory
+     * @return the registry of built-in, dependency, and project CodeSystems
+     * @since 1.2.0
      */
-    private static void loadSingleCodeSystem(Path xml)
+    public static TerminologyRegistry forProject(File projectRoot)
     {
-        try (FileInputStream fis = new FileInputStream(xml.toFile()))
-        {
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            dbf.setNamespaceAware(true);
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.parse(fis);
-
-            if (!"CodeSystem".equals(doc.getDocumentElement().getLocalName())) return;
-
-            String system = (String) XPathFactory.newInstance().newXPath()
-                    .compile("/*[local-name()='CodeSystem']/*[local-name()='url']/@value")
-                    .evaluate(doc, XPathConstants.STRING);
-            if (system == null || system.isBlank()) return;
-
-            NodeList nodes = (NodeList) XPathFactory.newInstance().newXPath()
-                    .compile("/*[local-name()='CodeSystem']/*[local-name()='concept']/*[local-name()='code']/@value")
-                    .evaluate(doc, XPathConstants.NODESET);
-            if (nodes == null || nodes.getLength() == 0) return;
-
-            Set<String> codes = ConcurrentHashMap.newKeySet(nodes.getLength());
-            for (int i = 0; i < nodes.getLength(); i++)
-                codes.add(nodes.item(i).getTextContent());
-
-            register(system, codes);
-
-            logger.debug(String.format("[Cache-DEBUG] %s → %s (%,d codes)",
-                        xml.getFileName(), system, codes.size()));
-        }
-        catch (Exception ignore) { /* invalid or non-parsable XML */ }
+        Objects.requireNonNull(projectRoot, "projectRoot");
+        return PROJECT_REGISTRIES.getOrCreate(canonicalKey(projectRoot), key -> buildRegistry(projectRoot));
     }
 
     /**
-     * Parses a single {@code CodeSystem} JSON file and registers its system and code elements
-     * if valid and well-formed.
+     * Determines whether a code is unknown for a given CodeSystem URI.
+     * This method returns {@code true} only if the code is not registered
+     * (i.e., is invalid or unsupported).
      *
-     * @param json the path to the JSON file
+     * @param system the CodeSystem URI
+     * @param code   the code string to check
+     * @return {@code true} if the code is unknown for the system; otherwise {@code false}
      */
-    private static void loadJsonFile(Path json)
+    public static boolean isUnknown(String system, String code)
     {
-        try (InputStream in = Files.newInputStream(json)) {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(in);
-
-            if (root == null || !"CodeSystem".equals(root.path("resourceType").asText())) return;
-
-            String systemUrl = root.path("url").asText();
-            if (systemUrl == null || systemUrl.isBlank()) return;
-
-            // Collect all codes from concept (including nested concepts)
-            Set<String> codes = new HashSet<>();
-            collectJsonConceptCodes(root.path("concept"), codes);
-
-            if (!codes.isEmpty()) {
-                register(systemUrl, codes);
-
-                logger.debug(String.format("[Cache-DEBUG] JSON loaded %s → %s (%,d codes)",
-                        json.getFileName(), systemUrl, codes.size()));
-            }
-        }
-        catch (Exception e) {
-                logger.debug("[CodeSystem-Cache] Failed to parse JSON " + json + ": " + e.getMessage());
-        }
+        recordSystem(system);
+        return current().isUnknown(system, code);
     }
 
     /**
-     * Recursively extracts code values from JSON concept nodes.
+     * Resolves a terminology lookup recorded by a {@link DependencyRecorder} against the current
+     * registry, without recording it again.
      *
-     * @param node the JSON node containing concept definitions
-     * @param out  the set to collect code values into
+     * @param kind   {@link DependencyRecorder.Kind#CODE_SYSTEM} or {@link DependencyRecorder.Kind#CODE}
+     * @param target the CodeSystem URL or the code
+     * @return the fingerprint of the system's codes, or the sorted systems containing the code
+     * @throws IllegalArgumentException if the kind does not denote a terminology lookup
+     * @since 1.2.0
      */
-    private static void collectJsonConceptCodes(JsonNode node, Set<String> out)
+    public static String resolve(DependencyRecorder.Kind kind, String target)
     {
-        if (node == null || node.isNull()) return;
-
-        if (node.isArray()) {
-            for (JsonNode concept : node) {
-                JsonNode code = concept.get("code");
-                if (code != null && code.isValueNode() && !code.asText().isBlank()) {
-                    out.add(code.asText());
-                }
-                // Recurse into nested concepts, if present
-                collectJsonConceptCodes(concept.get("concept"), out);
-            }
-        }
+        TerminologyRegistry registry = current();
+        return switch (kind) {
+            case CODE_SYSTEM -> registry.fingerprint(target);
+            case CODE -> String.join(",", new TreeSet<>(registry.systemsContainingCode(target)));
+            default -> throw new IllegalArgumentException("Not a terminology lookup: " + kind);
+        };
     }
 
     /**
-     * Outputs the current CodeSystem cache statistics to the logger.
-     * Only visible if verbose logging is enabled.
-     * Shows both code count and individual code values for each system.
+     * Outputs the statistics of a registry to the logger.
+     * Only visible if verbose logging is enabled; otherwise no message is built at all.
+     * Shows the layer and code count for each system, and the individual codes of systems with
+     * up to {@value #MAX_LOGGED_CODES} codes.
      */
-    private static void dumpStatistics()
+    private static void dumpStatistics(TerminologyRegistry registry)
     {
+        if (!logger.isVerbose()) return;
+
         logger.debug("=== CodeSystem cache (summary) ===");
-        CODES_BY_SYSTEM.forEach((sys, set) -> {
-            logger.debug(String.format(" • %s → %,d code(s)", sys, set.size()));
-            set.forEach(code -> logger.debug("   - " + code));
+        registry.codesBySystem().forEach((sys, set) -> {
+            logger.debug(String.format(" • %s → %,d code(s) [%s]", sys, set.size(), registry.layerOf(sys)));
+            if (set.size() <= MAX_LOGGED_CODES) {
+                set.forEach(code -> logger.debug("   - " + code));
+            }
         });
         logger.debug("==================================");
     }
 
     /**
      * Seeds the CodeSystem cache from both the project directory (disk) and the project classpath
-     * (dependencies & plugin JAR). Keeps parsing logic centralized by materializing classpath resources
-     * to temporary files.
+     * (dependencies & plugin JAR) and returns the resulting project registry, which the caller
+     * binds with {@link #callWithRegistry(TerminologyRegistry, Callable)}.
+     * Classpath resources inside JARs are read into memory and parsed through the same path as
+     * files on disk; nothing is written to temporary files.
      *
      * @param projectRoot the root of the project used to determine base traversal path and classpath setup
+     * @return the registry of built-in, dependency, and project CodeSystems
      */
-    public static void seedFromProjectAndClasspath(File projectRoot)
+    public static synchronized TerminologyRegistry seedFromProjectAndClasspath(File projectRoot)
     {
-        Objects.requireNonNull(projectRoot, "projectRoot");
-        Set<File> allCodeSystemFiles = new LinkedHashSet<>(findCodeSystemsOnDisk(projectRoot));
+        TerminologyRegistry registry = forProject(projectRoot);
+        dumpStatistics(registry);
+        return registry;
+    }
+
+    /**
+     * Builds the registry of a project: built-in codes, then CodeSystems from dependency JARs,
+     * then CodeSystems in the project directory.
+     */
+    private static TerminologyRegistry buildRegistry(File projectRoot)
+    {
+        // 1) Disk scan: CodeSystems declared by the project
+        Map<File, VirtualResource> projectCodeSystems = new LinkedHashMap<>();
+        findCodeSystemsOnDisk(projectRoot).forEach(cs -> projectCodeSystems.putIfAbsent(cs.location(), cs));
 
         // 2) Classpath scan: fhir/CodeSystem/*.xml and *.json from dependency JARs or directories
+        Map<File, VirtualResource> dependencyCodeSystems = new LinkedHashMap<>();
         try {
             ClassLoader cl = getOrCreateProjectClassLoader(projectRoot);
-            allCodeSystemFiles.addAll(findCodeSystemsOnClasspath(cl));
+            Path root = projectRoot.toPath().toAbsolutePath().normalize();
+            for (VirtualResource cs : findCodeSystemsOnClasspath(cl, projectRoot)) {
+                if (projectCodeSystems.containsKey(cs.location())) continue;
+                // Directories of the project on the classpath belong to the project, JAR entries to dependencies
+                boolean inProject = Files.isRegularFile(cs.location().toPath())
+                        && cs.location().toPath().toAbsolutePath().normalize().startsWith(root);
+                (inProject ? projectCodeSystems : dependencyCodeSystems).putIfAbsent(cs.location(), cs);
+            }
         } catch (Exception e) {
             logger.debug("[CodeSystem-Cache] Failed to scan classpath: " + e.getMessage());
             // keep going; disk results might still be sufficient
         }
 
-        // 3) Feed everything through the same parse path you already use
-        for (File cs : allCodeSystemFiles) {
-            loadCodeSystemFile(cs);
+        // 3) Feed everything through the same parse path, one layer per origin
+        return BUILT_INS
+                .withLayer(TerminologyRegistry.Layer.DEPENDENCY, loadCodeSystems(dependencyCodeSystems.values()))
+                .withLayer(TerminologyRegistry.Layer.PROJECT, loadCodeSystems(projectCodeSystems.values()));
+    }
+
+    /**
+     * Reads CodeSystems in parallel and merges their codes per system in the order of
+     * {@code codeSystems}.
+     */
+    private static Map<String, Set<String>> loadCodeSystems(Collection<VirtualResource> codeSystems)
+    {
+        List<Callable<CodeSystemReader.CodeSystem>> tasks = codeSystems.stream()
+                .<Callable<CodeSystemReader.CodeSystem>>map(cs -> () -> loadCodeSystem(cs))
+                .toList();
+
+        List<CodeSystemReader.CodeSystem> loaded;
+        try {
+            loaded = OrderedParallelExecutor.invokeAll(tasks,
+                    OrderedParallelExecutor.resolveThreads(0), "dsf-linter-codesystem-", logger);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("CodeSystem loading failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading CodeSystems", e);
         }
 
-        dumpStatistics();
+        Map<String, Set<String>> codes = new LinkedHashMap<>();
+        for (CodeSystemReader.CodeSystem cs : loaded) {
+            if (cs != null) {
+                codes.computeIfAbsent(cs.system(), s -> new LinkedHashSet<>()).addAll(cs.codes());
+            }
+        }
+        return codes;
     }
 
     // ---- Helper methods ----
 
     /**
-     * Returns CodeSystem files under typical project locations (no changes to your current logic).
+     * Returns CodeSystem files directly in typical project locations, taken from the shared
+     * {@link ProjectIndex}.
      */
-    private static Collection<File> findCodeSystemsOnDisk(File projectRoot)
+    private static Collection<VirtualResource> findCodeSystemsOnDisk(File projectRoot)
     {
         List<String> candidates = List.of(
                 "src/main/resources/fhir/CodeSystem",
                 "target/classes/fhir/CodeSystem",
                 "fhir/CodeSystem" // exploded plugin root case
         );
-        List<File> out = new ArrayList<>();
+        ProjectIndex index = ProjectIndex.forProject(projectRoot);
+        List<VirtualResource> out = new ArrayList<>();
         for (String dir : candidates) {
-            File d = new File(projectRoot, dir);
-            File[] xmls = d.isDirectory() ? d.listFiles(f -> f.isFile() && (f.getName().endsWith(".xml") || f.getName().endsWith(".json"))) : null;
-            if (xmls != null) out.addAll(Arrays.asList(xmls));
+            index.filesUnder(dir).stream()
+                    .filter(f -> f.path().indexOf('/', dir.length() + 1) < 0)
+                    .filter(f -> f.path().endsWith(".xml") || f.path().endsWith(".json"))
+                    .map(f -> VirtualResource.ofFile(f.location()))
+                    .forEach(out::add);
         }
         return out;
     }
 
     /**
      * Finds CodeSystem XMLs and JSONs on the classpath under "fhir/CodeSystem" (both directories and JARs).
+     * JAR entries are read into memory while the JAR is open.
      */
-    private static Collection<File> findCodeSystemsOnClasspath(ClassLoader cl) throws IOException
+    private static Collection<VirtualResource> findCodeSystemsOnClasspath(ClassLoader cl, File projectRoot) throws IOException
     {
         final String basePath = "fhir/CodeSystem";
-        List<File> out = new ArrayList<>();
+        List<VirtualResource> out = new ArrayList<>();
 
         // A) enumerate basePath URLs (dirs or inside JARs)
         Enumeration<URL> urls = cl.getResources(basePath);
@@ -344,24 +434,23 @@ public final class FhirAuthorizationCache
                 File dir = new File(url.getPath());
                 File[] files = dir.isDirectory() ? dir.listFiles(f -> f.isFile() &&
                         (f.getName().endsWith(".xml") || f.getName().endsWith(".json"))) : null;
-                if (files != null) out.addAll(Arrays.asList(files));
+                if (files != null) Arrays.stream(files).map(f -> VirtualResource.ofFile(f.toPath())).forEach(out::add);
             } else if ("jar".equals(protocol)) {
-                // JAR -> iterate entries
+                // JAR -> iterate entries; an uncached connection yields a private JarFile that may be closed
                 try {
                     JarURLConnection conn = (JarURLConnection) url.openConnection();
+                    conn.setUseCaches(false);
                     try (JarFile jar = conn.getJarFile()) {
+                        String jarName = new File(jar.getName()).getName();
                         for (JarEntry e : Collections.list(jar.entries())) {
                             if (!e.isDirectory()
                                     && e.getName().startsWith(basePath + "/")
                                     && (e.getName().endsWith(".xml") || e.getName().endsWith(".json"))) {
-                                // materialize to temp file
-                                String fileName = Paths.get(e.getName()).getFileName().toString();
-                                Path tmp = Files.createTempFile("cs-", "-" + fileName);
                                 try (InputStream in = jar.getInputStream(e)) {
-                                    Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+                                    out.add(VirtualResource.ofBytes(e.getName(),
+                                            VirtualResource.archiveLocation(projectRoot, jarName, e.getName()),
+                                            in.readAllBytes()));
                                 }
-                                tmp.toFile().deleteOnExit();
-                                out.add(tmp.toFile());
                             }
                         }
                     }
@@ -372,41 +461,68 @@ public final class FhirAuthorizationCache
             }
         }
 
-        // B) defensive de-dup
-        return out.stream().distinct().collect(Collectors.toList());
+        return out;
     }
 
     /**
-     * Single-file load hook that delegates to existing XML/JSON parsing logic.
+     * Reads the URL and codes of a single XML or JSON CodeSystem with a streaming reader.
+     *
+     * @return the system and codes, or {@code null} if the resource is not a usable CodeSystem
      */
-    private static void loadCodeSystemFile(File f)
+    private static CodeSystemReader.CodeSystem loadCodeSystem(VirtualResource cs)
+    {
+        String name = cs.fileName().toLowerCase();
+        boolean xml = name.endsWith(".xml");
+        if (!xml && !name.endsWith(".json")) return null;
+
+        try (InputStream in = cs.openStream()) {
+            CodeSystemReader.CodeSystem loaded = xml
+                    ? CodeSystemReader.readXml(in)
+                    : CodeSystemReader.readJson(in);
+
+            if (loaded != null && logger.isVerbose()) {
+                logger.debug(String.format("[Cache-DEBUG] %s → %s (%,d codes)",
+                        cs.fileName(), loaded.system(), loaded.codes().size()));
+            }
+            return loaded;
+        }
+        catch (Exception e) {
+            logger.debug("[CodeSystem-Cache] Failed to parse " + cs.location() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String canonicalKey(File projectRoot)
     {
-        String name = f.getName().toLowerCase();
-        if (name.endsWith(".xml")) {
-            loadSingleCodeSystem(f.toPath());
-        } else if (name.endsWith(".json")) {
-            loadJsonFile(f.toPath());
+        try {
+            return projectRoot.getCanonicalPath();
+        } catch (IOException e) {
+            return projectRoot.getAbsolutePath();
         }
     }
 
     /** True if we have any codes cached for this CodeSystem URL. */
     public static boolean containsSystem(String system) {
-        return system != null && CODES_BY_SYSTEM.containsKey(system);
+        recordSystem(system);
+        return current().containsSystem(system);
     }
 
     /** True if the given code is known under the given CodeSystem URL. */
     public static boolean isKnown(String system, String code) {
-        if (system == null || code == null || code.isBlank()) return false;
-        Set<String> known = CODES_BY_SYSTEM.get(system);
-        return known != null && known.contains(code);
+        recordSystem(system);
+        return current().isKnown(system, code);
     }
 
     /** Return all CodeSystem URLs that contain the given code (used for false-URL diagnosis). */
     public static Set<String> findSystemsContainingCode(String code) {
-        if (code == null || code.isBlank()) return Collections.emptySet();
-        return CODES_BY_SYSTEM.entrySet().stream()
-                .filter(e -> e.getValue().contains(code))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        DependencyRecorder.record(DependencyRecorder.Kind.CODE, code,
+                () -> resolve(DependencyRecorder.Kind.CODE, code));
+        return current().systemsContainingCode(code);
+    }
+
+    /** Reports a CodeSystem lookup to the recorder of the file being linted. */
+    private static void recordSystem(String system) {
+        DependencyRecorder.record(DependencyRecorder.Kind.CODE_SYSTEM, system,
+                () -> resolve(DependencyRecorder.Kind.CODE_SYSTEM, system));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,420 @@
+package dev.dsf.linter.util.resource;
+
+import org.w3c.dom.Document;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parse-once cache of FHIR resource documents and of the facts derived from them.
+ * <p>
+ * Several components used to parse the same file independently: the FHIR file linter, the
+ * resource index behind {@link FhirResourceLocator}, the BPMN cross-checks against
+ * StructureDefinitions and the Task input cardinality lookup. All of them now go through this
+ * cache, so each resource is parsed at most once per run.
+ * </p>
+ *
+ * <h3>Keys</h3>
+ * <p>
+ * Entries are addressed by the resource path together with the SHA-256 hash of its content.
+ * The content is hashed on every lookup, so a file that changes on disk is parsed again and its
+ * previous entry is dropped. Identical content reached through different paths (for example the
+ * same file via the project directory and via a resource provider) shares one parsed document.
+ * </p>
+ *
+ * <h3>Documents and facts</h3>
+ * <ul>
+ *   <li>{@link #getDocument(Path)} returns a private deep copy of the cached document. DOM
+ *       implementations are not safe for concurrent reads, so the cached instance is never
+ *       handed out.</li>
+ *   <li>{@link #getFact(Path, String, FactExtractor)} computes a value from the cached document
+ *       once per entry and fact name and returns the stored value afterwards. Facts should be
+ *       immutable.</li>
+ *   <li>Parse failures are cached as well and rethrown for every lookup of the same content.</li>
+ * </ul>
+ *
+ * <h3>Memory ceiling</h3>
+ * <p>
+ * The weight of an entry is estimated as {@value #DOM_WEIGHT_FACTOR} times its content length.
+ * When the total weight exceeds the configured ceiling, the least recently used entries are
+ * evicted. The ceiling of the {@linkplain #shared() shared} cache defaults to
+ * {@value #DEFAULT_MAX_BYTES} bytes and can be changed with the system property
+ * {@value #MAX_BYTES_PROPERTY} or the environment variable {@code DSF_LINTER_DOCUMENT_CACHE_MAX_BYTES};
+ * {@code 0} disables caching.
+ * </p>
+ *
+ * @see FhirResourceParser
+ * @since 1.2.0
+ */
+public final class FhirDocumentCache {
+
+    /**
+     * System property overriding the memory ceiling of the shared cache, in bytes.
+     */
+    public static final String MAX_BYTES_PROPERTY = "dsf.linter.documentCache.maxBytes";
+
+    /**
+     * Default memory ceiling of the shared cache (256 MiB).
+     */
+    public static final long DEFAULT_MAX_BYTES = 268_435_456L;
+
+    /**
+     * Estimated ratio between the size of a parsed DOM and the size of its source.
+     */
+    static final int DOM_WEIGHT_FACTOR = 8;
+
+    private static final FhirDocumentCache SHARED = new FhirDocumentCache(configuredMaxBytes());
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Key> keysByPath = new HashMap<>();
+    private final Map<Key, Set<String>> pathsByKey = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long totalWeight;
+
+    /**
+     * Creates a cache with the given memory ceiling.
+     *
+     * @param maxBytes the estimated number of bytes the cached documents may occupy;
+     *                 {@code 0} keeps no documents at all
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public FhirDocumentCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must not be negative: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cache shared by all linters of the current process.
+     *
+     * @return the shared cache
+     */
+    public static FhirDocumentCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Clears the shared cache. Called at the end of each linting run.
+     */
+    public static void clearShared() {
+        SHARED.clear();
+    }
+
+    /**
+     * Returns a private copy of the parsed FHIR file.
+     *
+     * @param file the XML or JSON file
+     * @return the parsed document
+     * @throws Exception if the file cannot be read or parsed
+     */
+    public Document getDocument(Path file) throws Exception {
+        return entry(file).copy();
+    }
+
+    /**
+     * Returns a private copy of the parsed FHIR resource.
+     *
+     * @param path     the path identifying the resource, e.g. its provider path
+     * @param fileName the file name, which determines the format
+     * @param content  the resource content
+     * @return the parsed document
+     * @throws Exception if the content cannot be parsed
+     */
+    public Document getDocument(String path, String fileName, byte[] content) throws Exception {
+        return entry(path, fileName, content).copy();
+    }
+
+    /**
+     * Returns a private copy of the parsed FHIR resource, read from its content source.
+     *
+     * @param resource the resource; its location identifies it in the cache
+     * @return the parsed document
+     * @throws Exception if the content cannot be read or parsed
+     */
+    public Document getDocument(VirtualResource resource) throws Exception {
+        return entry(resource).copy();
+    }
+
+    /**
+     * Returns a fact derived from the parsed FHIR file, computing it on first request.
+     *
+     * @param file      the XML or JSON file
+     * @param factName  name identifying the fact; must be unique per extractor
+     * @param extractor computes the fact from the document; must not modify the document
+     * @param <T>       the fact type
+     * @return the fact, may be {@code null} if the extractor returned {@code null}
+     * @throws Exception if the file cannot be read or parsed, or the extractor fails
+     */
+    public <T> T getFact(Path file, String factName, FactExtractor<T> extractor) throws Exception {
+        return entry(file).fact(factName, extractor);
+    }
+
+    /**
+     * Returns a fact derived from the parsed FHIR resource, computing it on first request.
+     *
+     * @param path      the path identifying the resource, e.g. its provider path
+     * @param fileName  the file name, which determines the format
+     * @param content   the resource content
+     * @param factName  name identifying the fact; must be unique per extractor
+     * @param extractor computes the fact from the document; must not modify the document
+     * @param <T>       the fact type
+     * @return the fact, may be {@code null} if the extractor returned {@code null}
+     * @throws Exception if the content cannot be parsed or the extractor fails
+     */
+    public <T> T getFact(String path, String fileName, byte[] content, String factName,
+                         FactExtractor<T> extractor) throws Exception {
+        return entry(path, fileName, content).fact(factName, extractor);
+    }
+
+    /**
+     * Returns a fact derived from the parsed FHIR resource, computing it on first request.
+     *
+     * @param resource  the resource; its location identifies it in the cache
+     * @param factName  name identifying the fact; must be unique per extractor
+     * @param extractor computes the fact from the document; must not modify the document
+     * @param <T>       the fact type
+     * @return the fact, may be {@code null} if the extractor returned {@code null}
+     * @throws Exception if the content cannot be read or parsed, or the extractor fails
+     */
+    public <T> T getFact(VirtualResource resource, String factName, FactExtractor<T> extractor) throws Exception {
+        return entry(resource).fact(factName, extractor);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        keysByPath.clear();
+        pathsByKey.clear();
+        totalWeight = 0;
+    }
+
+    /**
+     * @return the number of lookups answered from an existing entry
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups that created a new entry
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of cached entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the estimated weight of all cached entries in bytes
+     */
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    // Private helper methods
+
+    private Entry entry(Path file) throws Exception {
+        Path normalized = file.toAbsolutePath().normalize();
+        return entry(normalized.toString(), normalized.getFileName().toString(), Files.readAllBytes(normalized));
+    }
+
+    private Entry entry(VirtualResource resource) throws Exception {
+        return entry(resource.location().getPath(), resource.fileName(), resource.readAllBytes());
+    }
+
+    private Entry entry(String path, String fileName, byte[] content) {
+        Key key = new Key(sha256(content), extension(fileName));
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                entry = new Entry(fileName, content);
+                if (entry.weight() > maxBytes) {
+                    return entry;
+                }
+                entries.put(key, entry);
+                totalWeight += entry.weight();
+            }
+
+            Key previous = keysByPath.put(path, key);
+            if (!key.equals(previous)) {
+                pathsByKey.computeIfAbsent(key, k -> new HashSet<>()).add(path);
+                if (previous != null) {
+                    unlink(path, previous);
+                }
+            }
+            evictToCeiling(key);
+            return entry;
+        }
+    }
+
+    private void evictToCeiling(Key retained) {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (totalWeight > maxBytes && it.hasNext()) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            if (eldest.getKey().equals(retained)) {
+                continue;
+            }
+            it.remove();
+            totalWeight -= eldest.getValue().weight();
+            Set<String> paths = pathsByKey.remove(eldest.getKey());
+            if (paths != null) {
+                paths.forEach(keysByPath::remove);
+            }
+        }
+    }
+
+    /**
+     * Detaches a path from the key it pointed to before and drops the entry once no path refers to
+     * it any more, so a file that changes on disk does not leave its previous content behind.
+     */
+    private void unlink(String path, Key previous) {
+        Set<String> paths = pathsByKey.get(previous);
+        if (paths != null) {
+            paths.remove(path);
+            if (!paths.isEmpty()) {
+                return;
+            }
+            pathsByKey.remove(previous);
+        }
+        Entry removed = entries.remove(previous);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    private static String extension(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        int dot = lower.lastIndexOf('.');
+        return dot >= 0 ? lower.substring(dot + 1) : "";
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static long configuredMaxBytes() {
+        String value = System.getProperty(MAX_BYTES_PROPERTY);
+        if (value == null || value.isBlank()) {
+            value = System.getenv("DSF_LINTER_DOCUMENT_CACHE_MAX_BYTES");
+        }
+        if (value != null && !value.isBlank()) {
+            try {
+                long parsed = Long.parseLong(value.trim());
+                if (parsed >= 0) {
+                    return parsed;
+                }
+            } catch (NumberFormatException e) {
+                // Fall back to the default
+            }
+        }
+        return DEFAULT_MAX_BYTES;
+    }
+
+    /**
+     * Computes a fact from a parsed FHIR document.
+     *
+     * @param <T> the fact type
+     */
+    @FunctionalInterface
+    public interface FactExtractor<T> {
+
+        /**
+         * @param document the cached document; must not be modified
+         * @return the fact, may be {@code null}
+         * @throws Exception if the fact cannot be computed
+         */
+        T extract(Document document) throws Exception;
+    }
+
+    private record Key(String sha256, String extension) {
+    }
+
+    /**
+     * A cached resource. The document is parsed lazily under the entry lock, so concurrent
+     * lookups of the same content parse it only once and never read it concurrently.
+     */
+    private static final class Entry {
+        private static final Object NULL_FACT = new Object();
+
+        private final String fileName;
+        private final long weight;
+        private byte[] content;
+        private Document document;
+        private Exception failure;
+        private final Map<String, Object> facts = new HashMap<>();
+
+        Entry(String fileName, byte[] content) {
+            this.fileName = fileName;
+            this.content = content;
+            this.weight = (long) content.length * DOM_WEIGHT_FACTOR;
+        }
+
+        long weight() {
+            return weight;
+        }
+
+        synchronized Document copy() throws Exception {
+            return (Document) parsed().cloneNode(true);
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized <T> T fact(String factName, FactExtractor<T> extractor) throws Exception {
+            Object fact = facts.get(factName);
+            if (fact == null) {
+                T extracted = extractor.extract(parsed());
+                facts.put(factName, extracted != null ? extracted : NULL_FACT);
+                return extracted;
+            }
+            return fact == NULL_FACT ? null : (T) fact;
+        }
+
+        private Document parsed() throws Exception {
+            if (document == null && failure == null) {
+                try {
+                    document = FhirResourceParser.parseFhirResource(new ByteArrayInputStream(content), fileName);
+                    if (document == null) {
+                        throw new IllegalStateException("Parser returned no document for " + fileName);
+                    }
+                } catch (Exception e) {
+                    failure = e;
+                } finally {
+                    content = null;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return document;
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package dev.dsf.linter.util.resource;
 
+import dev.dsf.linter.util.xml.XPathRegistry;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 /**
  * Utility class for extracting values and checking content within FHIR resource documents.
@@ -37,9 +35,7 @@ public class FhirResourceExtractor {
                     "//*[local-name()='element' and @id='Task.instantiatesCanonical']" +
                             "/*[local-name()='fixedCanonical']";
 
-            NodeList nodes = (NodeList) XPathFactory.newInstance().newXPath()
-                    .compile(xpathExpr)
-                    .evaluate(doc, XPathConstants.NODESET);
+            NodeList nodes = XPathRegistry.nodes(doc, xpathExpr);
 
             return extractValueFromFirstNode(nodes);
         } catch (Exception ignored) {
@@ -69,9 +65,7 @@ public class FhirResourceExtractor {
                     "//*[local-name()='element' and @id='Task.input:message-name.value[x]']" +
                             "/*[local-name()='fixedString']";
 
-            NodeList nodes = (NodeList) XPathFactory.newInstance().newXPath()
-                    .compile(xpathExpr)
-                    .evaluate(doc, XPathConstants.NODESET);
+            NodeList nodes = XPathRegistry.nodes(doc, xpathExpr);
 
             return extractValueFromFirstNode(nodes);
         } catch (Exception ignored) {
@@ -192,8 +186,7 @@ public class FhirResourceExtractor {
      */
     private boolean evaluateXPathExists(Document doc, String xpathExpr)
             throws XPathExpressionException {
-        XPathExpression expr = XPathFactory.newInstance().newXPath().compile(xpathExpr);
-        NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
+        NodeList nodes = XPathRegistry.nodes(doc, xpathExpr);
         return (nodes != null && nodes.getLength() > 0);
     }
 
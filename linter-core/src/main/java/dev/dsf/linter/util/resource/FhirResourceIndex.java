@@ -0,0 +1,238 @@
+package dev.dsf.linter.util.resource;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Canonical-URL hash indexes over the FHIR resources visible to a {@link ResourceProvider}.
+ * <p>
+ * The index is built in a single pass: every resource below the ActivityDefinition,
+ * StructureDefinition and Questionnaire directories is parsed exactly once and the
+ * values that {@link FhirResourceExtractor} would otherwise search for by XPath are
+ * recorded in plain hash maps. The per-resource values are kept as facts in the
+ * {@link FhirDocumentCache}, so rebuilding the index for another project that contains
+ * the same resources does not parse them again. Lookups are therefore O(1) instead of re-listing and
+ * re-parsing the directory for every queried element.
+ * </p>
+ * <p>
+ * For each key the first resource in provider listing order wins, which mirrors the
+ * {@code findFirst()} semantics of the previous linear search.
+ * </p>
+ *
+ * @see FhirResourceLocator
+ * @since 1.2.0
+ */
+final class FhirResourceIndex {
+
+    private final Map<String, FhirResourceEntry> activityDefinitionsByMessageName;
+    private final Map<String, FhirResourceEntry> activityDefinitionsByUrl;
+    private final Map<String, FhirResourceEntry> structureDefinitionsByValue;
+    private final Map<String, FhirResourceEntry> questionnairesByUrl;
+
+    private FhirResourceIndex(Map<String, FhirResourceEntry> activityDefinitionsByMessageName,
+                              Map<String, FhirResourceEntry> activityDefinitionsByUrl,
+                              Map<String, FhirResourceEntry> structureDefinitionsByValue,
+                              Map<String, FhirResourceEntry> questionnairesByUrl) {
+        this.activityDefinitionsByMessageName = Collections.unmodifiableMap(activityDefinitionsByMessageName);
+        this.activityDefinitionsByUrl = Collections.unmodifiableMap(activityDefinitionsByUrl);
+        this.structureDefinitionsByValue = Collections.unmodifiableMap(structureDefinitionsByValue);
+        this.questionnairesByUrl = Collections.unmodifiableMap(questionnairesByUrl);
+    }
+
+    /**
+     * Builds the index by listing and parsing each relevant directory once.
+     *
+     * @param provider               the provider to read resources from
+     * @param activityDefinitionDir  directory containing ActivityDefinitions
+     * @param structureDefinitionDir directory containing StructureDefinitions
+     * @param questionnaireDir       directory containing Questionnaires
+     * @return the populated index, never {@code null}
+     */
+    static FhirResourceIndex build(ResourceProvider<FhirResourceEntry> provider,
+                                   String activityDefinitionDir,
+                                   String structureDefinitionDir,
+                                   String questionnaireDir) {
+        Map<String, FhirResourceEntry> byMessageName = new HashMap<>();
+        Map<String, FhirResourceEntry> adByUrl = new HashMap<>();
+        Map<String, FhirResourceEntry> sdByValue = new HashMap<>();
+        Map<String, FhirResourceEntry> questionnaireByUrl = new HashMap<>();
+
+        try (var entries = provider.listResources(activityDefinitionDir)) {
+            entries.forEach(entry -> {
+                IndexedValues values = indexedValues(provider, entry, "ActivityDefinition");
+                if (values == null) {
+                    return;
+                }
+                if (values.url() != null) {
+                    adByUrl.putIfAbsent(values.url(), entry);
+                }
+                values.messageNames().forEach(name -> byMessageName.putIfAbsent(name, entry));
+            });
+        }
+
+        try (var entries = provider.listResources(structureDefinitionDir)) {
+            entries.forEach(entry -> {
+                IndexedValues values = indexedValues(provider, entry, "StructureDefinition");
+                if (values != null) {
+                    values.structureDefinitionValues().forEach(value -> sdByValue.putIfAbsent(value, entry));
+                }
+            });
+        }
+
+        try (var entries = provider.listResources(questionnaireDir)) {
+            entries.forEach(entry -> {
+                IndexedValues values = indexedValues(provider, entry, "Questionnaire");
+                if (values != null && values.url() != null) {
+                    questionnaireByUrl.putIfAbsent(values.url(), entry);
+                }
+            });
+        }
+
+        return new FhirResourceIndex(byMessageName, adByUrl, sdByValue, questionnaireByUrl);
+    }
+
+    FhirResourceEntry findActivityDefinitionByMessageName(String messageName) {
+        return messageName == null ? null : activityDefinitionsByMessageName.get(messageName);
+    }
+
+    FhirResourceEntry findActivityDefinitionByUrl(String url) {
+        return url == null ? null : activityDefinitionsByUrl.get(url);
+    }
+
+    FhirResourceEntry findStructureDefinitionByValue(String value) {
+        return value == null ? null : structureDefinitionsByValue.get(value);
+    }
+
+    FhirResourceEntry findQuestionnaireByUrl(String url) {
+        return url == null ? null : questionnairesByUrl.get(url);
+    }
+
+    // Private helper methods
+
+    private static IndexedValues indexedValues(ResourceProvider<FhirResourceEntry> provider,
+                                               FhirResourceEntry entry,
+                                               String expectedRootName) {
+        try {
+            byte[] content;
+            try (InputStream in = provider.openResource(entry.path())) {
+                content = in.readAllBytes();
+            }
+            IndexedValues values = FhirDocumentCache.shared().getFact(entry.path(), entry.fileName(), content,
+                    IndexedValues.FACT_NAME, IndexedValues::of);
+            return values != null && expectedRootName.equals(values.rootName()) ? values : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Equivalent of {@code /*[local-name()=root]/*[local-name()='url']/@value}.
+     */
+    private static String topLevelUrl(Element root) {
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element element && "url".equals(localName(element))) {
+                String value = valueAttribute(element);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Equivalent of {@code //extension[@url='message-name']/(valueString|fixedString)/@value}.
+     */
+    private static void collectMessageNames(Element root, List<String> target) {
+        walk(root, element -> {
+            if (!"extension".equals(localName(element))
+                    || !"message-name".equals(element.getAttribute("url"))) {
+                return;
+            }
+            for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element c) {
+                    String name = localName(c);
+                    String value = valueAttribute(c);
+                    if (value != null && ("valueString".equals(name) || "fixedString".equals(name))) {
+                        target.add(value);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Equivalent of {@code //url/@value | //(fixedString|valueString)/@value}.
+     */
+    private static void collectStructureDefinitionValues(Element root, List<String> target) {
+        walk(root, element -> {
+            String name = localName(element);
+            if ("url".equals(name) || "fixedString".equals(name) || "valueString".equals(name)) {
+                String value = valueAttribute(element);
+                if (value != null) {
+                    target.add(value);
+                }
+            }
+        });
+    }
+
+    private static void walk(Element element, Consumer<Element> visitor) {
+        visitor.accept(element);
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element c) {
+                walk(c, visitor);
+            }
+        }
+    }
+
+    private static String valueAttribute(Element element) {
+        return element.hasAttribute("value") ? element.getAttribute("value") : null;
+    }
+
+    private static String localName(Node node) {
+        String local = node.getLocalName();
+        return local != null ? local : node.getNodeName();
+    }
+
+    /**
+     * The indexed values of one resource, in document order.
+     *
+     * @param rootName                  local name of the root element
+     * @param url                       the top-level url, or {@code null}
+     * @param messageNames              message names of ActivityDefinitions
+     * @param structureDefinitionValues url and fixed/value strings of StructureDefinitions
+     */
+    private record IndexedValues(String rootName,
+                                 String url,
+                                 List<String> messageNames,
+                                 List<String> structureDefinitionValues) {
+
+        private static final String FACT_NAME = "FhirResourceIndex.indexedValues";
+
+        static IndexedValues of(Document doc) {
+            Element root = doc.getDocumentElement();
+            if (root == null) {
+                return null;
+            }
+            String rootName = localName(root);
+            List<String> messageNames = new ArrayList<>();
+            List<String> structureDefinitionValues = new ArrayList<>();
+            if ("ActivityDefinition".equals(rootName)) {
+                collectMessageNames(root, messageNames);
+            } else if ("StructureDefinition".equals(rootName)) {
+                collectStructureDefinitionValues(root, structureDefinitionValues);
+            }
+            return new IndexedValues(rootName, topLevelUrl(root),
+                    List.copyOf(messageNames), List.copyOf(structureDefinitionValues));
+        }
+    }
+}
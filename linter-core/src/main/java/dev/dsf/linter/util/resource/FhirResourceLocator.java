@@ -1,16 +1,19 @@
 package dev.dsf.linter.util.resource;
 
-import org.w3c.dom.Document;
+import dev.dsf.linter.util.cache.ConcurrentCache;
+import dev.dsf.linter.util.cache.DependencyRecorder;
+import dev.dsf.linter.util.cache.DependencyRecorder.Kind;
 
-import javax.xml.xpath.XPathExpressionException;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Locates and queries FHIR resources within a project structure.
@@ -29,6 +32,19 @@ import java.util.function.Predicate;
  * </p>
  * <p>
  * Resources are searched in standard FHIR directory structures for extracted JARs.
+ * On first use, each locator builds a {@link FhirResourceIndex} that maps canonical URLs,
+ * message names and Questionnaire URLs to their resource entries, so every subsequent
+ * query is a hash lookup. Linters should obtain the per-project instance via
+ * {@link #forProject(File)} so that the index is built only once per linting run.
+ * </p>
+ * <p>
+ * Matching resources are returned as {@link VirtualResource}s that read their content from the
+ * provider, so resources inside JAR files are parsed without being copied to temporary files.
+ * </p>
+ * <p>
+ * Every lookup is reported to the {@link DependencyRecorder} of the file being linted, with the
+ * path and content hash of the resource found. {@link #resolve(Kind, String)} repeats a recorded
+ * lookup, so a cached lint result can be checked against the current project content.
  * </p>
  *
  * @see ResourceProvider
@@ -40,12 +56,54 @@ public final class FhirResourceLocator {
     private static final String STRUCTURE_DEFINITION_DIR = "fhir/StructureDefinition";
     private static final String QUESTIONNAIRE_DIR = "fhir/Questionnaire";
 
+    /**
+     * Upper bound for cached locators; the least recently used one is evicted and its
+     * provider closed beyond it.
+     */
+    private static final int MAX_SHARED_LOCATORS = 64;
+
+    private static final ConcurrentCache<String, FhirResourceLocator> SHARED_LOCATORS =
+            ConcurrentCache.<String, FhirResourceLocator>builder()
+                    .maximumSize(MAX_SHARED_LOCATORS)
+                    .cleanupCallback(FhirResourceLocator::closeProvider)
+                    .build();
+
     private final ResourceProvider<FhirResourceEntry> provider;
-    private final FhirResourceExtractor extractor;
+    private final File projectRoot;
+    private volatile FhirResourceIndex index;
+    private final Map<String, String> contentHashes = new ConcurrentHashMap<>();
 
-    private FhirResourceLocator(ResourceProvider<FhirResourceEntry> provider) {
+    private FhirResourceLocator(ResourceProvider<FhirResourceEntry> provider, File projectRoot) {
         this.provider = provider;
-        this.extractor = new FhirResourceExtractor();
+        this.projectRoot = projectRoot;
+    }
+
+    /**
+     * Returns the shared locator for the given project root.
+     * <p>
+     * All linters of a run query the same instance, so the resource index is built once
+     * per project instead of once per BPMN element or FHIR resource. Instances are keyed
+     * by the canonical path of the project root and remain cached until
+     * {@link #clearSharedLocators()} is called or, beyond {@value #MAX_SHARED_LOCATORS}
+     * projects, until they are evicted as least recently used.
+     * </p>
+     *
+     * @param projectRoot the root directory of the extracted JAR project
+     * @return the shared FhirResourceLocator for the project
+     */
+    public static FhirResourceLocator forProject(File projectRoot) {
+        if (projectRoot == null) {
+            return create(null);
+        }
+        return SHARED_LOCATORS.getOrCreate(canonicalKey(projectRoot), key -> create(projectRoot));
+    }
+
+    /**
+     * Discards all shared locators and their indexes, closing any underlying JAR files.
+     * Should be called at the end of a linting run.
+     */
+    public static void clearSharedLocators() {
+        SHARED_LOCATORS.clear();
     }
 
     /**
@@ -72,7 +130,7 @@ public final class FhirResourceLocator {
             provider = FileSystemResourceProvider.forFhir(projectRoot);
         }
 
-        return new FhirResourceLocator(provider);
+        return new FhirResourceLocator(provider, projectRoot);
     }
 
     /**
@@ -86,7 +144,7 @@ public final class FhirResourceLocator {
      * @return a new FhirResourceLocator instance using the specified provider
      */
     public static FhirResourceLocator from(ResourceProvider<FhirResourceEntry> provider) {
-        return new FhirResourceLocator(provider);
+        return new FhirResourceLocator(provider, null);
     }
 
     /**
@@ -97,10 +155,7 @@ public final class FhirResourceLocator {
      * @return true if an ActivityDefinition with the specified message name exists
      */
     public boolean activityDefinitionExists(String messageName, File projectRoot) {
-        return searchInDirectories(
-                entry -> checkActivityDefinitionForMessage(entry, messageName),
-                ACTIVITY_DEFINITION_DIR
-        );
+        return lookup(Kind.ACTIVITY_DEFINITION_BY_MESSAGE, messageName) != null;
     }
 
     /**
@@ -115,10 +170,7 @@ public final class FhirResourceLocator {
      */
     public boolean structureDefinitionExists(String profileValue, File projectRoot) {
         String base = ResourcePathNormalizer.removeVersionSuffix(profileValue);
-        return searchInDirectories(
-                entry -> checkStructureDefinitionForValue(entry, base),
-                STRUCTURE_DEFINITION_DIR
-        );
+        return lookup(Kind.STRUCTURE_DEFINITION, base) != null;
     }
 
     /**
@@ -133,7 +185,37 @@ public final class FhirResourceLocator {
      */
     public boolean activityDefinitionExistsForInstantiatesCanonical(String canonical, File projectRoot) {
         String base = ResourcePathNormalizer.removeVersionSuffix(canonical);
-        return findActivityDefinitionFile(base, projectRoot) != null;
+        return lookup(Kind.ACTIVITY_DEFINITION_BY_URL, base) != null;
+    }
+
+    /**
+     * Finds the StructureDefinition for the given profile value.
+     * <p>
+     * Automatically removes version suffixes from the profile value before searching.
+     * </p>
+     *
+     * @param profileValue the profile value/URL to search for
+     * @return the StructureDefinition resource, or null if not found
+     * @since 1.2.0
+     */
+    public VirtualResource findStructureDefinition(String profileValue) {
+        String base = ResourcePathNormalizer.removeVersionSuffix(profileValue);
+        return toResource(lookup(Kind.STRUCTURE_DEFINITION, base));
+    }
+
+    /**
+     * Finds the ActivityDefinition for the given instantiates canonical URL.
+     * <p>
+     * Automatically removes version suffixes from the canonical URL before searching.
+     * </p>
+     *
+     * @param canonical the canonical URL to search for
+     * @return the ActivityDefinition resource, or null if not found
+     * @since 1.2.0
+     */
+    public VirtualResource findActivityDefinitionForInstantiatesCanonical(String canonical) {
+        String baseCanon = ResourcePathNormalizer.removeVersionSuffix(canonical);
+        return toResource(lookup(Kind.ACTIVITY_DEFINITION_BY_URL, baseCanon));
     }
 
     /**
@@ -146,13 +228,12 @@ public final class FhirResourceLocator {
      * @param profileValue the profile value/URL to search for
      * @param projectRoot the project root directory (currently unused, kept for API compatibility)
      * @return the File containing the StructureDefinition, or null if not found
+     * @deprecated use {@link #findStructureDefinition(String)}, which reads resources from JAR
+     *             files without materializing them
      */
+    @Deprecated(since = "1.2.0")
     public File findStructureDefinitionFile(String profileValue, File projectRoot) {
-        String base = ResourcePathNormalizer.removeVersionSuffix(profileValue);
-        return findFileInDirectories(
-                entry -> checkStructureDefinitionForValue(entry, base),
-                STRUCTURE_DEFINITION_DIR
-        );
+        return toFile(findStructureDefinition(profileValue));
     }
 
     /**
@@ -165,13 +246,12 @@ public final class FhirResourceLocator {
      * @param canonical the canonical URL to search for
      * @param projectRoot the project root directory (currently unused, kept for API compatibility)
      * @return the File containing the ActivityDefinition, or null if not found
+     * @deprecated use {@link #findActivityDefinitionForInstantiatesCanonical(String)}, which reads
+     *             resources from JAR files without materializing them
      */
+    @Deprecated(since = "1.2.0")
     public File findActivityDefinitionForInstantiatesCanonical(String canonical, File projectRoot) {
-        String baseCanon = ResourcePathNormalizer.removeVersionSuffix(canonical);
-        return findFileInDirectories(
-                entry -> checkActivityDefinitionForInstantiatesCanonical(entry, baseCanon),
-                ACTIVITY_DEFINITION_DIR
-        );
+        return toFile(findActivityDefinitionForInstantiatesCanonical(canonical));
     }
 
     /**
@@ -191,10 +271,7 @@ public final class FhirResourceLocator {
         }
 
         String baseKey = formKey.split("\\|")[0].trim();
-        return searchInDirectories(
-                entry -> checkQuestionnaireForUrl(entry, baseKey),
-                QUESTIONNAIRE_DIR
-        );
+        return lookup(Kind.QUESTIONNAIRE, baseKey) != null;
     }
 
     /**
@@ -205,71 +282,111 @@ public final class FhirResourceLocator {
      * @return true if an ActivityDefinition with the specified message name exists
      */
     public boolean activityDefinitionHasMessageName(String message, File projectRoot) {
-        return searchInDirectories(
-                entry -> checkActivityDefinitionForMessage(entry, message),
-                ACTIVITY_DEFINITION_DIR
-        );
+        return lookup(Kind.ACTIVITY_DEFINITION_BY_MESSAGE, message) != null;
     }
 
     /**
-     * Searches for a resource matching the predicate in the specified directories.
+     * Resolves a lookup recorded by a {@link DependencyRecorder} against the current resources,
+     * without recording it again.
      *
-     * @param predicate the predicate to match resources
-     * @param directories the directories to search in
-     * @return true if a matching resource is found
+     * @param kind   the kind of lookup; must be one of the FHIR resource kinds
+     * @param target the normalized lookup target
+     * @return the path and content hash of the resource found, or an empty string if there is none
+     * @throws IllegalArgumentException if the kind does not denote a FHIR resource lookup
+     * @since 1.2.0
      */
-    private boolean searchInDirectories(Predicate<FhirResourceEntry> predicate, String... directories) {
-        for (String directory : directories) {
-            boolean found = provider.listResources(directory)
-                    .anyMatch(predicate);
-            if (found) {
-                return true;
-            }
+    public String resolve(Kind kind, String target) {
+        return resolution(find(kind, target));
+    }
+
+    /**
+     * Looks up a resource in the index and reports the lookup to the current recorder.
+     */
+    private FhirResourceEntry lookup(Kind kind, String target) {
+        FhirResourceEntry entry = find(kind, target);
+        DependencyRecorder.record(kind, target, () -> resolution(entry));
+        return entry;
+    }
+
+    private FhirResourceEntry find(Kind kind, String target) {
+        FhirResourceIndex current = index();
+        return switch (kind) {
+            case ACTIVITY_DEFINITION_BY_MESSAGE -> current.findActivityDefinitionByMessageName(target);
+            case ACTIVITY_DEFINITION_BY_URL -> current.findActivityDefinitionByUrl(target);
+            case STRUCTURE_DEFINITION -> current.findStructureDefinitionByValue(target);
+            case QUESTIONNAIRE -> current.findQuestionnaireByUrl(target);
+            default -> throw new IllegalArgumentException("Not a FHIR resource lookup: " + kind);
+        };
+    }
+
+    /**
+     * Returns the path and content hash of an entry, hashing each resource once per locator.
+     * An unreadable resource resolves to its path only.
+     */
+    private String resolution(FhirResourceEntry entry) {
+        if (entry == null) {
+            return "";
         }
-        return false;
+        return entry.path() + "#" + contentHashes.computeIfAbsent(entry.path(), path -> {
+            try (InputStream in = provider.openResource(path)) {
+                return DependencyRecorder.contentHash(in);
+            } catch (IOException e) {
+                return "unreadable";
+            }
+        });
     }
 
     /**
-     * Finds and returns a file matching the predicate in the specified directories.
+     * Returns the resource index, building it on first access.
      *
-     * @param predicate the predicate to match resources
-     * @param directories the directories to search in
-     * @return the File containing the matching resource, or null if not found
+     * @return the canonical-URL index for this locator's provider
      */
-    private File findFileInDirectories(Predicate<FhirResourceEntry> predicate, String... directories) {
-        for (String directory : directories) {
-            Optional<File> file = provider.listResources(directory)
-                    .filter(predicate)
-                    .findFirst()
-                    .flatMap(this::materializeToFile);
-
-            if (file.isPresent()) {
-                return file.get();
+    private FhirResourceIndex index() {
+        FhirResourceIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = FhirResourceIndex.build(provider,
+                            ACTIVITY_DEFINITION_DIR, STRUCTURE_DEFINITION_DIR, QUESTIONNAIRE_DIR);
+                    index = current;
+                }
             }
         }
-        return null;
+        return current;
+    }
+
+    private VirtualResource toResource(FhirResourceEntry entry) {
+        if (entry == null || !provider.resourceExists(entry.path())) {
+            return null;
+        }
+        return new VirtualResource(entry.path(), new File(projectRoot, entry.path()),
+                () -> provider.openResource(entry.path()));
+    }
+
+    private File toFile(VirtualResource resource) {
+        if (resource == null) {
+            return null;
+        }
+        if (projectRoot != null && resource.location().isFile()) {
+            return resource.location();
+        }
+        return materializeToFile(resource).orElse(null);
     }
 
     /**
-     * Materializes a resource entry to a temporary file.
-     * <p>
-     * If the resource exists in a JAR, it is extracted to a temporary file.
+     * Materializes a resource that is not a file on disk, i.e. a JAR entry, to a temporary file.
      * The temporary file is marked for deletion on JVM exit.
-     * </p>
      *
-     * @param entry the resource entry to materialize
+     * @param resource the resource to materialize
      * @return an Optional containing the File, or empty if materialization fails
      */
-    private Optional<File> materializeToFile(FhirResourceEntry entry) {
+    private static Optional<File> materializeToFile(VirtualResource resource) {
         try {
-            if (!provider.resourceExists(entry.path())) {
-                return Optional.empty();
-            }
-
-            Path tempFile = Files.createTempFile("fhir-resource-", "-" + entry.fileName());
+            Path tempFile = Files.createTempFile("fhir-resource-", "-" + resource.fileName());
             tempFile.toFile().deleteOnExit();
 
-            try (InputStream in = provider.openResource(entry.path());
+            try (InputStream in = resource.openStream();
                  OutputStream out = Files.newOutputStream(tempFile)) {
                 in.transferTo(out);
             }
@@ -280,70 +397,6 @@ public final class FhirResourceLocator {
         }
     }
 
-    private boolean checkActivityDefinitionForMessage(FhirResourceEntry entry, String messageName) {
-        return checkFhirResource(entry, "ActivityDefinition",
-                doc -> {
-                    try {
-                        return extractor.activityDefinitionContainsMessageName(doc, messageName);
-                    } catch (XPathExpressionException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-    }
-
-    private boolean checkStructureDefinitionForValue(FhirResourceEntry entry, String value) {
-        return checkFhirResource(entry, "StructureDefinition",
-                doc -> {
-                    try {
-                        return extractor.structureDefinitionContainsValue(doc, value);
-                    } catch (XPathExpressionException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-    }
-
-    private boolean checkActivityDefinitionForInstantiatesCanonical(FhirResourceEntry entry, String canonical) {
-        return checkFhirResource(entry, "ActivityDefinition",
-                doc -> {
-                    try {
-                        return extractor.activityDefinitionContainsInstantiatesCanonical(doc, canonical);
-                    } catch (XPathExpressionException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-    }
-
-    private boolean checkQuestionnaireForUrl(FhirResourceEntry entry, String url) {
-        return checkFhirResource(entry, "Questionnaire",
-                doc -> {
-                    try {
-                        return extractor.questionnaireContainsUrl(doc, url);
-                    } catch (XPathExpressionException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-    }
-
-    private boolean checkFhirResource(FhirResourceEntry entry,
-                                      String expectedRootName,
-                                      Predicate<Document> checkLogic) {
-        try (InputStream in = provider.openResource(entry.path())) {
-            Document doc = FhirResourceParser.parseFhirResource(in, entry.fileName());
-            if (doc == null) {
-                return false;
-            }
-
-            String rootName = doc.getDocumentElement().getLocalName();
-            if (!expectedRootName.equals(rootName)) {
-                return false;
-            }
-
-            return checkLogic.test(doc);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     private static boolean hasJarResources(File projectRoot) {
         if (projectRoot == null) {
             return false;
@@ -353,11 +406,21 @@ public final class FhirResourceLocator {
         return jars != null && jars.length > 0;
     }
 
-    private File findActivityDefinitionFile(String canonical, File projectRoot) {
-        String base = ResourcePathNormalizer.removeVersionSuffix(canonical);
-        return findFileInDirectories(
-                entry -> checkActivityDefinitionForInstantiatesCanonical(entry, base),
-                ACTIVITY_DEFINITION_DIR
-        );
+    private static String canonicalKey(File projectRoot) {
+        try {
+            return projectRoot.getCanonicalPath();
+        } catch (IOException e) {
+            return projectRoot.getAbsolutePath();
+        }
+    }
+
+    private static void closeProvider(FhirResourceLocator locator) {
+        if (locator.provider instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // Best effort cleanup
+            }
+        }
     }
-}
\ No newline at end of file
+}
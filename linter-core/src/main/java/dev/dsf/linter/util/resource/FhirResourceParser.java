@@ -1,17 +1,18 @@
 package dev.dsf.linter.util.resource;
 
-import dev.dsf.linter.util.converter.JsonXmlConverter;
+import dev.dsf.linter.util.converter.JsonDomBuilder;
+import dev.dsf.linter.util.xml.DocumentBuilderPool;
 import org.w3c.dom.Document;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
  * Utility class for parsing FHIR resource files into DOM documents.
- * Supports both XML and JSON file formats.
+ * Supports both XML and JSON file formats; JSON is converted into an equivalent
+ * FHIR XML DOM by {@link JsonDomBuilder}. XML is parsed with the hardened, per-thread
+ * builders of {@link DocumentBuilderPool}.
  */
 public class FhirResourceParser {
 
@@ -43,31 +44,23 @@ public class FhirResourceParser {
     }
 
     public static Document parseXml(InputStream inputStream) throws Exception {
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        dbf.setNamespaceAware(true);
-        DocumentBuilder db = dbf.newDocumentBuilder();
-        return db.parse(inputStream);
+        return DocumentBuilderPool.parse(inputStream);
     }
 
     public static Document parseJsonToXml(InputStream inputStream) throws Exception {
         return getDocument(inputStream);
     }
 
+    /**
+     * Builds the XML DOM of a FHIR JSON resource directly from the JSON token stream,
+     * without an intermediate XML string.
+     *
+     * @see JsonDomBuilder
+     */
     static Document getDocument(InputStream inputStream) throws Exception {
         try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper =
-                    new com.fasterxml.jackson.databind.ObjectMapper();
-            com.fasterxml.jackson.databind.JsonNode jsonNode =
-                    mapper.readTree(inputStream);
-
-            String xmlString = JsonXmlConverter.convertJsonToXml(jsonNode);
-
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            dbf.setNamespaceAware(true);
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            return db.parse(new org.xml.sax.InputSource(
-                    new java.io.StringReader(xmlString)));
-        } catch (ClassNotFoundException | NoClassDefFoundError e) {
+            return JsonDomBuilder.build(inputStream);
+        } catch (NoClassDefFoundError e) {
             throw new UnsupportedOperationException(
                     "JSON parsing requires Jackson library on classpath", e);
         }
@@ -1,10 +1,18 @@
 package dev.dsf.linter.util.resource;
 
+import dev.dsf.linter.util.cache.ConcurrentCache;
+
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -21,15 +29,50 @@ import java.util.stream.Stream;
  * construction. All resource paths are relative to this root directory.
  * </p>
  *
+ * <h3>Listing Snapshots:</h3>
+ * <p>
+ * The first listing of a directory walks it once and keeps the result as an immutable,
+ * path-sorted snapshot; later listings of the same directory are served from it. On
+ * network-mounted workspaces this saves one directory walk per lookup. The snapshots are
+ * dropped by {@link #invalidate()}. A provider created with change watching enabled
+ * registers the directory tree with a {@link WatchService} and invalidates its snapshots
+ * whenever a file or directory is created or deleted below the root, which keeps listings
+ * current in long-running processes.
+ * </p>
+ *
  * @param <T> the type of resource entries created by the entry factory
- * @param root the root directory containing the resources
- * @param entryFactory factory for creating resource entries from paths
- * @param resourceTypeName human-readable name describing the resource type
  */
-public record FileSystemResourceProvider<T>(File root, ResourceEntryFactory<T> entryFactory,
-                                            String resourceTypeName) implements ResourceProvider<T> {
+public final class FileSystemResourceProvider<T> implements ResourceProvider<T>, Closeable {
+
+    private final File root;
+    private final ResourceEntryFactory<T> entryFactory;
+    private final String resourceTypeName;
+    private final ConcurrentCache<String, List<T>> listings = new ConcurrentCache<>();
+    private final WatchService watchService;
+
+    /**
+     * Creates a provider without change watching.
+     *
+     * @param root the root directory containing the resources
+     * @param entryFactory factory for creating resource entries from paths
+     * @param resourceTypeName human-readable name describing the resource type
+     */
+    public FileSystemResourceProvider(File root, ResourceEntryFactory<T> entryFactory, String resourceTypeName) {
+        this(root, entryFactory, resourceTypeName, false);
+    }
 
-    public FileSystemResourceProvider {
+    /**
+     * Creates a provider.
+     *
+     * @param root the root directory containing the resources
+     * @param entryFactory factory for creating resource entries from paths
+     * @param resourceTypeName human-readable name describing the resource type
+     * @param watchForChanges true to invalidate the listing snapshots when files below the root
+     *                        are created or deleted; the provider must then be closed
+     * @since 1.2.0
+     */
+    public FileSystemResourceProvider(File root, ResourceEntryFactory<T> entryFactory, String resourceTypeName,
+                                      boolean watchForChanges) {
         Objects.requireNonNull(root, "root cannot be null");
         Objects.requireNonNull(entryFactory, "entryFactory cannot be null");
         Objects.requireNonNull(resourceTypeName, "resourceTypeName cannot be null");
@@ -38,40 +81,40 @@ public record FileSystemResourceProvider<T>(File root, ResourceEntryFactory<T> e
             throw new IllegalArgumentException("Root must be a valid directory: " + root);
         }
 
+        this.root = root;
+        this.entryFactory = entryFactory;
+        this.resourceTypeName = resourceTypeName;
+        this.watchService = watchForChanges ? startWatching(root.toPath()) : null;
     }
 
-
     /**
      * Factory method for FHIR resources.
      */
     public static FileSystemResourceProvider<FhirResourceEntry> forFhir(File root) {
+        return forFhir(root, false);
+    }
+
+    /**
+     * Factory method for FHIR resources with optional change watching.
+     *
+     * @param root the root directory containing the resources
+     * @param watchForChanges true to invalidate the listing snapshots on file system changes
+     * @return the provider
+     * @since 1.2.0
+     */
+    public static FileSystemResourceProvider<FhirResourceEntry> forFhir(File root, boolean watchForChanges) {
         return new FileSystemResourceProvider<>(
                 root,
                 FhirResourceEntry::fromPath,
-                "FHIR"
+                "FHIR",
+                watchForChanges
         );
     }
 
     @Override
     public Stream<T> listResources(String directory) {
-        Path base = root.toPath().resolve(directory == null ? "" : directory);
-
-        List<T> entries;
-        try (Stream<Path> paths = Files.walk(base)) {
-            entries = paths
-                    .filter(Files::isRegularFile)
-                    .map(p -> {
-                        String relativePath = root.toPath().relativize(p)
-                                .toString()
-                                .replace(File.separatorChar, '/');
-                        return entryFactory.create(relativePath);
-                    })
-                    .toList();
-        } catch (IOException e) {
-            return Stream.empty();
-        }
-
-        return entries.stream();
+        String key = ResourcePathNormalizer.normalizeDirectory(directory);
+        return listings.getOrCreate(key, k -> walk(directory)).stream();
     }
 
     @Override
@@ -95,4 +138,110 @@ public record FileSystemResourceProvider<T>(File root, ResourceEntryFactory<T> e
                 resourceTypeName,
                 root.getAbsolutePath());
     }
-}
\ No newline at end of file
+
+    /**
+     * Drops all listing snapshots, so the next listing of each directory walks it again.
+     *
+     * @since 1.2.0
+     */
+    public void invalidate() {
+        listings.clear();
+    }
+
+    /**
+     * Stops change watching, if enabled, and drops all listing snapshots.
+     */
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        listings.clear();
+    }
+
+    /**
+     * @return the root directory containing the resources
+     */
+    public File root() {
+        return root;
+    }
+
+    /**
+     * @return the factory for creating resource entries from paths
+     */
+    public ResourceEntryFactory<T> entryFactory() {
+        return entryFactory;
+    }
+
+    /**
+     * @return the human-readable name describing the resource type
+     */
+    public String resourceTypeName() {
+        return resourceTypeName;
+    }
+
+    // Private helper methods
+
+    private List<T> walk(String directory) {
+        Path rootPath = root.toPath();
+        Path base = rootPath.resolve(directory == null ? "" : directory);
+
+        try (Stream<Path> paths = Files.walk(base)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .map(p -> rootPath.relativize(p).toString().replace(File.separatorChar, '/'))
+                    .sorted()
+                    .map(entryFactory::create)
+                    .toList();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private WatchService startWatching(Path rootPath) {
+        try {
+            WatchService service = rootPath.getFileSystem().newWatchService();
+            registerTree(service, rootPath);
+            Thread.ofVirtual()
+                    .name("dsf-linter-resource-watch")
+                    .start(() -> processEvents(service));
+            return service;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot watch resource directory: " + rootPath, e);
+        }
+    }
+
+    private void processEvents(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path directory = (Path) key.watchable();
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                            && event.context() instanceof Path name
+                            && Files.isDirectory(directory.resolve(name))) {
+                        registerTree(service, directory.resolve(name));
+                    }
+                }
+
+                invalidate();
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException | IOException e) {
+            // Provider closed or tree no longer watchable
+        }
+    }
+
+    private static void registerTree(WatchService service, Path start) throws IOException {
+        try (Stream<Path> directories = Files.walk(start)) {
+            for (Path directory : (Iterable<Path>) directories.filter(Files::isDirectory)::iterator) {
+                directory.register(service,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        }
+    }
+}
@@ -3,10 +3,8 @@ package dev.dsf.linter.util.resource;
 import dev.dsf.linter.util.cache.ConcurrentCache;
 
 import java.io.*;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -16,8 +14,25 @@ import java.util.stream.Stream;
  * Generic JAR-backed provider for resources (BPMN or FHIR).
  * Uses ConcurrentCache for thread-safe caching with cleanup callbacks.
  * <p>
- * This provider scans for JAR files in the project root directory and indexes
- * all matching resources within those JARs.
+ * This provider takes the JAR files below the project root and their entry names from the
+ * shared {@link ProjectIndex} and indexes all matching resources within those JARs.
+ * </p>
+ *
+ * <h3>Index:</h3>
+ * <p>
+ * The JARs are indexed once, on first access, into an immutable snapshot:
+ * </p>
+ * <ul>
+ *   <li>the matching entries sorted by path, so listing a directory is a binary search for
+ *       the first and last path with the directory prefix followed by a sublist view</li>
+ *   <li>a hash map from each matching path to the JAR that owns it, so
+ *       {@link #openResource(String)} and {@link #resourceExists(String)} do not probe
+ *       every JAR</li>
+ * </ul>
+ * <p>
+ * JARs are indexed in path order, and if several JARs contain the same path, the first
+ * one owns it. Paths that do not match the resource filter are not indexed; looking them
+ * up falls back to probing the JARs in the same order.
  * </p>
  *
  * @param <T> the type of resource entry (BpmnResourceEntry or FhirResourceEntry)
@@ -30,9 +45,17 @@ public final class JarResourceProvider<T> implements ResourceProvider<T>, Closea
     private final Predicate<String> resourceFilter;
     private final String resourceTypeName;
     private final ConcurrentCache<String, JarFile> jarCache;
-    private final ConcurrentCache<String, List<T>> indexCache;
-    private final Set<String> jarKeys;
-    private boolean indexed;
+    private volatile Index<T> index;
+
+    /**
+     * Immutable snapshot of the indexed JARs.
+     *
+     * @param jars    the open JARs in lookup order
+     * @param paths   the paths of the matching entries, sorted
+     * @param entries the matching entries, in the order of {@code paths}
+     * @param owners  the JAR owning each matching path
+     */
+    private record Index<T>(List<JarFile> jars, String[] paths, List<T> entries, Map<String, JarFile> owners) {}
 
     private JarResourceProvider(File projectRoot,
                                 ResourceEntryFactory<T> entryFactory,
@@ -54,10 +77,6 @@ public final class JarResourceProvider<T> implements ResourceProvider<T>, Closea
                 // Best effort cleanup
             }
         });
-
-        this.indexCache = new ConcurrentCache<>();
-        this.jarKeys = ConcurrentHashMap.newKeySet();
-        this.indexed = false;
     }
 
     /**
@@ -78,28 +97,36 @@ public final class JarResourceProvider<T> implements ResourceProvider<T>, Closea
 
     @Override
     public Stream<T> listResources(String directory) {
-        ensureIndexed();
+        Index<T> current = ensureIndexed();
 
         String normalizedDir = ResourcePathNormalizer.normalizeDirectory(directory);
+        if (normalizedDir.isEmpty()) {
+            return current.entries().stream();
+        }
 
-        return indexCache.get(getCacheKey()).stream().flatMap(Collection::stream)
-                .filter(entry -> getPath(entry).startsWith(normalizedDir));
+        int from = lowerBound(current.paths(), normalizedDir);
+        int to = lowerBound(current.paths(), prefixEnd(normalizedDir));
+        return current.entries().subList(from, to).stream();
     }
 
     @Override
     public InputStream openResource(String path) throws IOException {
-        ensureIndexed();
+        Index<T> current = ensureIndexed();
 
         String normalizedPath = path.replace('\\', '/');
 
-        for (String jarKey : getJarKeys()) {
-            Optional<JarFile> jarFileOpt = jarCache.get(jarKey);
-            if (jarFileOpt.isPresent()) {
-                JarFile jarFile = jarFileOpt.get();
-                JarEntry entry = jarFile.getJarEntry(normalizedPath);
-                if (entry != null) {
-                    return jarFile.getInputStream(entry);
-                }
+        JarFile owner = current.owners().get(normalizedPath);
+        if (owner != null) {
+            JarEntry entry = owner.getJarEntry(normalizedPath);
+            if (entry != null) {
+                return owner.getInputStream(entry);
+            }
+        }
+
+        for (JarFile jarFile : current.jars()) {
+            JarEntry entry = jarFile.getJarEntry(normalizedPath);
+            if (entry != null) {
+                return jarFile.getInputStream(entry);
             }
         }
 
@@ -108,17 +135,17 @@ public final class JarResourceProvider<T> implements ResourceProvider<T>, Closea
 
     @Override
     public boolean resourceExists(String path) {
-        ensureIndexed();
+        Index<T> current = ensureIndexed();
 
         String normalizedPath = path.replace('\\', '/');
 
-        for (String jarKey : getJarKeys()) {
-            Optional<JarFile> jarFileOpt = jarCache.get(jarKey);
-            if (jarFileOpt.isPresent()) {
-                JarFile jarFile = jarFileOpt.get();
-                if (jarFile.getJarEntry(normalizedPath) != null) {
-                    return true;
-                }
+        if (current.owners().containsKey(normalizedPath)) {
+            return true;
+        }
+
+        for (JarFile jarFile : current.jars()) {
+            if (jarFile.getJarEntry(normalizedPath) != null) {
+                return true;
             }
         }
 
@@ -134,80 +161,72 @@ public final class JarResourceProvider<T> implements ResourceProvider<T>, Closea
     }
 
     @Override
-    public void close() throws IOException {
+    public synchronized void close() throws IOException {
+        index = null;
         jarCache.clear();
-        indexCache.clear();
-        jarKeys.clear();
-        indexed = false;
     }
 
-    private synchronized void ensureIndexed() {
-        if (indexed) {
-            return;
+    private Index<T> ensureIndexed() {
+        Index<T> current = index;
+        if (current != null) {
+            return current;
         }
 
-        indexJars();
-        indexed = true;
+        synchronized (this) {
+            if (index == null) {
+                index = indexJarsInDirectory(projectRoot);
+            }
+            return index;
+        }
     }
 
-    private void indexJars() {
-        indexJarsInDirectory(projectRoot);
-    }
+    private Index<T> indexJarsInDirectory(File directory) {
+        ProjectIndex projectIndex = ProjectIndex.forProject(directory);
+        List<Path> jarPaths = projectIndex.jars();
 
-    private void indexJarsInDirectory(File directory) {
-        if (!directory.isDirectory()) {
-            return;
-        }
+        List<JarFile> jars = new ArrayList<>(jarPaths.size());
+        Map<String, JarFile> owners = new HashMap<>();
 
-        try (Stream<Path> paths = Files.walk(directory.toPath())) {
-            paths.filter(Files::isRegularFile)
-                    .filter(p -> p.toString().endsWith(".jar"))
-                    .forEach(this::indexJarFile);
+        for (Path jarPath : jarPaths) {
+            try {
+                JarFile jarFile = new JarFile(jarPath.toFile());
+                jarCache.put(jarPath.toString(), jarFile);
+                jars.add(jarFile);
 
-        } catch (IOException e) {
-            // Silently skip
-        }
-    }
+                projectIndex.jarEntries(jarPath).stream()
+                        .map(ProjectIndex.Entry::path)
+                        .filter(resourceFilter)
+                        .forEach(name -> owners.putIfAbsent(name, jarFile));
 
-    private void indexJarFile(Path jarPath) {
-        String jarKey = jarPath.toString();
-
-        try {
-            JarFile jarFile = new JarFile(jarPath.toFile());
-            jarCache.put(jarKey, jarFile);
-            jarKeys.add(jarKey);
-
-            List<T> entries = jarFile.stream()
-                    .filter(entry -> !entry.isDirectory())
-                    .filter(entry -> resourceFilter.test(entry.getName()))
-                    .map(entry -> entryFactory.create(entry.getName()))
-                    .toList();
-
-            String cacheKey = getCacheKey();
-            Optional<List<T>> existingEntriesOpt = indexCache.get(cacheKey);
-            if (existingEntriesOpt.isEmpty()) {
-                indexCache.put(cacheKey, new ArrayList<>(entries));
-            } else {
-                existingEntriesOpt.get().addAll(entries);
+            } catch (IOException e) {
+                // Silently skip
             }
+        }
 
-        } catch (IOException e) {
-            // Silently skip
+        String[] paths = owners.keySet().toArray(new String[0]);
+        Arrays.sort(paths);
+
+        List<T> entries = new ArrayList<>(paths.length);
+        for (String path : paths) {
+            entries.add(entryFactory.create(path));
         }
-    }
 
-    private String getCacheKey() {
-        return projectRoot.getAbsolutePath() + "::all";
+        return new Index<>(List.copyOf(jars), paths, Collections.unmodifiableList(entries), Map.copyOf(owners));
     }
 
-    private Set<String> getJarKeys() {
-        return jarKeys;
+    /**
+     * Returns the smallest string greater than every string starting with {@code prefix}.
+     */
+    private static String prefixEnd(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
     }
 
-    private String getPath(T entry) {
-        if (entry instanceof FhirResourceEntry fhir) {
-            return fhir.path();
-        }
-        throw new IllegalStateException("Unknown entry type: " + entry.getClass());
+    /**
+     * Returns the index of the first element not less than {@code key}.
+     */
+    private static int lowerBound(String[] sorted, String key) {
+        int index = Arrays.binarySearch(sorted, key);
+        return index >= 0 ? index : -index - 1;
     }
-}
\ No newline at end of file
+}
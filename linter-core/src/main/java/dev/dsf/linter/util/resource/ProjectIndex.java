@@ -0,0 +1,438 @@
+package dev.dsf.linter.util.resource;
+
+import dev.dsf.linter.util.cache.ConcurrentCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * One-pass index of all files of a project and of the entries of the JARs among them.
+ * <p>
+ * Plugin discovery, class loader setup, service registration checks, CodeSystem seeding, the
+ * JAR resource provider and the leftover resource analysis all need to know which files a
+ * project contains. Instead of walking the project tree once per component, the tree is walked
+ * once during project setup and every component queries the resulting index.
+ * </p>
+ *
+ * <h3>Contents</h3>
+ * <ul>
+ *   <li>every regular file below the root, including symbolic links to regular files, with its
+ *       path relative to the root, {@link Type}, absolute location and size, sorted by path</li>
+ *   <li>every JAR file below the root, in path order, with the entries it contains</li>
+ * </ul>
+ * <p>
+ * The SHA-256 hash of a file or JAR entry is computed on first request and then kept with the
+ * entry, since most components never need it.
+ * </p>
+ *
+ * <h3>Lifetime</h3>
+ * <p>
+ * The index is a snapshot: files created after it was built are not listed. Components obtain
+ * the shared per-project instance via {@link #forProject(File)}; the linter builds it at the end
+ * of project setup and discards it with {@link #clearShared()} at the end of the run.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class ProjectIndex {
+
+    /**
+     * Upper bound for cached indexes; the least recently used one is evicted beyond it.
+     */
+    private static final int MAX_SHARED_INDEXES = 16;
+
+    private static final ConcurrentCache<String, ProjectIndex> SHARED =
+            ConcurrentCache.<String, ProjectIndex>builder()
+                    .maximumSize(MAX_SHARED_INDEXES)
+                    .build();
+
+    private static final String SERVICES_DIR = "META-INF/services/";
+
+    /**
+     * Kind of an indexed file or JAR entry, derived from its path.
+     */
+    public enum Type {
+        /** Compiled class file. */
+        CLASS,
+        /** BPMN process model. */
+        BPMN,
+        /** XML file, possibly a FHIR resource. */
+        XML,
+        /** JSON file, possibly a FHIR resource. */
+        JSON,
+        /** JAR file. */
+        JAR,
+        /** ServiceLoader registration below {@code META-INF/services/}. */
+        SERVICE_REGISTRATION,
+        /** Any other file. */
+        OTHER;
+
+        static Type of(String path) {
+            String lower = path.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".class")) return CLASS;
+            if (path.startsWith(SERVICES_DIR) || path.contains("/" + SERVICES_DIR)) return SERVICE_REGISTRATION;
+            if (lower.endsWith(".bpmn")) return BPMN;
+            if (lower.endsWith(".xml")) return XML;
+            if (lower.endsWith(".json")) return JSON;
+            if (lower.endsWith(".jar")) return JAR;
+            return OTHER;
+        }
+    }
+
+    /**
+     * A file below the project root or an entry of a JAR below the project root.
+     */
+    public static final class Entry {
+
+        private final String path;
+        private final Type type;
+        private final Path location;
+        private final boolean jarEntry;
+        private final long size;
+        private volatile String sha256;
+
+        private Entry(String path, Path location, boolean jarEntry, long size) {
+            this.path = path;
+            this.type = Type.of(path);
+            this.location = location;
+            this.jarEntry = jarEntry;
+            this.size = size;
+        }
+
+        /**
+         * @return the path relative to the project root with {@code /} separators, or the entry
+         *         name for JAR entries
+         */
+        public String path() {
+            return path;
+        }
+
+        /**
+         * @return the kind of file
+         */
+        public Type type() {
+            return type;
+        }
+
+        /**
+         * @return the absolute path of the file, or of the containing JAR for JAR entries
+         */
+        public Path location() {
+            return location;
+        }
+
+        /**
+         * @return {@code true} if this is an entry of a JAR rather than a file on disk
+         */
+        public boolean isJarEntry() {
+            return jarEntry;
+        }
+
+        /**
+         * @return the size in bytes, or {@code -1} if a JAR does not record the entry size
+         */
+        public long size() {
+            return size;
+        }
+
+        /**
+         * Returns the SHA-256 hash of the content, computing it on first request.
+         *
+         * @return the lowercase hexadecimal hash
+         * @throws IOException if the content cannot be read
+         */
+        public String sha256() throws IOException {
+            String current = sha256;
+            if (current == null) {
+                current = jarEntry ? hashJarEntry() : hash(Files.newInputStream(location));
+                sha256 = current;
+            }
+            return current;
+        }
+
+        /**
+         * @return the file name, i.e. the last segment of {@link #path()}
+         */
+        public String fileName() {
+            int idx = path.lastIndexOf('/');
+            return idx >= 0 ? path.substring(idx + 1) : path;
+        }
+
+        @Override
+        public String toString() {
+            return jarEntry ? location + "!/" + path : path;
+        }
+
+        private String hashJarEntry() throws IOException {
+            try (JarFile jar = new JarFile(location.toFile())) {
+                JarEntry entry = jar.getJarEntry(path);
+                if (entry == null) {
+                    throw new IOException("Entry no longer present: " + this);
+                }
+                return hash(jar.getInputStream(entry));
+            }
+        }
+    }
+
+    private final Path root;
+    private final List<Entry> files;
+    private final String[] filePaths;
+    private final Map<Path, List<Entry>> jarEntries;
+
+    private ProjectIndex(Path root, List<Entry> files, Map<Path, List<Entry>> jarEntries) {
+        this.root = root;
+        this.files = files;
+        this.filePaths = files.stream().map(Entry::path).toArray(String[]::new);
+        this.jarEntries = jarEntries;
+    }
+
+    /**
+     * Returns the shared index of a project, building it on first request.
+     *
+     * @param projectRoot the project root directory
+     * @return the shared index
+     */
+    public static ProjectIndex forProject(File projectRoot) {
+        return SHARED.getOrCreate(canonicalKey(projectRoot), key -> build(projectRoot.toPath()));
+    }
+
+    /**
+     * Discards the shared index of a project, so the next request walks the project again.
+     *
+     * @param projectRoot the project root directory
+     */
+    public static void release(File projectRoot) {
+        SHARED.remove(canonicalKey(projectRoot));
+    }
+
+    /**
+     * Discards all shared indexes. Should be called at the end of a linting run.
+     */
+    public static void clearShared() {
+        SHARED.clear();
+    }
+
+    /**
+     * Walks a directory tree once and reads the entry list of every JAR in it.
+     * Unreadable directories and JARs are skipped.
+     *
+     * @param root the directory to index
+     * @return the index; empty if {@code root} is not a directory
+     */
+    public static ProjectIndex build(Path root) {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        List<Entry> files = new ArrayList<>();
+
+        if (Files.isDirectory(normalizedRoot)) {
+            try {
+                Files.walkFileTree(normalizedRoot, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        // Links are not followed, but a link to a file (e.g. the plugin JAR linked
+                        // into an in-place extraction) is indexed like the file itself
+                        long size = attrs.isRegularFile() ? attrs.size() : linkedFileSize(file, attrs);
+                        if (size >= 0) {
+                            String path = normalizedRoot.relativize(file).toString().replace(File.separatorChar, '/');
+                            files.add(new Entry(path, file, false, size));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                // Index what was visited
+            }
+        }
+
+        files.sort(Comparator.comparing(Entry::path));
+
+        Map<Path, List<Entry>> jarEntries = new LinkedHashMap<>();
+        for (Entry file : files) {
+            if (file.type() == Type.JAR) {
+                jarEntries.put(file.location(), readJarEntries(file.location()));
+            }
+        }
+
+        return new ProjectIndex(normalizedRoot, Collections.unmodifiableList(files),
+                Collections.unmodifiableMap(jarEntries));
+    }
+
+    /**
+     * @return the absolute, normalized project root
+     */
+    public Path root() {
+        return root;
+    }
+
+    /**
+     * @return all files below the root, sorted by path
+     */
+    public List<Entry> files() {
+        return files;
+    }
+
+    /**
+     * @param type the kind of file
+     * @return the files of that kind, sorted by path
+     */
+    public Stream<Entry> files(Type type) {
+        return files.stream().filter(entry -> entry.type() == type);
+    }
+
+    /**
+     * Returns the files below a directory of the project.
+     *
+     * @param directory the directory, relative to the root; empty for the whole project
+     * @return the files below the directory, sorted by path
+     */
+    public List<Entry> filesUnder(String directory) {
+        String prefix = ResourcePathNormalizer.normalizeDirectory(directory);
+        if (prefix.isEmpty()) {
+            return files;
+        }
+        int from = lowerBound(filePaths, prefix);
+        int to = lowerBound(filePaths, prefixEnd(prefix));
+        return files.subList(from, to);
+    }
+
+    /**
+     * Returns the files below a directory given as an absolute or relative file system path.
+     *
+     * @param directory the directory
+     * @return the files below the directory, or empty if it does not lie below the root
+     */
+    public Optional<List<Entry>> filesUnder(Path directory) {
+        return relativize(directory).map(this::filesUnder);
+    }
+
+    /**
+     * @return the JAR files below the root, sorted by path
+     */
+    public List<Path> jars() {
+        return List.copyOf(jarEntries.keySet());
+    }
+
+    /**
+     * @param jar a JAR file below the root, as returned by {@link #jars()}
+     * @return the file entries of the JAR in their stored order; empty for unknown or unreadable JARs
+     */
+    public List<Entry> jarEntries(Path jar) {
+        return jarEntries.getOrDefault(jar, List.of());
+    }
+
+    /**
+     * @return the total number of indexed JAR entries
+     */
+    public int jarEntryCount() {
+        return jarEntries.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Returns the path of a file or directory relative to the root.
+     *
+     * @param path the file system path
+     * @return the relative path with {@code /} separators, or empty if it does not lie below the root
+     */
+    public Optional<String> relativize(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        if (!normalized.startsWith(root)) {
+            return Optional.empty();
+        }
+        return Optional.of(root.relativize(normalized).toString().replace(File.separatorChar, '/'));
+    }
+
+    // Private helper methods
+
+    /**
+     * Returns the size of the regular file a symbolic link points to, or {@code -1} if
+     * {@code file} is not such a link.
+     */
+    private static long linkedFileSize(Path file, BasicFileAttributes attrs) {
+        if (!attrs.isSymbolicLink() || !Files.isRegularFile(file)) {
+            return -1;
+        }
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static List<Entry> readJarEntries(Path jarPath) {
+        try (JarFile jar = new JarFile(jarPath.toFile())) {
+            return jar.stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .map(entry -> new Entry(entry.getName(), jarPath, true, entry.getSize()))
+                    .toList();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private static String hash(InputStream content) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        try (InputStream in = content) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String canonicalKey(File projectRoot) {
+        try {
+            return projectRoot.getCanonicalPath();
+        } catch (IOException e) {
+            return projectRoot.getAbsolutePath();
+        }
+    }
+
+    /**
+     * Returns the smallest string greater than every string starting with {@code prefix}.
+     */
+    private static String prefixEnd(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+
+    /**
+     * Returns the index of the first element not less than {@code key}.
+     */
+    private static int lowerBound(String[] sorted, String key) {
+        int index = Arrays.binarySearch(sorted, key);
+        return index >= 0 ? index : -index - 1;
+    }
+}
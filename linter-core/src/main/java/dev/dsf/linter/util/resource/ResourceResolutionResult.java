@@ -20,16 +20,24 @@ import java.util.Optional;
  *   <li>{@link ResolutionSource#NOT_FOUND} - Resource was not found anywhere</li>
  * </ul>
  *
- * @param file the resolved file, empty if not found
+ * <p>
+ * Resources found in dependency JARs are not copied to disk. Their {@link #resource()} reads the
+ * JAR entry directly, and {@link #file()} holds its virtual location, which identifies the resource
+ * in lint items but does not exist on disk.
+ * </p>
+ *
+ * @param file the resolved file, or the virtual location of a dependency resource; empty if not found
  * @param source the source type of the resolution
  * @param expectedRoot the expected resource root directory path
  * @param actualLocation the actual location where the resource was found
+ * @param resource the dependency resource to lint; present only for {@link ResolutionSource#CLASSPATH_DEPENDENCY}
  */
 public record ResourceResolutionResult(
         Optional<File> file,
         ResolutionSource source,
         String expectedRoot,
-        String actualLocation
+        String actualLocation,
+        Optional<VirtualResource> resource
 ) {
 
     /**
@@ -63,7 +71,8 @@ public record ResourceResolutionResult(
                 Optional.empty(),
                 ResolutionSource.NOT_FOUND,
                 expectedRoot,
-                null
+                null,
+                Optional.empty()
         );
     }
 
@@ -79,7 +88,8 @@ public record ResourceResolutionResult(
                 Optional.of(file),
                 ResolutionSource.DISK_IN_ROOT,
                 expectedRoot.getAbsolutePath(),
-                file.getAbsolutePath()
+                file.getAbsolutePath(),
+                Optional.empty()
         );
     }
 
@@ -95,24 +105,27 @@ public record ResourceResolutionResult(
                 Optional.of(file),
                 ResolutionSource.DISK_OUTSIDE_ROOT,
                 expectedRoot.getAbsolutePath(),
-                file.getAbsolutePath()
+                file.getAbsolutePath(),
+                Optional.empty()
         );
     }
 
     /**
      * Creates a DEPENDENCY result.
      *
-     * @param file the materialized file
+     * @param resource the resource read from the dependency JAR
      * @param dependencyJar the source dependency JAR
      * @param expectedRoot the expected resource root
      * @return result indicating resource was found in dependency
      */
-    public static ResourceResolutionResult fromDependency(File file, String dependencyJar, File expectedRoot) {
+    public static ResourceResolutionResult fromDependency(VirtualResource resource, String dependencyJar,
+                                                          File expectedRoot) {
         return new ResourceResolutionResult(
-                Optional.of(file),
+                Optional.of(resource.location()),
                 ResolutionSource.CLASSPATH_DEPENDENCY,
                 expectedRoot.getAbsolutePath(),
-                "dependency:" + dependencyJar
+                "dependency:" + dependencyJar,
+                Optional.of(resource)
         );
     }
 
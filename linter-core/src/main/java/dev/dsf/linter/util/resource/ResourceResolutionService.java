@@ -4,9 +4,8 @@ import dev.dsf.linter.plugin.PluginDefinitionDiscovery.PluginAdapter;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
-import java.nio.file.*;
+import java.nio.file.Path;
 import java.util.*;
 
 import dev.dsf.linter.util.cache.ConcurrentCache;
@@ -24,8 +23,8 @@ import static dev.dsf.linter.classloading.ProjectClassLoaderFactory.getOrCreateP
  *   <li>In dependency JARs via classpath lookup</li>
  * </ol>
  * <p>
- * The service maintains caches for materialized resources and resource root lookups
- * to improve performance during repeated resolution operations.
+ * Resources found in dependency JARs are returned as {@link VirtualResource}s that read the
+ * JAR entry on demand; they are not copied to temporary files.
  * </p>
  * <p>
  * This service is thread-safe and can be used concurrently by multiple threads.
@@ -33,29 +32,12 @@ import static dev.dsf.linter.classloading.ProjectClassLoaderFactory.getOrCreateP
  */
 public class ResourceResolutionService {
 
-    private final ConcurrentCache<String, File> materializedCache;
     private final ConcurrentCache<String, File> resourceRootCache;
 
     /**
      * Creates a new resolution service with unified caching.
      */
     public ResourceResolutionService() {
-        this.materializedCache = new ConcurrentCache<>(file -> {
-            try {
-                if (file != null && file.exists()) {
-                    Files.deleteIfExists(file.toPath());
-                    Path parent = file.toPath().getParent();
-                    if (parent != null && Files.exists(parent)) {
-                        try {
-                            Files.deleteIfExists(parent);
-                        } catch (Exception ignored) {
-                        }
-                    }
-                }
-            } catch (Exception ignored) {
-            }
-        });
-
         this.resourceRootCache = new ConcurrentCache<>();
     }
 
@@ -102,7 +84,7 @@ public class ResourceResolutionService {
             Optional<DependencyResolution> dependencyResult = searchInDependencies(normalizedPath, projectRoot);
             if (dependencyResult.isPresent()) {
                 return ResourceResolutionResult.fromDependency(
-                        dependencyResult.get().file(),
+                        dependencyResult.get().resource(),
                         dependencyResult.get().jarName(),
                         expectedResourceRoot
                 );
@@ -139,6 +121,10 @@ public class ResourceResolutionService {
 
     /**
      * Resolves multiple resource references with strict linting.
+     * <p>
+     * Only files within the expected root are returned as valid files; dependency resources are
+     * returned separately and linted from their JAR.
+     * </p>
      *
      * @param paths the paths to resolve
      * @param expectedRoot the expected resource root
@@ -160,7 +146,6 @@ public class ResourceResolutionService {
                     break;
 
                 case CLASSPATH_DEPENDENCY:
-                    result.file().ifPresent(validFiles::add);
                     fromDependencies.put(path, result);
                     break;
 
@@ -205,74 +190,35 @@ public class ResourceResolutionService {
 
     private Optional<DependencyResolution> searchInDependencies(String normalizedPath, File projectRoot) {
         try {
-            String cacheKey = projectRoot.getCanonicalPath() + "::dep::" + normalizedPath;
-
-            File cachedFile = materializedCache.getOrCreate(cacheKey, key -> {
-                try {
-                    ClassLoader cl = getOrCreateProjectClassLoader(projectRoot);
-                    URL url = cl.getResource(normalizedPath);
-                    if (url == null) {
-                        return null;
-                    }
-
-                    String urlString = url.toString();
-                    if (!urlString.startsWith("jar:file:")) {
-                        return null;
-                    }
-
-                    Path tempRoot = Files.createTempDirectory("dsf-linter-dependency-");
-                    return materializeResource(normalizedPath, url, tempRoot);
-
-                } catch (Exception e) {
-                    return null;
-                }
-            });
-
-            if (cachedFile != null) {
-                String jarName = extractJarName(normalizedPath, projectRoot);
-                return Optional.of(new DependencyResolution(cachedFile, jarName));
+            ClassLoader cl = getOrCreateProjectClassLoader(projectRoot);
+            URL url = cl.getResource(normalizedPath);
+            if (url == null || !url.toString().startsWith("jar:file:")) {
+                return Optional.empty();
             }
 
-            return Optional.empty();
+            String jarName = extractJarName(url);
+            VirtualResource resource = VirtualResource.ofUrl(normalizedPath,
+                    VirtualResource.archiveLocation(projectRoot, jarName, normalizedPath), url);
+            return Optional.of(new DependencyResolution(resource, jarName));
 
         } catch (Exception e) {
             return Optional.empty();
         }
     }
 
-    private File materializeResource(String path, URL url, Path tempRoot) throws IOException {
-        tempRoot.toFile().deleteOnExit();
-
-        Path targetPath = tempRoot.resolve(path);
-        Files.createDirectories(targetPath.getParent());
-
-        try (InputStream in = url.openStream()) {
-            Files.copy(in, targetPath, StandardCopyOption.REPLACE_EXISTING);
-        }
-
-        File result = targetPath.toFile();
-        result.deleteOnExit();
-        return result;
-    }
-
-    private String extractJarName(String path, File projectRoot) {
-        try {
-            ClassLoader cl = getOrCreateProjectClassLoader(projectRoot);
-            URL url = cl.getResource(path);
-            if (url != null && url.toString().startsWith("jar:file:")) {
-                String jarPath = url.toString().substring("jar:file:".length(), url.toString().indexOf("!"));
-                return new File(jarPath).getName();
-            }
-        } catch (Exception e) {
-            // Ignore
+    private static String extractJarName(URL url) {
+        String urlString = url.toString();
+        int separator = urlString.indexOf("!/");
+        if (separator < 0) {
+            return "unknown.jar";
         }
-        return "unknown.jar";
+        return new File(urlString.substring("jar:file:".length(), separator)).getName();
     }
 
     /**
      * Internal record for dependency resolution results.
      */
-    private record DependencyResolution(File file, String jarName) {}
+    private record DependencyResolution(VirtualResource resource, String jarName) {}
 
     /**
      * Result container for multiple resource resolutions.
@@ -0,0 +1,191 @@
+package dev.dsf.linter.util.resource;
+
+import dev.dsf.linter.util.cache.DependencyRecorder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable registry of the codes known per FHIR {@code CodeSystem} URL.
+ * <p>
+ * A registry is built in layers, each adding the CodeSystems of one origin on top of the
+ * previous layers:
+ * </p>
+ * <ol>
+ *   <li>{@link Layer#BUILT_IN} &ndash; the DSF core CodeSystems and FHIR value sets the linter
+ *       knows without looking at any project</li>
+ *   <li>{@link Layer#DEPENDENCY} &ndash; CodeSystems found in the dependency JARs of a project</li>
+ *   <li>{@link Layer#PROJECT} &ndash; CodeSystems declared by the project itself</li>
+ * </ol>
+ * <p>
+ * Adding a layer returns a new registry and leaves the receiver unchanged, so the built-in
+ * registry can be shared by every project and a project registry never sees codes of another
+ * project. Codes of a system declared in several layers are merged.
+ * </p>
+ *
+ * <h3>Reverse Index</h3>
+ * <p>
+ * Besides the codes per system, each registry keeps the systems per code, so
+ * {@link #systemsContainingCode(String)} is a single hash lookup instead of a scan over all
+ * systems.
+ * </p>
+ *
+ * @see FhirAuthorizationCache
+ * @since 1.2.0
+ */
+public final class TerminologyRegistry {
+
+    /**
+     * Origin of the CodeSystems added by a layer, in stacking order.
+     */
+    public enum Layer {
+        /** CodeSystems built into the linter. */
+        BUILT_IN,
+        /** CodeSystems found in dependency JARs. */
+        DEPENDENCY,
+        /** CodeSystems declared by the linted project. */
+        PROJECT
+    }
+
+    private static final TerminologyRegistry EMPTY =
+            new TerminologyRegistry(Map.of(), Map.of(), Map.of());
+
+    private final Map<String, Set<String>> codesBySystem;
+    private final Map<String, Set<String>> systemsByCode;
+    private final Map<String, Layer> topLayerBySystem;
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    private TerminologyRegistry(Map<String, Set<String>> codesBySystem,
+                                Map<String, Set<String>> systemsByCode,
+                                Map<String, Layer> topLayerBySystem) {
+        this.codesBySystem = codesBySystem;
+        this.systemsByCode = systemsByCode;
+        this.topLayerBySystem = topLayerBySystem;
+    }
+
+    /**
+     * @return a registry without any CodeSystems
+     */
+    public static TerminologyRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a registry with the given CodeSystems added on top of this one.
+     *
+     * @param layer         the origin of the CodeSystems
+     * @param codesBySystem the codes per CodeSystem URL; blank URLs and empty code sets are ignored
+     * @return the new registry, or this registry if nothing was added
+     */
+    public TerminologyRegistry withLayer(Layer layer, Map<String, ? extends Set<String>> codesBySystem) {
+        Objects.requireNonNull(layer, "layer cannot be null");
+        Objects.requireNonNull(codesBySystem, "codesBySystem cannot be null");
+
+        Map<String, Set<String>> codes = new LinkedHashMap<>();
+        this.codesBySystem.forEach((system, known) -> codes.put(system, new LinkedHashSet<>(known)));
+        Map<String, Layer> layers = new HashMap<>(topLayerBySystem);
+
+        boolean changed = false;
+        for (Map.Entry<String, ? extends Set<String>> entry : codesBySystem.entrySet()) {
+            String system = entry.getKey();
+            Set<String> added = entry.getValue();
+            if (system == null || system.isBlank() || added == null || added.isEmpty()) {
+                continue;
+            }
+            codes.computeIfAbsent(system, s -> new LinkedHashSet<>()).addAll(added);
+            layers.put(system, layer);
+            changed = true;
+        }
+
+        if (!changed) {
+            return this;
+        }
+
+        Map<String, Set<String>> systems = new HashMap<>();
+        codes.forEach((system, known) -> known.forEach(code ->
+                systems.computeIfAbsent(code, c -> new LinkedHashSet<>()).add(system)));
+
+        return new TerminologyRegistry(freeze(codes), freeze(systems), Map.copyOf(layers));
+    }
+
+    /**
+     * @param system the CodeSystem URL
+     * @return {@code true} if any codes are registered for the system
+     */
+    public boolean containsSystem(String system) {
+        return system != null && codesBySystem.containsKey(system);
+    }
+
+    /**
+     * @param system the CodeSystem URL
+     * @param code   the code
+     * @return {@code true} if the code is registered for the system
+     */
+    public boolean isKnown(String system, String code) {
+        if (system == null || code == null || code.isBlank()) return false;
+        Set<String> known = codesBySystem.get(system);
+        return known != null && known.contains(code);
+    }
+
+    /**
+     * Determines whether a code is unknown for a system. Blank input is never reported as unknown.
+     *
+     * @param system the CodeSystem URL
+     * @param code   the code
+     * @return {@code true} if the system is not registered or does not contain the code
+     */
+    public boolean isUnknown(String system, String code) {
+        if (system == null || code == null || code.isBlank()) return false;
+        return !isKnown(system, code);
+    }
+
+    /**
+     * @param code the code
+     * @return the URLs of all CodeSystems containing the code, in registration order
+     */
+    public Set<String> systemsContainingCode(String code) {
+        if (code == null || code.isBlank()) return Collections.emptySet();
+        return systemsByCode.getOrDefault(code, Collections.emptySet());
+    }
+
+    /**
+     * @param system the CodeSystem URL
+     * @return the topmost layer that added codes to the system, or {@code null} if it is not registered
+     */
+    public Layer layerOf(String system) {
+        return system == null ? null : topLayerBySystem.get(system);
+    }
+
+    /**
+     * Returns a hash over the codes of a system, computed once per system and registry, so that
+     * cached lint results can tell whether a CodeSystem they consulted has changed.
+     *
+     * @param system the CodeSystem URL
+     * @return the hash of the sorted codes, or an empty string if the system is not registered
+     */
+    public String fingerprint(String system) {
+        if (!containsSystem(system)) return "";
+        return fingerprints.computeIfAbsent(system,
+                s -> DependencyRecorder.valuesHash(new TreeSet<>(codesBySystem.get(s))));
+    }
+
+    /**
+     * @return the codes per CodeSystem URL, in registration order
+     */
+    public Map<String, Set<String>> codesBySystem() {
+        return codesBySystem;
+    }
+
+    private static Map<String, Set<String>> freeze(Map<String, Set<String>> map) {
+        Map<String, Set<String>> frozen = new LinkedHashMap<>();
+        map.forEach((key, values) -> frozen.put(key, Collections.unmodifiableSet(values)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
@@ -0,0 +1,144 @@
+package dev.dsf.linter.util.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A resource that is read through a content source instead of from a file of its own.
+ * <p>
+ * Resources found in dependency JARs, on the project class path or through a
+ * {@link ResourceProvider} are parsed and linted directly from their source. Nothing is copied
+ * to temporary files, so no clean-up is needed and no {@code deleteOnExit} registrations
+ * accumulate in long-running processes.
+ * </p>
+ *
+ * <h3>Location</h3>
+ * <p>
+ * The {@link #location()} identifies the resource in lint items and reports. For a resource
+ * inside an archive it is a virtual path such as
+ * {@code <project>/dependency.jar!/fhir/Task/task.xml}, which does not exist on disk. Because
+ * it lies below the project root, linters that derive the project from the location of the
+ * linted file resolve the same project as for on-disk resources.
+ * </p>
+ *
+ * @param path     the resource path within its origin, e.g. {@code fhir/Task/task.xml}
+ * @param location the file identifying the resource in lint items and reports
+ * @param content  opens the resource content; may be invoked more than once
+ *
+ * @see FhirDocumentCache#getDocument(VirtualResource)
+ * @since 1.2.0
+ */
+public record VirtualResource(String path, File location, ContentSource content) {
+
+    public VirtualResource {
+        Objects.requireNonNull(path, "path cannot be null");
+        Objects.requireNonNull(location, "location cannot be null");
+        Objects.requireNonNull(content, "content cannot be null");
+    }
+
+    /**
+     * Opens the content of a resource.
+     */
+    @FunctionalInterface
+    public interface ContentSource {
+
+        /**
+         * @return a new stream over the resource content; the caller closes it
+         * @throws IOException if the content cannot be read
+         */
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Creates a resource backed by a file on disk.
+     *
+     * @param file the file
+     * @return the resource, located at the normalized absolute file path
+     */
+    public static VirtualResource ofFile(Path file) {
+        Path normalized = file.toAbsolutePath().normalize();
+        return new VirtualResource(
+                normalized.toString().replace(File.separatorChar, '/'),
+                normalized.toFile(),
+                () -> Files.newInputStream(normalized));
+    }
+
+    /**
+     * Creates a resource backed by a URL, typically a {@code jar:} URL returned by a class loader.
+     * <p>
+     * Each read opens an uncached connection, so no JAR file stays open in the process-wide
+     * {@code jar:} URL cache after the stream is closed.
+     * </p>
+     *
+     * @param path     the resource path within its origin
+     * @param location the file identifying the resource
+     * @param url      the URL to read
+     * @return the resource
+     */
+    public static VirtualResource ofUrl(String path, File location, URL url) {
+        Objects.requireNonNull(url, "url cannot be null");
+        return new VirtualResource(path, location, () -> {
+            URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+            return connection.getInputStream();
+        });
+    }
+
+    /**
+     * Creates a resource backed by content that has already been read.
+     *
+     * @param path     the resource path within its origin
+     * @param location the file identifying the resource
+     * @param content  the resource content; not copied
+     * @return the resource
+     */
+    public static VirtualResource ofBytes(String path, File location, byte[] content) {
+        Objects.requireNonNull(content, "content cannot be null");
+        return new VirtualResource(path, location, () -> new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Returns the virtual location of an archive entry below a project root.
+     *
+     * @param projectRoot the project root, or {@code null} for a relative location
+     * @param archiveName the file name of the archive, e.g. {@code dependency.jar}
+     * @param path        the entry path within the archive
+     * @return the location {@code <projectRoot>/<archiveName>!/<path>}
+     */
+    public static File archiveLocation(File projectRoot, String archiveName, String path) {
+        return new File(projectRoot, archiveName + "!/" + path);
+    }
+
+    /**
+     * @return the file name, i.e. the last segment of {@link #path()}
+     */
+    public String fileName() {
+        int idx = path.lastIndexOf('/');
+        return idx >= 0 ? path.substring(idx + 1) : path;
+    }
+
+    /**
+     * @return a new stream over the resource content; the caller closes it
+     * @throws IOException if the content cannot be read
+     */
+    public InputStream openStream() throws IOException {
+        return content.open();
+    }
+
+    /**
+     * @return the complete resource content
+     * @throws IOException if the content cannot be read
+     */
+    public byte[] readAllBytes() throws IOException {
+        try (InputStream in = content.open()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dev.dsf.linter.util.xml;
+
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Per-thread pool of configured {@link DocumentBuilder}s used for every FHIR XML parse.
+ * <p>
+ * Creating a {@link DocumentBuilderFactory} performs a JAXP service lookup and creating a
+ * {@link DocumentBuilder} allocates a complete parser pipeline. Both used to happen for every
+ * parsed file. This pool configures a single factory once and keeps one builder per thread,
+ * which is {@link DocumentBuilder#reset() reset} before each use.
+ * </p>
+ *
+ * <h3>Configuration</h3>
+ * <ul>
+ *   <li>namespace-aware, as all FHIR linters query by local name and namespace</li>
+ *   <li>secure processing enabled; external DTDs, external general and parameter entities
+ *       and XInclude are disabled, so a resource cannot read local files or reach the network</li>
+ *   <li>entity references are not expanded</li>
+ * </ul>
+ * <p>
+ * Inline DOCTYPE declarations remain allowed so that resources which parsed before still parse.
+ * </p>
+ *
+ * <h3>Concurrency</h3>
+ * <p>
+ * {@link DocumentBuilder} is not thread-safe; every thread gets its own instance. Builders are
+ * never handed out, so callers cannot leak them across threads.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class DocumentBuilderPool {
+
+    private static final DocumentBuilderFactory FACTORY = createFactory();
+
+    private static final ThreadLocal<DocumentBuilder> BUILDER = ThreadLocal.withInitial(DocumentBuilderPool::newBuilder);
+
+    private DocumentBuilderPool() {
+        // Utility class
+    }
+
+    /**
+     * Parses the stream with the current thread's builder.
+     *
+     * @param inputStream the XML input; not closed by this method
+     * @return the parsed document
+     * @throws SAXException if the input is not well-formed XML
+     * @throws IOException  if reading the input fails
+     */
+    public static Document parse(InputStream inputStream) throws SAXException, IOException {
+        return builder().parse(inputStream);
+    }
+
+    /**
+     * Creates a new, empty namespace-aware document.
+     *
+     * @return the new document
+     */
+    public static Document newDocument() {
+        return builder().newDocument();
+    }
+
+    /**
+     * Returns the current thread's builder after resetting it to its configured state.
+     */
+    static DocumentBuilder builder() {
+        DocumentBuilder builder = BUILDER.get();
+        builder.reset();
+        return builder;
+    }
+
+    private static DocumentBuilder newBuilder() {
+        // DocumentBuilderFactory is not guaranteed to be thread-safe
+        synchronized (FACTORY) {
+            try {
+                return FACTORY.newDocumentBuilder();
+            } catch (ParserConfigurationException e) {
+                throw new IllegalStateException("Failed to create XML document builder", e);
+            }
+        }
+    }
+
+    private static DocumentBuilderFactory createFactory() {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        dbf.setXIncludeAware(false);
+        dbf.setExpandEntityReferences(false);
+
+        setFeature(dbf, XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        setFeature(dbf, "http://xml.org/sax/features/external-general-entities", false);
+        setFeature(dbf, "http://xml.org/sax/features/external-parameter-entities", false);
+        setFeature(dbf, "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+
+        setAttribute(dbf, XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        setAttribute(dbf, XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        return dbf;
+    }
+
+    private static void setFeature(DocumentBuilderFactory dbf, String feature, boolean value) {
+        try {
+            dbf.setFeature(feature, value);
+        } catch (ParserConfigurationException e) {
+            // Feature not supported by this JAXP implementation; the remaining settings still apply
+        }
+    }
+
+    private static void setAttribute(DocumentBuilderFactory dbf, String attribute, String value) {
+        try {
+            dbf.setAttribute(attribute, value);
+        } catch (IllegalArgumentException e) {
+            // Attribute not supported by this JAXP implementation; the remaining settings still apply
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package dev.dsf.linter.util.xml;
+
+import org.w3c.dom.NodeList;
+
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Registry of compiled {@link XPathExpression}s keyed by their expression string.
+ * <p>
+ * Creating an {@link XPathFactory} involves a service-loader lookup and compiling an expression
+ * re-parses it every time. The FHIR linters evaluate the same few hundred constant expressions
+ * thousands of times per resource, so this registry compiles every expression once and reuses it.
+ * </p>
+ *
+ * <h3>Concurrency</h3>
+ * <p>
+ * Neither {@link XPathFactory}, {@link XPath} nor {@link XPathExpression} is thread-safe.
+ * Linting runs on virtual threads that are created anew for every plugin and resource batch, so
+ * per-thread state would be rebuilt for almost every file. Instead the registry shares one factory,
+ * guarded by its monitor, and keeps a pool of compiled instances per expression. An evaluation
+ * takes an instance from the pool, or compiles a new one if all are in use, and returns it
+ * afterwards, so no instance is used by two threads at the same time and the number of instances
+ * per expression never exceeds the number of concurrent evaluations.
+ * </p>
+ * <p>
+ * The pools are held in an access-ordered {@link LinkedHashMap} bounded to {@value #MAX_EXPRESSIONS}
+ * expressions, because some callers build expressions from resource values and would otherwise grow
+ * it without limit. The map's monitor is held only for the lookup itself, and evicting the least
+ * recently used expression takes constant time.
+ * </p>
+ *
+ * <h3>Usage</h3>
+ * <pre>{@code
+ * NodeList includes = XPathRegistry.nodes(doc, "/*[local-name()='ValueSet']/*[local-name()='compose']");
+ * String url = XPathRegistry.string(doc, "/*[local-name()='CodeSystem']/*[local-name()='url']/@value");
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class XPathRegistry {
+
+    /**
+     * Maximum number of distinct expressions kept compiled.
+     */
+    static final int MAX_EXPRESSIONS = 1024;
+
+    private static final XPathFactory FACTORY = XPathFactory.newInstance();
+
+    private static final Map<String, Queue<XPathExpression>> EXPRESSIONS =
+            new LinkedHashMap<>(MAX_EXPRESSIONS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Queue<XPathExpression>> eldest) {
+                    return size() > MAX_EXPRESSIONS;
+                }
+            };
+
+    private XPathRegistry() {
+        // Utility class
+    }
+
+    /**
+     * Evaluates the expression against the given context and returns the matching nodes.
+     *
+     * @param context    the document or node to evaluate against
+     * @param expression the XPath expression
+     * @return the matching nodes, never {@code null}
+     * @throws XPathExpressionException if the expression is invalid or cannot be evaluated
+     */
+    public static NodeList nodes(Object context, String expression) throws XPathExpressionException {
+        return (NodeList) evaluate(context, expression, XPathConstants.NODESET);
+    }
+
+    /**
+     * Evaluates the expression against the given context and returns its string value.
+     *
+     * @param context    the document or node to evaluate against
+     * @param expression the XPath expression
+     * @return the string value, empty if nothing matches
+     * @throws XPathExpressionException if the expression is invalid or cannot be evaluated
+     */
+    public static String string(Object context, String expression) throws XPathExpressionException {
+        return (String) evaluate(context, expression, XPathConstants.STRING);
+    }
+
+    /**
+     * Returns the number of distinct expressions currently kept compiled.
+     *
+     * @return the number of expression pools
+     */
+    static int compiledExpressionCount() {
+        synchronized (EXPRESSIONS) {
+            return EXPRESSIONS.size();
+        }
+    }
+
+    /**
+     * Returns the number of idle compiled instances of the expression.
+     *
+     * @param expression the XPath expression
+     * @return the size of the expression's pool, {@code 0} if it has not been compiled
+     */
+    static int pooledInstanceCount(String expression) {
+        Queue<XPathExpression> pool;
+        synchronized (EXPRESSIONS) {
+            pool = EXPRESSIONS.get(expression);
+        }
+        return pool == null ? 0 : pool.size();
+    }
+
+    /**
+     * Drops all compiled expressions.
+     */
+    static void clear() {
+        synchronized (EXPRESSIONS) {
+            EXPRESSIONS.clear();
+        }
+    }
+
+    private static Object evaluate(Object context, String expression, QName returnType)
+            throws XPathExpressionException {
+        Objects.requireNonNull(expression, "expression must not be null");
+
+        Queue<XPathExpression> pool;
+        synchronized (EXPRESSIONS) {
+            pool = EXPRESSIONS.computeIfAbsent(expression, e -> new ConcurrentLinkedQueue<>());
+        }
+        XPathExpression compiled = pool.poll();
+        if (compiled == null) {
+            try {
+                compiled = newXPath().compile(expression);
+            } catch (XPathExpressionException e) {
+                synchronized (EXPRESSIONS) {
+                    EXPRESSIONS.remove(expression, pool);
+                }
+                throw e;
+            }
+        }
+
+        try {
+            return compiled.evaluate(context, returnType);
+        } finally {
+            pool.offer(compiled);
+        }
+    }
+
+    private static XPath newXPath() {
+        synchronized (FACTORY) {
+            return FACTORY.newXPath();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dev.dsf.linter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Writes JAR fixtures for tests.
+ */
+public final class TestJars {
+
+    private TestJars() {
+    }
+
+    /**
+     * Writes a JAR with the given text entries, creating missing parent directories.
+     *
+     * @param jar     the JAR file to write
+     * @param entries the entry names mapped to their UTF-8 content, written in iteration order
+     * @return the JAR file
+     * @throws IOException if the JAR cannot be written
+     */
+    public static Path write(Path jar, Map<String, String> entries) throws IOException {
+        Map<String, byte[]> bytes = new LinkedHashMap<>();
+        entries.forEach((name, content) -> bytes.put(name, content.getBytes(StandardCharsets.UTF_8)));
+        return writeBytes(jar, bytes);
+    }
+
+    /**
+     * Writes a JAR with the given binary entries, creating missing parent directories.
+     *
+     * @param jar     the JAR file to write
+     * @param entries the entry names mapped to their content, written in iteration order
+     * @return the JAR file
+     * @throws IOException if the JAR cannot be written
+     */
+    public static Path writeBytes(Path jar, Map<String, byte[]> entries) throws IOException {
+        Path parent = jar.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new JarEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
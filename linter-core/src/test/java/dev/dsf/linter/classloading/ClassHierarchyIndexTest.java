@@ -0,0 +1,83 @@
+package dev.dsf.linter.classloading;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassHierarchyIndexTest {
+
+    static volatile boolean sideEffectInitialized;
+
+    private final ClassHierarchyIndex index = new ClassHierarchyIndex(ClassHierarchyIndexTest.class.getClassLoader());
+
+    @Test
+    void testResolvesTransitiveSupertypesOfJdkClasses() {
+        assertTrue(index.isAssignableTo("java.util.ArrayList", "java.util.List"));
+        assertTrue(index.isAssignableTo("java.util.ArrayList", "java.util.Collection"));
+        assertTrue(index.isAssignableTo("java.util.ArrayList", "java.util.AbstractCollection"));
+        assertTrue(index.isAssignableTo("java.util.ArrayList", "java.lang.Object"));
+        assertTrue(index.isAssignableTo("java.util.ArrayList", "java.util.ArrayList"));
+        assertFalse(index.isAssignableTo("java.util.ArrayList", "java.util.Map"));
+    }
+
+    @Test
+    void testReadsHeaderOfNestedClasses() {
+        String name = SideEffect.class.getName();
+
+        ClassHierarchyIndex.ClassHeader header = index.header(name).orElseThrow();
+        assertEquals(name, header.name());
+        assertEquals(Base.class.getName(), header.superName());
+        assertEquals(java.util.List.of(Runnable.class.getName()), header.interfaces());
+        assertFalse(header.isInterface());
+        assertTrue(index.header(Runnable.class.getName()).orElseThrow().isInterface());
+
+        Set<String> supertypes = index.supertypes(name).orElseThrow();
+        assertTrue(supertypes.contains(Serializable.class.getName()));
+        assertTrue(supertypes.contains(Base.class.getName()));
+    }
+
+    @Test
+    void testQueriesDoNotInitializeClasses() {
+        String name = "dev.dsf.linter.classloading.ClassHierarchyIndexTest$SideEffect";
+
+        assertTrue(index.contains(name));
+        assertTrue(index.isAssignableTo(name, Runnable.class.getName()));
+        assertFalse(sideEffectInitialized, "Static initializer must not run");
+    }
+
+    @Test
+    void testMissingClassesAndAncestors() {
+        assertFalse(index.contains("org.example.DoesNotExist"));
+        assertEquals(Optional.empty(), index.supertypes("org.example.DoesNotExist"));
+        assertFalse(index.isAssignableTo("org.example.DoesNotExist", "java.lang.Object"));
+
+        ClassLoader withoutBase = new ClassLoader(null) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                return name.endsWith("$Base.class") ? null
+                        : ClassHierarchyIndexTest.class.getClassLoader().getResourceAsStream(name);
+            }
+        };
+        ClassHierarchyIndex partial = new ClassHierarchyIndex(withoutBase);
+        assertTrue(partial.contains(SideEffect.class.getName()));
+        assertTrue(partial.supertypes(SideEffect.class.getName()).isEmpty());
+    }
+
+    static class Base implements Serializable {
+    }
+
+    static class SideEffect extends Base implements Runnable {
+        static {
+            sideEffectInitialized = true;
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.dsf.linter.classloading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that {@link ClassInspector} does not keep the hierarchy index of a released project class loader.
+ */
+class ClassInspectorIndexTest {
+
+    @TempDir
+    Path projectRoot;
+
+    @Test
+    void testIndexIsDroppedWhenProjectIsReleased() throws Exception {
+        Files.writeString(projectRoot.resolve("Example.class"), "not-really-bytecode");
+        File root = projectRoot.toFile();
+        ClassLoader loader = ProjectClassLoaderFactory.getOrCreateProjectClassLoader(root);
+
+        ClassInspector.classExists("example.DoesNotExist", root);
+        assertTrue(ClassInspector.hasIndex(loader));
+
+        ProjectClassLoaderFactory.release(root);
+
+        assertFalse(ClassInspector.hasIndex(loader));
+        assertNotSame(loader, ProjectClassLoaderFactory.getOrCreateProjectClassLoader(root));
+        ProjectClassLoaderFactory.release(root);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.dsf.linter.input;
+
+import dev.dsf.linter.logger.ConsoleLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachePrunerTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLeastRecentlyUsedEntriesBeyondLimitAreRemoved() throws IOException {
+        Path entries = Files.createDirectories(tempDir.resolve("entries"));
+        Path oldest = entry(entries, "a", 5 * HOUR);
+        Path older = entry(entries, "b", 4 * HOUR);
+        Path recent = entry(entries, "c", 3 * HOUR);
+        CachePruner pruner = new CachePruner(2, Duration.ofDays(30), Duration.ofHours(1), new ConsoleLogger(false));
+
+        pruner.touch(oldest);
+        assertEquals(1, pruner.prune(entries, Files::isDirectory, tempDir.resolve("trash")));
+
+        assertTrue(Files.isDirectory(oldest));
+        assertFalse(Files.exists(older));
+        assertTrue(Files.isDirectory(recent));
+        assertEquals(0, count(tempDir.resolve("trash")));
+    }
+
+    @Test
+    void testRecentlyUsedAndExpiredEntries() throws IOException {
+        Path entries = Files.createDirectories(tempDir.resolve("entries"));
+        Path expired = entry(entries, "expired", Duration.ofDays(31).toMillis());
+        Path inUse1 = entry(entries, "in-use-1", 0);
+        Path inUse2 = entry(entries, "in-use-2", 0);
+        CachePruner pruner = new CachePruner(1, Duration.ofDays(30), Duration.ofHours(1), new ConsoleLogger(false));
+
+        assertEquals(1, pruner.prune(entries, Files::isDirectory, null));
+
+        assertFalse(Files.exists(expired));
+        assertTrue(Files.isDirectory(inUse1));
+        assertTrue(Files.isDirectory(inUse2));
+    }
+
+    @Test
+    void testPublishingPrunesExtractionCache() throws IOException {
+        CachePruner pruner = new CachePruner(1, Duration.ofDays(30), Duration.ZERO, new ConsoleLogger(false));
+        JarExtractionCache cache = new JarExtractionCache(tempDir.resolve("cache"), new ConsoleLogger(false), pruner);
+
+        Path first = cache.publish("a".repeat(64), false, cache.newStagingDirectory());
+        Files.setLastModifiedTime(first, FileTime.fromMillis(System.currentTimeMillis() - HOUR));
+        Path second = cache.publish("b".repeat(64), false, cache.newStagingDirectory());
+
+        assertFalse(Files.exists(first));
+        assertTrue(cache.lookup("a".repeat(64), false).isEmpty());
+        assertEquals(second, cache.lookup("b".repeat(64), false).orElseThrow());
+    }
+
+    @Test
+    void testStaleStagingAndEvictedDirectoriesArePruned() throws IOException {
+        JarExtractionCache cache = new JarExtractionCache(tempDir.resolve("cache"), new ConsoleLogger(false));
+        Path staging = cache.directory().resolve("staging");
+        long stale = Duration.ofDays(2).toMillis();
+        Path abandoned = entry(staging, "extract-1", stale);
+        Path interrupted = entry(staging, CachePruner.EVICTED_PREFIX + "1", stale);
+        Path fresh = entry(staging, CachePruner.EVICTED_PREFIX + "2", 0);
+        Path unrelated = entry(staging, "other", stale);
+
+        cache.prune();
+
+        assertFalse(Files.exists(abandoned));
+        assertFalse(Files.exists(interrupted));
+        assertTrue(Files.isDirectory(fresh));
+        assertTrue(Files.isDirectory(unrelated));
+    }
+
+    private static Path entry(Path parent, String name, long ageMillis) throws IOException {
+        Path entry = Files.createDirectories(parent.resolve(name));
+        Files.writeString(entry.resolve("content.txt"), name);
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis() - ageMillis));
+        return entry;
+    }
+
+    private static long count(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return 0;
+        }
+        try (Stream<Path> children = Files.list(dir)) {
+            return children.count();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package dev.dsf.linter.input;
+
+import dev.dsf.linter.TestJars;
+import dev.dsf.linter.classloading.ProjectClassLoaderFactory;
+import dev.dsf.linter.logger.ConsoleLogger;
+import dev.dsf.linter.util.resource.ProjectIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for JAR extraction modes of {@link JarHandler}.
+ */
+class JarHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final JarHandler cleanupHandler = new JarHandler(new ConsoleLogger(false));
+    private Path extractedDir;
+
+    @AfterEach
+    void tearDown() {
+        cleanupHandler.deleteDirectoryRecursively(extractedDir);
+    }
+
+    @Test
+    void testFullExtractionExtractsClassesWithoutCopyingJar() throws Exception {
+        Path jar = createPluginJar("full-mode-plugin.jar");
+
+        JarHandler.JarProcessingResult result =
+                new JarHandler(new ConsoleLogger(false)).processJar(jar.toString(), false);
+        extractedDir = result.extractedDir();
+
+        assertTrue(Files.isRegularFile(extractedDir.resolve("example/TestProcessPluginDefinition.class")));
+        assertTrue(Files.isRegularFile(extractedDir.resolve("fhir/Task/task.xml")));
+        assertFalse(Files.isSymbolicLink(extractedDir.resolve("full-mode-plugin.jar")));
+        assertFalse(Files.exists(extractedDir.resolve("full-mode-plugin.jar")));
+    }
+
+    @Test
+    void testIndexClassifiesJarEntries() throws Exception {
+        Path jar = createPluginJar("indexed-plugin.jar");
+
+        JarEntryIndex index;
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            index = JarEntryIndex.of(jarFile);
+        }
+
+        assertEquals(List.of("example.TestProcessPluginDefinition"), index.classNames());
+        assertEquals(List.of("fhir/Task/task.xml"), index.fhirResources());
+        assertEquals(List.of("META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition"), index.pluginDefinitions());
+    }
+
+    @Test
+    void testOnlyLintedEntriesAreExtracted() throws Exception {
+        Path jar = TestJars.write(tempDir.resolve("extra-entries-plugin.jar"), Map.of(
+                "META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition", "example.TestProcessPluginDefinition",
+                "META-INF/MANIFEST.MF", "Manifest-Version: 1.0",
+                "example/TestProcessPluginDefinition.class", "not-really-bytecode",
+                "example/TestProcessPluginDefinition.java", "source",
+                "bpe/process.bpmn", "<definitions/>",
+                "fhir/Task/task.xml", "<Task xmlns=\"http://hl7.org/fhir\"/>",
+                "docs/README.md", "readme"));
+
+        JarHandler.JarProcessingResult result =
+                new JarHandler(new ConsoleLogger(false)).processJar(jar.toString(), false);
+        extractedDir = result.extractedDir();
+
+        assertTrue(Files.isRegularFile(extractedDir.resolve("example/TestProcessPluginDefinition.class")));
+        assertTrue(Files.isRegularFile(extractedDir.resolve("bpe/process.bpmn")));
+        assertTrue(Files.isRegularFile(extractedDir.resolve("fhir/Task/task.xml")));
+        assertTrue(Files.isRegularFile(extractedDir.resolve(
+                "META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition")));
+        assertFalse(Files.exists(extractedDir.resolve("META-INF/MANIFEST.MF")));
+        assertFalse(Files.exists(extractedDir.resolve("example/TestProcessPluginDefinition.java")));
+        assertFalse(Files.exists(extractedDir.resolve("docs")));
+    }
+
+    @Test
+    void testJarWithoutPluginDefinitionIsRejectedBeforeExtraction() throws Exception {
+        Path jar = TestJars.write(tempDir.resolve("no-plugin.jar"),
+                Map.of("example/Other.class", "not-really-bytecode"));
+
+        JarHandler handler = new JarHandler(new ConsoleLogger(false));
+        assertThrows(IllegalStateException.class, () -> handler.processJar(jar.toString(), false));
+        assertNoWorkingDirectoryLeft("no-plugin");
+    }
+
+    @Test
+    void testInPlaceModeLeavesClassesInJar() throws Exception {
+        Path jar = createPluginJar("in-place-plugin.jar");
+
+        JarHandler.JarProcessingResult result =
+                new JarHandler(new ConsoleLogger(false), true).processJar(jar.toString(), false);
+        extractedDir = result.extractedDir();
+
+        assertFalse(Files.exists(extractedDir.resolve("example/TestProcessPluginDefinition.class")));
+        assertTrue(Files.isRegularFile(extractedDir.resolve("fhir/Task/task.xml")));
+        assertTrue(Files.isRegularFile(extractedDir.resolve(
+                "META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition")));
+
+        Path linkedJar = extractedDir.resolve("in-place-plugin.jar");
+        assertTrue(Files.isRegularFile(linkedJar));
+        assertEquals(Files.size(jar), Files.size(linkedJar));
+    }
+
+    @Test
+    void testManyEntriesAreExtractedConcurrently() throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition", "example.TestProcessPluginDefinition");
+        for (int i = 0; i < 200; i++) {
+            entries.put("example/p" + (i % 10) + "/Class" + i + ".class", "bytecode-" + i);
+        }
+        Path jar = TestJars.write(tempDir.resolve("many-entries-plugin.jar"), entries);
+
+        JarHandler.JarProcessingResult result =
+                new JarHandler(new ConsoleLogger(false)).processJar(jar.toString(), false);
+        extractedDir = result.extractedDir();
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals("bytecode-" + i,
+                    Files.readString(extractedDir.resolve("example/p" + (i % 10) + "/Class" + i + ".class")));
+        }
+    }
+
+    @Test
+    void testEntryCountBoundIsEnforced() throws Exception {
+        Path jar = createPluginJar("too-many-entries-plugin.jar");
+
+        JarHandler handler = new JarHandler(new ConsoleLogger(false), false, null, null, 2, Long.MAX_VALUE);
+        IOException e = assertThrows(IOException.class, () -> handler.processJar(jar.toString(), false));
+
+        assertTrue(e.getMessage().contains("2 entries"));
+        assertNoWorkingDirectoryLeft("too-many-entries-plugin");
+    }
+
+    @Test
+    void testTotalSizeBoundIsEnforced() throws Exception {
+        Path jar = createPluginJar("too-large-plugin.jar");
+
+        JarHandler handler = new JarHandler(new ConsoleLogger(false), false, null, null, 100, 16);
+
+        assertThrows(IOException.class, () -> handler.processJar(jar.toString(), false));
+        assertNoWorkingDirectoryLeft("too-large-plugin");
+    }
+
+    @Test
+    void testEntriesOutsideExtractionDirectoryAreRejected() throws Exception {
+        Path jar = TestJars.write(tempDir.resolve("zip-slip-plugin.jar"), Map.of(
+                "META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition", "example.TestProcessPluginDefinition",
+                "example/TestProcessPluginDefinition.class", "not-really-bytecode",
+                "../escaped.txt", "outside"));
+
+        JarHandler handler = new JarHandler(new ConsoleLogger(false));
+
+        assertThrows(IOException.class, () -> handler.processJar(jar.toString(), false));
+        assertFalse(Files.exists(Path.of(System.getProperty("java.io.tmpdir"), "escaped.txt")));
+    }
+
+    @Test
+    void testConcurrentRunsOnSameJarNameUseSeparateWorkingDirectories() throws Exception {
+        Path jar = createPluginJar("same-name-plugin.jar");
+        JarHandler handler = new JarHandler(new ConsoleLogger(false));
+
+        JarHandler.JarProcessingResult first = handler.processJar(jar.toString(), false);
+        JarHandler.JarProcessingResult second = handler.processJar(jar.toString(), false);
+        try {
+            assertNotEquals(first.extractedDir(), second.extractedDir());
+            assertTrue(first.isTemporary());
+
+            handler.deleteDirectoryRecursively(first.extractedDir());
+            assertTrue(Files.isRegularFile(second.extractedDir().resolve("fhir/Task/task.xml")));
+        } finally {
+            handler.deleteDirectoryRecursively(first.extractedDir());
+            extractedDir = second.extractedDir();
+        }
+    }
+
+    @Test
+    void testSharedExtractionCacheExtractsJarOnce() throws Exception {
+        Path jar = createPluginJar("shared-plugin.jar");
+        Path copy = Files.copy(jar, tempDir.resolve("renamed-plugin.jar"));
+        JarExtractionCache cache = new JarExtractionCache(tempDir.resolve("extracted"), new ConsoleLogger(false));
+
+        JarHandler.JarProcessingResult first =
+                new JarHandler(new ConsoleLogger(false), false, null, cache).processJar(jar.toString(), false);
+        JarHandler.JarProcessingResult second =
+                new JarHandler(new ConsoleLogger(false), false, null, cache).processJar(copy.toString(), false);
+
+        assertEquals(first.extractedDir(), second.extractedDir());
+        assertFalse(first.isTemporary());
+        assertFalse(second.isTemporary());
+        assertTrue(first.extractedDir().startsWith(cache.directory()));
+        assertTrue(Files.isRegularFile(second.extractedDir().resolve("fhir/Task/task.xml")));
+        assertEquals("renamed-plugin.jar", second.jarName());
+    }
+
+    @Test
+    void testSharedInPlaceExtractionSurvivesDeletionOfInputJar() throws Exception {
+        Path jar = createPluginJar("shared-in-place-plugin.jar");
+        JarExtractionCache cache = new JarExtractionCache(tempDir.resolve("extracted"), new ConsoleLogger(false));
+
+        JarHandler.JarProcessingResult result =
+                new JarHandler(new ConsoleLogger(false), true, null, cache).processJar(jar.toString(), false);
+        long size = Files.size(jar);
+        Files.delete(jar);
+
+        Path sharedJar = result.extractedDir().resolve("shared-in-place-plugin.jar");
+        assertFalse(Files.isSymbolicLink(sharedJar));
+        assertEquals(size, Files.size(sharedJar));
+    }
+
+    @Test
+    void testSharedInPlaceJarIsIndependentOfInputJar() throws Exception {
+        Path jar = createPluginJar("rewritten-plugin.jar");
+        JarExtractionCache cache = new JarExtractionCache(tempDir.resolve("extracted"), new ConsoleLogger(false));
+
+        JarHandler.JarProcessingResult result =
+                new JarHandler(new ConsoleLogger(false), true, null, cache).processJar(jar.toString(), false);
+        String sha256 = JarExtractionCache.sha256(jar);
+
+        // A build tool rewriting the JAR in place must not change the published entry
+        Files.write(jar, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+        assertEquals(sha256, JarExtractionCache.sha256(result.extractedDir().resolve("rewritten-plugin.jar")));
+    }
+
+    @Test
+    void testPluginClassLoadsFromLinkedJarInPlaceMode() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null, "requires a JDK");
+
+        Path sources = Files.createDirectories(tempDir.resolve("src/example"));
+        Path source = Files.writeString(sources.resolve("InPlacePlugin.java"),
+                "package example; public class InPlacePlugin {}");
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        assertEquals(0, compiler.run(null, null, null, "-d", classes.toString(), source.toString()));
+
+        Path jar = TestJars.writeBytes(tempDir.resolve("linked-plugin.jar"), Map.of(
+                "META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition", "example.InPlacePlugin".getBytes(StandardCharsets.UTF_8),
+                "example/InPlacePlugin.class", Files.readAllBytes(classes.resolve("example/InPlacePlugin.class"))));
+
+        JarHandler.JarProcessingResult result =
+                new JarHandler(new ConsoleLogger(false), true).processJar(jar.toString(), false);
+        extractedDir = result.extractedDir();
+
+        try {
+            ClassLoader loader = ProjectClassLoaderFactory.createRecursiveProjectClassLoader(extractedDir.toFile());
+            Class<?> plugin = Class.forName("example.InPlacePlugin", false, loader);
+            assertSame(loader, plugin.getClassLoader());
+        } finally {
+            ProjectIndex.release(extractedDir.toFile());
+        }
+    }
+
+    private static void assertNoWorkingDirectoryLeft(String jarBaseName) throws IOException {
+        try (var dirs = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            assertTrue(dirs.noneMatch(dir -> dir.getFileName().toString().startsWith("dsf-linter-" + jarBaseName + "-")));
+        }
+    }
+
+    private Path createPluginJar(String name) throws IOException {
+        return TestJars.write(tempDir.resolve(name), Map.of(
+                "META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition", "example.TestProcessPluginDefinition",
+                "example/TestProcessPluginDefinition.class", "not-really-bytecode",
+                "fhir/Task/task.xml", "<Task xmlns=\"http://hl7.org/fhir\"/>"));
+    }
+}
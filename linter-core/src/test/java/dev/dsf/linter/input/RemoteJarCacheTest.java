@@ -0,0 +1,215 @@
+package dev.dsf.linter.input;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.dsf.linter.logger.ConsoleLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RemoteJarCache} against a local HTTP server that honors {@code If-None-Match}.
+ */
+class RemoteJarCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private volatile byte[] content = "first version".getBytes(StandardCharsets.UTF_8);
+    private volatile String etag = "\"v1\"";
+    private volatile int errorStatus;
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            if (errorStatus != 0) {
+                exchange.sendResponseHeaders(errorStatus, -1);
+                exchange.close();
+                return;
+            }
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            downloads.incrementAndGet();
+            byte[] body = content;
+            exchange.getResponseHeaders().set("ETag", etag);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testUnchangedJarIsRevalidatedInsteadOfDownloaded() throws Exception {
+        RemoteJarCache cache = newCache();
+
+        RemoteJarCache.CachedJar first = cache.fetch(url("plugin.jar"));
+        RemoteJarCache.CachedJar second = newCache().fetch(url("plugin.jar"));
+
+        assertFalse(first.fromCache());
+        assertTrue(second.fromCache());
+        assertEquals(first.file(), second.file());
+        assertEquals(1, downloads.get());
+        assertEquals(1, notModified.get());
+        assertArrayEquals(content, Files.readAllBytes(second.file()));
+        assertEquals(first.sha256() + ".jar", first.file().getFileName().toString());
+    }
+
+    @Test
+    void testChangedJarIsDownloadedAgain() throws Exception {
+        RemoteJarCache cache = newCache();
+        RemoteJarCache.CachedJar first = cache.fetch(url("plugin.jar"));
+
+        content = "second version".getBytes(StandardCharsets.UTF_8);
+        etag = "\"v2\"";
+        RemoteJarCache.CachedJar second = cache.fetch(url("plugin.jar"));
+
+        assertFalse(second.fromCache());
+        assertNotEquals(first.sha256(), second.sha256());
+        assertArrayEquals(content, Files.readAllBytes(second.file()));
+        assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void testIdenticalContentUnderSeveralUrlsIsStoredOnce() throws Exception {
+        RemoteJarCache cache = newCache();
+
+        RemoteJarCache.CachedJar a = cache.fetch(url("a/plugin.jar"));
+        RemoteJarCache.CachedJar b = cache.fetch(url("b/plugin.jar"));
+
+        assertEquals(a.file(), b.file());
+        try (var objects = Files.list(tempDir.resolve("cache/objects"))) {
+            assertEquals(1, objects.count());
+        }
+    }
+
+    @Test
+    void testCorruptObjectIsDownloadedAgain() throws Exception {
+        RemoteJarCache cache = newCache();
+        RemoteJarCache.CachedJar first = cache.fetch(url("plugin.jar"));
+        Files.writeString(first.file(), "tampered");
+
+        RemoteJarCache.CachedJar second = cache.fetch(url("plugin.jar"));
+
+        assertFalse(second.fromCache());
+        assertArrayEquals(content, Files.readAllBytes(second.file()));
+        assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void testCachedJarIsUsedWhenServerIsUnreachable() throws Exception {
+        String url = url("plugin.jar");
+        RemoteJarCache.CachedJar first = newCache().fetch(url);
+        server.stop(0);
+        server = null;
+
+        RemoteJarCache.CachedJar offline = newCache().fetch(url);
+
+        assertTrue(offline.fromCache());
+        assertEquals(first.file(), offline.file());
+    }
+
+    @Test
+    void testCachedJarIsUsedOnServerError() throws Exception {
+        String url = url("plugin.jar");
+        RemoteJarCache.CachedJar first = newCache().fetch(url);
+        errorStatus = 503;
+
+        RemoteJarCache.CachedJar degraded = newCache().fetch(url);
+
+        assertTrue(degraded.fromCache());
+        assertEquals(first.file(), degraded.file());
+
+        errorStatus = 404;
+        assertThrows(IOException.class, () -> newCache().fetch(url));
+    }
+
+    @Test
+    void testNotModifiedComparesSizeWithoutHashing() throws Exception {
+        RemoteJarCache cache = newCache();
+        RemoteJarCache.CachedJar first = cache.fetch(url("plugin.jar"));
+        // Same size, different content: only a rehash would notice
+        Files.write(first.file(), new byte[content.length]);
+
+        RemoteJarCache.CachedJar second = cache.fetch(url("plugin.jar"));
+
+        assertTrue(second.fromCache());
+        assertEquals(1, downloads.get());
+        assertEquals(1, notModified.get());
+    }
+
+    @Test
+    void testDownloadIsBounded() throws Exception {
+        RemoteJarCache cache = new RemoteJarCache(tempDir.resolve("cache"), new ConsoleLogger(false),
+                content.length - 1, new CachePruner(new ConsoleLogger(false)));
+
+        IOException e = assertThrows(IOException.class, () -> cache.fetch(url("plugin.jar")));
+
+        assertTrue(e.getMessage().contains("download limit"), e.getMessage());
+        try (var objects = Files.list(tempDir.resolve("cache/objects"))) {
+            assertEquals(0, objects.count());
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedObjectsAndRefsAreEvicted() throws Exception {
+        RemoteJarCache cache = new RemoteJarCache(tempDir.resolve("cache"), new ConsoleLogger(false),
+                JarHandler.DEFAULT_MAX_TOTAL_BYTES,
+                new CachePruner(1, Duration.ofDays(30), Duration.ZERO, new ConsoleLogger(false)));
+        RemoteJarCache.CachedJar first = cache.fetch(url("a/plugin.jar"));
+        FileTime hourAgo = FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(1).toMillis());
+        try (var refs = Files.list(tempDir.resolve("cache/refs"))) {
+            for (Path ref : refs.toList()) {
+                Files.setLastModifiedTime(ref, hourAgo);
+            }
+        }
+        Files.setLastModifiedTime(first.file(), hourAgo);
+
+        content = "second version".getBytes(StandardCharsets.UTF_8);
+        RemoteJarCache.CachedJar second = cache.fetch(url("b/plugin.jar"));
+
+        assertFalse(Files.exists(first.file()));
+        assertTrue(Files.exists(second.file()));
+        try (var refs = Files.list(tempDir.resolve("cache/refs"))) {
+            assertEquals(1, refs.count());
+        }
+    }
+
+    private RemoteJarCache newCache() {
+        return new RemoteJarCache(tempDir.resolve("cache"), new ConsoleLogger(false));
+    }
+
+    private String url(String path) {
+        return "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + server.getAddress().getPort() + "/" + path;
+    }
+}
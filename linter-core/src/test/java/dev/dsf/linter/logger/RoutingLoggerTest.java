@@ -0,0 +1,79 @@
+package dev.dsf.linter.logger;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutingLoggerTest {
+
+    private static final class RecordingLogger implements Logger {
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        public synchronized void info(String message) { lines.add("INFO " + message); }
+        @Override
+        public synchronized void warn(String message) { lines.add("WARN " + message); }
+        @Override
+        public synchronized void error(String message) { lines.add("ERROR " + message); }
+        @Override
+        public synchronized void error(String message, Throwable throwable) { lines.add("ERROR " + message); }
+        @Override
+        public synchronized void debug(String message) { lines.add("DEBUG " + message); }
+        @Override
+        public boolean verbose() { return true; }
+        @Override
+        public boolean isVerbose() { return true; }
+    }
+
+    @Test
+    void testOutputOutsideCaptureGoesToDelegate() {
+        RecordingLogger target = new RecordingLogger();
+        RoutingLogger logger = RoutingLogger.wrap(target);
+
+        logger.info("direct");
+
+        assertEquals(List.of("INFO direct"), target.lines);
+        assertSame(logger, RoutingLogger.wrap(logger));
+    }
+
+    @Test
+    void testConcurrentOutputIsReplayedInSubmissionOrder() throws Exception {
+        RecordingLogger target = new RecordingLogger();
+        RoutingLogger logger = RoutingLogger.wrap(target);
+
+        List<BufferedLogger> buffers = new ArrayList<>();
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                final int index = i;
+                BufferedLogger buffer = new BufferedLogger(true);
+                buffers.add(buffer);
+                futures.add(executor.submit(() -> RoutingLogger.callBuffered(buffer, () -> {
+                    logger.info("start " + index);
+                    Thread.sleep(8 - index);
+                    logger.warn("end " + index);
+                    return index;
+                })));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(Integer.valueOf(i), futures.get(i).get());
+                buffers.get(i).replayTo(logger);
+            }
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            expected.add("INFO start " + i);
+            expected.add("WARN end " + i);
+        }
+        assertEquals(expected, target.lines);
+    }
+}
@@ -0,0 +1,73 @@
+package dev.dsf.linter.plugin;
+
+import dev.dsf.linter.TestJars;
+import dev.dsf.linter.classloading.ProjectClassLoaderFactory;
+import dev.dsf.linter.util.resource.ProjectIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the direct class scan of {@link PluginDefinitionDiscovery}.
+ */
+class PluginDefinitionDiscoveryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path projectRoot;
+
+    @AfterEach
+    void tearDown() {
+        if (projectRoot != null) {
+            ProjectClassLoaderFactory.release(projectRoot.toFile());
+            ProjectIndex.release(projectRoot.toFile());
+        }
+    }
+
+    @Test
+    void testDirectScanFindsClassesInRootJarWhenNotExtracted() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null, "requires a JDK");
+
+        // The candidates extend a class left out of the JARs, so loading them fails and is recorded
+        Path sources = Files.createDirectories(tempDir.resolve("src/example"));
+        Files.writeString(sources.resolve("Missing.java"), "package example; public class Missing {}");
+        Files.writeString(sources.resolve("InPlaceProcessPluginDefinition.java"),
+                "package example; public class InPlaceProcessPluginDefinition extends Missing {}");
+        Files.writeString(sources.resolve("LibProcessPluginDefinition.java"),
+                "package example; public class LibProcessPluginDefinition extends Missing {}");
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        try (var files = Files.list(sources)) {
+            List<String> args = new ArrayList<>(List.of("-d", classes.toString()));
+            files.map(Path::toString).forEach(args::add);
+            assertEquals(0, compiler.run(null, null, null, args.toArray(String[]::new)));
+        }
+
+        projectRoot = Files.createDirectories(tempDir.resolve("project"));
+        TestJars.writeBytes(projectRoot.resolve("plugin.jar"), Map.of("example/InPlaceProcessPluginDefinition.class",
+                Files.readAllBytes(classes.resolve("example/InPlaceProcessPluginDefinition.class"))));
+        TestJars.writeBytes(projectRoot.resolve("lib/dependency.jar"), Map.of("example/LibProcessPluginDefinition.class",
+                Files.readAllBytes(classes.resolve("example/LibProcessPluginDefinition.class"))));
+
+        PluginDefinitionDiscovery.DiscoveryContext context = new PluginDefinitionDiscovery.DiscoveryContext();
+        PluginDefinitionDiscovery.scanProjectRoot(projectRoot.toFile(), context);
+
+        assertTrue(context.getSuccessfulPlugins().isEmpty());
+        assertEquals(List.of("example.InPlaceProcessPluginDefinition"),
+                context.getFailedPlugins().stream().map(PluginDiscoveryError::pluginClassName).toList());
+        assertEquals(PluginDiscoveryError.ErrorType.CLASS_LOADING_FAILED,
+                context.getFailedPlugins().get(0).errorType());
+    }
+}
@@ -3,6 +3,7 @@ package dev.dsf.linter.util.cache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -11,6 +12,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -176,4 +178,89 @@ class ConcurrentCacheTest {
         assertDoesNotThrow(() -> cache.clear(),
                 "Cleanup exceptions should be caught and ignored");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMaximumSizeEvictsLeastRecentlyUsedWithCleanup() {
+        List<String> cleanedUp = new ArrayList<>();
+        cache = ConcurrentCache.<String, String>builder()
+                .maximumSize(2)
+                .cleanupCallback(cleanedUp::add)
+                .build();
+
+        cache.getOrCreate("a", k -> "A");
+        cache.getOrCreate("b", k -> "B");
+        cache.getOrCreate("a", k -> "unused");
+        cache.getOrCreate("c", k -> "C");
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertEquals(List.of("B"), cleanedUp);
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(3, stats.missCount());
+        assertEquals(3, stats.loadSuccessCount());
+        assertEquals(1, stats.evictionCount());
+    }
+
+    @Test
+    void testMaximumWeightKeepsNewestEntry() {
+        cache = ConcurrentCache.<String, String>builder()
+                .maximumWeight(10, (k, v) -> v.length())
+                .build();
+
+        cache.put("small", "12345");
+        cache.put("medium", "123456");
+        assertFalse(cache.containsKey("small"));
+        assertEquals(6, cache.weight());
+
+        String large = cache.getOrCreate("large", k -> "123456789012");
+        assertEquals("123456789012", large);
+        assertEquals(1, cache.size());
+        assertTrue(cache.containsKey("large"));
+    }
+
+    @Test
+    void testExpireAfterAccess() {
+        AtomicLong now = new AtomicLong();
+        List<String> cleanedUp = new ArrayList<>();
+        cache = ConcurrentCache.<String, String>builder()
+                .expireAfterAccess(Duration.ofNanos(100))
+                .cleanupCallback(cleanedUp::add)
+                .ticker(now::get)
+                .build();
+
+        cache.getOrCreate("a", k -> "A");
+        cache.getOrCreate("b", k -> "B");
+
+        now.set(60);
+        assertEquals("A", cache.get("a").orElse(null));
+
+        now.set(120);
+        cache.cleanUp();
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertEquals(List.of("B"), cleanedUp);
+        assertEquals(1, cache.stats().evictionCount());
+
+        now.set(200);
+        assertEquals("A2", cache.getOrCreate("a", k -> "A2"));
+        assertEquals(List.of("B", "A"), cleanedUp);
+    }
+
+    @Test
+    void testLoadFailuresAreCounted() {
+        cache = new ConcurrentCache<>();
+
+        assertThrows(RuntimeException.class, () -> cache.getOrCreate("key1", k -> {
+            throw new IllegalStateException("Creator failed");
+        }));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.loadFailureCount());
+        assertEquals(0, stats.loadSuccessCount());
+        assertFalse(cache.containsKey("key1"));
+    }
+}
@@ -0,0 +1,73 @@
+package dev.dsf.linter.util.cache;
+
+import dev.dsf.linter.util.cache.DependencyRecorder.Kind;
+import dev.dsf.linter.util.cache.DependencyRecorder.Reference;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DependencyMapTest {
+
+    private static final Reference PROFILE =
+            new Reference(Kind.STRUCTURE_DEFINITION, "http://dsf.dev/fhir/StructureDefinition/task", "sd.xml#1");
+    private static final Reference DELEGATE =
+            new Reference(Kind.CLASS, "org.example.Delegate", "class:org.example.Base");
+    private static final Reference QUESTIONNAIRE =
+            new Reference(Kind.QUESTIONNAIRE, "http://dsf.dev/fhir/Questionnaire/approve", "");
+
+    @Test
+    void testMapsTargetsToReferrers() {
+        DependencyMap<String> map = new DependencyMap<>();
+        map.add("process.bpmn", List.of(PROFILE, DELEGATE));
+        map.add("task.xml", List.of(PROFILE));
+
+        assertEquals(Set.of("process.bpmn", "task.xml"), map.referrers(PROFILE.kind(), PROFILE.target()));
+        assertEquals(Set.of("process.bpmn"), map.referrers(DELEGATE.kind(), DELEGATE.target()));
+
+        map.add("process.bpmn", List.of(QUESTIONNAIRE));
+        assertEquals(Set.of("task.xml"), map.referrers(PROFILE.kind(), PROFILE.target()));
+        assertTrue(map.referrers(DELEGATE.kind(), DELEGATE.target()).isEmpty());
+
+        map.remove("task.xml");
+        assertTrue(map.referrers(PROFILE.kind(), PROFILE.target()).isEmpty());
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testChangedTargetOnlyAffectsItsReferrersAndIsResolvedOnce() {
+        DependencyMap<String> map = new DependencyMap<>();
+        map.add("process.bpmn", List.of(PROFILE, DELEGATE, QUESTIONNAIRE));
+        map.add("other.bpmn", List.of(DELEGATE));
+        map.add("task.xml", List.of(PROFILE));
+        AtomicInteger resolutions = new AtomicInteger();
+
+        Map<String, List<Reference>> changed = map.changedReferences((kind, target) -> {
+            resolutions.incrementAndGet();
+            return switch (kind) {
+                case STRUCTURE_DEFINITION -> "sd.xml#2";
+                case QUESTIONNAIRE -> "questionnaire.xml#1";
+                default -> DELEGATE.resolution();
+            };
+        });
+
+        assertEquals(3, resolutions.get());
+        assertEquals(Map.of(
+                "process.bpmn", List.of(PROFILE, QUESTIONNAIRE),
+                "task.xml", List.of(PROFILE)), changed);
+    }
+
+    @Test
+    void testUnresolvableTargetCountsAsChanged() {
+        DependencyMap<String> map = new DependencyMap<>();
+        map.add("process.bpmn", List.of(DELEGATE));
+
+        assertEquals(Set.of("process.bpmn"), map.changedReferences((kind, target) -> {
+            throw new IllegalStateException("class loader closed");
+        }).keySet());
+    }
+}
@@ -0,0 +1,49 @@
+package dev.dsf.linter.util.cache;
+
+import dev.dsf.linter.util.cache.DependencyRecorder.Kind;
+import dev.dsf.linter.util.cache.DependencyRecorder.Reference;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DependencyRecorderTest {
+
+    @Test
+    void testRecordsFirstResolutionPerTargetInOrder() throws Exception {
+        DependencyRecorder recorder = new DependencyRecorder();
+        AtomicInteger resolutions = new AtomicInteger();
+
+        DependencyRecorder.callRecording(recorder, () -> {
+            DependencyRecorder.record(Kind.CLASS, "org.example.Delegate", () -> "class:" + resolutions.incrementAndGet());
+            DependencyRecorder.record(Kind.STRUCTURE_DEFINITION, "http://example.org/sd", () -> "sd.xml#1");
+            DependencyRecorder.record(Kind.CLASS, "org.example.Delegate", () -> "class:" + resolutions.incrementAndGet());
+            DependencyRecorder.record(Kind.CODE, " ", () -> "ignored");
+            return null;
+        });
+
+        assertEquals(List.of(
+                new Reference(Kind.STRUCTURE_DEFINITION, "http://example.org/sd", "sd.xml#1"),
+                new Reference(Kind.CLASS, "org.example.Delegate", "class:1")), recorder.references());
+        assertEquals(1, resolutions.get());
+    }
+
+    @Test
+    void testNothingIsRecordedOutsideScope() throws Exception {
+        DependencyRecorder recorder = new DependencyRecorder();
+        AtomicInteger resolutions = new AtomicInteger();
+
+        DependencyRecorder.record(Kind.CLASS, "org.example.Delegate", () -> "" + resolutions.incrementAndGet());
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            DependencyRecorder.callRecording(recorder, () -> executor.submit(() -> DependencyRecorder.record(
+                    Kind.CLASS, "org.example.Delegate", () -> "" + resolutions.incrementAndGet())).get());
+        }
+
+        assertTrue(recorder.references().isEmpty());
+        assertEquals(0, resolutions.get());
+    }
+}
@@ -0,0 +1,201 @@
+package dev.dsf.linter.util.cache;
+
+import dev.dsf.linter.logger.Logger;
+import dev.dsf.linter.output.LinterSeverity;
+import dev.dsf.linter.output.LintingType;
+import dev.dsf.linter.output.item.AbstractLintItem;
+import dev.dsf.linter.output.item.FhirElementLintItem;
+import dev.dsf.linter.output.item.PluginLintItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LintResultCacheTest {
+
+    private static final DependencyRecorder.Reference PROFILE = new DependencyRecorder.Reference(
+            DependencyRecorder.Kind.STRUCTURE_DEFINITION, "http://dsf.dev/fhir/StructureDefinition/task", "sd.xml#1");
+
+    @TempDir
+    Path tempDir;
+
+    private Path cacheDir;
+    private Path project;
+    private Path task;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cacheDir = tempDir.resolve("cache");
+        project = tempDir.resolve("project");
+        Files.createDirectories(project.resolve("fhir/Task"));
+        Files.createDirectories(project.resolve("fhir/ActivityDefinition"));
+        task = Files.writeString(project.resolve("fhir/Task/task.xml"), "<Task/>");
+        Files.writeString(project.resolve("fhir/ActivityDefinition/ad.xml"), "<ActivityDefinition/>");
+    }
+
+    @Test
+    void testStoredItemsAreReturnedByLaterInstances() {
+        String key = key(newCache("1.0"));
+        List<AbstractLintItem> items = List.of(new FhirElementLintItem(LinterSeverity.ERROR,
+                LintingType.UNKNOWN, "task.xml", "http://example.org/Task", "broken"));
+
+        LintResultCache first = newCache("1.0");
+        assertTrue(first.load(key, unchanged()).isEmpty());
+        assertTrue(first.store(key, List.of(PROFILE), items));
+
+        LintResultCache second = newCache("1.0");
+        List<AbstractLintItem> loaded = second.load(key, unchanged()).orElseThrow();
+        assertEquals(1, second.hits());
+        assertEquals(1, loaded.size());
+        assertEquals(items.getFirst().toString(), loaded.getFirst().toString());
+        assertEquals(LinterSeverity.ERROR, loaded.getFirst().getSeverity());
+    }
+
+    @Test
+    void testKeyChangesWithContentAndVersionOnly() throws IOException {
+        String original = key(newCache("1.0"));
+
+        assertEquals(original, key(newCache("1.0")));
+        assertNotEquals(original, key(newCache("1.1")));
+        assertNotEquals(original, newCache("1.0").keyFor("FHIR", "plugin", "V1", task, project).orElseThrow());
+
+        // Other project files are checked through the recorded references, not the key
+        Files.writeString(project.resolve("fhir/ActivityDefinition/ad.xml"), "<ActivityDefinition><url/></ActivityDefinition>");
+        assertEquals(original, key(newCache("1.0")));
+
+        Files.writeString(task, "<Task><status/></Task>");
+        assertNotEquals(original, key(newCache("1.0")));
+    }
+
+    @Test
+    void testKeyUsesPathRelativeToProjectRoot() throws IOException {
+        Files.createDirectories(project.resolve("fhir/Task/other"));
+        Path sameName = Files.writeString(project.resolve("fhir/Task/other/task.xml"), "<Task/>");
+
+        assertNotEquals(key(newCache("1.0")),
+                newCache("1.0").keyFor("FHIR", "plugin", "V2", sameName, project).orElseThrow());
+    }
+
+    @Test
+    void testChangedReferenceMakesEntryAMiss() {
+        LintResultCache cache = newCache("1.0");
+        String key = key(cache);
+        DependencyRecorder.Reference missingClass = new DependencyRecorder.Reference(
+                DependencyRecorder.Kind.CLASS, "org.example.Delegate", "");
+        assertTrue(cache.store(key, List.of(PROFILE, missingClass), List.of()));
+
+        assertTrue(cache.load(key, unchanged()).isPresent());
+        assertTrue(cache.load(key, (kind, target) -> kind == DependencyRecorder.Kind.CLASS
+                ? "class:org.example.Base" : PROFILE.resolution()).isEmpty());
+        assertTrue(cache.load(key, (kind, target) -> kind == DependencyRecorder.Kind.CLASS
+                ? "" : "sd.xml#2").isEmpty());
+        assertTrue(cache.load(key, (kind, target) -> {
+            throw new IllegalStateException("unavailable");
+        }).isEmpty());
+
+        assertEquals(1, cache.hits());
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    void testLoadAllOnlyDropsFilesReferringToChangedTarget() throws IOException {
+        LintResultCache cache = newCache("1.0");
+        Path other = Files.writeString(project.resolve("fhir/Task/other.xml"), "<Task><status/></Task>");
+        String taskKey = key(cache);
+        String otherKey = cache.keyFor("FHIR", "plugin", "V2", other, project).orElseThrow();
+        DependencyRecorder.Reference otherProfile = new DependencyRecorder.Reference(
+                DependencyRecorder.Kind.STRUCTURE_DEFINITION, "http://dsf.dev/fhir/StructureDefinition/other", "o.xml#1");
+        cache.store(taskKey, List.of(PROFILE), List.of());
+        cache.store(otherKey, List.of(PROFILE, otherProfile), List.of());
+
+        List<String> resolved = new ArrayList<>();
+        Map<Path, List<AbstractLintItem>> reusable = cache.loadAll(Map.of(task, taskKey, other, otherKey),
+                (kind, target) -> {
+                    resolved.add(target);
+                    return target.equals(PROFILE.target()) ? PROFILE.resolution() : "o.xml#2";
+                });
+
+        assertEquals(Set.of(task), reusable.keySet());
+        assertEquals(2, resolved.size());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void testCreateUsesStableLinterVersion() {
+        LintResultCache first = LintResultCache.create(cacheDir, new NoOpLogger()).orElseThrow();
+        LintResultCache second = LintResultCache.create(cacheDir, new NoOpLogger()).orElseThrow();
+
+        assertEquals(key(first), key(second));
+    }
+
+    @Test
+    void testPluginItemsAreNotStoredAndCorruptEntriesAreMisses() throws IOException {
+        LintResultCache cache = newCache("1.0");
+        String key = key(cache);
+
+        assertFalse(cache.store(key, List.of(), List.of(PluginLintItem.success(new File("task.xml"), "plugin", "ok"))));
+        assertTrue(cache.load(key, unchanged()).isEmpty());
+
+        assertTrue(cache.store(key, List.of(), List.of()));
+        Path entry;
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            entry = files.filter(p -> p.toString().endsWith(".bin")).findFirst().orElseThrow();
+        }
+        Files.write(entry, new byte[]{0, 1, 2});
+
+        assertTrue(cache.load(key, unchanged()).isEmpty());
+        assertFalse(Files.exists(entry));
+        assertEquals(2, cache.misses());
+    }
+
+    private String key(LintResultCache cache) {
+        return cache.keyFor("FHIR", "plugin", "V2", task, project).orElseThrow();
+    }
+
+    /**
+     * Returns a resolver under which {@link #PROFILE} and every other reference resolve as recorded.
+     */
+    private static DependencyRecorder.Resolver unchanged() {
+        return (kind, target) -> kind == PROFILE.kind() ? PROFILE.resolution() : "";
+    }
+
+    private LintResultCache newCache(String version) {
+        return new LintResultCache(cacheDir, new NoOpLogger(), version);
+    }
+
+    private static class NoOpLogger implements Logger {
+        @Override
+        public void debug(String message) { /* Do nothing */ }
+
+        @Override
+        public boolean verbose() {
+            return false;
+        }
+
+        @Override
+        public boolean isVerbose() {
+            return false;
+        }
+
+        @Override
+        public void info(String message) { /* Do nothing */ }
+        @Override
+        public void warn(String message) { /* Do nothing */ }
+        @Override
+        public void error(String message) { /* Do nothing */ }
+        @Override
+        public void error(String message, Throwable throwable) { /* Do nothing */ }
+    }
+}
@@ -0,0 +1,121 @@
+package dev.dsf.linter.util.concurrent;
+
+import dev.dsf.linter.logger.Logger;
+import dev.dsf.linter.logger.RoutingLogger;
+import dev.dsf.linter.util.api.ApiVersion;
+import dev.dsf.linter.util.api.ApiVersionHolder;
+import dev.dsf.linter.util.resource.FhirAuthorizationCache;
+import dev.dsf.linter.util.resource.TerminologyRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderedParallelExecutorTest {
+
+    private static final class RecordingLogger implements Logger {
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        public synchronized void info(String message) { lines.add(message); }
+        @Override
+        public synchronized void warn(String message) { lines.add(message); }
+        @Override
+        public synchronized void error(String message) { lines.add(message); }
+        @Override
+        public synchronized void error(String message, Throwable throwable) { lines.add(message); }
+        @Override
+        public synchronized void debug(String message) { lines.add(message); }
+        @Override
+        public boolean verbose() { return false; }
+        @Override
+        public boolean isVerbose() { return false; }
+    }
+
+    @Test
+    void testResultsAndOutputFollowSubmissionOrder() throws Exception {
+        RecordingLogger target = new RecordingLogger();
+        Logger logger = RoutingLogger.wrap(target);
+
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                Thread.sleep(16 - index);
+                logger.info("file " + index);
+                return index + ":" + ApiVersionHolder.getVersion();
+            });
+        }
+
+        List<String> results = ApiVersionHolder.callWithVersion(ApiVersion.V2, () ->
+                OrderedParallelExecutor.invokeAll(tasks, 4, "test-", logger));
+
+        List<String> expectedResults = new ArrayList<>();
+        List<String> expectedLines = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            expectedResults.add(i + ":" + ApiVersion.V2);
+            expectedLines.add("file " + i);
+        }
+        assertEquals(expectedResults, results);
+        assertEquals(expectedLines, target.lines);
+    }
+
+    @Test
+    void testConcurrentRunsSeeTheirOwnTerminology() throws Exception {
+        String system = "http://example.org/fhir/CodeSystem/roles";
+        TerminologyRegistry first = FhirAuthorizationCache.current()
+                .withLayer(TerminologyRegistry.Layer.PROJECT, Map.of(system, Set.of("FIRST")));
+        TerminologyRegistry second = FhirAuthorizationCache.current()
+                .withLayer(TerminologyRegistry.Layer.PROJECT, Map.of(system, Set.of("SECOND")));
+        RecordingLogger target = new RecordingLogger();
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> FhirAuthorizationCache.isKnown(system, "FIRST")
+                    && !FhirAuthorizationCache.isKnown(system, "SECOND"));
+        }
+
+        try (ExecutorService runs = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<Boolean>> firstRun = runs.submit(() -> FhirAuthorizationCache.callWithRegistry(first,
+                    () -> OrderedParallelExecutor.invokeAll(tasks, 4, "test-", target)));
+            Future<Boolean> secondRun = runs.submit(() -> FhirAuthorizationCache.callWithRegistry(second,
+                    () -> FhirAuthorizationCache.isKnown(system, "SECOND")));
+
+            assertEquals(List.of(true, true, true, true, true, true, true, true), firstRun.get());
+            assertTrue(secondRun.get());
+        }
+        assertFalse(FhirAuthorizationCache.containsSystem(system));
+    }
+
+    @Test
+    void testFailureOfEarliestTaskIsReported() {
+        RecordingLogger target = new RecordingLogger();
+        List<Callable<Integer>> tasks = List.of(
+                () -> 1,
+                () -> { throw new IllegalArgumentException("first"); },
+                () -> { throw new IllegalStateException("second"); });
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> OrderedParallelExecutor.invokeAll(tasks, 3, "test-", target));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+
+        ExecutionException sequential = assertThrows(ExecutionException.class,
+                () -> OrderedParallelExecutor.invokeAll(tasks, 1, "test-", target));
+        assertInstanceOf(IllegalArgumentException.class, sequential.getCause());
+    }
+
+    @Test
+    void testResolveThreads() {
+        assertEquals(3, OrderedParallelExecutor.resolveThreads(3));
+        assertEquals(Runtime.getRuntime().availableProcessors(), OrderedParallelExecutor.resolveThreads(0));
+    }
+}
@@ -0,0 +1,142 @@
+package dev.dsf.linter.util.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that {@link JsonDomBuilder} produces the same elements and attributes as parsing the
+ * output of {@link JsonXmlConverter#convertJsonToXml(JsonNode)}.
+ */
+class JsonDomBuilderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void testExampleResourcesMatchStringRoundTrip() throws Exception {
+        List<Path> jsonFiles;
+        try (Stream<Path> files = Files.walk(Paths.get("src/test/resources/fhir/examples"))) {
+            jsonFiles = files.filter(p -> p.toString().endsWith(".json")).sorted().toList();
+        }
+        assertFalse(jsonFiles.isEmpty(), "Expected example JSON resources");
+
+        for (Path file : jsonFiles) {
+            byte[] json = Files.readAllBytes(file);
+            assertEquivalent(json, file.toString());
+        }
+    }
+
+    @Test
+    void testEdgeCasesMatchStringRoundTrip() throws Exception {
+        String json = """
+                {
+                  "id": "root-id",
+                  "resourceType": "Bundle",
+                  "entry": [
+                    { "fullUrl": "urn:uuid:1", "resource": { "resourceType": "Patient", "id": "p1", "active": true } },
+                    { "resource": { "id": "p2", "url": "http://example.org", "resourceType": "Patient" } }
+                  ],
+                  "extension": [
+                    { "extension": [ { "url": "a", "valueDecimal": 1.50, "valueInteger": 10 } ], "url": "b", "sliceName": null },
+                    null,
+                    [ { "url": "nested-array" } ]
+                  ],
+                  "text": { "div": "line one\\r\\nline two\\tend & <b>\\"'</b>" },
+                  "empty": {},
+                  "onlyAttributes": { "id": { "nested": "x" } },
+                  "skipped": null,
+                  "dup": "first",
+                  "other": "x",
+                  "dup": "second"
+                }""";
+
+        assertEquivalent(json.getBytes(StandardCharsets.UTF_8), "edge cases");
+
+        Document doc = JsonDomBuilder.build(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        Element root = doc.getDocumentElement();
+        assertEquals("Bundle", root.getLocalName());
+        assertEquals(JsonDomBuilder.FHIR_NAMESPACE, root.getNamespaceURI());
+    }
+
+    @Test
+    void testMissingResourceTypeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                JsonDomBuilder.build(new ByteArrayInputStream("{\"id\":\"x\"}".getBytes(StandardCharsets.UTF_8))));
+        assertThrows(IllegalArgumentException.class, () ->
+                JsonDomBuilder.build(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testCharactersNotAllowedInXmlAreRejected() {
+        String json = "{\"resourceType\":\"Patient\",\"id\":\"a\\u0001b\"}";
+        assertThrows(IllegalArgumentException.class, () ->
+                JsonDomBuilder.build(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static void assertEquivalent(byte[] json, String label) throws Exception {
+        JsonNode tree = MAPPER.readTree(json);
+
+        Document expected = parseXml(JsonXmlConverter.convertJsonToXml(tree));
+        Document fromStream = JsonDomBuilder.build(new ByteArrayInputStream(json));
+        Document fromTree = JsonDomBuilder.build(tree);
+
+        assertEquals(canonical(expected.getDocumentElement()), canonical(fromStream.getDocumentElement()), label);
+        assertEquals(canonical(expected.getDocumentElement()), canonical(fromTree.getDocumentElement()), label);
+    }
+
+    private static Document parseXml(String xml) throws Exception {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        return dbf.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+    }
+
+    /**
+     * Serializes elements, namespaces and attributes, ignoring whitespace-only text nodes.
+     */
+    private static String canonical(Element element) {
+        StringBuilder out = new StringBuilder();
+        appendCanonical(element, out);
+        return out.toString();
+    }
+
+    private static void appendCanonical(Element element, StringBuilder out) {
+        out.append('{').append(element.getNamespaceURI()).append('}').append(element.getLocalName());
+
+        TreeMap<String, String> attributes = new TreeMap<>();
+        NamedNodeMap attrs = element.getAttributes();
+        for (int i = 0; i < attrs.getLength(); i++) {
+            Attr attr = (Attr) attrs.item(i);
+            if (!"http://www.w3.org/2000/xmlns/".equals(attr.getNamespaceURI())) {
+                attributes.put(attr.getLocalName(), attr.getValue());
+            }
+        }
+        out.append(attributes).append('[');
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element c) {
+                appendCanonical(c, out);
+            } else if (child.getNodeType() == Node.TEXT_NODE && !child.getNodeValue().isBlank()) {
+                out.append('"').append(child.getNodeValue()).append('"');
+            }
+        }
+        out.append(']');
+    }
+}
@@ -0,0 +1,52 @@
+package dev.dsf.linter.util.linting;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the project root resolution of {@link LintingUtils#getProjectRoot(Path)}.
+ */
+class LintingUtilsProjectRootTest {
+
+    @TempDir
+    Path workspace;
+
+    @AfterEach
+    void tearDown() {
+        LintingUtils.unregisterProjectRoot(workspace.toFile());
+        LintingUtils.clearProjectRootCache();
+    }
+
+    @Test
+    void testRootIsFoundAndMemoizedForVisitedDirectories() throws Exception {
+        Path project = Files.createDirectories(workspace.resolve("plugin"));
+        Files.createDirectories(project.resolve("fhir/Task"));
+        Files.createDirectories(project.resolve("bpe/sub"));
+
+        assertEquals(project.toFile(), LintingUtils.getProjectRoot(project.resolve("bpe/sub/process.bpmn")));
+
+        // The marker is gone, but the memoized result is still returned for the visited directories
+        Files.delete(project.resolve("fhir/Task"));
+        Files.delete(project.resolve("fhir"));
+        assertEquals(project.toFile(), LintingUtils.getProjectRoot(project.resolve("bpe/other.bpmn")));
+
+        LintingUtils.clearProjectRootCache();
+        assertNotEquals(project.toFile(), LintingUtils.getProjectRoot(project.resolve("bpe/other.bpmn")));
+    }
+
+    @Test
+    void testRegisteredRootTakesPrecedenceOverTraversal() throws Exception {
+        Path module = Files.createDirectories(workspace.resolve("module"));
+        Files.createDirectories(module.resolve("src"));
+        LintingUtils.registerProjectRoot(workspace.toFile());
+
+        assertEquals(workspace.toAbsolutePath().normalize().toFile(),
+                LintingUtils.getProjectRoot(module.resolve("fhir/task.xml")));
+    }
+}
@@ -0,0 +1,84 @@
+package dev.dsf.linter.util.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CodeSystemReader}.
+ */
+class CodeSystemReaderTest {
+
+    private static final String SYSTEM = "http://example.org/fhir/CodeSystem/test";
+
+    @Test
+    void testXmlCodesIncludingNestedConceptsAreRead() throws Exception {
+        CodeSystemReader.CodeSystem cs = CodeSystemReader.readXml(stream("""
+                <CodeSystem xmlns="http://hl7.org/fhir">
+                  <meta><tag><code value="ALL"/></tag></meta>
+                  <url value="%s"/>
+                  <concept>
+                    <code value="parent"/>
+                    <property><code value="status"/></property>
+                    <concept><code value="child"/></concept>
+                  </concept>
+                  <concept><code value="other"/></concept>
+                </CodeSystem>
+                """.formatted(SYSTEM)));
+
+        assertNotNull(cs);
+        assertEquals(SYSTEM, cs.system());
+        assertEquals(Set.of("parent", "child", "other"), cs.codes());
+    }
+
+    @Test
+    void testJsonCodesIncludingNestedConceptsAreRead() throws Exception {
+        CodeSystemReader.CodeSystem cs = CodeSystemReader.readJson(stream("""
+                {
+                  "resourceType": "CodeSystem",
+                  "meta": {"tag": [{"code": "ALL"}]},
+                  "url": "%s",
+                  "concept": [
+                    {"code": "parent", "property": [{"code": "status"}],
+                     "concept": [{"code": "child"}]},
+                    {"code": "other"}
+                  ]
+                }
+                """.formatted(SYSTEM)));
+
+        assertNotNull(cs);
+        assertEquals(SYSTEM, cs.system());
+        assertEquals(Set.of("parent", "child", "other"), cs.codes());
+    }
+
+    @Test
+    void testOtherResourcesAreSkipped() throws Exception {
+        assertNull(CodeSystemReader.readXml(stream(
+                "<ValueSet xmlns=\"http://hl7.org/fhir\"><url value=\"x\"/></ValueSet>")));
+        assertNull(CodeSystemReader.readJson(stream(
+                "{\"resourceType\": \"ValueSet\", \"url\": \"x\", \"concept\": [{\"code\": \"a\"}]}")));
+    }
+
+    @Test
+    void testCodeSystemWithoutUrlOrCodesIsIgnored() throws Exception {
+        assertNull(CodeSystemReader.readXml(stream(
+                "<CodeSystem xmlns=\"http://hl7.org/fhir\"><concept><code value=\"a\"/></concept></CodeSystem>")));
+        assertNull(CodeSystemReader.readJson(stream(
+                "{\"resourceType\": \"CodeSystem\", \"url\": \"" + SYSTEM + "\"}")));
+    }
+
+    @Test
+    void testMalformedXmlFails() {
+        assertThrows(IOException.class, () -> CodeSystemReader.readXml(stream("<CodeSystem><url")));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+package dev.dsf.linter.util.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FhirDocumentCacheTest {
+
+    private static final String TASK_XML = "<Task xmlns=\"http://hl7.org/fhir\"><status value=\"draft\"/></Task>";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testParsesOnceAndReturnsIndependentCopies() throws Exception {
+        Path file = write("task.xml", TASK_XML);
+        FhirDocumentCache cache = new FhirDocumentCache(FhirDocumentCache.DEFAULT_MAX_BYTES);
+
+        Document first = cache.getDocument(file);
+        Document second = cache.getDocument(file);
+
+        assertEquals(1, cache.misses());
+        assertEquals(1, cache.hits());
+        assertNotSame(first, second);
+
+        first.getDocumentElement().removeChild(first.getDocumentElement().getFirstChild());
+        assertEquals("status", second.getDocumentElement().getFirstChild().getLocalName());
+        assertEquals("status", cache.getDocument(file).getDocumentElement().getFirstChild().getLocalName());
+    }
+
+    @Test
+    void testFactsAreComputedOnceAndSharedByIdenticalContent() throws Exception {
+        Path xml = write("a.xml", TASK_XML);
+        Path copy = write("b.xml", TASK_XML);
+        FhirDocumentCache cache = new FhirDocumentCache(FhirDocumentCache.DEFAULT_MAX_BYTES);
+        AtomicInteger calls = new AtomicInteger();
+
+        FhirDocumentCache.FactExtractor<String> rootName = doc -> {
+            calls.incrementAndGet();
+            return doc.getDocumentElement().getLocalName();
+        };
+
+        assertEquals("Task", cache.getFact(xml, "root", rootName));
+        assertEquals("Task", cache.getFact(copy, "root", rootName));
+        assertNull(cache.getFact(xml, "nothing", doc -> null));
+        assertNull(cache.<String>getFact(xml, "nothing", doc -> {
+            calls.incrementAndGet();
+            return "recomputed";
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testChangedContentIsParsedAgainAndReplacesOldEntry() throws Exception {
+        Path file = write("task.xml", TASK_XML);
+        FhirDocumentCache cache = new FhirDocumentCache(FhirDocumentCache.DEFAULT_MAX_BYTES);
+        cache.getDocument(file);
+
+        write("task.xml", "<Task xmlns=\"http://hl7.org/fhir\"><status value=\"active\"/></Task>");
+        Document updated = cache.getDocument(file);
+
+        assertEquals("active", ((Element) updated.getDocumentElement().getFirstChild()).getAttribute("value"));
+        assertEquals(2, cache.misses());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testSharedEntryIsKeptWhileAnotherPathRefersToIt() throws Exception {
+        Path a = write("a.xml", TASK_XML);
+        Path b = write("b.xml", TASK_XML);
+        FhirDocumentCache cache = new FhirDocumentCache(FhirDocumentCache.DEFAULT_MAX_BYTES);
+        cache.getDocument(a);
+        cache.getDocument(b);
+
+        write("a.xml", TASK_XML.replace("draft", "active"));
+        cache.getDocument(a);
+        assertEquals(2, cache.size());
+
+        write("b.xml", TASK_XML.replace("draft", "ready"));
+        cache.getDocument(b);
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    void testJsonResourcesAreCached() throws Exception {
+        Path file = write("task.json", "{\"resourceType\":\"Task\",\"status\":\"draft\"}");
+        FhirDocumentCache cache = new FhirDocumentCache(FhirDocumentCache.DEFAULT_MAX_BYTES);
+
+        assertEquals("Task", cache.getDocument(file).getDocumentElement().getLocalName());
+        assertEquals("Task", cache.getDocument(file).getDocumentElement().getLocalName());
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvictedAboveCeiling() throws Exception {
+        byte[] content = TASK_XML.getBytes(StandardCharsets.UTF_8);
+        long entryWeight = (long) content.length * FhirDocumentCache.DOM_WEIGHT_FACTOR;
+        FhirDocumentCache cache = new FhirDocumentCache(entryWeight * 2);
+
+        Path a = write("a.xml", TASK_XML);
+        Path b = write("b.xml", TASK_XML.replace("draft", "ready"));
+        Path c = write("c.xml", TASK_XML.replace("draft", "other"));
+
+        cache.getDocument(a);
+        cache.getDocument(b);
+        cache.getDocument(a);
+        cache.getDocument(c);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.weight() <= entryWeight * 2);
+
+        cache.getDocument(a);
+        assertEquals(2, cache.hits());
+        cache.getDocument(b);
+        assertEquals(4, cache.misses());
+    }
+
+    @Test
+    void testParseFailuresAreCachedAndRethrown() throws Exception {
+        Path file = write("broken.xml", "<Task");
+        FhirDocumentCache cache = new FhirDocumentCache(FhirDocumentCache.DEFAULT_MAX_BYTES);
+
+        assertThrows(Exception.class, () -> cache.getDocument(file));
+        assertThrows(Exception.class, () -> cache.getFact(file, "root", doc -> "x"));
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void testZeroCeilingDisablesCaching() throws Exception {
+        Path file = write("task.xml", TASK_XML);
+        FhirDocumentCache cache = new FhirDocumentCache(0);
+
+        assertEquals("Task", cache.getDocument(file).getDocumentElement().getLocalName());
+        cache.getDocument(file);
+
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.misses());
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+}
@@ -0,0 +1,177 @@
+package dev.dsf.linter.util.resource;
+
+import dev.dsf.linter.TestJars;
+import dev.dsf.linter.util.cache.DependencyRecorder;
+import dev.dsf.linter.util.cache.DependencyRecorder.Kind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the index-backed lookups of {@link FhirResourceLocator}.
+ */
+class FhirResourceLocatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File projectRoot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        projectRoot = tempDir.toFile();
+        Path fhir = tempDir.resolve("fhir");
+
+        Files.createDirectories(fhir.resolve("ActivityDefinition"));
+        Files.writeString(fhir.resolve("ActivityDefinition/test.xml"), """
+                <ActivityDefinition xmlns="http://hl7.org/fhir">
+                  <url value="http://dsf.dev/bpe/Process/test"/>
+                  <extension url="http://dsf.dev/fhir/StructureDefinition/extension-process-authorization">
+                    <extension url="message-name">
+                      <valueString value="startTest"/>
+                    </extension>
+                  </extension>
+                </ActivityDefinition>""");
+
+        Files.createDirectories(fhir.resolve("StructureDefinition"));
+        Files.writeString(fhir.resolve("StructureDefinition/task-start-test.json"), """
+                {
+                  "resourceType": "StructureDefinition",
+                  "url": "http://dsf.dev/fhir/StructureDefinition/task-start-test",
+                  "differential": {
+                    "element": [
+                      { "id": "Task.input:message-name.value[x]", "fixedString": "startTest" }
+                    ]
+                  }
+                }""");
+
+        Files.createDirectories(fhir.resolve("Questionnaire"));
+        Files.writeString(fhir.resolve("Questionnaire/approve.xml"), """
+                <Questionnaire xmlns="http://hl7.org/fhir">
+                  <url value="http://dsf.dev/fhir/Questionnaire/approve"/>
+                </Questionnaire>""");
+    }
+
+    @AfterEach
+    void tearDown() {
+        FhirResourceLocator.clearSharedLocators();
+    }
+
+    @Test
+    void testLookupsResolveAgainstIndex() {
+        FhirResourceLocator locator = FhirResourceLocator.create(projectRoot);
+
+        assertTrue(locator.activityDefinitionExists("startTest", projectRoot));
+        assertFalse(locator.activityDefinitionExists("unknownMessage", projectRoot));
+
+        assertTrue(locator.activityDefinitionExistsForInstantiatesCanonical(
+                "http://dsf.dev/bpe/Process/test|#{version}", projectRoot));
+        assertFalse(locator.activityDefinitionExistsForInstantiatesCanonical(
+                "http://dsf.dev/bpe/Process/other|1.0", projectRoot));
+
+        assertTrue(locator.structureDefinitionExists(
+                "http://dsf.dev/fhir/StructureDefinition/task-start-test|#{version}", projectRoot));
+        assertTrue(locator.structureDefinitionExists("startTest", projectRoot));
+
+        assertTrue(locator.questionnaireExists("http://dsf.dev/fhir/Questionnaire/approve|#{version}", projectRoot));
+        assertFalse(locator.questionnaireExists(" ", projectRoot));
+    }
+
+    @Test
+    void testFindFilesReturnsMatchingResource() throws IOException {
+        FhirResourceLocator locator = FhirResourceLocator.create(projectRoot);
+
+        File sd = locator.findStructureDefinitionFile(
+                "http://dsf.dev/fhir/StructureDefinition/task-start-test", projectRoot);
+        assertNotNull(sd);
+        assertTrue(Files.readString(sd.toPath()).contains("task-start-test"));
+
+        File ad = locator.findActivityDefinitionForInstantiatesCanonical(
+                "http://dsf.dev/bpe/Process/test|#{version}", projectRoot);
+        assertNotNull(ad);
+        assertNull(locator.findActivityDefinitionForInstantiatesCanonical(
+                "http://dsf.dev/bpe/Process/other", projectRoot));
+    }
+
+    @Test
+    void testResourcesAreReturnedWithoutMaterialization() throws Exception {
+        FhirResourceLocator locator = FhirResourceLocator.create(projectRoot);
+
+        VirtualResource sd = locator.findStructureDefinition(
+                "http://dsf.dev/fhir/StructureDefinition/task-start-test|#{version}");
+
+        assertNotNull(sd);
+        assertEquals(tempDir.resolve("fhir/StructureDefinition/task-start-test.json").toFile(), sd.location());
+        assertEquals(sd.location(), locator.findStructureDefinitionFile(
+                "http://dsf.dev/fhir/StructureDefinition/task-start-test", projectRoot));
+        assertNull(locator.findActivityDefinitionForInstantiatesCanonical("http://dsf.dev/bpe/Process/other"));
+    }
+
+    @Test
+    void testJarResourceIsReadFromJar() throws Exception {
+        TestJars.write(tempDir.resolve("dependency.jar"), Map.of("fhir/ActivityDefinition/dependency.xml", """
+                <ActivityDefinition xmlns="http://hl7.org/fhir">
+                  <url value="http://dsf.dev/bpe/Process/dependency"/>
+                </ActivityDefinition>"""));
+        FhirResourceLocator locator = FhirResourceLocator.create(projectRoot);
+
+        VirtualResource ad = locator.findActivityDefinitionForInstantiatesCanonical(
+                "http://dsf.dev/bpe/Process/dependency|#{version}");
+
+        assertNotNull(ad);
+        assertEquals("dependency.xml", ad.fileName());
+        assertFalse(ad.location().exists());
+        assertTrue(new String(ad.readAllBytes(), StandardCharsets.UTF_8).contains("Process/dependency"));
+        assertEquals("ActivityDefinition",
+                FhirDocumentCache.shared().getDocument(ad).getDocumentElement().getLocalName());
+    }
+
+    @Test
+    void testLookupsAreRecordedWithResolvedContent() throws Exception {
+        FhirResourceLocator locator = FhirResourceLocator.create(projectRoot);
+        DependencyRecorder recorder = new DependencyRecorder();
+
+        DependencyRecorder.callRecording(recorder, () -> {
+            locator.structureDefinitionExists("http://dsf.dev/fhir/StructureDefinition/task-start-test|1.0", projectRoot);
+            return locator.questionnaireExists("http://dsf.dev/fhir/Questionnaire/other", projectRoot);
+        });
+
+        List<DependencyRecorder.Reference> references = recorder.references();
+        assertEquals(2, references.size());
+        DependencyRecorder.Reference profile = references.getFirst();
+        assertEquals(Kind.STRUCTURE_DEFINITION, profile.kind());
+        assertEquals("http://dsf.dev/fhir/StructureDefinition/task-start-test", profile.target());
+        assertTrue(profile.resolution().startsWith("fhir/StructureDefinition/task-start-test.json#"));
+        assertEquals(new DependencyRecorder.Reference(Kind.QUESTIONNAIRE, "http://dsf.dev/fhir/Questionnaire/other", ""),
+                references.get(1));
+
+        assertEquals(profile.resolution(), locator.resolve(profile.kind(), profile.target()));
+
+        Files.writeString(tempDir.resolve("fhir/StructureDefinition/task-start-test.json"), """
+                { "resourceType": "StructureDefinition", "url": "http://dsf.dev/fhir/StructureDefinition/task-start-test" }""");
+        assertNotEquals(profile.resolution(),
+                FhirResourceLocator.create(projectRoot).resolve(profile.kind(), profile.target()));
+    }
+
+    @Test
+    void testForProjectReturnsSharedInstance() {
+        FhirResourceLocator first = FhirResourceLocator.forProject(projectRoot);
+        FhirResourceLocator second = FhirResourceLocator.forProject(new File(projectRoot, "."));
+
+        assertSame(first, second);
+
+        FhirResourceLocator.clearSharedLocators();
+        assertNotSame(first, FhirResourceLocator.forProject(projectRoot));
+    }
+}
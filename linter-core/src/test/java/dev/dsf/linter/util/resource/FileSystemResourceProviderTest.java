@@ -0,0 +1,80 @@
+package dev.dsf.linter.util.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the listing snapshots of {@link FileSystemResourceProvider}.
+ */
+class FileSystemResourceProviderTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testListingIsSnapshotUntilInvalidated() throws Exception {
+        write("fhir/Task/b.xml");
+        write("fhir/Task/a.xml");
+        write("fhir/Questionnaire/q.xml");
+        FileSystemResourceProvider<FhirResourceEntry> provider = FileSystemResourceProvider.forFhir(root.toFile());
+
+        assertEquals(List.of("fhir/Task/a.xml", "fhir/Task/b.xml"), paths(provider, "fhir/Task"));
+
+        write("fhir/Task/c.xml");
+        assertEquals(List.of("fhir/Task/a.xml", "fhir/Task/b.xml"), paths(provider, "fhir/Task/"));
+
+        provider.invalidate();
+        assertEquals(List.of("fhir/Task/a.xml", "fhir/Task/b.xml", "fhir/Task/c.xml"), paths(provider, "fhir/Task"));
+        assertEquals(List.of(), paths(provider, "fhir/Missing"));
+    }
+
+    @Test
+    void testWatchingProviderPicksUpNewFiles() throws Exception {
+        write("fhir/Task/a.xml");
+
+        try (FileSystemResourceProvider<FhirResourceEntry> provider =
+                     FileSystemResourceProvider.forFhir(root.toFile(), true)) {
+            assertEquals(List.of("fhir/Task/a.xml"), paths(provider, "fhir/Task"));
+
+            write("fhir/Task/sub/b.xml");
+
+            long deadline = System.currentTimeMillis() + 20_000;
+            while (paths(provider, "fhir/Task").size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(List.of("fhir/Task/a.xml", "fhir/Task/sub/b.xml"), paths(provider, "fhir/Task"));
+        }
+    }
+
+    @Test
+    void testCompositeListsEntriesOfEarlierProvidersOnce() throws Exception {
+        write("first/fhir/Task/shared.xml");
+        write("first/fhir/Task/only-first.xml");
+        write("second/fhir/Task/shared.xml");
+        write("second/fhir/Task/only-second.xml");
+
+        CompositeResourceProvider<FhirResourceEntry> composite = new CompositeResourceProvider<>("FHIR",
+                FileSystemResourceProvider.forFhir(root.resolve("first").toFile()),
+                FileSystemResourceProvider.forFhir(root.resolve("second").toFile()));
+
+        assertEquals(List.of("fhir/Task/only-first.xml", "fhir/Task/shared.xml", "fhir/Task/only-second.xml"),
+                paths(composite, "fhir/Task"));
+    }
+
+    private static List<String> paths(ResourceProvider<FhirResourceEntry> provider, String directory) {
+        return provider.listResources(directory).map(FhirResourceEntry::path).toList();
+    }
+
+    private void write(String relativePath) throws IOException {
+        Path file = root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "<Task xmlns=\"http://hl7.org/fhir\"/>");
+    }
+}
@@ -0,0 +1,91 @@
+package dev.dsf.linter.util.resource;
+
+import dev.dsf.linter.TestJars;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the entry index of {@link JarResourceProvider}.
+ */
+class JarResourceProviderTest {
+
+    @TempDir
+    Path projectRoot;
+
+    private JarResourceProvider<FhirResourceEntry> provider;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (provider != null) {
+            provider.close();
+        }
+    }
+
+    @Test
+    void testListResourcesReturnsOnlyEntriesBelowDirectory() throws Exception {
+        TestJars.write(projectRoot.resolve("a.jar"), Map.of(
+                "fhir/Task/task-a.xml", "a",
+                "fhir/Questionnaire/q.json", "q",
+                "example/Plugin.class", "bytecode"));
+        TestJars.write(projectRoot.resolve("lib/b.jar"), Map.of(
+                "fhir/Task/task-b.xml", "b",
+                "fhir/TaskExtra/extra.xml", "x"));
+        provider = JarResourceProvider.forFhir(projectRoot.toFile());
+
+        List<String> tasks = provider.listResources("fhir/Task").map(FhirResourceEntry::path).toList();
+        List<String> all = provider.listResources("").map(FhirResourceEntry::path).toList();
+
+        assertEquals(List.of("fhir/Task/task-a.xml", "fhir/Task/task-b.xml"), tasks);
+        assertEquals(List.of("fhir/Questionnaire/q.json", "fhir/Task/task-a.xml", "fhir/Task/task-b.xml",
+                "fhir/TaskExtra/extra.xml"), all);
+        assertEquals(0, provider.listResources("fhir/Unknown/").count());
+    }
+
+    @Test
+    void testOpenResourceReadsFromOwningJar() throws Exception {
+        TestJars.write(projectRoot.resolve("a.jar"), Map.of("fhir/Task/task-a.xml", "from a"));
+        TestJars.write(projectRoot.resolve("b.jar"), Map.of("fhir/Task/task-b.xml", "from b"));
+        provider = JarResourceProvider.forFhir(projectRoot.toFile());
+
+        assertEquals("from b", read("fhir/Task/task-b.xml"));
+        assertEquals("from a", read("fhir\\Task\\task-a.xml"));
+        assertTrue(provider.resourceExists("fhir/Task/task-b.xml"));
+        assertFalse(provider.resourceExists("fhir/Task/missing.xml"));
+        assertThrows(IOException.class, () -> provider.openResource("fhir/Task/missing.xml"));
+    }
+
+    @Test
+    void testDuplicatePathIsOwnedByFirstJarInPathOrder() throws Exception {
+        TestJars.write(projectRoot.resolve("b.jar"), Map.of("fhir/Task/task.xml", "from b"));
+        TestJars.write(projectRoot.resolve("a.jar"), Map.of("fhir/Task/task.xml", "from a"));
+        provider = JarResourceProvider.forFhir(projectRoot.toFile());
+
+        assertEquals("from a", read("fhir/Task/task.xml"));
+        assertEquals(1, provider.listResources("fhir/Task").count());
+    }
+
+    @Test
+    void testPathsOutsideResourceFilterAreStillFound() throws Exception {
+        TestJars.write(projectRoot.resolve("a.jar"), Map.of("fhir/Task/task.xml", "task", "META-INF/info.txt", "info"));
+        provider = JarResourceProvider.forFhir(projectRoot.toFile());
+
+        assertTrue(provider.resourceExists("META-INF/info.txt"));
+        assertEquals("info", read("META-INF/info.txt"));
+    }
+
+    private String read(String path) throws IOException {
+        try (InputStream in = provider.openResource(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
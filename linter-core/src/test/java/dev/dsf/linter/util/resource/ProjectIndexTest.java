@@ -0,0 +1,146 @@
+package dev.dsf.linter.util.resource;
+
+import dev.dsf.linter.TestJars;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link ProjectIndex}.
+ */
+class ProjectIndexTest {
+
+    @TempDir
+    Path projectRoot;
+
+    @AfterEach
+    void tearDown() {
+        ProjectIndex.clearShared();
+    }
+
+    @Test
+    void testFilesAreIndexedByTypeAndPath() throws Exception {
+        write("fhir/Task/task.xml", "<Task/>");
+        write("fhir/Questionnaire/q.json", "{}");
+        write("bpe/process.bpmn", "<definitions/>");
+        write("example/Plugin.class", "bytecode");
+        write("META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition", "example.Plugin");
+        write("README.md", "readme");
+
+        ProjectIndex index = ProjectIndex.build(projectRoot);
+
+        assertEquals(List.of("META-INF/services/dev.dsf.bpe.v2.ProcessPluginDefinition", "README.md",
+                        "bpe/process.bpmn", "example/Plugin.class", "fhir/Questionnaire/q.json", "fhir/Task/task.xml"),
+                index.files().stream().map(ProjectIndex.Entry::path).toList());
+        assertEquals(List.of("bpe/process.bpmn"),
+                index.files(ProjectIndex.Type.BPMN).map(ProjectIndex.Entry::path).toList());
+        assertEquals(ProjectIndex.Type.SERVICE_REGISTRATION, index.files().get(0).type());
+        assertEquals(7, index.files().get(5).size());
+        assertEquals(projectRoot.resolve("fhir/Task/task.xml").toAbsolutePath().normalize(),
+                index.files().get(5).location());
+    }
+
+    @Test
+    void testFilesUnderReturnsOnlyFilesBelowDirectory() throws Exception {
+        write("fhir/Task/task.xml", "a");
+        write("fhir/TaskExtra/extra.xml", "b");
+        write("fhir/Task/sub/nested.xml", "c");
+
+        ProjectIndex index = ProjectIndex.build(projectRoot);
+
+        assertEquals(List.of("fhir/Task/sub/nested.xml", "fhir/Task/task.xml"),
+                index.filesUnder("fhir/Task").stream().map(ProjectIndex.Entry::path).toList());
+        assertEquals(2, index.filesUnder(projectRoot.resolve("fhir/Task")).orElseThrow().size());
+        assertTrue(index.filesUnder(projectRoot.getParent()).isEmpty());
+        assertEquals(0, index.filesUnder("fhir/Unknown").size());
+    }
+
+    @Test
+    void testJarEntriesAreIndexed() throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("fhir/Task/task.xml", "content");
+        entries.put("example/Plugin.class", "content");
+        TestJars.write(projectRoot.resolve("lib/b.jar"), entries);
+        TestJars.write(projectRoot.resolve("a.jar"), Map.of("bpe/process.bpmn", "content"));
+
+        ProjectIndex index = ProjectIndex.build(projectRoot);
+
+        List<Path> jars = index.jars();
+        assertEquals(List.of(projectRoot.resolve("a.jar"), projectRoot.resolve("lib/b.jar")),
+                jars.stream().map(p -> projectRoot.resolve(index.root().relativize(p))).toList());
+        assertEquals(List.of("fhir/Task/task.xml", "example/Plugin.class"),
+                index.jarEntries(jars.get(1)).stream().map(ProjectIndex.Entry::path).toList());
+        assertTrue(index.jarEntries(jars.get(1)).get(0).isJarEntry());
+        assertEquals(3, index.jarEntryCount());
+    }
+
+    @Test
+    void testSymlinkedJarIsIndexed() throws Exception {
+        Path target = Files.createDirectories(projectRoot.resolveSibling(projectRoot.getFileName() + "-outside"));
+        Path jar = TestJars.write(target.resolve("plugin.jar"), Map.of("example/Plugin.class", "bytecode"));
+        Path link = projectRoot.resolve("plugin.jar");
+        try {
+            Files.createSymbolicLink(link, jar);
+        } catch (UnsupportedOperationException | IOException e) {
+            assumeTrue(false, "symbolic links not supported: " + e.getMessage());
+        }
+
+        try {
+            ProjectIndex index = ProjectIndex.build(projectRoot);
+
+            assertEquals(1, index.jars().size());
+            assertEquals(ProjectIndex.Type.JAR, index.files().get(0).type());
+            assertEquals(Files.size(jar), index.files().get(0).size());
+            assertEquals(List.of("example/Plugin.class"),
+                    index.jarEntries(index.jars().get(0)).stream().map(ProjectIndex.Entry::path).toList());
+        } finally {
+            Files.delete(link);
+            Files.delete(jar);
+            Files.delete(target);
+        }
+    }
+
+    @Test
+    void testHashIsComputedForFilesAndJarEntries() throws Exception {
+        write("a.txt", "content");
+        TestJars.write(projectRoot.resolve("lib.jar"), Map.of("a.txt", "content"));
+
+        ProjectIndex index = ProjectIndex.build(projectRoot);
+
+        ProjectIndex.Entry file = index.filesUnder("").stream()
+                .filter(e -> e.path().equals("a.txt")).findFirst().orElseThrow();
+        ProjectIndex.Entry entry = index.jarEntries(index.jars().get(0)).get(0);
+
+        assertEquals("ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73", file.sha256());
+        assertEquals(file.sha256(), entry.sha256());
+    }
+
+    @Test
+    void testSharedIndexIsReusedUntilReleased() throws Exception {
+        write("a.xml", "a");
+        ProjectIndex first = ProjectIndex.forProject(projectRoot.toFile());
+
+        write("b.xml", "b");
+        assertSame(first, ProjectIndex.forProject(projectRoot.toFile()));
+        assertEquals(1, first.files().size());
+
+        ProjectIndex.release(projectRoot.toFile());
+        assertEquals(2, ProjectIndex.forProject(projectRoot.toFile()).files().size());
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = projectRoot.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
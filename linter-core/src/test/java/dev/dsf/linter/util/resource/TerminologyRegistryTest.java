@@ -0,0 +1,68 @@
+package dev.dsf.linter.util.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TerminologyRegistry}.
+ */
+class TerminologyRegistryTest {
+
+    private static final String SYSTEM_A = "http://example.org/fhir/CodeSystem/a";
+    private static final String SYSTEM_B = "http://example.org/fhir/CodeSystem/b";
+
+    @Test
+    void testLayersAreMergedWithoutChangingEarlierRegistries() {
+        TerminologyRegistry builtIns = TerminologyRegistry.empty()
+                .withLayer(TerminologyRegistry.Layer.BUILT_IN, Map.of(SYSTEM_A, Set.of("x")));
+        TerminologyRegistry project = builtIns
+                .withLayer(TerminologyRegistry.Layer.DEPENDENCY, Map.of(SYSTEM_B, Set.of("y")))
+                .withLayer(TerminologyRegistry.Layer.PROJECT, Map.of(SYSTEM_A, Set.of("z")));
+
+        assertTrue(project.isKnown(SYSTEM_A, "x"));
+        assertTrue(project.isKnown(SYSTEM_A, "z"));
+        assertTrue(project.isKnown(SYSTEM_B, "y"));
+        assertEquals(TerminologyRegistry.Layer.PROJECT, project.layerOf(SYSTEM_A));
+        assertEquals(TerminologyRegistry.Layer.DEPENDENCY, project.layerOf(SYSTEM_B));
+
+        assertFalse(builtIns.isKnown(SYSTEM_A, "z"));
+        assertFalse(builtIns.containsSystem(SYSTEM_B));
+        assertEquals(TerminologyRegistry.Layer.BUILT_IN, builtIns.layerOf(SYSTEM_A));
+    }
+
+    @Test
+    void testSystemsContainingCodeUsesReverseIndex() {
+        TerminologyRegistry registry = TerminologyRegistry.empty()
+                .withLayer(TerminologyRegistry.Layer.PROJECT, Map.of(SYSTEM_A, Set.of("shared", "a-only")))
+                .withLayer(TerminologyRegistry.Layer.PROJECT, Map.of(SYSTEM_B, Set.of("shared")));
+
+        assertEquals(Set.of(SYSTEM_A, SYSTEM_B), registry.systemsContainingCode("shared"));
+        assertEquals(Set.of(SYSTEM_A), registry.systemsContainingCode("a-only"));
+        assertTrue(registry.systemsContainingCode("missing").isEmpty());
+        assertTrue(registry.systemsContainingCode(" ").isEmpty());
+    }
+
+    @Test
+    void testUnknownCodes() {
+        TerminologyRegistry registry = TerminologyRegistry.empty()
+                .withLayer(TerminologyRegistry.Layer.BUILT_IN, Map.of(SYSTEM_A, Set.of("x")));
+
+        assertFalse(registry.isUnknown(SYSTEM_A, "x"));
+        assertTrue(registry.isUnknown(SYSTEM_A, "y"));
+        assertTrue(registry.isUnknown(SYSTEM_B, "x"));
+        assertFalse(registry.isUnknown(SYSTEM_A, ""));
+        assertFalse(registry.isUnknown(null, "x"));
+    }
+
+    @Test
+    void testEmptyLayerReturnsSameRegistry() {
+        TerminologyRegistry registry = TerminologyRegistry.empty()
+                .withLayer(TerminologyRegistry.Layer.BUILT_IN, Map.of(SYSTEM_A, Set.of("x")));
+
+        assertSame(registry, registry.withLayer(TerminologyRegistry.Layer.PROJECT, Map.of(SYSTEM_B, Set.of())));
+    }
+}
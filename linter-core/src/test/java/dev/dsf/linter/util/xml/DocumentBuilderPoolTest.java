@@ -0,0 +1,72 @@
+package dev.dsf.linter.util.xml;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentBuilderPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testParsesNamespaceAwareAndReusesBuilderPerThread() throws Exception {
+        Document doc = DocumentBuilderPool.parse(stream("<Task xmlns=\"http://hl7.org/fhir\"><status value=\"draft\"/></Task>"));
+
+        assertEquals("Task", doc.getDocumentElement().getLocalName());
+        assertEquals("http://hl7.org/fhir", doc.getDocumentElement().getNamespaceURI());
+
+        DocumentBuilder first = DocumentBuilderPool.builder();
+        assertSame(first, DocumentBuilderPool.builder());
+        assertTrue(first.isNamespaceAware());
+
+        DocumentBuilder other;
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            other = executor.submit(DocumentBuilderPool::builder).get();
+        }
+        assertNotSame(first, other);
+    }
+
+    @Test
+    void testDocumentsSurviveSubsequentParses() throws Exception {
+        Document first = DocumentBuilderPool.parse(stream("<A xmlns=\"http://hl7.org/fhir\"/>"));
+        Document second = DocumentBuilderPool.parse(stream("<B xmlns=\"http://hl7.org/fhir\"/>"));
+
+        assertEquals("A", first.getDocumentElement().getLocalName());
+        assertEquals("B", second.getDocumentElement().getLocalName());
+    }
+
+    @Test
+    void testExternalEntitiesAreNotResolved() throws Exception {
+        Path secret = tempDir.resolve("secret.txt");
+        Files.writeString(secret, "top-secret-content");
+
+        String xml = "<?xml version=\"1.0\"?>"
+                + "<!DOCTYPE Task [<!ENTITY xxe SYSTEM \"" + secret.toUri() + "\">]>"
+                + "<Task xmlns=\"http://hl7.org/fhir\"><note>&xxe;</note></Task>";
+
+        Document doc;
+        try {
+            doc = DocumentBuilderPool.parse(stream(xml));
+        } catch (Exception e) {
+            // Rejecting the document is an acceptable outcome as well
+            return;
+        }
+        assertFalse(doc.getDocumentElement().getTextContent().contains("top-secret-content"));
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
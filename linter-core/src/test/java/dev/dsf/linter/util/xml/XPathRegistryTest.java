@@ -0,0 +1,121 @@
+package dev.dsf.linter.util.xml;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathExpressionException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XPathRegistryTest {
+
+    private static final String CODE_SYSTEM = """
+            <CodeSystem xmlns="http://hl7.org/fhir">
+              <url value="http://dsf.dev/fhir/CodeSystem/test"/>
+              <concept><code value="A"/></concept>
+              <concept><code value="B"/></concept>
+            </CodeSystem>""";
+
+    private static final String CODES_XP =
+            "/*[local-name()='CodeSystem']/*[local-name()='concept']/*[local-name()='code']/@value";
+
+    @BeforeEach
+    void setUp() {
+        XPathRegistry.clear();
+    }
+
+    @Test
+    void testEvaluatesAndReusesCompiledExpressions() throws Exception {
+        Document doc = parse(CODE_SYSTEM);
+
+        assertEquals("http://dsf.dev/fhir/CodeSystem/test",
+                XPathRegistry.string(doc, "/*[local-name()='CodeSystem']/*[local-name()='url']/@value"));
+
+        NodeList codes = XPathRegistry.nodes(doc, CODES_XP);
+        assertEquals(2, codes.getLength());
+        assertEquals("B", codes.item(1).getNodeValue());
+
+        assertEquals(1, XPathRegistry.pooledInstanceCount(CODES_XP));
+    }
+
+    @Test
+    void testCompiledExpressionsAreReusedAcrossThreads() throws Exception {
+        Document doc = parse(CODE_SYSTEM);
+        XPathRegistry.nodes(doc, CODES_XP);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 4; i++) {
+                assertEquals(2, (int) executor.submit(() -> XPathRegistry.nodes(doc, CODES_XP).getLength()).get());
+            }
+        }
+
+        // Evaluations ran one after another, so the first compiled instance served all of them
+        assertEquals(1, XPathRegistry.pooledInstanceCount(CODES_XP));
+    }
+
+    @Test
+    void testConcurrentEvaluationsUseSeparateInstances() throws Exception {
+        Document doc = parse(CODE_SYSTEM);
+        int threads = 8;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads * 50; i++) {
+                results.add(executor.submit(() -> XPathRegistry.nodes(doc, CODES_XP).getLength()));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(2, (int) result.get());
+            }
+        }
+
+        int instances = XPathRegistry.pooledInstanceCount(CODES_XP);
+        assertTrue(instances >= 1 && instances <= threads + 1, "instances: " + instances);
+    }
+
+    @Test
+    void testRegistryIsBounded() throws Exception {
+        Document doc = parse(CODE_SYSTEM);
+        for (int i = 0; i < XPathRegistry.MAX_EXPRESSIONS + 10; i++) {
+            XPathRegistry.nodes(doc, "//*[@value='" + i + "']");
+        }
+
+        assertEquals(XPathRegistry.MAX_EXPRESSIONS, XPathRegistry.compiledExpressionCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedExpressionIsEvicted() throws Exception {
+        Document doc = parse(CODE_SYSTEM);
+        XPathRegistry.nodes(doc, CODES_XP);
+        for (int i = 0; i < XPathRegistry.MAX_EXPRESSIONS; i++) {
+            XPathRegistry.nodes(doc, "//*[@value='" + i + "']");
+            XPathRegistry.nodes(doc, CODES_XP);
+        }
+
+        assertEquals(1, XPathRegistry.pooledInstanceCount(CODES_XP));
+        assertEquals(0, XPathRegistry.pooledInstanceCount("//*[@value='0']"));
+    }
+
+    @Test
+    void testInvalidExpressionThrows() throws Exception {
+        Document doc = parse(CODE_SYSTEM);
+
+        assertThrows(XPathExpressionException.class, () -> XPathRegistry.nodes(doc, "//*["));
+        assertEquals(0, XPathRegistry.pooledInstanceCount("//*["));
+    }
+
+    private static Document parse(String xml) throws Exception {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        return dbf.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+}